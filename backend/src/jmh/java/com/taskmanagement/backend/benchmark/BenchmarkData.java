@@ -0,0 +1,113 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.model.Task;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.model.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * JMHベンチマーク用のテストデータ
+ *
+ * このクラスの役割：
+ * - 実際の利用に近いタスク（タイトル・詳細の長さ、ステータス・優先度・期限の分布）を生成する
+ * - 乱数のシードを固定し、コミット間で同じデータを使って比較できるようにする
+ *
+ * 生成するデータ：
+ * - タイトル：単語を2〜5個つなげたもの
+ * - 詳細：約2割は空、残りは単語を10〜40個つなげたもの
+ * - 期限：約3割は無し、残りは今日の前後60日
+ */
+final class BenchmarkData {
+
+    /**
+     * タイトル・詳細の生成に使用する単語
+     */
+    private static final String[] WORDS = {
+            "買い物", "資料", "作成", "会議", "準備", "レビュー", "報告書", "見積もり", "請求書", "確認",
+            "プロジェクト", "設計", "実装", "テスト", "リリース", "顧客", "打ち合わせ", "予約", "掃除", "整理",
+            "メール", "返信", "電話", "契約", "更新", "調査", "分析", "提案", "発注", "在庫"
+    };
+
+    /**
+     * 乱数のシード（コミット間で同じデータを生成するため固定）
+     */
+    private static final long SEED = 42L;
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * タスクの作成リクエストを生成
+     *
+     * @param count 件数
+     * @return TaskRequestDtoのリスト
+     */
+    static List<TaskRequestDto> requests(int count) {
+        Random random = new Random(SEED);
+        List<TaskRequestDto> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            TaskRequestDto request = new TaskRequestDto();
+            request.setTitle(words(random, 2 + random.nextInt(4)));
+            request.setDescription(random.nextInt(5) == 0 ? null : words(random, 10 + random.nextInt(31)));
+            request.setDueDate(dueDate(random));
+            request.setStatus(TaskStatus.values()[random.nextInt(TaskStatus.values().length)]);
+            request.setPriority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    /**
+     * タスクのエンティティを生成（データベースを使用しないベンチマーク用）
+     *
+     * @param count 件数
+     * @return Taskのリスト（すべて同じユーザーのタスク）
+     */
+    static List<Task> tasks(int count) {
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("benchmark@example.com");
+        user.setUsername("ベンチマーク");
+
+        LocalDateTime now = Task.currentTimestamp();
+        List<Task> tasks = new ArrayList<>(count);
+        long id = 1;
+        for (TaskRequestDto request : requests(count)) {
+            Task task = new Task();
+            task.setId(id++);
+            task.setTitle(request.getTitle());
+            task.setDescription(request.getDescription());
+            task.setDueDate(request.getDueDate());
+            task.setStatus(request.getStatus());
+            task.setPriority(request.getPriority());
+            task.setUser(user);
+            task.setCreatedAt(now);
+            task.setUpdatedAt(now);
+            task.setVersion(0L);
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            builder.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return builder.toString();
+    }
+
+    private static LocalDate dueDate(Random random) {
+        if (random.nextInt(10) < 3) {
+            return null;
+        }
+        return LocalDate.now().plusDays(random.nextInt(121) - 60);
+    }
+}
@@ -0,0 +1,94 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.exception.ErrorResponse;
+import com.taskmanagement.backend.exception.ForbiddenException;
+import com.taskmanagement.backend.exception.GlobalExceptionHandler;
+import com.taskmanagement.backend.exception.ResourceNotFoundException;
+import com.taskmanagement.backend.exception.TaskConflictException;
+import com.taskmanagement.backend.exception.TaskConflictResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GlobalExceptionHandler のエラーレスポンス生成のベンチマーク
+ *
+ * 測定の目的：
+ * - 例外の生成（スタックトレースの取得を含む）から、ErrorResponseの生成までのコストを測る
+ * - 404・403・409は、クライアントの通常の操作でも発生するため、頻繁に実行されます
+ *
+ * 実行方法：
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.includes=GlobalExceptionHandlerBenchmark
+ *
+ * 注意点：
+ * - 500（handleGeneralException）は、スタックトレースを標準エラー出力に書き出すため測定しません
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+
+    private MockHttpServletRequest request;
+
+    private TaskResponseDto current;
+
+    @Setup
+    public void setUp() {
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("GET", "/api/tasks/42");
+        current = TaskResponseDto.fromEntity(BenchmarkData.tasks(1).get(0));
+    }
+
+    /**
+     * 400 Bad Request
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> illegalArgument() {
+        return handler.handleIllegalArgumentException(
+                new IllegalArgumentException("limitは1〜100の範囲で指定してください"), request);
+    }
+
+    /**
+     * 404 Not Found
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> resourceNotFound() {
+        return handler.handleResourceNotFoundException(
+                new ResourceNotFoundException("タスクが見つかりません"), request);
+    }
+
+    /**
+     * 403 Forbidden
+     */
+    @Benchmark
+    public ResponseEntity<ErrorResponse> forbidden() {
+        return handler.handleForbiddenException(
+                new ForbiddenException("このタスクを取得する権限がありません"), request);
+    }
+
+    /**
+     * 409 Conflict（最新のタスクを含む）
+     */
+    @Benchmark
+    public ResponseEntity<TaskConflictResponse> taskConflict() {
+        return handler.handleTaskConflictException(
+                new TaskConflictException("タスクは他のユーザーによって更新されています", current), request);
+    }
+}
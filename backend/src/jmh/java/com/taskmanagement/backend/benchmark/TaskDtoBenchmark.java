@@ -0,0 +1,70 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.model.Task;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskResponseDto.fromEntity() のベンチマーク
+ *
+ * 測定の目的：
+ * - エンティティからDTOへの変換（一覧取得のたびに全件で実行される）のコストを測る
+ *
+ * 実行方法：
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.includes=TaskDtoBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskDtoBenchmark {
+
+    private static final int TASK_COUNT = 1000;
+
+    private List<Task> tasks;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        tasks = BenchmarkData.tasks(TASK_COUNT);
+    }
+
+    /**
+     * 1件の変換
+     */
+    @Benchmark
+    public TaskResponseDto fromEntity() {
+        index = (index + 1) % TASK_COUNT;
+        return TaskResponseDto.fromEntity(tasks.get(index));
+    }
+
+    /**
+     * 1,000件の変換（一覧取得と同じ処理）
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public void fromEntityList(Blackhole blackhole) {
+        List<TaskResponseDto> dtos = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            dtos.add(TaskResponseDto.fromEntity(task));
+        }
+        blackhole.consume(dtos);
+    }
+}
@@ -0,0 +1,66 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * タスク一覧のJSONシリアライズのベンチマーク
+ *
+ * 測定の目的：
+ * - GET /api/tasks のレスポンス生成（List<TaskResponseDto> → JSON）のコストを件数ごとに測る
+ *
+ * 実行方法：
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.includes=TaskJsonBenchmark
+ *
+ * 実務でのポイント：
+ * - ObjectMapperは、Spring Bootと同じJackson2ObjectMapperBuilderで作成します
+ * （JavaTimeModuleの登録や、日付をタイムスタンプで出力しない設定がアプリケーションと同じになります）
+ * - application.propertiesのspring.jackson.*は反映されないため、設定を追加した場合はここにも追加してください
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskJsonBenchmark {
+
+    @Param({ "10", "1000", "50000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+
+    private List<TaskResponseDto> tasks;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        tasks = BenchmarkData.tasks(size).stream()
+                .map(TaskResponseDto::fromEntity)
+                .toList();
+    }
+
+    /**
+     * タスク一覧のシリアライズ（HTTPレスポンスと同じくバイト列に書き出す）
+     */
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,156 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.BackendApplication;
+import com.taskmanagement.backend.dto.TaskPageResponseDto;
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.TaskStatsResponseDto;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.service.TaskService;
+import com.taskmanagement.backend.service.UserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskService の読み取り・書き込みのベンチマーク（組み込みH2）
+ *
+ * 測定の目的：
+ * - 一覧・ページ・1件取得・統計・キーワード検索・ステータス更新の応答時間を、データベースを含めて測る
+ *
+ * 実行方法：
+ * ./mvnw -Pjmh test-compile exec:exec -Djmh.includes=TaskServiceBenchmark
+ *
+ * 実務でのポイント：
+ * - Webサーバーを起動せずに（WebApplicationType.NONE）、アプリケーションと同じ設定でSpringを起動します
+ * - タスクはTaskService.createTasks()で投入するため、検索インデックスや変更番号も本番と同じ状態になります
+ * - タスク数は @Param で指定します（-p taskCount=50000 のように変更できます）
+ * - SQLログを出力すると、ログの出力時間が結果の大半を占めるため、spring.jpa.show-sqlは無効にします
+ *
+ * 注意点：
+ * - H2のインメモリDBでの結果です。PostgreSQLとの比較には使えません（変更前後の比較に使用してください）
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+    private static final String KEYWORD = "報告書";
+
+    @Param({ "10000" })
+    private int taskCount;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private Long userId;
+
+    private List<Long> taskIds;
+
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.format_sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        taskService = context.getBean(TaskService.class);
+
+        userId = context.getBean(UserService.class)
+                .createUser("benchmark@example.com", "password", "ベンチマーク")
+                .getId();
+        List<TaskRequestDto> requests = BenchmarkData.requests(taskCount);
+        for (int from = 0; from < requests.size(); from += TaskService.MAX_BULK_SIZE) {
+            int to = Math.min(from + TaskService.MAX_BULK_SIZE, requests.size());
+            taskService.createTasks(requests.subList(from, to), userId);
+        }
+        taskIds = taskService.findAllByUserId(userId).stream()
+                .map(TaskResponseDto::getId)
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    private Long nextTaskId() {
+        index = (index + 1) % taskIds.size();
+        return taskIds.get(index);
+    }
+
+    /**
+     * 全件の一覧取得（GET /api/tasks）
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<TaskResponseDto> findAllByUserId() {
+        return taskService.findAllByUserId(userId);
+    }
+
+    /**
+     * 最初のページの取得（GET /api/tasks?limit=100）
+     */
+    @Benchmark
+    public TaskPageResponseDto findPageByUserId() {
+        return taskService.findPageByUserId(userId, null, TaskService.MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 1件の取得（GET /api/tasks/{id}）
+     */
+    @Benchmark
+    public TaskResponseDto findById() {
+        return taskService.findById(nextTaskId(), userId);
+    }
+
+    /**
+     * 統計の取得（GET /api/tasks/stats）
+     */
+    @Benchmark
+    public TaskStatsResponseDto getTaskStats() {
+        return taskService.getTaskStats(userId);
+    }
+
+    /**
+     * キーワード検索（GET /api/tasks/search）
+     */
+    @Benchmark
+    public List<TaskResponseDto> searchByKeyword() {
+        return taskService.searchByKeyword(userId, KEYWORD);
+    }
+
+    /**
+     * ステータスの更新（PUT /api/tasks/{id}/status）
+     */
+    @Benchmark
+    public TaskResponseDto updateTaskStatus() {
+        Long taskId = nextTaskId();
+        TaskStatus status = TaskStatus.values()[index % TaskStatus.values().length];
+        return taskService.updateTaskStatus(taskId, status, userId);
+    }
+}
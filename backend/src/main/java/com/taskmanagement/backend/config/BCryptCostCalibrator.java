@@ -0,0 +1,104 @@
+package com.taskmanagement.backend.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * BCryptのコスト（work factor）を、サーバーの性能から決めるクラス（起動時に1回実行）
+ *
+ * このクラスの役割：
+ * - 低いコストでパスワードの検証（matches）にかかる時間を計測する
+ * - コストが1上がるごとに計算時間が2倍になることから、目標の検証時間に収まる最大のコストを求める
+ *
+ * なぜ起動時に計測するのか：
+ * - BCryptの計算時間はCPUの性能で大きく変わるため、固定のコスト（デフォルトの10）では、
+ * サーバーによって検証時間が数十ms〜数百msまでばらつきます
+ * - 目標の検証時間（target-ms）を決めておけば、速いサーバーではコストが上がり（総当たり攻撃に強くなり）、
+ * 遅いサーバーではログインの応答時間とCPUの使用量を抑えられます
+ *
+ * 処理の流れ：
+ * 1. CALIBRATION_COSTのハッシュを作成し、数回検証してJITコンパイルを済ませる
+ * 2. SAMPLES回検証し、中央値を計測時間とする（GCなどによる外れ値を除くため）
+ * 3. cost = CALIBRATION_COST + floor(log2(目標時間 / 計測時間)) を、[minCost, maxCost] の範囲に収める
+ *
+ * 注意点：
+ * - 起動時の計測にかかる時間は、CALIBRATION_COSTのハッシュ検証の10回分（一般的なサーバーで100ms程度）です
+ * - サーバーごとにコストが異なっても、ハッシュ値にコストが含まれるため、どのサーバーでも検証できます
+ * - コストを上げた場合、保存済みのハッシュはログイン時にハッシュ化し直されます（AuthService.login）
+ * - 計測が揺れてコストが下がった場合も、保存済みのハッシュは下げません（CalibratedBCryptPasswordEncoder）
+ */
+public final class BCryptCostCalibrator {
+
+    /**
+     * 計測に使うコスト（2^8回の繰り返し）
+     */
+    static final int CALIBRATION_COST = 8;
+
+    /**
+     * JITコンパイルのための、計測前の検証の回数
+     */
+    private static final int WARMUP = 5;
+
+    /**
+     * 計測する検証の回数（中央値を使用）
+     */
+    private static final int SAMPLES = 5;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * 目標の検証時間に収まる最大のコストを求める
+     *
+     * @param target  目標の検証時間
+     * @param minCost コストの下限
+     * @param maxCost コストの上限
+     * @return コスト
+     */
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        return costFor(target.toNanos(), measure(), minCost, maxCost);
+    }
+
+    /**
+     * 計測時間から、目標の検証時間に収まる最大のコストを求める
+     *
+     * @param targetNanos      目標の検証時間（ナノ秒）
+     * @param calibrationNanos CALIBRATION_COSTでの検証時間（ナノ秒）
+     * @param minCost          コストの下限
+     * @param maxCost          コストの上限
+     * @return コスト
+     */
+    static int costFor(long targetNanos, long calibrationNanos, int minCost, int maxCost) {
+        if (minCost > maxCost) {
+            throw new IllegalArgumentException("BCryptのコストの下限が上限を超えています");
+        }
+        double doublings = Math.log((double) targetNanos / Math.max(1L, calibrationNanos)) / Math.log(2);
+        long cost = CALIBRATION_COST + (long) Math.floor(doublings);
+        return (int) Math.min(maxCost, Math.max(minCost, cost));
+    }
+
+    /**
+     * CALIBRATION_COSTでの検証時間（中央値）を計測
+     *
+     * @return 検証時間（ナノ秒）
+     */
+    private static long measure() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(CALIBRATION_COST);
+        String rawPassword = "calibration";
+        String hash = encoder.encode(rawPassword);
+        for (int i = 0; i < WARMUP; i++) {
+            encoder.matches(rawPassword, hash);
+        }
+
+        long[] samples = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.matches(rawPassword, hash);
+            samples[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(samples);
+        return samples[SAMPLES / 2];
+    }
+}
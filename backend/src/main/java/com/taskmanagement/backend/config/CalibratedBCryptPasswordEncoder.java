@@ -0,0 +1,90 @@
+package com.taskmanagement.backend.config;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 起動時に選んだコストで、保存されているハッシュを引き上げるBCryptPasswordEncoder
+ *
+ * BCryptPasswordEncoderとの違い：
+ * - upgradeEncoding()は、BCryptPasswordEncoderと同じく、保存されているコストが現在より低い場合だけtrueを返します
+ * - BCryptの形式でないハッシュでは、例外を投げずにfalseを返します
+ * - ハッシュ値からコストを読み取るcostOf()を提供します（起動時に、保存済みのコストと比較するため）
+ *
+ * なぜコストを下げる方向には移行しないのか：
+ * - サーバーごとに起動時の計測でコストを選ぶため、計測の揺れ（JITの状態・CPUの制限・同じホストの他の処理）で、
+ * サーバーによってコストが1つずれることがあります
+ * - 異なる場合に移行すると、ログインのたびにサーバーによって11と12を行き来し、
+ * ログインが集中した時にBCryptの計算が2倍になります
+ * - 起動が遅かったサーバーが、保存済みのハッシュをmin-costまで下げてしまうことも防ぎます
+ *
+ * 注意点：
+ * - matches()は、ハッシュ値に含まれるコストで検証するため、コストが異なるハッシュもそのまま検証できます
+ * - コストを下げたい場合は、パスワードの変更などで新しくハッシュ化されるまで、元のコストのままです
+ */
+public class CalibratedBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    /**
+     * BCryptのハッシュ値の形式（$2a$10$... の "10" がコスト）
+     */
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    /**
+     * DelegatingPasswordEncoderの接頭辞
+     */
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private final int strength;
+
+    /**
+     * @param strength BCryptのコスト（4〜31）
+     */
+    public CalibratedBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * BCryptのコスト
+     *
+     * @return コスト
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * 保存されているハッシュのコストが、現在のコストより低いか
+     *
+     * @param encodedPassword 保存されているハッシュ値（{bcrypt}の接頭辞を除いたもの）
+     * @return 低い場合はtrue（BCryptの形式でない場合はfalse）
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        OptionalInt cost = costOf(encodedPassword);
+        return cost.isPresent() && cost.getAsInt() < strength;
+    }
+
+    /**
+     * ハッシュ値からBCryptのコストを読み取る
+     *
+     * @param encodedPassword ハッシュ値（{bcrypt}の接頭辞は、あっても無くてもよい）
+     * @return コスト（BCryptの形式でない場合は空）
+     */
+    public static OptionalInt costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return OptionalInt.empty();
+        }
+        String hash = encodedPassword.startsWith(BCRYPT_PREFIX)
+                ? encodedPassword.substring(BCRYPT_PREFIX.length())
+                : encodedPassword;
+        Matcher matcher = BCRYPT_PATTERN.matcher(hash);
+        if (!matcher.matches()) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Integer.parseInt(matcher.group(1)));
+    }
+}
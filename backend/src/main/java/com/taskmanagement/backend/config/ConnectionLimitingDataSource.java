@@ -0,0 +1,160 @@
+package com.taskmanagement.backend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * コネクションの同時取得数をセマフォで制限するDataSource（仮想スレッド用）
+ *
+ * このクラスの役割：
+ * - getConnection()の前にセマフォの許可を取得し、コネクションのclose()で許可を返却する
+ * - 許可が無い場合は、公平な順番（先に待ち始めたスレッドから）で待機する
+ *
+ * なぜ必要なのか：
+ * - プラットフォームスレッドでは、Tomcatのスレッド数（200）が同時にコネクションを待つスレッド数の上限でした
+ * - 仮想スレッドではこの上限が無くなり、負荷が高いと数千のスレッドがHikariCPの待ち行列に並びます
+ * - HikariCPの待機は、スレッドごとのキャッシュ（ThreadLocal）と待機中のスレッドの競合を前提にしており、
+ * 1リクエストごとに新しく作られる仮想スレッドが大量に並ぶ使い方は想定していません
+ * - セマフォで並ぶようにすると、HikariCPに同時に問い合わせるスレッドはプールのサイズまでになり、
+ * 待機中の仮想スレッドはキャリアスレッドを解放して（固定せずに）待つことができます
+ *
+ * 実務でのポイント：
+ * - 待機時間の上限を超えた場合は、HikariCPのタイムアウトと同じSQLTransientConnectionExceptionを投げます
+ * - close()が2回呼ばれても、許可は1回だけ返却します
+ * - unwrap()・isWrapperFor()は元のDataSourceに委譲されるため、HikariCPのメトリクスもそのまま取得できます
+ * - close()も元のDataSourceに委譲し、アプリケーションの終了時にHikariCPのプールを閉じます
+ *
+ * 注意点：
+ * - 許可の数をプールのサイズより大きくすると、超えた分はHikariCP側で待機します
+ * （VirtualThreadConfigでは、HikariCPのmaximum-pool-sizeと同じ数にします）
+ * - コネクションをclose()しないコードがあると、許可が返却されずに枯渇します（プールのリークと同じです）
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+
+    private final long timeoutMillis;
+
+    /**
+     * @param targetDataSource 元のDataSource（HikariCP）
+     * @param permits          コネクションを同時に取得できる数
+     * @param timeoutMillis    許可を待つ時間の上限（ミリ秒）
+     */
+    public ConnectionLimitingDataSource(DataSource targetDataSource, int permits, long timeoutMillis) {
+        super(targetDataSource);
+        if (permits < 1) {
+            throw new IllegalArgumentException("コネクションの同時取得数は1以上を指定してください");
+        }
+        this.permits = new Semaphore(permits, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        try {
+            return releasingOnClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 元のDataSourceを閉じる（Springが終了時に呼び出します）
+     */
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 現在取得できる許可の数
+     *
+     * @return 許可の数
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * 許可を待つ時間の上限
+     *
+     * @return 上限（ミリ秒）
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 許可を待っているスレッド数（概算）
+     *
+     * @return スレッド数
+     */
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * 許可を取得（取得できるまで、最大timeoutMillis待機）
+     */
+    private void acquire() throws SQLException {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("データベースのコネクションの待機中に割り込まれました", e);
+        }
+        if (!acquired) {
+            throw new SQLTransientConnectionException(
+                    "データベースのコネクションを待つ時間が上限（" + timeoutMillis + "ms）を超えました");
+        }
+    }
+
+    /**
+     * close()で許可を返却するコネクションを作成
+     *
+     * @param connection HikariCPのコネクション
+     * @return close()で許可を返却するコネクション
+     */
+    private Connection releasingOnClose(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionLimitingDataSource.class.getClassLoader(),
+                new Class<?>[] { Connection.class },
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+}
@@ -67,6 +67,8 @@ public class CorsConfig {
              * 3. allowedMethods("*")：すべてのHTTPメソッドを許可
              * 4. allowedHeaders("*")：すべてのヘッダーを許可
              * 5. allowCredentials(true)：クレデンシャル（Cookie、認証情報）を許可
+             * 6. exposedHeaders("ETag", "Last-Modified")：JavaScriptからETagを読めるようにする
+             * （If-None-Match・If-Matchで送り返すため。公開しないと、fetch()ではnullになります）
              * 
              * 実務での注意点：
              * - allowCredentials(true)を使用する場合、allowedOrigins("*")は使用できません
@@ -82,6 +84,7 @@ public class CorsConfig {
                         .allowedMethods("*") // すべてのHTTPメソッドを許可
                         .allowedHeaders("*") // すべてのヘッダーを許可
                         .allowCredentials(true) // クレデンシャルを許可
+                        .exposedHeaders("ETag", "Last-Modified") // 条件付きリクエスト用のヘッダーを公開
                         .maxAge(3600); // プリフライトリクエストのキャッシュ時間（秒）
             }
         };
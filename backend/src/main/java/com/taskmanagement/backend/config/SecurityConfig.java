@@ -1,13 +1,29 @@
 package com.taskmanagement.backend.config;
 
+import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.security.JwtAuthenticationFilter;
+import com.taskmanagement.backend.security.JwtTokenProvider;
+import jakarta.servlet.DispatcherType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.config.Customizer;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.OptionalInt;
 
 /**
  * Spring Security設定
@@ -38,8 +54,17 @@ import org.springframework.security.web.SecurityFilterChain;
  */
 @Configuration
 @EnableWebSecurity
+@RequiredArgsConstructor
+@Slf4j
 public class SecurityConfig {
 
+    /**
+     * JWTトークンプロバイダー
+     * 
+     * JwtAuthenticationFilterの生成に使用します
+     */
+    private final JwtTokenProvider jwtTokenProvider;
+
     /**
      * パスワードエンコーダーのBean定義
      * 
@@ -63,11 +88,78 @@ public class SecurityConfig {
      * - BCryptは、Spring Securityで推奨されるハッシュ化方式です
      * - 他の選択肢：Argon2、PBKDF2など
      * 
+     * BCryptのコスト（work factor）：
+     * - bcrypt-costを指定しない場合（0）、起動時にBCryptCostCalibratorで計測し、
+     * 検証時間がtarget-ms以内に収まる最大のコストを選びます（min-cost〜max-costの範囲）
+     * - 複数のサーバーで同じコストにしたい場合は、bcrypt-costで固定します
+     * - 選んだコストが、最後に登録されたユーザーのハッシュのコストより低い場合は、WARNでログを出力します
+     * （起動時の計測が遅かった可能性があるため。保存済みのハッシュが下げられることはありません）
+     * 
+     * DelegatingPasswordEncoderとは：
+     * - ハッシュ値の先頭に方式（{bcrypt}）を付けて保存し、検証時は接頭辞で使うエンコーダーを選びます
+     * - upgradeEncoding()で、保存されているハッシュが現在の方式と異なるか、コストが現在より低いかを判定できます
+     * （AuthService.loginで、ログインに成功した時にハッシュ化し直して保存します）
+     * - 接頭辞の無い既存のハッシュ（"$2a$10$..."）は、BCryptPasswordEncoderで検証します
+     * （ハッシュ化し直す対象になり、ログイン時に {bcrypt} 付きで保存し直されます）
+     * 
+     * 注意点：
+     * - コストを1上げると、ログインの検証時間とCPUの使用量は2倍になります
+     * - 既存のユーザーのハッシュは、ログインするまで元のコストのままです
+     * - コストを下げる方向には移行しません（CalibratedBCryptPasswordEncoderを参照）
+     * - 接頭辞の無い既存のハッシュは、デフォルトのコスト（10 = min-costのデフォルト）で作成されたものです
+     * （bcrypt-costに10未満を指定した場合だけ、{bcrypt}を付ける際にコストが下がります）
+     * 
+     * @param userRepository ユーザーリポジトリ（保存済みのハッシュのコストの確認）
+     * @param fixedCost    app.password-hashing.bcrypt-cost（0の場合は起動時に計測）
+     * @param targetMillis app.password-hashing.target-ms（目標の検証時間）
+     * @param minCost      app.password-hashing.min-cost（コストの下限）
+     * @param maxCost      app.password-hashing.max-cost（コストの上限）
      * @return PasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(UserRepository userRepository,
+            @Value("${app.password-hashing.bcrypt-cost:0}") int fixedCost,
+            @Value("${app.password-hashing.target-ms:250}") long targetMillis,
+            @Value("${app.password-hashing.min-cost:10}") int minCost,
+            @Value("${app.password-hashing.max-cost:14}") int maxCost) {
+        int cost;
+        if (fixedCost > 0) {
+            cost = fixedCost;
+            log.info("BCryptのコストを{}に固定します", cost);
+        } else {
+            cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(targetMillis), minCost, maxCost);
+            log.info("BCryptのコストを{}に設定しました（目標の検証時間: {}ms、範囲: {}〜{}）",
+                    cost, targetMillis, minCost, maxCost);
+        }
+        warnIfBelowStoredCost(userRepository, cost);
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new CalibratedBCryptPasswordEncoder(cost)));
+        // 接頭辞の無い既存のハッシュ（DelegatingPasswordEncoderの導入前に保存したもの）を検証する
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
+    }
+
+    /**
+     * 選んだコストが、保存済みのハッシュのコストより低い場合にWARNでログを出力
+     * 
+     * 実務でのポイント：
+     * - 最後に登録されたユーザーのハッシュを、前回までに使われていたコストとみなします
+     * - 他のサーバーより遅い計測になった（起動時の負荷・CPUの制限など）可能性があるため、
+     * 続く場合はbcrypt-costでサーバー全体のコストを固定します
+     * 
+     * @param userRepository ユーザーリポジトリ
+     * @param cost           選んだコスト
+     */
+    private void warnIfBelowStoredCost(UserRepository userRepository, int cost) {
+        OptionalInt storedCost = userRepository.findFirstByOrderByIdDesc()
+                .map(user -> CalibratedBCryptPasswordEncoder.costOf(user.getPassword()))
+                .orElse(OptionalInt.empty());
+        if (storedCost.isPresent() && cost < storedCost.getAsInt()) {
+            log.warn("BCryptのコスト（{}）が、保存済みのハッシュのコスト（{}）より低くなりました。"
+                    + "保存済みのハッシュは下げずにそのまま使用します（サーバー全体で揃える場合は app.password-hashing.bcrypt-cost を指定してください）",
+                    cost, storedCost.getAsInt());
+        }
     }
 
     /**
@@ -80,7 +172,8 @@ public class SecurityConfig {
      * この設定で行うこと：
      * 1. CSRF保護を無効化（開発環境のみ）
      * 2. エンドポイントごとに認証の要否を設定
-     * 3. HTTP Basic認証を有効化
+     * 3. セッションを使用しない（ステートレス）
+     * 4. JWT認証フィルタを追加
      * 
      * 実務でのポイント：
      * - 開発環境では、CSRF保護を無効化することが多いです
@@ -120,6 +213,17 @@ public class SecurityConfig {
                         // H2コンソールへのアクセスを許可（開発環境のみ）
                         .requestMatchers("/h2-console/**").permitAll()
 
+                        // 管理用のエンドポイント（/actuator/health、/actuator/prometheus）を許可
+                        // - 管理用のポートは127.0.0.1でのみ待ち受けるため、外部からはアクセスできません
+                        // - Prometheusのスクレイプには、JWTトークンを付けられないため認証を求めません
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).permitAll()
+
+                        // 非同期処理の完了後のディスパッチ（SSEの GET /api/tasks/stream など）を許可
+                        // - 最初のリクエストで認証済みのため、完了時のディスパッチでは認証をやり直しません
+                        // - JwtAuthenticationFilterは非同期のディスパッチでは実行されないため、
+                        // 許可しないと、接続の終了時に401を返そうとしてエラーになります
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // その他のすべてのリクエストは認証が必要
                         // 実務でのポイント：
                         // - より細かい認可設定が必要な場合は、ロールベースのアクセス制御（RBAC）を使用します
@@ -131,20 +235,30 @@ public class SecurityConfig {
                 .headers(headers -> headers
                         .frameOptions(frameOptions -> frameOptions.sameOrigin()))
 
-                // HTTP Basic認証を有効化
-                // HTTP Basic認証とは：
-                // - ユーザー名とパスワードをBase64エンコードして送信する認証方式
-                // - シンプルで実装が容易
-                // - HTTPS通信が必須（平文で送信されるため）
-                //
-                // なぜHTTP Basic認証を使用するのか：
-                // - Phase 2-5では、シンプルな認証機能を実装します
-                // - JWTトークンベースの認証は、Phase 2-6以降で実装します
+                // セッションを使用しない（ステートレス）
+                // 実務でのポイント：
+                // - JWT認証では、認証状態はトークン自体に含まれるため、サーバー側でセッションを保持しません
+                // - これにより、サーバーを水平スケールしてもセッション共有が不要になります
+                .sessionManagement(session -> session
+                        .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+
+                // 未認証のリクエストには401 Unauthorizedを返す
+                // HTTP Basic認証を無効化したため、明示的に設定しないと403 Forbiddenになります
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
+                // JWT認証フィルタを追加
+                // なぜHTTP Basic認証からJWTに切り替えたのか：
+                // - HTTP Basic認証では、リクエストごとにBCryptでパスワードを検証します
+                // - BCryptは意図的に計算コストが高いため、1リクエストあたり数十ミリ秒のCPU時間がかかります
+                // - JWTでは、ログイン時に1回だけBCryptを実行し、以降はHMAC署名の検証のみで済みます
+                // - JwtAuthenticationFilterは、データベースアクセスも行いません
                 //
                 // 実務でのポイント：
-                // - HTTP Basic認証は、開発環境やAPIテストで使用されます
-                // - 本番環境では、JWTトークンベースの認証を使用することが一般的です
-                .httpBasic(Customizer.withDefaults());
+                // - UsernamePasswordAuthenticationFilterの前に追加するのが一般的です
+                // - フロントエンドは "Authorization: Bearer {token}" ヘッダーを付けてリクエストします
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                        UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -157,9 +271,12 @@ public class SecurityConfig {
      * - 基本的な認証機能（HTTP Basic認証）
      * - エンドポイントごとの認可設定
      * 
-     * Phase 2-6以降での実装予定：
-     * - JWTトークンベースの認証
+     * Phase 2-6での実装：
+     * - JWTトークンベースの認証（HTTP Basic認証を置き換え）
      * - JwtAuthenticationFilterの追加
+     * - ステートレスなセッション管理
+     * 
+     * 今後の実装予定：
      * - リフレッシュトークン機能
      * 
      * 段階的な実装の利点：
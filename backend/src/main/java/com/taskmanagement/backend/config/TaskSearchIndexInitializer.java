@@ -0,0 +1,183 @@
+package com.taskmanagement.backend.config;
+
+import com.taskmanagement.backend.model.Task;
+import com.taskmanagement.backend.model.TaskSearchIndexState;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.service.TaskSearchService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 検索インデックスの初期構築
+ *
+ * このクラスの役割：
+ * - 検索インデックス（task_search_tokens）の作成が完了していない場合に、既存のタスクからインデックスを作成する
+ * - 作成状況（task_search_index_state）を記録し、途中で停止した場合は次の起動時に続きから再開する
+ *
+ * 実務での使用場面：
+ * - 検索インデックスを導入する前から存在するタスクを、検索できるようにする
+ * - インデックスを作り直したい場合（rebuild()）
+ *
+ * 実務でのポイント：
+ * - アプリケーションの起動完了後（ApplicationReadyEvent）に、作成状況だけを確認し、
+ * 未完了の場合は専用のスレッドで作成します（起動とリクエストの受け付けを待たせません）
+ * - 作成が完了するまで、キーワード検索はTaskSearchServiceが503（Service Unavailable）で断ります
+ * （作成途中のインデックスで検索すると、未登録のタスクが検索結果や一括操作の対象から漏れるため）
+ * - 作成済みかどうかは作成状況の1行で判定し、task_search_tokens・tasksの件数（COUNT）は数えません
+ * （数億行のトークンのCOUNTは全件の走査になり、起動のたびに数分かかります）
+ * - 対象は、作成を開始した時点の最大のタスクIDまでです。それより後のタスクは、作成時にTaskServiceが登録します
+ * - タスクをIDの順にBATCH_SIZE件ずつ読み込み、1バッチ = 1トランザクションで登録と作成状況の更新を行います
+ * - 全件を1トランザクションで処理すると、100万件のエンティティがメモリに残り、OutOfMemoryErrorになります
+ *
+ * 注意点：
+ * - 作成に失敗しても、アプリケーションは止めません（検索以外の機能は使えるため）
+ * 作成状況は未完了のまま残るため、次の起動時に続きから再開します
+ * - 作成はすべて1つのスレッドで順に実行するため、作成と作り直し（rebuild()）が同時に実行されることはありません
+ * - 停止時（@PreDestroy）は作成を中断します。完了したバッチまでは記録されているため、次の起動時に続きから再開します
+ */
+@Slf4j
+@Component
+public class TaskSearchIndexInitializer {
+
+    /**
+     * 1回のトランザクションで登録するタスク数
+     */
+    private static final int BATCH_SIZE = 500;
+
+    private final TaskRepository taskRepository;
+
+    private final TaskSearchService taskSearchService;
+
+    /**
+     * 作成用のExecutor（1つの仮想スレッドで順に実行）
+     */
+    private final ExecutorService executor;
+
+    /**
+     * コンストラクタ
+     *
+     * @param taskRepository    タスクリポジトリ
+     * @param taskSearchService タスク検索サービス
+     */
+    public TaskSearchIndexInitializer(TaskRepository taskRepository, TaskSearchService taskSearchService) {
+        this.taskRepository = taskRepository;
+        this.taskSearchService = taskSearchService;
+        this.executor = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("task-search-index").factory());
+    }
+
+    /**
+     * 起動完了時に、検索インデックスの作成を開始
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        buildIfIncomplete();
+    }
+
+    /**
+     * 検索インデックスの作成が完了していない場合に、作成（または続きから再開）
+     *
+     * 処理の流れ：
+     * 1. 呼び出し元のスレッドで作成状況を確認する（無い場合は作成を開始し、タスクが無ければ完了済みにする）
+     * 2. 完了済みの場合は、完了済みのFutureを返す
+     * 3. 未完了の場合は、作成用のスレッドで作成し、すぐにFutureを返す
+     *
+     * @return 作成の完了を表すFuture（作成に失敗した場合も、ログを出力して正常に完了します）
+     */
+    public CompletableFuture<Void> buildIfIncomplete() {
+        try {
+            if (findOrStartIndexBuild().isCompleted()) {
+                return CompletableFuture.completedFuture(null);
+            }
+        } catch (RuntimeException e) {
+            log.warn("検索インデックスの作成状況を確認できませんでした。次回の起動時に再試行します", e);
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return CompletableFuture.runAsync(() -> {
+            try {
+                build();
+            } catch (RuntimeException e) {
+                log.warn("検索インデックスの作成に失敗しました。次回の起動時に続きから再開します", e);
+            }
+        }, executor);
+    }
+
+    /**
+     * 検索インデックスを、すべてのタスクから作り直す（完了するまで待つ）
+     *
+     * 実務での使用場面：
+     * - データベースに直接投入したタスク（TaskDatasetGeneratorなど）を検索できるようにする
+     *
+     * 注意点：
+     * - 作り直しの間も、キーワード検索は503で断られます
+     */
+    public void rebuild() {
+        try {
+            CompletableFuture.runAsync(() -> {
+                taskSearchService.resetIndexState();
+                build();
+            }, executor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 停止時に、作成を中断
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 作成状況を取得（無い場合は、現在の最大のタスクIDまでを対象に作成を開始）
+     *
+     * @return 作成状況
+     */
+    private TaskSearchIndexState findOrStartIndexBuild() {
+        return taskSearchService.findIndexState().orElseGet(() ->
+                taskSearchService.startIndexBuild(
+                        taskRepository.findFirstByOrderByIdDesc().map(Task::getId).orElse(0L)));
+    }
+
+    /**
+     * 作成状況に従って、検索インデックスを作成
+     *
+     * 実務でのポイント：
+     * - 作成状況は作成用のスレッドで読み直します（待っている間に、前の作成が完了している場合があるため）
+     */
+    private void build() {
+        TaskSearchIndexState state = findOrStartIndexBuild();
+        if (state.isCompleted()) {
+            return;
+        }
+
+        log.info("検索インデックスを作成します（タスクID {}〜{}）", state.getLastTaskId() + 1, state.getMaxTaskId());
+        long indexed = 0;
+        while (!state.isCompleted()) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("検索インデックスの作成を中断しました（タスクID {}まで作成済み）", state.getLastTaskId());
+                return;
+            }
+            List<Task> batch = taskRepository.findByIdBetweenOrderByIdAsc(
+                    state.getLastTaskId() + 1, state.getMaxTaskId(), PageRequest.of(0, BATCH_SIZE));
+            state = taskSearchService.rebuildBatch(batch, state, batch.size() < BATCH_SIZE);
+            indexed += batch.size();
+        }
+        log.info("検索インデックスを作成しました（{}件）", indexed);
+    }
+}
@@ -0,0 +1,137 @@
+package com.taskmanagement.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 仮想スレッドで実行する場合の設定（spring.threads.virtual.enabled=true の場合のみ有効）
+ *
+ * 仮想スレッドの有効化で変わること（Spring Bootの自動設定）：
+ * - Tomcatが、リクエストごとに仮想スレッドを作成して処理します（固定サイズのスレッドプールを使用しません）
+ * - applicationTaskExecutor（@Async・MVCの非同期処理）も、タスクごとに仮想スレッドで実行します
+ *
+ * この設定で追加すること：
+ * - DataSource（HikariCP）をConnectionLimitingDataSourceで包み、コネクションを同時に取得できる数を制限します
+ * - 許可の数はHikariCPのmaximum-pool-size、待機時間はHikariCPのconnection-timeoutから決めます
+ * - 待機中のスレッド数と、残りの許可の数をメトリクスとして公開します
+ *
+ * 実務でのポイント：
+ * - BCryptやSQLの待ち時間でスレッドが埋まらなくなるため、同時に処理できるリクエスト数が増えます
+ * - ただし、データベースのコネクション数は増えないため、データベースを使う処理はセマフォで順番待ちになります
+ * - キャリアスレッドの固定（synchronized内での待機）が起きていないかは、
+ * JFRのjdk.VirtualThreadPinnedイベントで確認します（VirtualThreadPinningTest、TaskLoadTest）
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /**
+     * 待機中のスレッド数のメトリクス名
+     */
+    public static final String GUARD_WAITING_METRIC = "jdbc.connections.guard.waiting";
+
+    /**
+     * 残りの許可の数のメトリクス名
+     */
+    public static final String GUARD_AVAILABLE_METRIC = "jdbc.connections.guard.available";
+
+    /**
+     * HikariCPの待機時間の下限（HikariCPが受け付ける最小のconnection-timeout）
+     */
+    static final long MIN_POOL_TIMEOUT_MILLIS = 250;
+
+    /**
+     * DataSourceをConnectionLimitingDataSourceで包むBeanPostProcessor
+     *
+     * なぜstaticなのか：
+     * - BeanPostProcessorは他のBeanより先に作成されるため、設定クラスのインスタンスに依存しないようにします
+     *
+     * 注意点：
+     * - HikariCP以外のDataSourceは包みません（待機の問題はHikariCPの待ち行列に固有のため）
+     *
+     * @param poolTimeoutMillis app.datasource.connection-guard.pool-timeout-ms（許可の取得後に、HikariCPで待つ時間の上限）
+     * @return BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${app.datasource.connection-guard.pool-timeout-ms:5000}") long poolTimeoutMillis) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    try {
+                        if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                            return limit(dataSource, dataSource.unwrap(HikariDataSource.class), poolTimeoutMillis);
+                        }
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("DataSourceからHikariCPを取得できません: " + beanName, e);
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * HikariCPの設定から、許可の数と待機時間を決めてDataSourceを包む
+     *
+     * 許可の数：
+     * - HikariCPのmaximum-pool-sizeと同じにします
+     * - 少ないとプールのコネクションが余り、多いと超えた分がHikariCPの待ち行列に並ぶためです
+     *
+     * 待機時間（1つの上限に収める）：
+     * - HikariCPのconnection-timeout（デフォルト30秒）を、コネクションの取得を待つ時間全体の上限とします
+     * - 許可の数がプールのサイズと同じため、許可を取得できればHikariCPではほとんど待ちません
+     * （待つのは、コネクションを作り直している場合だけです）
+     * - そこで、HikariCPのconnection-timeoutをpool-timeout-ms（全体の半分まで）に下げ、
+     * セマフォの待機時間を残りの時間にします
+     * - 別々に30秒ずつ待つと、エラーになるまで最大60秒かかるためです
+     *
+     * @param dataSource        包むDataSource
+     * @param hikari            DataSourceのHikariCP
+     * @param poolTimeoutMillis 許可の取得後に、HikariCPで待つ時間の上限（ミリ秒）
+     * @return ConnectionLimitingDataSource
+     */
+    static ConnectionLimitingDataSource limit(DataSource dataSource, HikariDataSource hikari, long poolTimeoutMillis) {
+        long budgetMillis = hikari.getConnectionTimeout();
+        long poolTimeout = Math.max(MIN_POOL_TIMEOUT_MILLIS, Math.min(poolTimeoutMillis, budgetMillis / 2));
+        // connection-timeoutは、プールの起動後も変更できる設定です
+        hikari.setConnectionTimeout(poolTimeout);
+        return new ConnectionLimitingDataSource(dataSource, hikari.getMaximumPoolSize(),
+                Math.max(0, budgetMillis - poolTimeout));
+    }
+
+    /**
+     * セマフォのメトリクス
+     *
+     * @param dataSource DataSource（ConnectionLimitingDataSourceで包まれたもの）
+     * @return MeterBinder
+     */
+    @Bean
+    public MeterBinder connectionGuardMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionLimitingDataSource guard;
+            try {
+                guard = dataSource.unwrap(ConnectionLimitingDataSource.class);
+            } catch (SQLException e) {
+                return;
+            }
+            Gauge.builder(GUARD_WAITING_METRIC, guard, ConnectionLimitingDataSource::getWaitingThreads)
+                    .description("データベースのコネクションの許可を待っているスレッド数")
+                    .register(registry);
+            Gauge.builder(GUARD_AVAILABLE_METRIC, guard, ConnectionLimitingDataSource::getAvailablePermits)
+                    .description("データベースのコネクションを取得できる残りの数")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskmanagement.backend.config;
+
+import com.taskmanagement.backend.security.AuthenticatedUserInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVCの設定（インターセプター）
+ *
+ * 登録するインターセプター：
+ * - AuthenticatedUserInterceptor：/api/tasks 以下のuserIdが、認証済みのユーザーと一致するかを確認
+ *
+ * 実務でのポイント：
+ * - WebMvcConfigurerを実装した@Configurationは、@WebMvcTestでも読み込まれます
+ * - そのため、コントローラーのテストでも同じ確認が行われます
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    /**
+     * インターセプターを登録
+     *
+     * @param registry InterceptorRegistry
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AuthenticatedUserInterceptor())
+                .addPathPatterns("/api/tasks", "/api/tasks/**");
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanagement.backend.controller;
 
+import com.taskmanagement.backend.dto.AuthResponseDto;
 import com.taskmanagement.backend.dto.LoginRequestDto;
 import com.taskmanagement.backend.dto.RegisterRequestDto;
 import com.taskmanagement.backend.dto.UserResponseDto;
@@ -27,8 +28,8 @@ import org.springframework.web.bind.annotation.*;
  *                  実務でのポイント：
  *                  - 認証エンドポイントは、SecurityConfigで認証不要に設定されています
  *                  - バリデーションエラーは、GlobalExceptionHandlerで自動処理されます
- *                  - Phase 2-5では、UserResponseDtoを返します
- *                  - Phase 2-6以降では、AuthResponseDto（JWTトークン + ユーザー情報）を返す予定です
+ *                  - 新規登録では、UserResponseDtoを返します
+ *                  - ログインでは、AuthResponseDto（JWTトークン + ユーザー情報）を返します
  */
 @RestController
 @RequestMapping("/api/auth")
@@ -111,16 +112,7 @@ public class AuthController {
      * - 200 OK: ログイン成功
      * - 400 Bad Request: メールアドレスまたはパスワードが正しくない場合
      * 
-     * Phase 2-5のレスポンス例：
-     * {
-     * "id": 1,
-     * "email": "test@example.com",
-     * "username": "テストユーザー",
-     * "createdAt": "2025-10-17T10:30:00",
-     * "updatedAt": "2025-10-17T10:30:00"
-     * }
-     * 
-     * Phase 2-6以降のレスポンス例：
+     * レスポンス例：
      * {
      * "token": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
      * "user": {
@@ -136,19 +128,20 @@ public class AuthController {
      * - @Validアノテーションにより、リクエストボディのバリデーションが自動実行されます
      * - バリデーションエラーは、GlobalExceptionHandlerで処理されます
      * - HTTPステータスコード200（OK）を返します
-     * - ログイン成功後は、JWTトークンを返します（Phase 2-6以降）
+     * - ログイン成功後は、JWTトークンを返します
+     * - 以降のAPIリクエストでは、"Authorization: Bearer {token}" ヘッダーを付けます
      * 
      * セキュリティのポイント：
      * - パスワードの検証は、Service層で行います
      * - エラーメッセージは曖昧にします（「メールアドレスまたはパスワードが正しくありません」）
      * 
      * @param loginDto ログインリクエストDTO
-     * @return ResponseEntity<UserResponseDto>
+     * @return ResponseEntity<AuthResponseDto>
      */
     @PostMapping("/login")
-    public ResponseEntity<UserResponseDto> login(@Valid @RequestBody LoginRequestDto loginDto) {
-        UserResponseDto user = authService.login(loginDto);
-        return ResponseEntity.ok(user);
+    public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody LoginRequestDto loginDto) {
+        AuthResponseDto response = authService.login(loginDto);
+        return ResponseEntity.ok(response);
     }
 
     /**
@@ -158,8 +151,8 @@ public class AuthController {
      * - シンプルな認証機能（UserResponseDtoを返す）
      * - パスワードのハッシュ化（Service層で自動処理）
      * 
-     * Phase 2-6以降での実装予定：
-     * - JWTトークンの生成
+     * Phase 2-6での実装：
+     * - ログイン時のJWTトークンの生成
      * - AuthResponseDtoを返す（トークン + ユーザー情報）
      * 
      * 認証フロー（Phase 2-5）：
@@ -170,12 +163,14 @@ public class AuthController {
      * 5. パスワードが検証される
      * 6. UserResponseDtoが返される
      * 
-     * 認証フロー（Phase 2-6以降）：
+     * 認証フロー（Phase 2-6）：
      * 1. ユーザーが新規登録 → POST /api/auth/register
      * 2. パスワードがハッシュ化されてデータベースに保存
-     * 3. JWTトークンが生成される
-     * 4. AuthResponseDto（トークン + ユーザー情報）が返される
-     * 5. フロントエンドがトークンを保存
-     * 6. 以降のAPIリクエストで、トークンをAuthorizationヘッダーに含める
+     * 3. ユーザーがログイン → POST /api/auth/login
+     * 4. パスワードが検証され、JWTトークンが生成される
+     * 5. AuthResponseDto（トークン + ユーザー情報）が返される
+     * 6. フロントエンドがトークンを保存
+     * 7. 以降のAPIリクエストで、トークンをAuthorizationヘッダーに含める
+     * 8. JwtAuthenticationFilterが署名を検証する（DBアクセス・BCryptなし）
      */
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.taskmanagement.backend.controller;
+
+import com.taskmanagement.backend.dto.CacheRegionStatsDto;
+import com.taskmanagement.backend.service.CacheStatisticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * キャッシュコントローラー
+ * 
+ * エンドポイント一覧：
+ * - GET /api/cache/stats - 2次キャッシュ・クエリキャッシュの統計情報を取得
+ * 
+ * 実務でのポイント：
+ * - 運用中に、キャッシュのヒット率や追い出し数を確認するためのエンドポイントです
+ * - 本番環境では、管理者ロールのみがアクセスできるように制限することを推奨します
+ */
+@RestController
+@RequestMapping("/api/cache")
+@RequiredArgsConstructor
+public class CacheController {
+
+    /**
+     * キャッシュ統計サービス
+     */
+    private final CacheStatisticsService cacheStatisticsService;
+
+    /**
+     * キャッシュの統計情報を取得
+     * 
+     * エンドポイント：GET /api/cache/stats
+     * 
+     * レスポンス：
+     * - 200 OK: リージョンごとの統計情報（tasks、users、task-queries、task-lists）
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/cache/stats
+     * 
+     * @return ResponseEntity<List<CacheRegionStatsDto>>
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<CacheRegionStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheStatisticsService.getRegionStats());
+    }
+}
@@ -1,17 +1,34 @@
 package com.taskmanagement.backend.controller;
 
+import com.taskmanagement.backend.dto.TaskBulkCreateResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkDeleteDto;
+import com.taskmanagement.backend.dto.TaskBulkOperationResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkStatusUpdateDto;
+import com.taskmanagement.backend.dto.TaskChangesResponseDto;
+import com.taskmanagement.backend.dto.TaskPageResponseDto;
 import com.taskmanagement.backend.dto.TaskRequestDto;
 import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.TaskStatsResponseDto;
 import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.service.TaskChangeService;
+import com.taskmanagement.backend.service.TaskEventBroadcaster;
+import com.taskmanagement.backend.service.TaskListCache;
 import com.taskmanagement.backend.service.TaskService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * タスクコントローラー
@@ -26,6 +43,9 @@ import java.util.List;
  * 
  *                  エンドポイント一覧：
  *                  - POST /api/tasks - タスクを作成
+ *                  - POST /api/tasks/bulk - タスクを一括作成
+ *                  - PUT /api/tasks/bulk/status - ステータスを一括変更（IDまたは条件で指定）
+ *                  - POST /api/tasks/bulk/delete - タスクを一括削除（IDまたは条件で指定）
  *                  - GET /api/tasks/{id} - IDでタスクを取得
  *                  - GET /api/tasks - 全タスクを取得
  *                  - GET /api/tasks/status/{status} - ステータスでフィルタ
@@ -39,7 +59,29 @@ import java.util.List;
  *                  - DELETE /api/tasks/{id} - タスクを削除
  *                  - GET /api/tasks/count - タスク総数を取得
  *                  - GET /api/tasks/count/status/{status} - ステータス別タスク数を取得
+ *                  - GET /api/tasks/stats - タスク統計（ステータス別・優先度別・期限切れ・今日が期日）を取得
+ *                  - GET /api/tasks/changes - 前回の同期以降の変更（作成・更新・削除）を取得
+ *                  - GET /api/tasks/stream - タスクの変更通知を受信（Server-Sent Events）
  * 
+ *                  ページング（limitパラメータを指定した場合）：
+ *                  - GET /api/tasks, /status/{status}, /priority/{priority},
+ *                  /overdue, /future, /filter は、limitを指定すると
+ *                  TaskPageResponseDto（items + nextCursor）を返します
+ *                  - limitを指定しない場合は、従来どおり全件のリストを返します
+ * 
+ *                  条件付きリクエスト（ETag）：
+ *                  - GET /api/tasks/{id} と一覧（/api/tasks, /status/{status}, /priority/{priority}, /filter）は、
+ *                  ETagヘッダーを返します（1件のタスクはLast-Modifiedも返します）
+ *                  - If-None-MatchのETagが現在と同じ場合は、本文なしの304 Not Modifiedを返します
+ *                  - PUT /api/tasks/{id}, PUT /api/tasks/{id}/status, DELETE /api/tasks/{id} は
+ *                  If-Matchを受け付け、ETagが一致しない場合は412 Precondition Failedを返します
+ *                  - ETagの形式はTaskETagsを参照してください
+ *
+ *                  userIdの確認：
+ *                  - すべてのエンドポイントで、userIdはJWTのユーザーID（SecurityContextのprincipal）と
+ *                  一致する必要があり、異なる場合は403 Forbiddenを返します
+ *                  - 確認はAuthenticatedUserInterceptorが行うため、各メソッドでは行いません
+ *
  *                  実務でのポイント：
  *                  - RESTful APIの設計原則に従う
  *                  - HTTPメソッドでCRUD操作を表現
@@ -56,6 +98,31 @@ public class TaskController {
      */
     private final TaskService taskService;
 
+    /**
+     * タスク一覧のレスポンスキャッシュ
+     * 
+     * 実務でのポイント：
+     * - 一覧（GET /api/tasks、/status/{status}、/priority/{priority}、/filter）は、
+     * JSONに変換済みのバイト列をキャッシュから返します
+     * - キャッシュにある場合は、TaskServiceもJacksonも呼び出されません
+     */
+    private final TaskListCache taskListCache;
+
+    /**
+     * タスクの変更通知の配信
+     */
+    private final TaskEventBroadcaster taskEventBroadcaster;
+
+    /**
+     * タスクのレスポンスのCache-Control
+     * 
+     * 実務でのポイント：
+     * - no-cache：ブラウザはレスポンスを保存しますが、使う前に必ずETagで確認します（304なら保存した内容を使う）
+     * - private：ユーザーごとの内容のため、プロキシやCDNには保存させません
+     * - 指定しない場合、Spring Securityが no-store を付けるため、ブラウザは何も保存せず304も発生しません
+     */
+    private static final CacheControl TASK_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     /**
      * タスクを作成
      * 
@@ -105,7 +172,104 @@ public class TaskController {
             @RequestParam Long userId) {
 
         TaskResponseDto createdTask = taskService.createTask(requestDto, userId);
-        return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
+        return taskResponse(HttpStatus.CREATED, createdTask);
+    }
+
+    /**
+     * タスクを一括作成
+     * 
+     * エンドポイント：POST /api/tasks/bulk
+     * 
+     * リクエストボディ（TaskRequestDtoの配列、最大TaskService.MAX_BULK_SIZE件）：
+     * [
+     * { "title": "買い物に行く", "status": "TODO", "priority": "HIGH" },
+     * { "title": "資料作成", "status": "TODO", "priority": "MEDIUM" }
+     * ]
+     * 
+     * リクエストパラメータ：
+     * - userId: ユーザーID（クエリパラメータ）
+     * 
+     * レスポンス：
+     * - 201 Created: 1件以上作成された場合（一部の要素が失敗していても201）
+     * - 400 Bad Request: 件数が範囲外、ユーザーが見つからない、またはすべての要素が失敗した場合
+     * 
+     * 実務でのポイント：
+     * - @Validは付けません。要素ごとにバリデーションを行い、結果をresultsで返します
+     * - すべて失敗した場合も、どの要素がなぜ失敗したかをresultsで確認できます
+     * 
+     * 使用例：
+     * POST http://localhost:8080/api/tasks/bulk?userId=1
+     * 
+     * @param requestDtos TaskRequestDtoのリスト
+     * @param userId      ユーザーID
+     * @return ResponseEntity<TaskBulkCreateResponseDto>
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<TaskBulkCreateResponseDto> createTasks(
+            @RequestBody List<TaskRequestDto> requestDtos,
+            @RequestParam Long userId) {
+
+        TaskBulkCreateResponseDto result = taskService.createTasks(requestDtos, userId);
+        HttpStatus status = result.getCreated() > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    /**
+     * タスクのステータスを一括変更
+     * 
+     * エンドポイント：PUT /api/tasks/bulk/status
+     * 
+     * リクエストボディ：
+     * { "ids": [1, 2, 3], "status": "DONE" }
+     * または
+     * { "filter": { "status": "IN_PROGRESS" }, "status": "DONE" }
+     * 
+     * レスポンス：
+     * - 200 OK: { "affected": 3 }
+     * - 400 Bad Request: idsとfilterの指定が不正な場合
+     * 
+     * 実務でのポイント：
+     * - /bulk/status はパス変数を含まないため、PUT /api/tasks/{id}/status より優先して一致します
+     * 
+     * @param requestDto TaskBulkStatusUpdateDto
+     * @param userId     ユーザーID
+     * @return ResponseEntity<TaskBulkOperationResponseDto>
+     */
+    @PutMapping("/bulk/status")
+    public ResponseEntity<TaskBulkOperationResponseDto> updateTaskStatuses(
+            @Valid @RequestBody TaskBulkStatusUpdateDto requestDto,
+            @RequestParam Long userId) {
+
+        return ResponseEntity.ok(taskService.updateTaskStatuses(requestDto, userId));
+    }
+
+    /**
+     * タスクを一括削除
+     * 
+     * エンドポイント：POST /api/tasks/bulk/delete
+     * 
+     * リクエストボディ：
+     * { "ids": [1, 2, 3] }
+     * または
+     * { "filter": { "status": "DONE" } }
+     * 
+     * レスポンス：
+     * - 200 OK: { "affected": 3 }
+     * - 400 Bad Request: idsとfilterの指定が不正な場合
+     * 
+     * なぜDELETEメソッドではなくPOSTなのか：
+     * - DELETEリクエストのボディは、プロキシやHTTPクライアントによっては破棄されるためです
+     * 
+     * @param requestDto TaskBulkDeleteDto
+     * @param userId     ユーザーID
+     * @return ResponseEntity<TaskBulkOperationResponseDto>
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<TaskBulkOperationResponseDto> deleteTasks(
+            @RequestBody TaskBulkDeleteDto requestDto,
+            @RequestParam Long userId) {
+
+        return ResponseEntity.ok(taskService.deleteTasks(requestDto, userId));
     }
 
     /**
@@ -120,12 +284,16 @@ public class TaskController {
      * - userId: ユーザーID（権限チェック用）
      * 
      * レスポンス：
-     * - 200 OK: タスクが見つかった場合
-     * - 404 Not Found: タスクが見つからない、または権限がない場合
+     * - 200 OK: タスクが見つかった場合（ETag・Last-Modifiedヘッダー付き）
+     * - 304 Not Modified: If-None-MatchのETagが現在と同じ場合（本文なし）
+     * - 403 Forbidden: 他のユーザーのタスクの場合
+     * - 404 Not Found: タスクが見つからない場合
      * 
      * 実務でのポイント：
      * - userIdを受け取り、権限チェックを行います
      * - 他人のタスクを取得できないようにします
+     * - 304の判定はSpring MVCが行います（ETag付きのResponseEntityを返すと、
+     * If-None-Match・If-Modified-Sinceと比較し、一致すればJSONに変換せずに304を返します）
      * 
      * 使用例：
      * GET http://localhost:8080/api/tasks/1?userId=1
@@ -140,7 +308,7 @@ public class TaskController {
             @RequestParam Long userId) {
 
         TaskResponseDto task = taskService.findById(id, userId);
-        return ResponseEntity.ok(task);
+        return taskResponse(HttpStatus.OK, task);
     }
 
     /**
@@ -151,11 +319,16 @@ public class TaskController {
      * リクエストパラメータ：
      * - userId: ユーザーID
      * 
+     * リクエストヘッダー：
+     * - If-None-Match: 前回のレスポンスのETag（任意）
+     * 
      * レスポンス：
-     * - 200 OK: タスクのリスト
+     * - 200 OK: タスクのリスト（ETagヘッダー付き）
+     * - 304 Not Modified: タスクが変更されていない場合（本文なし）
      * 
      * 実務での使用場面：
      * - ダッシュボードでのタスク一覧表示
+     * - 数秒ごとのポーリング（変更が無ければ304のみで、クエリもJSONへの変換も行いません）
      * 
      * 使用例：
      * GET http://localhost:8080/api/tasks?userId=1
@@ -171,13 +344,53 @@ public class TaskController {
      * ...
      * ]
      * 
-     * @param userId ユーザーID
-     * @return ResponseEntity<List<TaskResponseDto>>
+     * @param userId      ユーザーID
+     * @param ifNoneMatch If-None-Matchヘッダー（任意）
+     * @return ResponseEntity<byte[]>（タスクのリストのJSON）
      */
     @GetMapping
-    public ResponseEntity<List<TaskResponseDto>> getAllTasks(@RequestParam Long userId) {
-        List<TaskResponseDto> tasks = taskService.findAllByUserId(userId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<byte[]> getAllTasks(
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return listResponse(userId, "all", ifNoneMatch, () -> taskService.findAllByUserId(userId));
+    }
+
+    /**
+     * 全タスクを1ページ分取得（カーソルページング）
+     * 
+     * エンドポイント：GET /api/tasks?limit={limit}
+     * 
+     * リクエストパラメータ：
+     * - userId: ユーザーID
+     * - limit: 1ページあたりの件数（1〜100）
+     * - cursor: 前のレスポンスのnextCursor（任意、省略時は1ページ目）
+     * 
+     * レスポンス：
+     * - 200 OK: 1ページ分のタスクと次ページのカーソル
+     * - 400 Bad Request: limitまたはcursorが不正な場合
+     * 
+     * params = "limit"の意味：
+     * - limitパラメータがある場合のみ、このメソッドが呼ばれます
+     * - limitが無い場合は、getAllTasks()が呼ばれます（後方互換性を維持）
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks?userId=1&limit=20
+     * GET http://localhost:8080/api/tasks?userId=1&limit=20&cursor=MjAyNS0xMC0xN1Qx...
+     * 
+     * @param userId ユーザーID
+     * @param limit  1ページあたりの件数
+     * @param cursor カーソル（任意）
+     * @return ResponseEntity<TaskPageResponseDto>
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<TaskPageResponseDto> getAllTasksPage(
+            @RequestParam Long userId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+
+        TaskPageResponseDto page = taskService.findPageByUserId(userId, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -201,17 +414,44 @@ public class TaskController {
      * 使用例：
      * GET http://localhost:8080/api/tasks/status/TODO?userId=1
      * 
+     * @param status      タスクのステータス
+     * @param userId      ユーザーID
+     * @param ifNoneMatch If-None-Matchヘッダー（任意）
+     * @return ResponseEntity<byte[]>（タスクのリストのJSON）
+     */
+    @GetMapping("/status/{status}")
+    public ResponseEntity<byte[]> getTasksByStatus(
+            @PathVariable TaskStatus status,
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return listResponse(userId, "status:" + status, ifNoneMatch,
+                () -> taskService.findByStatus(userId, status));
+    }
+
+    /**
+     * ステータスでフィルタして1ページ分取得（カーソルページング）
+     * 
+     * エンドポイント：GET /api/tasks/status/{status}?limit={limit}
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/status/TODO?userId=1&limit=20
+     * 
      * @param status タスクのステータス
      * @param userId ユーザーID
-     * @return ResponseEntity<List<TaskResponseDto>>
+     * @param limit  1ページあたりの件数
+     * @param cursor カーソル（任意）
+     * @return ResponseEntity<TaskPageResponseDto>
      */
-    @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByStatus(
+    @GetMapping(value = "/status/{status}", params = "limit")
+    public ResponseEntity<TaskPageResponseDto> getTasksByStatusPage(
             @PathVariable TaskStatus status,
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
 
-        List<TaskResponseDto> tasks = taskService.findByStatus(userId, status);
-        return ResponseEntity.ok(tasks);
+        TaskPageResponseDto page = taskService.findPageByStatus(userId, status, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -234,17 +474,44 @@ public class TaskController {
      * 使用例：
      * GET http://localhost:8080/api/tasks/priority/HIGH?userId=1
      * 
+     * @param priority    タスクの優先度
+     * @param userId      ユーザーID
+     * @param ifNoneMatch If-None-Matchヘッダー（任意）
+     * @return ResponseEntity<byte[]>（タスクのリストのJSON）
+     */
+    @GetMapping("/priority/{priority}")
+    public ResponseEntity<byte[]> getTasksByPriority(
+            @PathVariable TaskPriority priority,
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        return listResponse(userId, "priority:" + priority, ifNoneMatch,
+                () -> taskService.findByPriority(userId, priority));
+    }
+
+    /**
+     * 優先度でフィルタして1ページ分取得（カーソルページング）
+     * 
+     * エンドポイント：GET /api/tasks/priority/{priority}?limit={limit}
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/priority/HIGH?userId=1&limit=20
+     * 
      * @param priority タスクの優先度
      * @param userId   ユーザーID
-     * @return ResponseEntity<List<TaskResponseDto>>
+     * @param limit    1ページあたりの件数
+     * @param cursor   カーソル（任意）
+     * @return ResponseEntity<TaskPageResponseDto>
      */
-    @GetMapping("/priority/{priority}")
-    public ResponseEntity<List<TaskResponseDto>> getTasksByPriority(
+    @GetMapping(value = "/priority/{priority}", params = "limit")
+    public ResponseEntity<TaskPageResponseDto> getTasksByPriorityPage(
             @PathVariable TaskPriority priority,
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
 
-        List<TaskResponseDto> tasks = taskService.findByPriority(userId, priority);
-        return ResponseEntity.ok(tasks);
+        TaskPageResponseDto page = taskService.findPageByPriority(userId, priority, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -258,6 +525,7 @@ public class TaskController {
      * 
      * レスポンス：
      * - 200 OK: タスクのリスト
+     * - 503 Service Unavailable: 既存のタスクの検索インデックスを作成中（起動直後など）
      * 
      * 実務での使用場面：
      * - タスク検索機能
@@ -306,6 +574,29 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * 期限切れタスクを1ページ分取得（カーソルページング）
+     * 
+     * エンドポイント：GET /api/tasks/overdue?limit={limit}
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/overdue?userId=1&limit=20
+     * 
+     * @param userId ユーザーID
+     * @param limit  1ページあたりの件数
+     * @param cursor カーソル（任意）
+     * @return ResponseEntity<TaskPageResponseDto>
+     */
+    @GetMapping(value = "/overdue", params = "limit")
+    public ResponseEntity<TaskPageResponseDto> getOverdueTasksPage(
+            @RequestParam Long userId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+
+        TaskPageResponseDto page = taskService.findPageOverdueTasks(userId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * 今後のタスクを取得
      * 
@@ -333,6 +624,29 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * 今後のタスクを1ページ分取得（カーソルページング）
+     * 
+     * エンドポイント：GET /api/tasks/future?limit={limit}
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/future?userId=1&limit=20
+     * 
+     * @param userId ユーザーID
+     * @param limit  1ページあたりの件数
+     * @param cursor カーソル（任意）
+     * @return ResponseEntity<TaskPageResponseDto>
+     */
+    @GetMapping(value = "/future", params = "limit")
+    public ResponseEntity<TaskPageResponseDto> getFutureTasksPage(
+            @RequestParam Long userId,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+
+        TaskPageResponseDto page = taskService.findPageFutureTasks(userId, cursor, limit);
+        return ResponseEntity.ok(page);
+    }
+
     /**
      * 複合条件で検索
      * 
@@ -355,21 +669,56 @@ public class TaskController {
      * GET
      * http://localhost:8080/api/tasks/filter?userId=1&status=TODO&priority=HIGH&keyword=買い物
      * 
+     * @param userId      ユーザーID
+     * @param status      タスクのステータス（任意）
+     * @param priority    タスクの優先度（任意）
+     * @param keyword     検索キーワード（任意）
+     * @param ifNoneMatch If-None-Matchヘッダー（任意）
+     * @return ResponseEntity<byte[]>（タスクのリストのJSON）
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<byte[]> filterTasks(
+            @RequestParam Long userId,
+            @RequestParam(required = false) TaskStatus status,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) String keyword,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        // キーワードが空の場合は、指定しない場合と同じ結果になるため、同じキーにします
+        String query = "filter:" + status + ":" + priority + ":"
+                + (keyword == null || keyword.isBlank() ? "" : keyword);
+        return listResponse(userId, query, ifNoneMatch,
+                () -> taskService.findWithFilters(userId, status, priority, keyword));
+    }
+
+    /**
+     * 複合条件で検索して1ページ分取得（カーソルページング）
+     * 
+     * エンドポイント：GET /api/tasks/filter?limit={limit}
+     * 
+     * 使用例：
+     * GET
+     * http://localhost:8080/api/tasks/filter?userId=1&status=TODO&priority=HIGH&limit=20
+     * 
      * @param userId   ユーザーID
      * @param status   タスクのステータス（任意）
      * @param priority タスクの優先度（任意）
      * @param keyword  検索キーワード（任意）
-     * @return ResponseEntity<List<TaskResponseDto>>
+     * @param limit    1ページあたりの件数
+     * @param cursor   カーソル（任意）
+     * @return ResponseEntity<TaskPageResponseDto>
      */
-    @GetMapping("/filter")
-    public ResponseEntity<List<TaskResponseDto>> filterTasks(
+    @GetMapping(value = "/filter", params = "limit")
+    public ResponseEntity<TaskPageResponseDto> filterTasksPage(
             @RequestParam Long userId,
             @RequestParam(required = false) TaskStatus status,
             @RequestParam(required = false) TaskPriority priority,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
 
-        List<TaskResponseDto> tasks = taskService.findWithFilters(userId, status, priority, keyword);
-        return ResponseEntity.ok(tasks);
+        TaskPageResponseDto page = taskService.findPageWithFilters(userId, status, priority, keyword, cursor, limit);
+        return ResponseEntity.ok(page);
     }
 
     /**
@@ -386,19 +735,28 @@ public class TaskController {
      * "description": "更新されました",
      * "dueDate": "2025-10-25",
      * "status": "IN_PROGRESS",
-     * "priority": "MEDIUM"
+     * "priority": "MEDIUM",
+     * "version": 3
      * }
      * 
      * リクエストパラメータ：
      * - userId: ユーザーID（権限チェック用）
      * 
+     * リクエストヘッダー：
+     * - If-Match: 取得したときのETag（任意）
+     * 
      * レスポンス：
-     * - 200 OK: タスクが更新された場合
+     * - 200 OK: タスクが更新された場合（新しいETag付き）
      * - 400 Bad Request: バリデーションエラーの場合
-     * - 404 Not Found: タスクが見つからない、または権限がない場合
+     * - 403 Forbidden: 他のユーザーのタスクの場合
+     * - 404 Not Found: タスクが見つからない場合
+     * - 409 Conflict: versionを指定し、その後にタスクが更新されていた場合（最新のタスクをcurrentに含める）
+     * - 412 Precondition Failed: If-Matchを指定し、その後にタスクが更新されていた場合
      * 
      * 実務でのポイント：
      * - 権限チェックを行い、他人のタスクを更新できないようにします
+     * - If-Matchまたはversionを指定すると、他の画面での更新を気づかずに上書きすることを防げます
+     * - 409のレスポンスには最新のタスクが含まれるため、保存前に取得し直す必要はありません
      * 
      * 使用例：
      * PUT http://localhost:8080/api/tasks/1?userId=1
@@ -413,16 +771,19 @@ public class TaskController {
      * @param id         タスクID
      * @param requestDto TaskRequestDto
      * @param userId     ユーザーID
+     * @param ifMatch    If-Matchヘッダー（任意）
      * @return ResponseEntity<TaskResponseDto>
      */
     @PutMapping("/{id}")
     public ResponseEntity<TaskResponseDto> updateTask(
             @PathVariable Long id,
             @Valid @RequestBody TaskRequestDto requestDto,
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        TaskResponseDto updatedTask = taskService.updateTask(id, requestDto, userId);
-        return ResponseEntity.ok(updatedTask);
+        LocalDateTime expectedUpdatedAt = TaskETags.expectedUpdatedAt(ifMatch, id);
+        TaskResponseDto updatedTask = taskService.updateTask(id, requestDto, userId, expectedUpdatedAt);
+        return taskResponse(HttpStatus.OK, updatedTask);
     }
 
     /**
@@ -436,10 +797,17 @@ public class TaskController {
      * リクエストパラメータ：
      * - status: 新しいステータス
      * - userId: ユーザーID（権限チェック用）
+     * - version: 取得したときのバージョン（任意）
+     * 
+     * リクエストヘッダー：
+     * - If-Match: 取得したときのETag（任意）
      * 
      * レスポンス：
-     * - 200 OK: タスクのステータスが更新された場合
-     * - 404 Not Found: タスクが見つからない、または権限がない場合
+     * - 200 OK: タスクのステータスが更新された場合（新しいETag付き）
+     * - 403 Forbidden: 他のユーザーのタスクの場合
+     * - 404 Not Found: タスクが見つからない場合
+     * - 409 Conflict: versionを指定し、その後にタスクが更新されていた場合（最新のタスクをcurrentに含める）
+     * - 412 Precondition Failed: If-Matchを指定し、その後にタスクが更新されていた場合
      * 
      * 実務での使用場面：
      * - タスク完了時に、ステータスのみを更新
@@ -448,19 +816,24 @@ public class TaskController {
      * 使用例：
      * PUT http://localhost:8080/api/tasks/1/status?status=DONE&userId=1
      * 
-     * @param id     タスクID
-     * @param status 新しいステータス
-     * @param userId ユーザーID
+     * @param id      タスクID
+     * @param status  新しいステータス
+     * @param userId  ユーザーID
+     * @param version 取得したときのバージョン（任意）
+     * @param ifMatch If-Matchヘッダー（任意）
      * @return ResponseEntity<TaskResponseDto>
      */
     @PutMapping("/{id}/status")
     public ResponseEntity<TaskResponseDto> updateTaskStatus(
             @PathVariable Long id,
             @RequestParam TaskStatus status,
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            @RequestParam(required = false) Long version,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        TaskResponseDto updatedTask = taskService.updateTaskStatus(id, status, userId);
-        return ResponseEntity.ok(updatedTask);
+        LocalDateTime expectedUpdatedAt = TaskETags.expectedUpdatedAt(ifMatch, id);
+        TaskResponseDto updatedTask = taskService.updateTaskStatus(id, status, userId, expectedUpdatedAt, version);
+        return taskResponse(HttpStatus.OK, updatedTask);
     }
 
     /**
@@ -474,9 +847,14 @@ public class TaskController {
      * リクエストパラメータ：
      * - userId: ユーザーID（権限チェック用）
      * 
+     * リクエストヘッダー：
+     * - If-Match: 取得したときのETag（任意）
+     * 
      * レスポンス：
      * - 204 No Content: タスクが削除された場合
-     * - 404 Not Found: タスクが見つからない、または権限がない場合
+     * - 403 Forbidden: 他のユーザーのタスクの場合
+     * - 404 Not Found: タスクが見つからない場合
+     * - 412 Precondition Failed: If-Matchを指定し、その後にタスクが更新されていた場合
      * 
      * 実務でのポイント：
      * - HTTPステータスコード204（No Content）を返す
@@ -486,16 +864,18 @@ public class TaskController {
      * 使用例：
      * DELETE http://localhost:8080/api/tasks/1?userId=1
      * 
-     * @param id     タスクID
-     * @param userId ユーザーID
+     * @param id      タスクID
+     * @param userId  ユーザーID
+     * @param ifMatch If-Matchヘッダー（任意）
      * @return ResponseEntity<Void>
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteTask(
             @PathVariable Long id,
-            @RequestParam Long userId) {
+            @RequestParam Long userId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
 
-        taskService.deleteTask(id, userId);
+        taskService.deleteTask(id, userId, TaskETags.expectedUpdatedAt(ifMatch, id));
         return ResponseEntity.noContent().build();
     }
 
@@ -563,4 +943,176 @@ public class TaskController {
         long count = taskService.countTasksByUserIdAndStatus(userId, status);
         return ResponseEntity.ok(count);
     }
-}
\ No newline at end of file
+
+    /**
+     * タスク統計を取得
+     * 
+     * エンドポイント：GET /api/tasks/stats
+     * 
+     * リクエストパラメータ：
+     * - userId: ユーザーID
+     * 
+     * レスポンス：
+     * - 200 OK: タスク統計
+     * 
+     * 実務での使用場面：
+     * - ダッシュボードの統計ウィジェット
+     * - 一覧取得やカウントのAPIを何度も呼び出す代わりに、1回で必要な数値をすべて取得します
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/stats?userId=1
+     * 
+     * レスポンス例：
+     * {
+     * "total": 42,
+     * "byStatus": { "TODO": 20, "IN_PROGRESS": 12, "DONE": 10 },
+     * "byPriority": { "HIGH": 8, "MEDIUM": 24, "LOW": 10 },
+     * "overdue": 3,
+     * "dueToday": 2
+     * }
+     * 
+     * @param userId ユーザーID
+     * @return ResponseEntity<TaskStatsResponseDto>
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<TaskStatsResponseDto> getTaskStats(@RequestParam Long userId) {
+        TaskStatsResponseDto stats = taskService.getTaskStats(userId);
+        return ResponseEntity.ok(stats);
+    }
+
+    /**
+     * 前回の同期以降の変更を取得（差分同期）
+     * 
+     * エンドポイント：GET /api/tasks/changes
+     * 
+     * クエリパラメータ：
+     * - userId: ユーザーID（必須）
+     * - since: 前回のレスポンスのnextToken（省略した場合は最初の同期）
+     * - limit: 1回で返す変更の最大件数（デフォルト500、最大1000）
+     * 
+     * レスポンス：
+     * - 200 OK: 変更されたタスク・削除されたタスクのID・次回のトークン
+     * - 400 Bad Request: トークンまたはlimitが不正な場合
+     * - 410 Gone: 保持期間を過ぎた削除記録が削除され、トークンから同期を続けられない場合（sinceを省略して最初から同期し直す）
+     * 
+     * 実務での使用場面：
+     * - クライアントはnextTokenを保存し、次回の同期でsinceに指定します
+     * - hasMoreがtrueの間は、続けてリクエストします
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/changes?userId=1&since=NDJ8MTA1&limit=100
+     * 
+     * レスポンス例：
+     * {
+     * "changed": [ { "id": 105, "title": "買い物に行く", ... } ],
+     * "deleted": [ 98 ],
+     * "nextToken": "NDN8MTA1",
+     * "hasMore": false
+     * }
+     * 
+     * @param userId ユーザーID
+     * @param since  前回のレスポンスのnextToken
+     * @param limit  1回で返す変更の最大件数
+     * @return ResponseEntity<TaskChangesResponseDto>
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<TaskChangesResponseDto> getTaskChanges(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "" + TaskChangeService.DEFAULT_CHANGES_LIMIT) int limit) {
+        TaskChangesResponseDto changes = taskService.findChanges(userId, since, limit);
+        return ResponseEntity.ok(changes);
+    }
+
+    /**
+     * タスクの変更通知を受信（Server-Sent Events）
+     * 
+     * エンドポイント：GET /api/tasks/stream
+     * 
+     * クエリパラメータ：
+     * - userId: ユーザーID（必須）
+     * 
+     * レスポンス：
+     * - 200 OK: text/event-stream（接続を開いたまま、タスクが変更されるたびにイベントを送信）
+     * 
+     * 実務での使用場面：
+     * - 一覧を定期的に取得（ポーリング）する代わりに、変更の通知を受けたときだけ差分同期を行う
+     * - 同じユーザーが開いているすべてのタブに、他のタブでの変更を反映する
+     * 
+     * イベント例：
+     * event: STATUS_CHANGED
+     * data: {"type":"STATUS_CHANGED","taskIds":[42]}
+     * 
+     * 実務でのポイント：
+     * - 通知を受けたら、GET /api/tasks/changes にnextTokenを渡して変更分を取得します
+     * - RESYNCを受けた場合も同じです（通知が間引かれたため、taskIdsは空です）
+     * - 接続はapp.task-events.timeout-msで切断されますが、EventSourceは自動的に再接続します
+     * - 待機中の接続はリクエストスレッドを使用しません（Servletの非同期処理）
+     * 
+     * 使用例：
+     * GET http://localhost:8080/api/tasks/stream?userId=1
+     * 
+     * @param userId ユーザーID
+     * @return SseEmitter
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskEvents(@RequestParam Long userId) {
+        return taskEventBroadcaster.subscribe(userId);
+    }
+
+    /**
+     * タスク1件のレスポンスを作成（ETag・Last-Modified付き）
+     * 
+     * @param status HTTPステータス
+     * @param task   タスク
+     * @return ResponseEntity<TaskResponseDto>
+     */
+    private ResponseEntity<TaskResponseDto> taskResponse(HttpStatus status, TaskResponseDto task) {
+        return ResponseEntity.status(status)
+                .eTag(TaskETags.of(task))
+                .lastModified(task.getUpdatedAt().atZone(ZoneId.systemDefault()))
+                .cacheControl(TASK_CACHE_CONTROL)
+                .body(task);
+    }
+
+    /**
+     * タスク一覧のレスポンスを作成（ETag付き、変更が無ければ304）
+     * 
+     * 処理の流れ：
+     * 1. ユーザーのタスク一覧のバージョン（TaskListCache.version()）からETagを作成
+     * 2. If-None-MatchのETagと一致すれば、クエリを実行せずに304を返す
+     * 3. 一致しなければ、キャッシュ（またはクエリ）からJSONを取得して200を返す
+     * 
+     * なぜバージョンを先に取得するのか：
+     * - JSONを取得している間にタスクが更新された場合、ETagは更新前、JSONは更新後の内容になります
+     * - この場合、次のリクエストはETagが一致せず200になるだけで、古い内容が304で使われ続けることはありません
+     * 
+     * 実務でのポイント：
+     * - 戻り値がbyte[]の場合、Spring MVCはJacksonを使わず、そのまま書き込みます
+     * - Content-Typeを明示しないと application/octet-stream になるため、application/json を指定します
+     * 
+     * @param userId      ユーザーID
+     * @param query       TaskListCacheのキー（クエリの種類とパラメータ）
+     * @param ifNoneMatch If-None-Matchヘッダー
+     * @param loader      タスク一覧の取得処理
+     * @return ResponseEntity<byte[]>
+     */
+    private ResponseEntity<byte[]> listResponse(Long userId, String query, String ifNoneMatch,
+            Supplier<List<TaskResponseDto>> loader) {
+
+        String etag = TaskETags.ofList(taskListCache.version(userId));
+        if (TaskETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(etag)
+                    .cacheControl(TASK_CACHE_CONTROL)
+                    .build();
+        }
+
+        byte[] json = taskListCache.get(userId, query, loader);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(TASK_CACHE_CONTROL)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(json);
+    }
+}
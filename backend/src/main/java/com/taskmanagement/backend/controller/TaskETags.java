@@ -0,0 +1,143 @@
+package com.taskmanagement.backend.controller;
+
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.exception.PreconditionFailedException;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * タスクのETag（HTTPの条件付きリクエスト）
+ *
+ * ETagとは：
+ * - レスポンスの内容のバージョンを表す文字列（例：ETag: "42-1760667000123456"）
+ * - クライアントは次回のリクエストで If-None-Match: "42-1760667000123456" を送ります
+ * - 内容が変わっていなければ、サーバーは本文なしの304（Not Modified）を返します
+ *
+ * ETagの作り方：
+ * - 1件のタスク："{タスクID}-{updatedAt（エポックからのマイクロ秒）}"
+ * - タスク一覧：TaskListCache.version()（ユーザーのタスクが変更されるたびに変わる値）
+ *
+ * If-Match（楽観的な同時実行制御）：
+ * - 更新・削除のリクエストに、取得したときのETagを If-Match で付けます
+ * - その後に他の操作でタスクが更新されていた場合は、上書きせずに412（Precondition Failed）を返します
+ *
+ * 実務でのポイント：
+ * - 強いETag（W/ が付かない）を使用します。同じETagのレスポンスは、バイト単位で同じ内容です
+ * - updatedAtはマイクロ秒精度で保存されるため（Task.currentTimestamp()）、
+ * 同じマイクロ秒に2回更新されない限り、更新のたびにETagが変わります
+ */
+public final class TaskETags {
+
+    /**
+     * インスタンス化を禁止（ユーティリティクラス）
+     */
+    private TaskETags() {
+    }
+
+    /**
+     * タスクのETagを作成
+     *
+     * @param task タスク
+     * @return ETag（ダブルクォートを含む）
+     */
+    public static String of(TaskResponseDto task) {
+        return "\"" + task.getId() + "-" + toEpochMicros(task.getUpdatedAt()) + "\"";
+    }
+
+    /**
+     * タスク一覧のETagを作成
+     *
+     * @param version タスク一覧のバージョン（TaskListCache.version()）
+     * @return ETag（ダブルクォートを含む）
+     */
+    public static String ofList(String version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-None-MatchにETagが含まれるかどうか（弱い比較）
+     *
+     * 実務でのポイント：
+     * - If-None-Matchは、カンマ区切りで複数のETagを指定できます
+     * - 「*」は、どのETagにも一致します
+     * - If-None-Matchの比較では、W/（弱いETag）の有無は無視します（RFC 9110）
+     *
+     * @param ifNoneMatch If-None-Matchヘッダーの値（nullの場合は一致しない）
+     * @param etag        現在のETag
+     * @return 一致する場合はtrue（304を返す）
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * If-MatchのETagから、クライアントが取得したときの更新日時を取り出す
+     *
+     * 実務でのポイント：
+     * - If-Matchが無い場合と「*」の場合は、更新日時を確認しません（nullを返す）
+     * - If-Matchの比較は強い比較のため、弱いETag（W/）は常に一致しません
+     * - 別のタスクのETagや、形式が正しくないETagも、一致しないものとして412を返します
+     *
+     * @param ifMatch If-Matchヘッダーの値（nullの場合は確認しない）
+     * @param taskId  更新・削除するタスクのID
+     * @return 取得したときの更新日時（確認しない場合はnull）
+     * @throws PreconditionFailedException ETagがこのタスクのものとして解釈できない場合
+     */
+    public static LocalDateTime expectedUpdatedAt(String ifMatch, Long taskId) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        String prefix = "\"" + taskId + "-";
+        if (!tag.startsWith(prefix) || !tag.endsWith("\"") || tag.length() <= prefix.length() + 1) {
+            throw new PreconditionFailedException("If-MatchのETagがこのタスクのものではありません");
+        }
+        try {
+            return fromEpochMicros(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1)));
+        } catch (NumberFormatException ex) {
+            throw new PreconditionFailedException("If-MatchのETagがこのタスクのものではありません");
+        }
+    }
+
+    /**
+     * 弱いETagの「W/」を取り除く
+     *
+     * @param tag ETag
+     * @return W/を除いたETag
+     */
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    /**
+     * 日時をエポックからのマイクロ秒に変換
+     *
+     * @param dateTime 日時
+     * @return エポック（1970-01-01T00:00:00）からのマイクロ秒
+     */
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    /**
+     * エポックからのマイクロ秒を日時に変換
+     *
+     * @param micros エポック（1970-01-01T00:00:00）からのマイクロ秒
+     * @return 日時
+     */
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+}
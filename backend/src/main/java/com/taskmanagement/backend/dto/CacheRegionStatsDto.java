@@ -0,0 +1,60 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * キャッシュリージョンごとの統計情報DTO
+ *
+ * レスポンス例：
+ * {
+ * "region": "task-queries",
+ * "hitCount": 950,
+ * "missCount": 50,
+ * "putCount": 50,
+ * "evictionCount": 0,
+ * "hitRatio": 0.95
+ * }
+ *
+ * 実務でのポイント：
+ * - ヒット率（hitRatio）が低い場合は、書き込みが多すぎて無効化が頻発しているか、
+ * 件数の上限（application.conf）が小さすぎてすぐに追い出されている可能性があります
+ * - evictionCountが増え続ける場合は、件数の上限を見直します
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheRegionStatsDto {
+
+    /**
+     * リージョン名（tasks、users、task-queries、task-lists）
+     */
+    private String region;
+
+    /**
+     * キャッシュから取得できた回数
+     */
+    private long hitCount;
+
+    /**
+     * キャッシュに無く、データベースから取得した回数
+     */
+    private long missCount;
+
+    /**
+     * キャッシュに格納した回数
+     */
+    private long putCount;
+
+    /**
+     * 件数の上限・有効期限により、キャッシュから追い出された件数
+     * （JCacheの統計が無効な場合はnull）
+     */
+    private Long evictionCount;
+
+    /**
+     * ヒット率（hitCount / (hitCount + missCount)、アクセスが無い場合は0）
+     */
+    private double hitRatio;
+}
@@ -0,0 +1,49 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * タスク一括作成のレスポンスDTO
+ *
+ * このDTOの役割：
+ * - 一括作成の件数（成功・失敗）と、1件ごとの結果を返す
+ *
+ * レスポンス例：
+ * {
+ * "created": 2,
+ * "failed": 1,
+ * "results": [
+ * { "index": 0, "success": true, "task": { "id": 42, ... }, "error": null },
+ * { "index": 1, "success": false, "task": null, "error": "タイトルは必須です" },
+ * { "index": 2, "success": true, "task": { "id": 43, ... }, "error": null }
+ * ]
+ * }
+ *
+ * 実務でのポイント：
+ * - 一部の要素が不正でも、正しい要素は作成されます（部分成功）
+ * - resultsはリクエストと同じ順序で返します
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkCreateResponseDto {
+
+    /**
+     * 作成に成功した件数
+     */
+    private int created;
+
+    /**
+     * 作成に失敗した件数
+     */
+    private int failed;
+
+    /**
+     * 1件ごとの結果（リクエストと同じ順序）
+     */
+    private List<TaskBulkItemResultDto> results;
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 一括削除のリクエストDTO
+ *
+ * このDTOの役割：
+ * - 複数のタスクを、1回のリクエスト・1回のDELETE文で削除する
+ *
+ * リクエスト例（IDで指定）：
+ * {
+ * "ids": [1, 2, 3]
+ * }
+ *
+ * リクエスト例（条件で指定：完了したタスクをすべて削除する）：
+ * {
+ * "filter": { "status": "DONE" }
+ * }
+ *
+ * 実務でのポイント：
+ * - idsとfilterは、どちらか一方だけを指定します
+ * - 他人のタスクのIDが含まれていても、そのタスクは削除されません（affectedに含まれない）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkDeleteDto {
+
+    /**
+     * 対象のタスクID（filterと同時に指定しない）
+     */
+    private List<Long> ids;
+
+    /**
+     * 対象の絞り込み条件（idsと同時に指定しない）
+     */
+    private TaskFilterDto filter;
+}
@@ -0,0 +1,67 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一括作成の1件ごとの結果DTO
+ *
+ * このDTOの役割：
+ * - 一括作成リクエストの各要素について、作成できたかどうかを返す
+ *
+ * レスポンス例：
+ * - 成功: { "index": 0, "success": true, "task": { "id": 42, ... }, "error": null }
+ * - 失敗: { "index": 1, "success": false, "task": null, "error": "タイトルは必須です" }
+ *
+ * 実務でのポイント：
+ * - indexはリクエストの配列の位置（0始まり）です
+ * - クライアントは、失敗した要素だけを修正して再送信できます
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkItemResultDto {
+
+    /**
+     * リクエストの配列の位置（0始まり）
+     */
+    private int index;
+
+    /**
+     * 作成に成功したかどうか
+     */
+    private boolean success;
+
+    /**
+     * 作成されたタスク（失敗した場合はnull）
+     */
+    private TaskResponseDto task;
+
+    /**
+     * エラーメッセージ（成功した場合はnull）
+     */
+    private String error;
+
+    /**
+     * 成功結果を生成
+     *
+     * @param index リクエストの配列の位置
+     * @param task  作成されたタスク
+     * @return TaskBulkItemResultDto
+     */
+    public static TaskBulkItemResultDto success(int index, TaskResponseDto task) {
+        return new TaskBulkItemResultDto(index, true, task, null);
+    }
+
+    /**
+     * 失敗結果を生成
+     *
+     * @param index リクエストの配列の位置
+     * @param error エラーメッセージ
+     * @return TaskBulkItemResultDto
+     */
+    public static TaskBulkItemResultDto failure(int index, String error) {
+        return new TaskBulkItemResultDto(index, false, null, error);
+    }
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一括操作（ステータス変更・削除）のレスポンスDTO
+ *
+ * レスポンス例：
+ * {
+ * "affected": 12
+ * }
+ *
+ * 実務でのポイント：
+ * - affectedは、UPDATE/DELETE文が実際に変更した行数です
+ * - IDで指定した場合、存在しないIDや他人のタスクのIDは数えられません
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkOperationResponseDto {
+
+    /**
+     * 変更・削除されたタスクの件数
+     */
+    private int affected;
+}
@@ -0,0 +1,53 @@
+package com.taskmanagement.backend.dto;
+
+import com.taskmanagement.backend.model.TaskStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * ステータス一括変更のリクエストDTO
+ *
+ * このDTOの役割：
+ * - 複数のタスクのステータスを、1回のリクエスト・1回のUPDATE文で変更する
+ *
+ * リクエスト例（IDで指定）：
+ * {
+ * "ids": [1, 2, 3],
+ * "status": "DONE"
+ * }
+ *
+ * リクエスト例（条件で指定：進行中のタスクをすべて完了にする）：
+ * {
+ * "filter": { "status": "IN_PROGRESS" },
+ * "status": "DONE"
+ * }
+ *
+ * 実務でのポイント：
+ * - idsとfilterは、どちらか一方だけを指定します
+ * - 他人のタスクのIDが含まれていても、そのタスクは変更されません（affectedに含まれない）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskBulkStatusUpdateDto {
+
+    /**
+     * 対象のタスクID（filterと同時に指定しない）
+     */
+    private List<Long> ids;
+
+    /**
+     * 対象の絞り込み条件（idsと同時に指定しない）
+     */
+    private TaskFilterDto filter;
+
+    /**
+     * 変更後のステータス
+     */
+    @NotNull(message = "ステータスは必須です")
+    private TaskStatus status;
+}
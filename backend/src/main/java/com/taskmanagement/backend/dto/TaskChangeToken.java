@@ -0,0 +1,162 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+/**
+ * 差分同期の位置トークン
+ *
+ * トークンとは：
+ * - 「クライアントがどの変更まで受け取ったか」を表す目印
+ * - 変更（作成・更新・削除）は (changeSeq, id) の昇順に並ぶため、最後に受け取った変更の (changeSeq, id) を保持します
+ *
+ * なぜ日時（updatedAt）ではなく変更番号なのか：
+ * - 変更番号はデータベースのシーケンス（task_changes_seq）から採番するため、サーバーの時計に依存しません
+ * - 書き込みの前にユーザーの行をロックしてから採番するため（TaskChangeService.nextChangeSeq()）、
+ * 同じユーザーの変更は、番号の順にコミットされます
+ * - そのため、「番号10の変更を受け取った後に、番号9の変更がコミットされる」ことはなく、取りこぼしが起きません
+ *
+ * 実務でのポイント：
+ * - TaskCursorと同様に、クライアントにはBase64URLエンコードした不透明な文字列として渡します
+ * - 一括操作では複数のタスクが同じ変更番号になるため、IDも含めて位置を一意にします
+ *
+ * 発行時の削除位置（horizonChangeSeq, horizonId）とは：
+ * - トークンを発行した時点で、そのユーザーの削除記録をどの位置まで削除していたか（TaskChangeHorizon）
+ * - 削除位置がトークンの発行後に進み、かつトークンの位置より後ろにある場合は、
+ * クライアントが受け取っていない削除記録が削除された可能性があるため、410（Gone）を返します
+ * - 発行後に削除位置が進んでいなければ、トークンの位置が削除位置より前でも同期を続けられます
+ * （削除位置より後に最初から同期し直したクライアントが、ページをたどる場合）
+ * - 削除位置を含まない古い形式のトークンは、削除位置が無い状態（FIRST）で発行されたものとして扱います
+ */
+@Data
+@AllArgsConstructor
+public class TaskChangeToken {
+
+    /**
+     * 最初の同期を表すトークン（すべての変更を返す）
+     *
+     * 実務でのポイント：
+     * - V4のマイグレーション以前から存在するタスクは変更番号が0のため、-1から開始します
+     */
+    public static final TaskChangeToken FIRST = new TaskChangeToken(-1L, 0L);
+
+    /**
+     * トークンの区切り文字
+     */
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 最後に受け取った変更の変更番号
+     */
+    private long changeSeq;
+
+    /**
+     * 最後に受け取った変更のタスクID
+     */
+    private Long id;
+
+    /**
+     * 発行時の削除位置の変更番号（削除位置が無い場合は-1）
+     */
+    private long horizonChangeSeq;
+
+    /**
+     * 発行時の削除位置のタスクID（削除位置が無い場合は0）
+     */
+    private Long horizonId;
+
+    /**
+     * 位置だけのトークンを作成（発行時の削除位置は無し）
+     *
+     * 実務での使用場面：
+     * - リポジトリのクエリで、変更・削除記録の位置を取得する（SELECT new ...TaskChangeToken(changeSeq, id)）
+     * - 削除位置（TaskChangeHorizon）を、トークンと同じ順序で比較する
+     *
+     * @param changeSeq 変更番号
+     * @param id        タスクID
+     */
+    public TaskChangeToken(long changeSeq, Long id) {
+        this(changeSeq, id, -1L, 0L);
+    }
+
+    /**
+     * 発行時の削除位置を取得
+     *
+     * @return 削除位置（削除位置が無い状態で発行された場合はFIRSTと同じ位置）
+     */
+    public TaskChangeToken horizon() {
+        return new TaskChangeToken(horizonChangeSeq, horizonId);
+    }
+
+    /**
+     * このトークンの位置に、発行時の削除位置を付けたトークンを作成
+     *
+     * @param horizon 現在の削除位置
+     * @return 新しいトークン
+     */
+    public TaskChangeToken withHorizon(TaskChangeToken horizon) {
+        return new TaskChangeToken(changeSeq, id, horizon.getChangeSeq(), horizon.getId());
+    }
+
+    /**
+     * トークンを不透明な文字列にエンコード
+     *
+     * @return エンコードされたトークン
+     */
+    public String encode() {
+        String raw = changeSeq + SEPARATOR + id + SEPARATOR + horizonChangeSeq + SEPARATOR + horizonId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 文字列からトークンをデコード
+     *
+     * 実務でのポイント：
+     * - nullまたは空文字の場合は、最初の同期として扱います
+     * - クライアントが改変した不正なトークンは、IllegalArgumentExceptionとして400を返します
+     *
+     * @param token エンコードされたトークン（nullの場合は最初の同期）
+     * @return TaskChangeToken
+     * @throws IllegalArgumentException トークンの形式が不正な場合
+     */
+    public static TaskChangeToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split(Pattern.quote(SEPARATOR), -1);
+            if (parts.length == 2) {
+                // 削除位置を含まない古い形式
+                return new TaskChangeToken(Long.parseLong(parts[0]), Long.valueOf(parts[1]));
+            }
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("同期トークンの形式が正しくありません");
+            }
+            return new TaskChangeToken(Long.parseLong(parts[0]), Long.valueOf(parts[1]),
+                    Long.parseLong(parts[2]), Long.valueOf(parts[3]));
+        } catch (IllegalArgumentException ex) {
+            // Base64の形式エラー、数値の形式エラー（NumberFormatException）もここで捕捉します
+            throw new IllegalArgumentException("同期トークンの形式が正しくありません");
+        }
+    }
+
+    /**
+     * このトークンが、指定したトークンより後の位置かどうか
+     *
+     * @param other 比較するトークン
+     * @return (changeSeq, id) の順で比較して大きい場合はtrue
+     */
+    public boolean isAfter(TaskChangeToken other) {
+        if (changeSeq != other.changeSeq) {
+            return changeSeq > other.changeSeq;
+        }
+        return id > other.id;
+    }
+}
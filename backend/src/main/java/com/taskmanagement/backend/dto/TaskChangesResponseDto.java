@@ -0,0 +1,60 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 差分同期のレスポンスDTO
+ *
+ * このDTOの役割：
+ * - 前回の同期以降に作成・更新されたタスクと、削除されたタスクのIDを返す
+ * - 次回の同期で使用するトークンを返す
+ *
+ * レスポンス例：
+ * {
+ * "changed": [
+ * { "id": 42, "title": "買い物に行く", ... }
+ * ],
+ * "deleted": [7, 8],
+ * "nextToken": "MTAzfDQy",
+ * "hasMore": false
+ * }
+ *
+ * クライアントの処理：
+ * 1. changedのタスクを、IDをキーにして追加または上書きする
+ * 2. deletedのIDのタスクを削除する
+ * 3. nextTokenを保存し、次回のsinceに渡す
+ * 4. hasMoreがtrueの場合は、すぐにもう一度リクエストする
+ *
+ * 注意点：
+ * - 同じタスクが、複数回の同期で繰り返し返されることがあります（上書きすれば問題ありません）
+ * - ユーザー名の変更は、タスクの変更としては返しません
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesResponseDto {
+
+    /**
+     * 作成・更新されたタスク（変更番号の昇順）
+     */
+    private List<TaskResponseDto> changed;
+
+    /**
+     * 削除されたタスクのID
+     */
+    private List<Long> deleted;
+
+    /**
+     * 次回の同期で使用するトークン（変更が無い場合は、リクエストのトークンと同じ位置）
+     */
+    private String nextToken;
+
+    /**
+     * まだ返していない変更が残っているかどうか
+     */
+    private boolean hasMore;
+}
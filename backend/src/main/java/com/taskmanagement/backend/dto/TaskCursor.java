@@ -0,0 +1,113 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * タスク一覧のページングカーソル
+ *
+ * カーソルとは：
+ * - 「前のページの最後の行がどこだったか」を表す目印
+ * - タスク一覧は (createdAt DESC, id DESC) で並べるため、最後の行の (createdAt, id) を保持します
+ *
+ * なぜOFFSETではなくカーソル（キーセット）ページングなのか：
+ * - OFFSET方式（LIMIT 20 OFFSET 10000）では、データベースは読み飛ばす10000行も実際に読み込みます
+ * - ページが深くなるほど遅くなり、タスクが数万件あるユーザーでは致命的です
+ * - キーセット方式（WHERE (createdAt, id) < (?, ?) LIMIT 20）では、
+ * インデックスで開始位置に直接移動できるため、何ページ目でも1ページ目と同じコストで取得できます
+ *
+ * 実務でのポイント：
+ * - クライアントにはBase64URLエンコードした「不透明な（opaque）」文字列として渡します
+ * - クライアントはカーソルの中身を解釈せず、次のリクエストにそのまま渡すだけです
+ * - これにより、将来カーソルの形式を変更してもクライアントに影響しません
+ */
+@Data
+@AllArgsConstructor
+public class TaskCursor {
+
+    /**
+     * 1ページ目を表すカーソル
+     *
+     * 実務でのポイント：
+     * - 1ページ目も「すべての行より大きい位置」から検索することで、
+     * 1ページ目と2ページ目以降で同じクエリを使い回せます
+     * - LocalDateTime.MAXはPostgreSQLのTIMESTAMP型の範囲外になるため、9999年末を使用します
+     */
+    public static final TaskCursor FIRST = new TaskCursor(
+            LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    /**
+     * カーソルの区切り文字
+     */
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 最後の行の作成日時
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * 最後の行のタスクID
+     */
+    private Long id;
+
+    /**
+     * タスクから、そのタスクの直後を指すカーソルを作成
+     *
+     * @param task ページの最後のタスク
+     * @return TaskCursor
+     */
+    public static TaskCursor of(TaskResponseDto task) {
+        return new TaskCursor(task.getCreatedAt(), task.getId());
+    }
+
+    /**
+     * カーソルを不透明な文字列にエンコード
+     *
+     * 例：
+     * (2025-10-17T10:30:00, 42) → "MjAyNS0xMC0xN1QxMDozMDowMHw0Mg"
+     *
+     * @return エンコードされたカーソル
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 文字列からカーソルをデコード
+     *
+     * 実務でのポイント：
+     * - nullまたは空文字の場合は、1ページ目として扱います
+     * - クライアントが改変した不正なカーソルは、IllegalArgumentExceptionとして400を返します
+     *
+     * @param cursor エンコードされたカーソル（nullの場合は1ページ目）
+     * @return TaskCursor
+     * @throws IllegalArgumentException カーソルの形式が不正な場合
+     */
+    public static TaskCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("カーソルの形式が正しくありません");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.valueOf(raw.substring(separatorIndex + 1));
+            return new TaskCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            // Base64の形式エラー、数値の形式エラー（NumberFormatException）もここで捕捉します
+            throw new IllegalArgumentException("カーソルの形式が正しくありません");
+        }
+    }
+}
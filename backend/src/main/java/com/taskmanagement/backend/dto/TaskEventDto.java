@@ -0,0 +1,68 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * タスクの変更通知DTO（GET /api/tasks/stream で送信するイベント）
+ *
+ * このDTOの役割：
+ * - どのタスクが、どのように変更されたかをクライアントに通知する
+ * - タスクの内容は含めません（クライアントは GET /api/tasks/changes で変更分を取得します）
+ *
+ * イベント例（Server-Sent Events）：
+ * event: STATUS_CHANGED
+ * data: {"type":"STATUS_CHANGED","taskIds":[42]}
+ *
+ * なぜタスクの内容を含めないのか：
+ * - 通知は、接続しているすべてのタブに送信されるため、小さいほど多くの接続を処理できます
+ * - 通知が取りこぼされた場合も、差分同期（nextToken）で必ず追いつけます
+ *
+ * 注意点：
+ * - 条件で指定した一括変更・一括削除では、対象のIDが分からないため、taskIdsは空になります
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskEventDto {
+
+    /**
+     * イベントの種類
+     */
+    public enum Type {
+        /** タスクが作成された */
+        CREATED,
+        /** タスクが更新された */
+        UPDATED,
+        /** タスクのステータスが変更された */
+        STATUS_CHANGED,
+        /** タスクが削除された */
+        DELETED,
+        /** 通知が多すぎて間引いたため、差分同期で取得し直す必要がある */
+        RESYNC
+    }
+
+    /**
+     * イベントの種類
+     */
+    private Type type;
+
+    /**
+     * 変更されたタスクのID（一括操作で対象が分からない場合は空）
+     */
+    private List<Long> taskIds;
+
+    /**
+     * イベントを作成
+     *
+     * @param type    イベントの種類
+     * @param taskIds 変更されたタスクのID
+     * @return イベント
+     */
+    public static TaskEventDto of(Type type, List<Long> taskIds) {
+        return new TaskEventDto(type, List.copyOf(taskIds));
+    }
+}
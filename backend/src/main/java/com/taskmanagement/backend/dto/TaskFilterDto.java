@@ -0,0 +1,54 @@
+package com.taskmanagement.backend.dto;
+
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * タスクの絞り込み条件DTO
+ *
+ * このDTOの役割：
+ * - 一括操作（ステータス変更・削除）の対象を、IDのリストではなく条件で指定する
+ *
+ * リクエスト例（進行中・高優先度のタスク）：
+ * {
+ * "status": "IN_PROGRESS",
+ * "priority": "HIGH",
+ * "keyword": null
+ * }
+ *
+ * 実務でのポイント：
+ * - 条件の意味は GET /api/tasks/filter と同じです（nullまたは空の条件は無視）
+ * - すべての条件が空の場合は、全タスクが対象になってしまうため、エラーにします
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFilterDto {
+
+    /**
+     * タスクのステータス（nullの場合はフィルタしない）
+     */
+    private TaskStatus status;
+
+    /**
+     * タスクの優先度（nullの場合はフィルタしない）
+     */
+    private TaskPriority priority;
+
+    /**
+     * 検索キーワード（空の場合は検索しない）
+     */
+    private String keyword;
+
+    /**
+     * 条件が1つも指定されていないかどうか
+     *
+     * @return すべての条件が空の場合はtrue（空白だけのキーワードは、指定されていないものとして扱う）
+     */
+    public boolean isEmpty() {
+        return status == null && priority == null && (keyword == null || keyword.isBlank());
+    }
+}
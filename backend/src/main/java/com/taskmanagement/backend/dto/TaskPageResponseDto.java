@@ -0,0 +1,53 @@
+package com.taskmanagement.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * タスク一覧のページレスポンスDTO
+ *
+ * このDTOの役割：
+ * - カーソルページングで取得した1ページ分のタスクと、次ページのカーソルを返す
+ *
+ * なぜページングが必要なのか：
+ * - タスクが数万件あるユーザーの場合、全件を返すとレスポンスが数MBになります
+ * - サーバー側でも、全件をメモリに読み込むためヒープ使用量が急増します
+ * - 1ページ分だけを返すことで、レスポンスサイズとメモリ使用量を一定に保てます
+ *
+ * レスポンス例：
+ * {
+ * "items": [
+ * { "id": 42, "title": "買い物に行く", ... },
+ * { "id": 41, "title": "資料作成", ... }
+ * ],
+ * "nextCursor": "MjAyNS0xMC0xN1QxMDozMDowMHw0MQ",
+ * "hasNext": true
+ * }
+ *
+ * 実務でのポイント：
+ * - 次のページを取得するには、nextCursorをcursorパラメータにそのまま渡します
+ * - hasNextがfalseの場合、nextCursorはnullです（最後のページ）
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageResponseDto {
+
+    /**
+     * このページのタスク（作成日時の降順）
+     */
+    private List<TaskResponseDto> items;
+
+    /**
+     * 次のページを取得するためのカーソル（最後のページの場合はnull）
+     */
+    private String nextCursor;
+
+    /**
+     * 次のページが存在するかどうか
+     */
+    private boolean hasNext;
+}
@@ -124,4 +124,14 @@ public class TaskRequestDto {
      * - または、別々のDTO（TaskCreateDto、TaskUpdateDto）を作成することもあります
      */
     private Long id;
+
+    /**
+     * 取得したときのバージョン番号（更新時のみ使用、任意）
+     * 
+     * 実務でのポイント：
+     * - TaskResponseDto.versionの値をそのまま送信します
+     * - 指定した場合、その後に他の操作で更新されていれば、上書きせずに409（Conflict）を返します
+     * - 省略した場合は、確認せずに上書きします（従来の動作）
+     */
+    private Long version;
 }
\ No newline at end of file
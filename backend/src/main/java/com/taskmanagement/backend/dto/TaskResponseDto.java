@@ -34,7 +34,11 @@ import java.time.LocalDateTime;
  * 
  * このDTOに含まれない情報：
  * - Userオブジェクト全体（必要な情報のみを含める）
- * - パスワードなどの機密情報
+ * - パスワードなどの機密情報 * 
+ * 注意点：
+ * - TaskRepositoryのDTOプロジェクション（DTO_SELECT）は、@AllArgsConstructorで生成される
+ * コンストラクタを使用します
+ * - フィールドの追加・並び替えを行う場合は、DTO_SELECTの引数も合わせて変更してください
  */
 @Data
 @NoArgsConstructor
@@ -99,6 +103,15 @@ public class TaskResponseDto {
      */
     private LocalDateTime updatedAt;
 
+    /**
+     * バージョン番号（楽観的ロック用）
+     * 
+     * 実務でのポイント：
+     * - 更新リクエスト（TaskRequestDto.version）にこの値をそのまま含めます
+     * - その間に他の操作で更新されていた場合は、409（Conflict）と最新のタスクが返されます
+     */
+    private Long version;
+
     /**
      * Taskエンティティから TaskResponseDtoへの変換
      * 
@@ -126,6 +139,7 @@ public class TaskResponseDto {
         dto.setUsername(task.getUser().getUsername());
         dto.setCreatedAt(task.getCreatedAt());
         dto.setUpdatedAt(task.getUpdatedAt());
+        dto.setVersion(task.getVersion());
         return dto;
     }
 
@@ -0,0 +1,63 @@
+package com.taskmanagement.backend.dto;
+
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * タスク統計レスポンスDTO
+ *
+ * このDTOの役割：
+ * - ダッシュボードに表示する統計情報を、1回のレスポンスでまとめて返す
+ *
+ * なぜまとめて返すのか：
+ * - 以前は、ウィジェットごとに一覧取得やカウントのAPIを呼び出していました（5回以上）
+ * - 1回のAPI呼び出し・1回のSQLで取得することで、通信回数とデータベース負荷を削減します
+ *
+ * レスポンス例：
+ * {
+ * "total": 42,
+ * "byStatus": { "TODO": 20, "IN_PROGRESS": 12, "DONE": 10 },
+ * "byPriority": { "HIGH": 8, "MEDIUM": 24, "LOW": 10 },
+ * "overdue": 3,
+ * "dueToday": 2
+ * }
+ *
+ * 実務でのポイント：
+ * - 該当するタスクが0件のステータス・優先度も、0として必ず含めます
+ * - フロントエンド側でキーの存在チェックが不要になります
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatsResponseDto {
+
+    /**
+     * タスク総数
+     */
+    private long total;
+
+    /**
+     * ステータス別のタスク数
+     */
+    private Map<TaskStatus, Long> byStatus;
+
+    /**
+     * 優先度別のタスク数
+     */
+    private Map<TaskPriority, Long> byPriority;
+
+    /**
+     * 期限切れ（期日が今日より前）のタスク数
+     */
+    private long overdue;
+
+    /**
+     * 期日が今日のタスク数
+     */
+    private long dueToday;
+}
@@ -87,6 +87,14 @@ public class TaskStatusUpdateDto {
     @NotNull(message = "ステータスは必須です")
     private TaskStatus status;
 
+    /**
+     * 取得したときのバージョン番号（任意）
+     * 
+     * 実務でのポイント：
+     * - 指定した場合、その後に他の操作で更新されていれば、上書きせずに409（Conflict）を返します
+     */
+    private Long version;
+
     /**
      * 便利メソッド：TaskStatusUpdateDtoを生成
      * 
@@ -97,7 +105,7 @@ public class TaskStatusUpdateDto {
      * @return TaskStatusUpdateDto
      */
     public static TaskStatusUpdateDto of(TaskStatus status) {
-        return new TaskStatusUpdateDto(status);
+        return new TaskStatusUpdateDto(status, null);
     }
 
     /**
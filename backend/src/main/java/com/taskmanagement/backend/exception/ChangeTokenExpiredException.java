@@ -0,0 +1,27 @@
+package com.taskmanagement.backend.exception;
+
+/**
+ * 差分同期のトークンが古すぎる例外
+ *
+ * この例外が発生する場面：
+ * - 保持期間を過ぎた削除記録を削除した後に、それより前の位置のトークンで差分同期を行った
+ * （クライアントが受け取っていない削除が、削除記録ごと消えている可能性がある）
+ *
+ * 実務でのポイント：
+ * - GlobalExceptionHandlerで、HTTPステータスコード410（Gone）に変換されます
+ * - クライアントは保持しているタスクを破棄し、sinceを省略して最初から同期し直します
+ *
+ * 使用例：
+ * throw new ChangeTokenExpiredException("同期トークンの有効期限が切れています");
+ */
+public class ChangeTokenExpiredException extends RuntimeException {
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（クライアントにそのまま返されます）
+     */
+    public ChangeTokenExpiredException(String message) {
+        super(message);
+    }
+}
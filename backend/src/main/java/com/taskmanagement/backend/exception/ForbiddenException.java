@@ -0,0 +1,27 @@
+package com.taskmanagement.backend.exception;
+
+/**
+ * 権限がない例外
+ *
+ * この例外が発生する場面：
+ * - 他のユーザーのタスクを取得・更新・削除しようとした
+ *
+ * 実務でのポイント：
+ * - GlobalExceptionHandlerで、HTTPステータスコード403（Forbidden）に変換されます
+ * - Spring SecurityのAccessDeniedExceptionは使用しません
+ * （認証・認可の仕組みが投げる例外と、業務上の所有者チェックを区別するため）
+ *
+ * 使用例：
+ * throw new ForbiddenException("このタスクにアクセスする権限がありません");
+ */
+public class ForbiddenException extends RuntimeException {
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（クライアントにそのまま返されます）
+     */
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -1,7 +1,9 @@
 package com.taskmanagement.backend.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -31,7 +33,12 @@ import java.util.stream.Collectors;
  *                    処理する例外の種類：
  *                    1. IllegalArgumentException（400 Bad Request）
  *                    2. MethodArgumentNotValidException（400 Bad Request）
- *                    3. その他の例外（500 Internal Server Error）
+ *                    3. ResourceNotFoundException（404 Not Found）
+ *                    4. ForbiddenException（403 Forbidden）
+ *                    5. PreconditionFailedException（412 Precondition Failed）
+ *                    6. ChangeTokenExpiredException（410 Gone）
+ *                    7. ServiceUnavailableException（503 Service Unavailable）
+ *                    8. その他の例外（500 Internal Server Error）
  */
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -41,10 +48,11 @@ public class GlobalExceptionHandler {
      * 
      * IllegalArgumentExceptionが発生する場面：
      * - ユーザーが見つからない
-     * - タスクが見つからない
-     * - 権限がない
      * - 不正なパラメータ
      * 
+     * 注：タスクが見つからない場合はResourceNotFoundException（404）、
+     * 権限がない場合はForbiddenException（403）を使用します
+     * 
      * 実務でのポイント：
      * - Service層でthrowされたIllegalArgumentExceptionをキャッチ
      * - HTTPステータスコード400（Bad Request）を返す
@@ -159,33 +167,216 @@ public class GlobalExceptionHandler {
     }
 
     /**
-     * リソースが見つからない例外のハンドリング（将来の拡張用）
+     * リソースが見つからない例外のハンドリング
+     * 
+     * ResourceNotFoundExceptionが発生する場面：
+     * - 指定したIDのタスクが存在しない（削除済みを含む）
+     * 
+     * 実務でのポイント：
+     * - HTTPステータスコード404（Not Found）を返す
+     * - 不正なパラメータ（400）と区別することで、クライアントが再試行すべきかどうかを判断できる
+     * 
+     * @param ex      ResourceNotFoundException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<ErrorResponse>
+     */
+    @ExceptionHandler(ResourceNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+            ResourceNotFoundException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.NOT_FOUND.value(),
+                HttpStatus.NOT_FOUND.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(errorResponse);
+    }
+
+    /**
+     * 権限がない例外のハンドリング
+     * 
+     * ForbiddenExceptionが発生する場面：
+     * - 他のユーザーのタスクを取得・更新・削除しようとした
+     * 
+     * 実務でのポイント：
+     * - HTTPステータスコード403（Forbidden）を返す
+     * - 認証されていない（401）のではなく、認証済みだが操作が許可されていないことを表す
+     * 
+     * @param ex      ForbiddenException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<ErrorResponse>
+     */
+    @ExceptionHandler(ForbiddenException.class)
+    public ResponseEntity<ErrorResponse> handleForbiddenException(
+            ForbiddenException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.FORBIDDEN.value(),
+                HttpStatus.FORBIDDEN.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.FORBIDDEN)
+                .body(errorResponse);
+    }
+
+    /**
+     * 前提条件を満たさない例外のハンドリング
      * 
-     * 実務での使用例：
-     * - Service層で独自の ResourceNotFoundExceptionをthrowする
-     * - より詳細なエラーハンドリングが必要な場合
+     * PreconditionFailedExceptionが発生する場面：
+     * - If-Matchヘッダーで指定したETagが、タスクの現在のETagと一致しない
      * 
-     * 注：今回は使用しませんが、実務でよく使うパターンです
+     * 実務でのポイント：
+     * - HTTPステータスコード412（Precondition Failed）を返す
+     * - 他の操作による更新を上書きしてしまう「更新の消失（lost update）」を防ぎます
      * 
-     * 使用例：
-     * throw new ResourceNotFoundException("タスクID: " + id + "が見つかりません");
+     * @param ex      PreconditionFailedException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<ErrorResponse>
      */
-    /*
-     * @ExceptionHandler(ResourceNotFoundException.class)
-     * public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
-     * ResourceNotFoundException ex,
-     * HttpServletRequest request) {
-     * 
-     * ErrorResponse errorResponse = ErrorResponse.of(
-     * HttpStatus.NOT_FOUND.value(),
-     * HttpStatus.NOT_FOUND.getReasonPhrase(),
-     * ex.getMessage(),
-     * request.getRequestURI()
-     * );
-     * 
-     * return ResponseEntity
-     * .status(HttpStatus.NOT_FOUND)
-     * .body(errorResponse);
-     * }
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailedException(
+            PreconditionFailedException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                HttpStatus.PRECONDITION_FAILED.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.PRECONDITION_FAILED)
+                .body(errorResponse);
+    }
+
+    /**
+     * タスクの更新が競合した例外のハンドリング
+     * 
+     * TaskConflictExceptionが発生する場面：
+     * - 更新リクエストのversionが、タスクの現在のバージョンと一致しない
+     * 
+     * 実務でのポイント：
+     * - HTTPステータスコード409（Conflict）を返す
+     * - タスクの最新の状態をレスポンスに含め、クライアントが取得し直す必要がないようにします
+     * 
+     * @param ex      TaskConflictException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<TaskConflictResponse>
      */
-}
\ No newline at end of file
+    @ExceptionHandler(TaskConflictException.class)
+    public ResponseEntity<TaskConflictResponse> handleTaskConflictException(
+            TaskConflictException ex,
+            HttpServletRequest request) {
+
+        TaskConflictResponse conflictResponse = TaskConflictResponse.of(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI(),
+                ex.getCurrent());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(conflictResponse);
+    }
+
+    /**
+     * 楽観的ロックの失敗のハンドリング
+     * 
+     * ObjectOptimisticLockingFailureExceptionが発生する場面：
+     * - タスクを読み込んでから保存するまでの間に、他のトランザクションが同じタスクを更新した
+     * （@VersionによるUPDATE文が0行になった）
+     * 
+     * 実務でのポイント：
+     * - HTTPステータスコード409（Conflict）を返す
+     * - トランザクションはロールバック済みのため、最新の状態は含めません（クライアントは取得し直します）
+     * 
+     * @param ex      ObjectOptimisticLockingFailureException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<ErrorResponse>
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailureException(
+            ObjectOptimisticLockingFailureException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.CONFLICT.value(),
+                HttpStatus.CONFLICT.getReasonPhrase(),
+                "タスクは他の操作で更新されています。最新の内容を確認してください",
+                request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(errorResponse);
+    }
+
+    /**
+     * 差分同期のトークンが古すぎる例外のハンドリング
+     * 
+     * ChangeTokenExpiredExceptionが発生する場面：
+     * - 保持期間を過ぎた削除記録を削除した後に、それより前の位置のトークンで差分同期を行った
+     * 
+     * 実務でのポイント：
+     * - HTTPステータスコード410（Gone）を返す
+     * - 400（不正なトークン）と区別することで、クライアントは「最初から同期し直す」と判断できます
+     * 
+     * @param ex      ChangeTokenExpiredException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<ErrorResponse>
+     */
+    @ExceptionHandler(ChangeTokenExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeTokenExpiredException(
+            ChangeTokenExpiredException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.GONE.value(),
+                HttpStatus.GONE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.GONE)
+                .body(errorResponse);
+    }
+
+    /**
+     * 一時的に処理できない例外のハンドリング
+     * 
+     * ServiceUnavailableExceptionが発生する場面：
+     * - パスワードのハッシュ化の待ち行列があふれた（ログイン・新規登録の集中）
+     * - 検索インデックスの作成中に、キーワード検索が行われた（TaskSearchService）
+     * 
+     * 実務でのポイント：
+     * - HTTPステータスコード503（Service Unavailable）を返す
+     * - Retry-Afterヘッダー（秒）で、再試行までの待ち時間をクライアントに伝えます
+     * 
+     * @param ex      ServiceUnavailableException
+     * @param request HttpServletRequest
+     * @return ResponseEntity<ErrorResponse>
+     */
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleServiceUnavailableException(
+            ServiceUnavailableException ex,
+            HttpServletRequest request) {
+
+        ErrorResponse errorResponse = ErrorResponse.of(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                HttpStatus.SERVICE_UNAVAILABLE.getReasonPhrase(),
+                ex.getMessage(),
+                request.getRequestURI());
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errorResponse);
+    }
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.backend.exception;
+
+/**
+ * 前提条件を満たさない例外
+ *
+ * この例外が発生する場面：
+ * - If-Matchヘッダーで指定したETagが、タスクの現在のETagと一致しない
+ * （取得した後に、別の画面や別のユーザー操作でタスクが更新・削除された）
+ *
+ * 実務でのポイント：
+ * - GlobalExceptionHandlerで、HTTPステータスコード412（Precondition Failed）に変換されます
+ * - クライアントはタスクを取得し直し、最新の内容を確認してから再度更新します
+ *
+ * 使用例：
+ * throw new PreconditionFailedException("タスクは他の操作で更新されています");
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（クライアントにそのまま返されます）
+     */
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
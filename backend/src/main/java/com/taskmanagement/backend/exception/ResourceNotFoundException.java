@@ -0,0 +1,27 @@
+package com.taskmanagement.backend.exception;
+
+/**
+ * リソースが見つからない例外
+ *
+ * この例外が発生する場面：
+ * - 指定したIDのタスクが存在しない（削除済みを含む）
+ *
+ * 実務でのポイント：
+ * - GlobalExceptionHandlerで、HTTPステータスコード404（Not Found）に変換されます
+ * - 不正なパラメータ（400）と区別することで、フロントエンド側で
+ * 「一覧から消えたタスクを画面からも取り除く」などの処理ができます
+ *
+ * 使用例：
+ * throw new ResourceNotFoundException("タスクが見つかりません");
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（クライアントにそのまま返されます）
+     */
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.backend.exception;
+
+/**
+ * 一時的に処理できない例外（サーバーの混雑）
+ *
+ * この例外が発生する場面：
+ * - ログイン・新規登録が集中し、パスワードのハッシュ化の待ち行列があふれた
+ * - 待ち行列で待っている間に、待機時間の上限を超えた
+ * - 既存のタスクの検索インデックスを作成中に、キーワード検索が行われた
+ *
+ * 実務でのポイント：
+ * - GlobalExceptionHandlerで、HTTPステータスコード503（Service Unavailable）に変換されます
+ * - Retry-Afterヘッダーを付けるため、クライアントは少し待ってから再試行できます
+ * - 待たせ続けるより早く断ることで、他のAPIのスレッドとCPUを確保します
+ *
+ * 使用例：
+ * throw new ServiceUnavailableException("ログインが混み合っています");
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（クライアントにそのまま返されます）
+     */
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
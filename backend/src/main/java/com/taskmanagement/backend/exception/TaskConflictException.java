@@ -0,0 +1,43 @@
+package com.taskmanagement.backend.exception;
+
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import lombok.Getter;
+
+/**
+ * タスクの更新が競合した例外
+ *
+ * この例外が発生する場面：
+ * - 更新リクエストのversion（取得したときのバージョン）が、タスクの現在のバージョンと一致しない
+ * （取得した後に、別の画面や別のユーザー操作でタスクが更新された）
+ *
+ * 実務でのポイント：
+ * - GlobalExceptionHandlerで、HTTPステータスコード409（Conflict）に変換されます
+ * - レスポンスには最新のタスク（current）を含めるため、クライアントは取得し直さずに、
+ * 差分を確認して再度更新できます
+ *
+ * PreconditionFailedException（412）との違い：
+ * - 412：If-Matchヘッダー（HTTPの条件付きリクエスト）の不一致。本文は返しません
+ * - 409：リクエストボディのversionの不一致。最新の状態を返します
+ *
+ * 使用例：
+ * throw new TaskConflictException("タスクは他の操作で更新されています", TaskResponseDto.fromEntity(task));
+ */
+@Getter
+public class TaskConflictException extends RuntimeException {
+
+    /**
+     * タスクの最新の状態
+     */
+    private final TaskResponseDto current;
+
+    /**
+     * コンストラクタ
+     *
+     * @param message エラーメッセージ（クライアントにそのまま返されます）
+     * @param current タスクの最新の状態
+     */
+    public TaskConflictException(String message, TaskResponseDto current) {
+        super(message);
+        this.current = current;
+    }
+}
@@ -0,0 +1,78 @@
+package com.taskmanagement.backend.exception;
+
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * タスクの更新が競合した場合のエラーレスポンス（409 Conflict）
+ *
+ * ErrorResponseの項目に加えて、タスクの最新の状態（current）を返します
+ *
+ * レスポンス例：
+ * {
+ * "timestamp": "2025-10-17T10:30:00",
+ * "status": 409,
+ * "error": "Conflict",
+ * "message": "タスクは他の操作で更新されています。最新の内容を確認してください",
+ * "path": "/api/tasks/1",
+ * "current": { "id": 1, "title": "買い物に行く", ..., "version": 4 }
+ * }
+ *
+ * クライアントの処理：
+ * - currentの内容を画面に反映し、ユーザーに変更内容を確認してもらう
+ * - 再度更新する場合は、current.versionを指定する
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskConflictResponse {
+
+    /**
+     * エラー発生日時
+     */
+    private LocalDateTime timestamp;
+
+    /**
+     * HTTPステータスコード（409）
+     */
+    private int status;
+
+    /**
+     * エラーの種類
+     */
+    private String error;
+
+    /**
+     * エラーメッセージ
+     */
+    private String message;
+
+    /**
+     * リクエストパス
+     */
+    private String path;
+
+    /**
+     * タスクの最新の状態
+     */
+    private TaskResponseDto current;
+
+    /**
+     * 便利メソッド：TaskConflictResponseを生成
+     *
+     * @param status  HTTPステータスコード
+     * @param error   エラーの種類
+     * @param message エラーメッセージ
+     * @param path    リクエストパス
+     * @param current タスクの最新の状態
+     * @return TaskConflictResponse
+     */
+    public static TaskConflictResponse of(int status, String error, String message, String path,
+            TaskResponseDto current) {
+        return new TaskConflictResponse(LocalDateTime.now(), status, error, message, path, current);
+    }
+}
@@ -6,10 +6,17 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 /**
  * タスクエンティティ
@@ -24,9 +31,17 @@ import java.time.LocalDateTime;
  * - @Enumerated(EnumType.STRING)で、Enumを文字列としてデータベースに保存します
  * （ENUMType.ORDINALは使用しない - 順序が変わるとデータが壊れるため）
  * - タスクにはタイトル、詳細、期日、ステータス、優先度などの属性があります
+ * 
+ * 2次キャッシュ（@Cacheable、@Cache）：
+ * - findById()などで取得したタスクを、トランザクションをまたいでメモリ（Caffeine）に保持します
+ * - READ_WRITE：更新中のタスクは、コミットが完了するまで他のトランザクションにキャッシュを返しません
+ * - 一括UPDATE/DELETE（TaskRepositoryの@Modifyingクエリ）を実行すると、
+ * Hibernateが「tasks」リージョン全体を無効化します
  */
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,9 +52,20 @@ public class Task {
      * 
      * @Id: このフィールドが主キーであることを示します
      * @GeneratedValue: 主キーの値を自動生成します
+     * 
+     * なぜIDENTITYではなくSEQUENCEなのか：
+     * - IDENTITYでは、INSERTを実行しないとIDが決まらないため、HibernateはINSERTを1件ずつ即座に実行します
+     * - そのため、hibernate.jdbc.batch_sizeを設定しても、タスクのINSERTはバッチになりません
+     * - SEQUENCEでは、INSERTの前にIDを取得できるため、複数のINSERTを1回の通信にまとめられます
+     * 
+     * allocationSize = 50（pooledオプティマイザ）：
+     * - シーケンスを1回呼び出すごとに、50件分のIDをまとめて確保します
+     * - 50件のタスク作成で、シーケンスの呼び出しは1回だけです
+     * - マイグレーション（V3）のINCREMENT BYと一致させる必要があります
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -60,12 +86,16 @@ public class Task {
      * 
      * 実務では、詳細説明は任意（nullable = true）にすることが多いです
      * 
-     * @Column(columnDefinition = "TEXT"): 長いテキストを保存できるようにする
+     * @Column(length = 5000): VARCHAR(5000)として保存します（@Sizeの上限と合わせる）
+     * 
+     *                          なぜTEXTではなくVARCHAR(5000)なのか：
+     *                          - H2ではTEXTがCLOB型になり、起動時のスキーマ検証（ddl-auto=validate）で型が一致しません
+     *                          - PostgreSQLでは、TEXTとVARCHARの性能は同じです
      * 
      *                          注意点：
-     *                          - TEXTカラムは検索が遅くなる可能性があるため、検索対象にする場合は全文検索インデックスの追加を検討
+     *                          - キーワード検索は、LIKEではなく検索インデックス（TaskSearchService）を使用します
      */
-    @Column(columnDefinition = "TEXT")
+    @Column(length = 5000)
     @Size(max = 5000, message = "詳細は5000文字以内である必要があります")
     private String description;
 
@@ -90,9 +120,13 @@ public class Task {
      * 
      * デフォルト値の設定：
      * - 新しいタスクは「未着手（TODO）」から始まる
+     * 
+     * @JdbcTypeCode(SqlTypes.VARCHAR):
+     * - Hibernate 6はH2でEnumをENUM型として扱うため、マイグレーションで作成したVARCHAR型と一致させます
      */
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
     @NotNull(message = "ステータスは必須です")
     private TaskStatus status = TaskStatus.TODO;
 
@@ -103,7 +137,8 @@ public class Task {
      * ユーザーが優先度を指定しない場合、自動的にMEDIUMが設定されます
      */
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(nullable = false, length = 20)
     @NotNull(message = "優先度は必須です")
     private TaskPriority priority = TaskPriority.MEDIUM;
 
@@ -117,18 +152,28 @@ public class Task {
      *              - name = "user_id": データベースのカラム名
      *              - nullable = false: ユーザーIDは必須（タスクは必ずユーザーに属する）
      * 
+     *              fetch = FetchType.LAZY：
+     *              - タスクを取得しても、ユーザー（パスワードのハッシュを含む行）は取得しません
+     *              - getUser()はプロキシを返し、getId()はusersテーブルを読まずに外部キー（user_id）の値を返します
+     *              - getUsername()などを呼び出した時点で、初めてusersテーブルを読み込みます
+     *              - デフォルト（EAGER）では、更新・削除などユーザーが不要な処理でも、タスクごとにユーザーを取得していました
+     * 
      *              実務での注意点：
-     *              - fetchType =
-     *              FetchType.LAZYを指定すると、ユーザー情報が必要になるまで取得されない（パフォーマンス向上）
-     *              - しかし、今回はシンプルにするため、デフォルト（EAGER）を使用します
+     *              - open-in-viewが無効のため、トランザクションの外でプロキシを初期化すると
+     *              LazyInitializationExceptionになります
+     *              - ユーザー名が必要な場合は、DTOプロジェクション（ユーザー名をJOINで取得）か、
+     *              TaskRepositoryの@EntityGraph・JOIN FETCHを使用します
+     *              - @ToString・@EqualsAndHashCodeからは除外します（ログ出力や比較でプロキシを初期化しないため）
      * 
      *              落とし穴：
      *              - @ManyToOne側で双方向関係を作る場合、User側に@OneToMany(mappedBy = "user")が必要
      *              - しかし、今回は単方向関係（Task → User）のみで実装します（シンプルさ優先）
      */
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     @NotNull(message = "ユーザーは必須です")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private User user;
 
     /**
@@ -149,6 +194,35 @@ public class Task {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    /**
+     * 変更番号（差分同期用）
+     * 
+     * タスクを作成・更新するたびに、データベースのシーケンス（task_changes_seq）から採番します
+     * 
+     * 実務でのポイント：
+     * - GET /api/tasks/changes は、この番号でクライアントが未取得の変更を判定します
+     * - 値の設定はTaskServiceが行います（TaskChangeService.nextChangeSeq()）
+     * - updatedAtと異なり、サーバーの時計に依存しないため、時計がずれても順序が狂いません
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    /**
+     * バージョン番号（楽観的ロック用）
+     * 
+     * @Version:
+     * - Hibernateが更新のたびに1ずつ増やし、UPDATE文のWHERE句に「version = 読み込んだときの値」を付けます
+     * - 読み込んでから保存するまでの間に他のトランザクションが更新した場合、UPDATEは0行になり、
+     * ObjectOptimisticLockingFailureExceptionが発生します（上書きされない）
+     * 
+     * 実務でのポイント：
+     * - クライアントは取得したときのバージョンを更新リクエストに含めます（TaskRequestDto.version）
+     * - 一括UPDATE（@Query）では自動で増えないため、SET句で version = version + 1 を指定します
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * エンティティが初めて保存される直前に自動実行されるメソッド
      * 
@@ -160,7 +234,7 @@ public class Task {
      */
     @PrePersist
     protected void onCreate() {
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = currentTimestamp();
         this.createdAt = now;
         this.updatedAt = now;
 
@@ -182,6 +256,20 @@ public class Task {
      */
     @PreUpdate
     protected void onUpdate() {
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = currentTimestamp();
+    }
+
+    /**
+     * 作成日時・更新日時に設定する現在日時を取得
+     * 
+     * なぜマイクロ秒で切り捨てるのか：
+     * - データベースの列はTIMESTAMP(6)（マイクロ秒）のため、ナノ秒は保存時に丸められます
+     * - 丸める前の値をメモリ上に持つと、保存直後のupdatedAtと、再取得したupdatedAtが一致しません
+     * - updatedAtはETag（TaskController）の元になるため、常に保存される値と同じ精度にします
+     * 
+     * @return 現在日時（マイクロ秒精度）
+     */
+    public static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.taskmanagement.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 削除記録の削除位置エンティティ
+ *
+ * このクラスはデータベースの「task_change_horizons」テーブルと対応します。
+ * 保持期間を過ぎた削除記録（TaskTombstone）を削除したときに、ユーザーごとに「どの位置まで削除したか」を記録します。
+ *
+ * なぜ削除した位置を記録するのか：
+ * - 削除記録を削除すると、それより前のトークンを持つクライアントは、削除されたタスクに気づけなくなります
+ * - 差分同期（TaskChangeService.findChanges）で、トークンの位置がこの位置より前の場合は、
+ * 410（Gone）を返して全件の再同期を求めます
+ *
+ * 実務でのポイント：
+ * - 行はユーザーごとに1行で、削除記録を削除するたびに後ろの位置に更新します
+ * - 位置は (changeSeq, taskId) で、トークン（TaskChangeToken）と同じ順序で比較します
+ *
+ * 落とし穴：
+ * - 主キー（ユーザーID）を自分で設定するため、TaskTombstoneと同様にPersistableを実装し、
+ * saveAll()でINSERTの前のSELECTが発行されないようにします
+ */
+@Entity
+@Table(name = "task_change_horizons")
+@Data
+@NoArgsConstructor
+public class TaskChangeHorizon implements Persistable<Long> {
+
+    /**
+     * ユーザーID
+     */
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    /**
+     * 削除した削除記録のうち、最も後ろの位置の変更番号
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    /**
+     * 削除した削除記録のうち、最も後ろの位置のタスクID
+     */
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    /**
+     * 最後に削除記録を削除した日時
+     */
+    @Column(name = "purged_at", nullable = false)
+    private LocalDateTime purgedAt;
+
+    /**
+     * 新規エンティティかどうか（データベースには保存しない）
+     */
+    @Transient
+    private boolean newEntity = true;
+
+    /**
+     * 削除位置を作成
+     *
+     * @param userId    ユーザーID
+     * @param changeSeq 変更番号
+     * @param taskId    タスクID
+     * @param purgedAt  削除日時
+     */
+    public TaskChangeHorizon(Long userId, long changeSeq, Long taskId, LocalDateTime purgedAt) {
+        this.userId = userId;
+        this.changeSeq = changeSeq;
+        this.taskId = taskId;
+        this.purgedAt = purgedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * データベースから読み込んだ後、または保存した後は既存エンティティとして扱う
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.backend.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 検索インデックスの作成状況エンティティ
+ *
+ * このクラスはデータベースの「task_search_index_state」テーブルと対応します。
+ * 既存のタスクから検索インデックスを作成する処理（TaskSearchIndexInitializer）の進み具合を記録します。
+ *
+ * なぜ作成状況を記録するのか：
+ * - インデックスが作成済みかどうかを、task_search_tokensの件数（COUNT）を数えずに、主キーの1行で判定できます
+ * - 作成の途中で停止しても、次の起動時にlastTaskIdの続きから再開できます
+ *
+ * 実務でのポイント：
+ * - 行は1行だけです（id = ID）
+ * - lastTaskIdは、インデックスのバッチと同じトランザクションで更新するため、
+ * 記録とインデックスの内容が食い違うことはありません
+ */
+@Entity
+@Table(name = "task_search_index_state")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchIndexState {
+
+    /**
+     * 作成状況の行のID（1行だけ）
+     */
+    public static final int ID = 1;
+
+    /**
+     * ID（常にID）
+     */
+    @Id
+    private Integer id;
+
+    /**
+     * インデックスを作成し終えた最後のタスクID（最初は0）
+     */
+    @Column(name = "last_task_id", nullable = false)
+    private long lastTaskId;
+
+    /**
+     * 作成を開始した時点の最大のタスクID
+     *
+     * これより後に作成されたタスクは、作成時にTaskServiceがインデックスを登録します
+     */
+    @Column(name = "max_task_id", nullable = false)
+    private long maxTaskId;
+
+    /**
+     * 作成が完了したかどうか
+     */
+    @Column(nullable = false)
+    private boolean completed;
+}
@@ -0,0 +1,115 @@
+package com.taskmanagement.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 検索トークンエンティティ（転置インデックス）
+ *
+ * このクラスはデータベースの「task_search_tokens」テーブルと対応します。
+ * タスクのタイトル・詳細をN-gramに分割し、「トークン → タスク」の対応を保存します。
+ *
+ * なぜ転置インデックスが必要なのか：
+ * - LIKE '%キーワード%' は先頭がワイルドカードのため、B-treeインデックスが使えません
+ * - タスクが100万件あると、検索のたびに全行のTEXTカラムを読み込むことになります（シーケンシャルスキャン）
+ * - 転置インデックスでは、(user_id, token) のインデックスで該当タスクを直接引けます
+ *
+ * テーブルの例（タスク42「買い物」）：
+ * | task_id | token | user_id | weight |
+ * | 42      | 買     | 1       | 2      |
+ * | 42      | 買い   | 1       | 2      |
+ * | 42      | い物   | 1       | 2      |
+ *
+ * 実務でのポイント：
+ * - PostgreSQLのpg_trgmやtsvectorと違い、H2でもPostgreSQLでも同じように動作します
+ * - weightはスコア計算に使用します（タイトルに含まれる: 2、詳細に含まれる: 1、両方: 3）
+ * - 外部キーは設定していません。削除済みタスクのトークンが残っても、検索時にtasksと突き合わせるため結果には影響しません
+ *
+ * 落とし穴：
+ * - 主キーを自分で設定するエンティティをsave()すると、Spring Dataは「既存の行かもしれない」と判断し、
+ * INSERTの前に1行ずつSELECTを発行します
+ * - Persistableを実装し、isNew()で新規かどうかを明示することで、SELECTなしでバッチINSERTできます
+ */
+@Entity
+@Table(name = "task_search_tokens", indexes = {
+        @Index(name = "idx_task_search_tokens_user_token", columnList = "user_id, token, task_id")
+})
+@IdClass(TaskSearchTokenId.class)
+@Data
+@NoArgsConstructor
+public class TaskSearchToken implements Persistable<TaskSearchTokenId> {
+
+    /**
+     * タスクID（複合主キーの1つ目）
+     */
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    /**
+     * トークン（複合主キーの2つ目）
+     *
+     * ユニグラムまたはバイグラムのため、サロゲートペアを含めても最大4文字です
+     */
+    @Id
+    @Column(length = 8)
+    private String token;
+
+    /**
+     * タスクの所有者のユーザーID
+     *
+     * 実務でのポイント：
+     * - 検索は必ずユーザー単位で行うため、トークンと一緒にユーザーIDも保存します
+     * - tasksテーブルとJOINせずに、インデックスだけで候補を絞り込めます
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * スコア計算用の重み
+     */
+    @Column(nullable = false)
+    private int weight;
+
+    /**
+     * 新規エンティティかどうか（データベースには保存しない）
+     */
+    @Transient
+    private boolean newEntity = true;
+
+    /**
+     * 検索トークンを作成
+     *
+     * @param taskId タスクID
+     * @param token  トークン
+     * @param userId ユーザーID
+     * @param weight 重み
+     */
+    public TaskSearchToken(Long taskId, String token, Long userId, int weight) {
+        this.taskId = taskId;
+        this.token = token;
+        this.userId = userId;
+        this.weight = weight;
+    }
+
+    @Override
+    public TaskSearchTokenId getId() {
+        return new TaskSearchTokenId(taskId, token);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * データベースから読み込んだ後、または保存した後は既存エンティティとして扱う
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
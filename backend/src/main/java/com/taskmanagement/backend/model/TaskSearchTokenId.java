@@ -0,0 +1,30 @@
+package com.taskmanagement.backend.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 検索トークンの複合主キー
+ *
+ * 実務でのポイント：
+ * - @IdClassで使用するクラスは、エンティティの@Idフィールドと同じ名前・型のフィールドを持ちます
+ * - Serializableの実装と、equals()/hashCode()の実装（@Dataで生成）が必須です
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchTokenId implements Serializable {
+
+    /**
+     * タスクID
+     */
+    private Long taskId;
+
+    /**
+     * トークン（N-gram）
+     */
+    private String token;
+}
@@ -0,0 +1,101 @@
+package com.taskmanagement.backend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * タスクの削除記録エンティティ（トゥームストーン）
+ *
+ * このクラスはデータベースの「task_tombstones」テーブルと対応します。
+ * タスクを削除したときに、「どのタスクが、どの変更番号で削除されたか」を記録します。
+ *
+ * なぜ削除記録が必要なのか：
+ * - 差分同期（GET /api/tasks/changes）では、前回の同期以降に変更されたタスクを返します
+ * - 削除されたタスクはtasksテーブルに残らないため、削除記録が無いとクライアントは削除に気づけません
+ *
+ * 実務でのポイント：
+ * - 外部キーは設定していません（task_search_tokensと同様）
+ * - タスクIDはシーケンスで採番され再利用されないため、タスクIDを主キーにします
+ *
+ * 落とし穴：
+ * - 主キーを自分で設定するため、TaskSearchTokenと同様にPersistableを実装し、
+ * save()でINSERTの前のSELECTが発行されないようにします
+ */
+@Entity
+@Table(name = "task_tombstones", indexes = {
+        @Index(name = "idx_task_tombstones_user_change", columnList = "user_id, change_seq, task_id"),
+        @Index(name = "idx_task_tombstones_deleted_at", columnList = "deleted_at")
+})
+@Data
+@NoArgsConstructor
+public class TaskTombstone implements Persistable<Long> {
+
+    /**
+     * 削除したタスクのID
+     */
+    @Id
+    @Column(name = "task_id")
+    private Long taskId;
+
+    /**
+     * 削除したタスクの所有者のユーザーID
+     */
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    /**
+     * 削除したときの変更番号（Task.changeSeqと同じ採番）
+     */
+    @Column(name = "change_seq", nullable = false)
+    private long changeSeq;
+
+    /**
+     * 削除日時
+     */
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    /**
+     * 新規エンティティかどうか（データベースには保存しない）
+     */
+    @Transient
+    private boolean newEntity = true;
+
+    /**
+     * 削除記録を作成
+     *
+     * @param taskId    タスクID
+     * @param userId    ユーザーID
+     * @param changeSeq 変更番号
+     * @param deletedAt 削除日時
+     */
+    public TaskTombstone(Long taskId, Long userId, long changeSeq, LocalDateTime deletedAt) {
+        this.taskId = taskId;
+        this.userId = userId;
+        this.changeSeq = changeSeq;
+        this.deletedAt = deletedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return taskId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    /**
+     * データベースから読み込んだ後、または保存した後は既存エンティティとして扱う
+     */
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
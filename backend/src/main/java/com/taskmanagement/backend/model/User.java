@@ -7,6 +7,8 @@ import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 
@@ -24,9 +26,15 @@ import java.time.LocalDateTime;
  * 注意点：
  * - パスワードはハッシュ化して保存する必要があります（平文で保存してはいけません）
  * - createdAtとupdatedAtは自動的に設定されます（@PrePersist、@PreUpdate使用）
+ * 
+ * 2次キャッシュ（@Cacheable、@Cache）：
+ * - GET /api/users/{id} や、タスクのユーザー（LAZYのプロキシ）の初期化は、キャッシュにあればSQLを実行しません
+ * - 更新・削除はHibernate経由で行うため、キャッシュは自動的に更新・無効化されます
  */
 @Entity
 @Table(name = "users")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,37 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.dto.TaskChangeToken;
+import com.taskmanagement.backend.model.TaskChangeHorizon;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * TaskChangeHorizonRepositoryインターフェース
+ *
+ * 削除記録の削除位置（task_change_horizons）を操作します。
+ *
+ * 実務でのポイント：
+ * - このリポジトリはTaskChangeServiceからのみ使用します
+ * - 削除記録の削除では、findAllById(userIds) で読み込み、saveAll() で作成します
+ */
+@Repository
+public interface TaskChangeHorizonRepository extends JpaRepository<TaskChangeHorizon, Long> {
+
+    /**
+     * ユーザーの削除位置を取得（差分同期）
+     *
+     * なぜfindById()ではないのか：
+     * - findById()は、同じトランザクションで読み込み済みのエンティティを、SQLを実行せずに返します
+     * - 差分同期では、位置の取得の前後で削除位置を読み直すため、毎回データベースから読むDTOプロジェクションを使用します
+     *
+     * @param userId ユーザーID
+     * @return 削除位置（削除記録を削除したことが無い場合は空）
+     */
+    @Query("SELECT new com.taskmanagement.backend.dto.TaskChangeToken(h.changeSeq, h.taskId) "
+            + "FROM TaskChangeHorizon h WHERE h.userId = :userId")
+    Optional<TaskChangeToken> findPositionByUserId(@Param("userId") Long userId);
+}
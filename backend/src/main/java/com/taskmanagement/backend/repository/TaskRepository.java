@@ -1,15 +1,25 @@
 package com.taskmanagement.backend.repository;
 
+import com.taskmanagement.backend.dto.TaskChangeToken;
+import com.taskmanagement.backend.dto.TaskResponseDto;
 import com.taskmanagement.backend.model.Task;
 import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * TaskRepositoryインターフェース
@@ -32,196 +42,809 @@ import java.util.List;
  * - フィルタリング機能（ステータス、優先度、ユーザー）
  * - 検索機能（キーワード検索）
  * - 複合条件での検索
+ * - DTOプロジェクション（〜Dtos〜メソッド、TaskResponseDtoを直接返す）
+ * - キーセットページング（findPage〜メソッド）
+ * - 一括操作（ステータス変更・削除をUPDATE/DELETE文1回で実行）
+ * - クエリキャッシュ（@QueryHintsでHINT_CACHEABLEを指定したメソッド）
+ * 
+ * フェッチプラン：
+ * - open-in-viewを無効にしているため、トランザクションの外（コントローラーやJSON変換）では
+ * 関連エンティティを遅延読み込みできません
+ * - 一覧・検索はDTOプロジェクション（JOINでユーザー名を取得）で返すため、タスクのエンティティを返しません
+ * - エンティティを返すメソッド（findByIdBetweenOrderByIdAsc、findByIdAndUserIdなど）はユーザーを取得しません
+ * （TaskResponseDto.fromEntity()への変換は、TaskServiceのトランザクションの中で行います）
  */
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     /**
-     * ユーザーIDでタスクを検索
+     * クエリキャッシュのリージョン名（application.confのtask-queries）
      * 
-     * 実務での使用場面：
-     * - ログインユーザーの全タスクを取得
-     * - ユーザーごとのタスク一覧表示
+     * クエリキャッシュとは：
+     * - クエリとパラメータをキーに、クエリの結果をメモリ（Caffeine）に保持します
+     * - 同じユーザーが同じ一覧を繰り返し取得する場合、2回目以降はSQLを実行しません
      * 
-     * メソッド名のルール：
-     * - findByUser_Id → "SELECT t FROM Task t WHERE t.user.id = ?"
-     * - User_Idの"_"は、Userオブジェクトのidフィールドを指します
+     * 実務でのポイント：
+     * - 対象は、GET /api/tasks などで繰り返し呼ばれる一覧・件数のクエリだけです
+     * - tasksテーブル（またはusersテーブル）に書き込みがあると、Hibernateが結果を自動的に無効化します
      * 
-     * @param userId ユーザーID
-     * @return タスクのリスト（見つからない場合は空のリスト）
+     * 注意点：
+     * - 無効化はテーブル単位です。あるユーザーがタスクを更新すると、全ユーザーのキャッシュ結果が無効になります
+     * - Hibernateを経由しない更新（JdbcTemplateなど）では無効化されません
      */
-    List<Task> findByUserId(Long userId);
+    String TASK_QUERY_CACHE_REGION = "task-queries";
 
     /**
-     * ユーザーIDとステータスでタスクを検索
-     * 
-     * 実務での使用場面：
-     * - 「未着手のタスク」のみを表示
-     * - 「完了したタスク」のみを表示
+     * ユーザーのタスク数をカウント
      * 
      * メソッド名のルール：
-     * - findByUser_IdAndStatus → "WHERE user.id = ? AND status = ?"
+     * - countBy + 条件 → "SELECT COUNT(t) FROM Task t WHERE ..."
      * 
-     * 使用例：
-     * // ユーザーID 1 の未着手タスクを取得
-     * List<Task> todoTasks = taskRepository.findByUserIdAndStatus(1L,
-     * TaskStatus.TODO);
+     * なぜタスクを取得して数えるのではなく、countByを使うのか：
+     * - タスクを取得すると、全タスクのエンティティ（と関連するUser）をメモリに読み込みます
+     * - 件数を知りたいだけなのに、数万件のエンティティを生成するのは無駄です
+     * - countByでは、データベースがCOUNT(*)を計算し、数値1つだけを返します
      * 
      * @param userId ユーザーID
-     * @param status タスクのステータス
-     * @return タスクのリスト
+     * @return タスク数
      */
-    List<Task> findByUserIdAndStatus(Long userId, TaskStatus status);
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_QUERY_CACHE_REGION) })
+    long countByUserId(Long userId);
 
     /**
-     * ユーザーIDと優先度でタスクを検索
+     * ユーザーのステータス別タスク数をカウント
      * 
-     * 実務での使用場面：
-     * - 「高優先度のタスク」のみを表示
-     * - 優先度でタスクを絞り込む
+     * @param userId ユーザーID
+     * @param status タスクのステータス
+     * @return タスク数
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_QUERY_CACHE_REGION) })
+    long countByUserIdAndStatus(Long userId, TaskStatus status);
+
+    /**
+     * ステータス × 優先度ごとの集計結果（インターフェースプロジェクション）
      * 
-     * @param userId   ユーザーID
-     * @param priority タスクの優先度
-     * @return タスクのリスト
+     * インターフェースプロジェクションとは：
+     * - クエリ結果を、エンティティではなくgetterだけを持つインターフェースで受け取る仕組み
+     * - JPQLのエイリアス（AS status など）とgetter名（getStatus）が対応します
+     * - エンティティを生成しないため、集計結果の受け取りに適しています
      */
-    List<Task> findByUserIdAndPriority(Long userId, TaskPriority priority);
+    interface StatusPriorityCount {
+
+        /**
+         * @return タスクのステータス
+         */
+        TaskStatus getStatus();
+
+        /**
+         * @return タスクの優先度
+         */
+        TaskPriority getPriority();
+
+        /**
+         * @return このグループのタスク数
+         */
+        Long getTotal();
+
+        /**
+         * @return このグループのうち、期限切れ（期日 < 基準日）のタスク数
+         */
+        Long getOverdue();
+
+        /**
+         * @return このグループのうち、期日が基準日当日のタスク数
+         */
+        Long getDueToday();
+    }
 
     /**
-     * ユーザーIDでタスクを取得（作成日時の降順でソート）
+     * ステータス × 優先度ごとのタスク数を1回のクエリで集計
      * 
      * 実務での使用場面：
-     * - 最新のタスクを上に表示
-     * - タスク一覧のデフォルト表示
+     * - ダッシュボードの統計ウィジェット（ステータス別、優先度別、期限切れ、今日が期日）
      * 
-     * メソッド名のルール：
-     * - OrderByCreatedAtDesc → "ORDER BY created_at DESC"
-     * - Descは降順（新しい順）、Ascは昇順（古い順）
+     * なぜ1回のクエリにまとめるのか：
+     * - ウィジェットごとに一覧取得やカウントを行うと、5回以上のデータベース往復が発生します
+     * - GROUP BYでステータス × 優先度ごと（最大9行）に集計し、
+     * 期限切れ・今日が期日の件数もCASE式で同時に数えることで、1回の往復で済みます
+     * - 最大9行の結果から、ステータス別・優先度別の合計はJava側で計算します
      * 
      * @param userId ユーザーID
-     * @return タスクのリスト（作成日時の降順）
+     * @param today  基準日（通常は今日）
+     * @return ステータス × 優先度ごとの集計結果
      */
-    List<Task> findByUserIdOrderByCreatedAtDesc(Long userId);
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS total, " +
+            "SUM(CASE WHEN t.dueDate < :today THEN 1 ELSE 0 END) AS overdue, " +
+            "SUM(CASE WHEN t.dueDate = :today THEN 1 ELSE 0 END) AS dueToday " +
+            "FROM Task t WHERE t.user.id = :userId " +
+            "GROUP BY t.status, t.priority")
+    List<StatusPriorityCount> countGroupByStatusAndPriority(@Param("userId") Long userId,
+            @Param("today") LocalDate today);
+
+    // ========================================
+    // DTOプロジェクション用のクエリ
+    // ========================================
+    //
+    // DTOプロジェクション（コンストラクタ式）とは：
+    // - "SELECT new パッケージ名.クラス名(...)" の形式で、クエリ結果を直接DTOに詰める機能
+    // - エンティティを経由せず、必要なカラムだけをSELECTします
+    //
+    // なぜ一覧表示でDTOプロジェクションを使うのか：
+    // - エンティティを取得すると、Hibernateは変更検知（ダーティチェック）用のスナップショットを
+    // 1行ごとに保持するため、件数に比例して永続化コンテキストが大きくなります
+    // - エンティティでユーザー名を返すには、ユーザーの取得（JOIN FETCHまたは追加のSELECT）も必要です
+    // - 一覧表示は読み取り専用なので、管理対象のエンティティは不要です
+    // - JOINでユーザー名を同時に取得するため、1回のSQLで完結します
+    //
+    // 実務でのポイント：
+    // - コンストラクタ式の引数の順序は、TaskResponseDtoの@AllArgsConstructorの順序と一致させます
+    // - TaskResponseDtoにフィールドを追加した場合は、DTO_SELECTも更新が必要です
+    // - 更新・削除など、エンティティの変更が必要な処理では、従来どおりエンティティを取得します
 
     /**
-     * ユーザーIDでタスクを取得（優先度の降順でソート）
+     * TaskResponseDtoを直接生成するSELECT句（ユーザー名はJOINで取得）
+     */
+    String DTO_SELECT = "SELECT new com.taskmanagement.backend.dto.TaskResponseDto(" +
+            "t.id, t.title, t.description, t.dueDate, t.status, t.priority, " +
+            "u.id, u.username, t.createdAt, t.updatedAt, t.version) " +
+            "FROM Task t JOIN t.user u ";
+
+    /**
+     * ユーザーIDでタスクを取得（作成日時の降順、DTOプロジェクション）
      * 
-     * 実務での使用場面：
-     * - 優先度が高いタスクを上に表示
-     * - 重要なタスクを見逃さないようにする
+     * GET /api/tasks の一覧表示に使用します
      * 
-     * 優先度のソート順：
-     * - HIGH（高） → MEDIUM（中） → LOW（低）
+     * @param userId ユーザーID
+     * @return タスクのリスト（TaskResponseDto、作成日時の降順）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "ORDER BY t.createdAt DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_QUERY_CACHE_REGION) })
+    List<TaskResponseDto> findDtosByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+
+    /**
+     * ユーザーIDとステータスでタスクを取得（DTOプロジェクション）
      * 
      * @param userId ユーザーID
-     * @return タスクのリスト（優先度の降順）
+     * @param status タスクのステータス
+     * @return タスクのリスト（TaskResponseDto）
      */
-     List<Task> findByUserIdOrderByPriorityDesc(Long userId);
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId AND t.status = :status")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_QUERY_CACHE_REGION) })
+    List<TaskResponseDto> findDtosByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") TaskStatus status);
 
     /**
-     * キーワード検索（タイトルまたは詳細に含まれるタスクを検索）
+     * ユーザーIDと優先度でタスクを取得（DTOプロジェクション）
      * 
-     * 実務での使用場面：
-     * - タスク検索機能
-     * - タイトルや詳細でタスクを検索
+     * @param userId   ユーザーID
+     * @param priority タスクの優先度
+     * @return タスクのリスト（TaskResponseDto）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId AND t.priority = :priority")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_QUERY_CACHE_REGION) })
+    List<TaskResponseDto> findDtosByUserIdAndPriority(@Param("userId") Long userId,
+            @Param("priority") TaskPriority priority);
+
+    /**
+     * 期日が指定日より前のタスクを取得（DTOプロジェクション）
      * 
-     * @Queryアノテーションの使用：
-     * - 複雑なクエリは、メソッド名だけでは表現できません
-     * - そのため、@Queryアノテーションで明示的にJPQLを定義します
+     * @param userId ユーザーID
+     * @param date   基準日
+     * @return タスクのリスト（TaskResponseDto）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId AND t.dueDate < :date")
+    List<TaskResponseDto> findDtosByUserIdAndDueDateBefore(@Param("userId") Long userId,
+            @Param("date") LocalDate date);
+
+    /**
+     * 期日が指定日より後のタスクを取得（DTOプロジェクション）
      * 
-     * JPQLとは：
-     * - Java Persistence Query Language
-     * - SQLに似ていますが、テーブルではなくエンティティを操作します
-     * - "SELECT t FROM Task t" → Taskエンティティを検索
+     * @param userId ユーザーID
+     * @param date   基準日
+     * @return タスクのリスト（TaskResponseDto）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId AND t.dueDate > :date")
+    List<TaskResponseDto> findDtosByUserIdAndDueDateAfter(@Param("userId") Long userId,
+            @Param("date") LocalDate date);
+
+    /**
+     * ステータス・優先度でタスクを検索（DTOプロジェクション）
      * 
-     * LIKEとLOWER()の使用：
-     * - LOWER(): 大文字小文字を区別しない検索
-     * - LIKE '%keyword%': 部分一致検索
-     * - 例: "買い物" → "買い物に行く"、"スーパーで買い物"もヒット
+     * 実務でのポイント：
+     * - キーワードの条件はありません。キーワードで絞り込む場合は、検索インデックスを使用します
+     * （TaskSearchService。LIKEとは大文字小文字・全角半角の扱いが異なるため、経路によって結果が変わらないようにします）
      * 
-     * @param userId  ユーザーID
-     * @param keyword 検索キーワード
-     * @return タスクのリスト
+     * @param userId   ユーザーID
+     * @param status   タスクのステータス（nullの場合はフィルタしない）
+     * @param priority タスクの優先度（nullの場合はフィルタしない）
+     * @return タスクのリスト（TaskResponseDto）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority)")
+    List<TaskResponseDto> findDtosByUserIdWithFilters(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority);
+
+    /**
+     * 検索インデックスのすべてのトークンを含むタスクIDの条件（findDtos〜AndTokens、findPage〜AndTokens）
+     *
+     * 実務でのポイント：
+     * - TaskSearchTokenRepository.findRankedTaskIdsと同じ条件で、キーワードのバイグラムをすべて含むタスクに絞り込みます
+     * - バイグラムをすべて含んでも、連続した文字列として含むとは限らないため、
+     * 呼び出し側（TaskSearchService）で確認します
+     */
+    String TOKEN_CONDITION = "AND t.id IN (SELECT s.taskId FROM TaskSearchToken s " +
+            "WHERE s.userId = :userId AND s.token IN :tokens " +
+            "GROUP BY s.taskId HAVING COUNT(s.token) = :tokenCount) ";
+
+    /**
+     * 検索インデックスのすべてのトークンを含むタスクを、IDの昇順で取得（DTOプロジェクション）
+     *
+     * 実務での使用場面：
+     * - キーワードを条件にした一括操作で、対象のタスクを一定件数ずつ読み込む（TaskSearchService.findMatchingIds）
+     *
+     * @param userId     ユーザーID
+     * @param status     タスクのステータス（nullの場合はフィルタしない）
+     * @param priority   タスクの優先度（nullの場合はフィルタしない）
+     * @param tokens     キーワードのトークン
+     * @param tokenCount トークンの数
+     * @param afterId    前回読み込んだ最後のタスクID（最初は0）
+     * @param pageable   取得件数
+     * @return タスクのリスト（IDの昇順）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            TOKEN_CONDITION +
+            "AND t.id > :afterId " +
+            "ORDER BY t.id")
+    List<TaskResponseDto> findDtosByUserIdWithFiltersAndTokens(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("tokens") Collection<String> tokens,
+            @Param("tokenCount") long tokenCount,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    /**
+     * IDのリストでタスクを取得（DTOプロジェクション）
+     *
+     * 実務での使用場面：
+     * - 検索インデックス（TaskSearchService）で絞り込んだタスクIDから、タスクの内容を取得する
+     *
+     * 実務でのポイント：
+     * - ユーザーIDも条件に含め、他人のタスクが混ざらないようにします
+     * - 結果の順序は保証されないため、呼び出し側でスコア順に並べ替えます
+     *
+     * @param userId   ユーザーID
+     * @param ids      タスクIDのリスト
+     * @param status   タスクのステータス（nullの場合はフィルタしない）
+     * @param priority タスクの優先度（nullの場合はフィルタしない）
+     * @return タスクのリスト（TaskResponseDto、順序は不定）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId AND t.id IN :ids " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority)")
+    List<TaskResponseDto> findDtosByUserIdAndIdIn(@Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority);
+
+    /**
+     * IDの範囲のタスクを、IDの昇順で取得
+     *
+     * 実務での使用場面：
+     * - 検索インデックスの作成で、既存のタスクを一定件数ずつ読み込む
+     *
+     * 実務でのポイント：
+     * - 検索インデックスにはユーザーIDしか使用しないため、ユーザーは取得しません
+     * （task.getUser().getId()は、プロキシから外部キーの値を返します）
+     *
+     * @param fromId   最初のタスクID（前回読み込んだ最後のタスクID + 1）
+     * @param toId     最後のタスクID（この値を含む）
+     * @param pageable 取得件数
+     * @return タスクのリスト（IDの昇順）
+     */
+    List<Task> findByIdBetweenOrderByIdAsc(Long fromId, Long toId, Pageable pageable);
+
+    /**
+     * IDが最大のタスクを取得
+     *
+     * 実務での使用場面：
+     * - 検索インデックスの作成を開始するときに、対象のタスクの範囲を決める
+     *
+     * 実務でのポイント：
+     * - 主キーのインデックスの末尾を1行読むだけのため、COUNTやMAXの集計よりも軽量です
+     *
+     * @return IDが最大のタスク（タスクが無い場合は空）
      */
-    @Query("SELECT t FROM Task t WHERE t.user.id = :userId " +
-            "AND (LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Task> searchByKeyword(@Param("userId") Long userId,
-            @Param("keyword") String keyword);
+    Optional<Task> findFirstByOrderByIdDesc();
+
+    // ========================================
+    // キーセットページング用のクエリ
+    // ========================================
+    //
+    // キーセットページングとは：
+    // - 「前のページの最後の行」の (createdAt, id) より後ろの行を、LIMIT件だけ取得する方式
+    // - OFFSETを使わないため、何ページ目でもインデックスで開始位置に直接移動できます
+    //
+    // 条件式の意味：
+    // - (t.createdAt < :cursorCreatedAt) OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)
+    // - 作成日時が同じタスクが複数ある場合でも、idで順序が一意に決まるため、行の重複や欠落が起きません
+    //
+    // 実務でのポイント：
+    // - 一覧表示用のため、エンティティではなくTaskResponseDtoを直接返します（DTO_SELECT）
+    // - 取得件数はPageableで指定します（PageRequest.of(0, limit + 1)）
+    // - 戻り値をList<Task>にすることで、Page<Task>のようなCOUNTクエリが発行されません
+    // - 1件多く取得することで、次のページが存在するかどうかを判定します
 
     /**
-     * 期日が指定日以前のタスクを検索（期限切れタスクの検出に使用）
+     * キーセットページングの共通条件（作成日時の降順、同時刻はIDの降順）
+     */
+    String KEYSET_CONDITION = "AND (t.createdAt < :cursorCreatedAt " +
+            "OR (t.createdAt = :cursorCreatedAt AND t.id < :cursorId)) ";
+
+    /**
+     * キーセットページングの並び順
+     */
+    String KEYSET_ORDER = "ORDER BY t.createdAt DESC, t.id DESC";
+
+    /**
+     * ユーザーIDでタスクを1ページ分取得（作成日時の降順）
      * 
      * 実務での使用場面：
-     * - 期限切れのタスクを一覧表示
-     * - リマインダー機能
-     * - タスクの遅延状況を把握
+     * - タスク一覧の無限スクロール
+     * - タスクが大量にあるユーザーのダッシュボード表示
      * 
-     * メソッド名のルール：
-     * - findByUser_IdAndDueDateBefore → "WHERE user.id = ? AND due_date < ?"
-     * - Beforeは「より前」、Afterは「より後」
+     * @param userId          ユーザーID
+     * @param cursorCreatedAt カーソルの作成日時（この日時より前のタスクを取得）
+     * @param cursorId        カーソルのタスクID（作成日時が同じ場合、このIDより小さいタスクを取得）
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserId(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * ユーザーIDとステータスでタスクを1ページ分取得（作成日時の降順）
      * 
-     * 使用例：
-     * // 今日より前（期限切れ）のタスクを取得
-     * List<Task> overdueTasks = taskRepository.findByUserIdAndDueDateBefore(1L,
-     * LocalDate.now());
+     * @param userId          ユーザーID
+     * @param status          タスクのステータス
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND t.status = :status " +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * ユーザーIDと優先度でタスクを1ページ分取得（作成日時の降順）
      * 
-     * @param userId ユーザーID
-     * @param date   基準日
-     * @return タスクのリスト
+     * @param userId          ユーザーID
+     * @param priority        タスクの優先度
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
      */
-    List<Task> findByUserIdAndDueDateBefore(Long userId, LocalDate date);
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND t.priority = :priority " +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserIdAndPriority(@Param("userId") Long userId,
+            @Param("priority") TaskPriority priority,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     /**
-     * 期日が指定日以降のタスクを検索
+     * 期日が指定日より前のタスクを1ページ分取得（作成日時の降順）
      * 
-     * 実務での使用場面：
-     * - 今後のタスクを一覧表示
-     * - スケジュール管理
+     * @param userId          ユーザーID
+     * @param date            基準日
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND t.dueDate < :date " +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserIdAndDueDateBefore(@Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 期日が指定日より後のタスクを1ページ分取得（作成日時の降順）
      * 
-     * @param userId ユーザーID
-     * @param date   基準日
-     * @return タスクのリスト
+     * @param userId          ユーザーID
+     * @param date            基準日
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
      */
-    List<Task> findByUserIdAndDueDateAfter(Long userId, LocalDate date);
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND t.dueDate > :date " +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserIdAndDueDateAfter(@Param("userId") Long userId,
+            @Param("date") LocalDate date,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     /**
-     * 複合条件でタスクを検索（ステータス、優先度、キーワード）
+     * ステータス・優先度でタスクを1ページ分取得（作成日時の降順）
+     * 
+     * 条件の意味は findDtosByUserIdWithFilters と同じです
+     * 
+     * @param userId          ユーザーID
+     * @param status          タスクのステータス（nullの場合はフィルタしない）
+     * @param priority        タスクの優先度（nullの場合はフィルタしない）
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserIdWithFilters(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    /**
+     * 検索インデックスのすべてのトークンを含むタスクを1ページ分取得（作成日時の降順）
      * 
      * 実務での使用場面：
-     * - 高度なフィルタリング機能
-     * - 複数条件を組み合わせたタスク検索
-     * 
-     * 動的クエリの実装：
-     * - statusがnullの場合は、ステータスでフィルタしない
-     * - priorityがnullの場合は、優先度でフィルタしない
-     * - keywordが空の場合は、キーワード検索しない
-     * 
-     * ORとANDの使い分け：
-     * - (status IS NULL OR t.status = :status): statusがnullまたは一致
-     * - AND: すべての条件を満たす必要がある
-     * 
-     * 使用例：
-     * // 未着手で高優先度のタスクを検索
-     * List<Task> tasks = taskRepository.findByUserIdWithFilters(
-     * 1L,
-     * TaskStatus.TODO,
-     * TaskPriority.HIGH,
-     * ""
-     * );
+     * - キーワードを条件にしたページング（TaskSearchService.findPage）
      * 
-     * @param userId   ユーザーID
-     * @param status   タスクのステータス（nullの場合はフィルタしない）
-     * @param priority タスクの優先度（nullの場合はフィルタしない）
-     * @param keyword  検索キーワード（空の場合は検索しない）
-     * @return タスクのリスト
+     * 実務でのポイント：
+     * - 結果には、連続した文字列としては含まないタスクも含まれます（TOKEN_CONDITION）
+     * - 呼び出し側で除外した結果がpageableの件数に満たない場合は、最後の行をカーソルにして続きを取得します
+     * 
+     * @param userId          ユーザーID
+     * @param status          タスクのステータス（nullの場合はフィルタしない）
+     * @param priority        タスクの優先度（nullの場合はフィルタしない）
+     * @param tokens          キーワードのトークン
+     * @param tokenCount      トークンの数
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param pageable        取得件数
+     * @return タスクのリスト（作成日時の降順）
      */
-    @Query("SELECT t FROM Task t WHERE t.user.id = :userId " +
+    @Query(DTO_SELECT +
+            "WHERE t.user.id = :userId " +
             "AND (:status IS NULL OR t.status = :status) " +
             "AND (:priority IS NULL OR t.priority = :priority) " +
-            "AND (:keyword = '' OR LOWER(t.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
-            "OR LOWER(t.description) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    List<Task> findByUserIdWithFilters(@Param("userId") Long userId,
+            TOKEN_CONDITION +
+            KEYSET_CONDITION +
+            KEYSET_ORDER)
+    List<TaskResponseDto> findPageByUserIdWithFiltersAndTokens(@Param("userId") Long userId,
             @Param("status") TaskStatus status,
             @Param("priority") TaskPriority priority,
-            @Param("keyword") String keyword);
-}
\ No newline at end of file
+            @Param("tokens") Collection<String> tokens,
+            @Param("tokenCount") long tokenCount,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // ========================================
+    // 1件の操作（所有者で絞り込み）
+    // ========================================
+    //
+    // なぜfindById()で取得してから所有者を確認しないのか：
+    // - findById()は、所有者の確認に不要な全カラムを読み込みます（Task.userがEAGERだった頃はユーザーも取得していました）
+    // - その後Javaで「task.getUser().getId()」を比較するため、他人のタスクでも全カラムを読み込みます
+    // - deleteById()は内部でもう一度findById()を実行するため、削除では同じタスクを2回読み込みます
+    //
+    // 実務でのポイント：
+    // - WHERE句に「t.id = :id AND t.user.id = :userId」を含め、所有者の確認もSQLで行います
+    // - 主キーで1行に絞り込まれるため、どれも1回のインデックス検索で完了します
+    // - 0件（または0行）の場合に、存在しないのか他人のタスクなのかを区別するのは呼び出し側です
+    // （エラー時のみ existsById() を実行するため、正常時のSQLは増えません）
+
+    /**
+     * IDとユーザーIDでタスクを取得（DTOプロジェクション）
+     *
+     * 実務での使用場面：
+     * - タスクの詳細表示（TaskService.findById）
+     *
+     * @param id     タスクID
+     * @param userId ユーザーID
+     * @return TaskResponseDto（存在しない、または他人のタスクの場合はOptional.empty()）
+     */
+    @Query(DTO_SELECT +
+            "WHERE t.id = :id AND t.user.id = :userId")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TASK_QUERY_CACHE_REGION) })
+    Optional<TaskResponseDto> findDtoByIdAndUserId(@Param("id") Long id,
+            @Param("userId") Long userId);
+
+    /**
+     * IDとユーザーIDでタスクを取得（エンティティ）
+     *
+     * 実務での使用場面：
+     * - タスクの更新（TaskService.updateTask）
+     *
+     * 実務でのポイント：
+     * - 所有者の確認は外部キー（t.user.id）で行い、usersテーブルはJOINしません
+     * - TaskService.updateTaskでは、変更番号の採番（TaskChangeService.nextChangeSeq）で
+     * ユーザーをロックして取得済みのため、レスポンスのユーザー名は永続化コンテキストから取得され、
+     * 追加のSELECTは発生しません
+     *
+     * 注意点：
+     * - ユーザーを取得していない場面でTaskResponseDto.fromEntity()を呼び出すと、
+     * ユーザーを読み込むSELECTが1回追加されます
+     *
+     * @param id     タスクID
+     * @param userId ユーザーID
+     * @return タスク（存在しない、または他人のタスクの場合はOptional.empty()）
+     */
+    @Query("SELECT t FROM Task t WHERE t.id = :id AND t.user.id = :userId")
+    Optional<Task> findByIdAndUserId(@Param("id") Long id,
+            @Param("userId") Long userId);
+
+    /**
+     * IDとユーザーIDで指定したタスクのステータスを変更
+     *
+     * 実務での使用場面：
+     * - ステータスのみの更新（TaskService.updateTaskStatus）
+     *
+     * 実務でのポイント：
+     * - UPDATE文では@PreUpdateが実行されないため、updatedAtも明示的に更新します
+     *
+     * @param id        タスクID
+     * @param userId    ユーザーID
+     * @param status    変更後のステータス
+     * @param now       更新日時
+     * @param changeSeq 変更番号（TaskChangeService.nextChangeSeq()）
+     * @return 更新した行数（存在しない、または他人のタスクの場合は0）
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.changeSeq = :changeSeq, " +
+            "t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.user.id = :userId")
+    int updateStatusByIdAndUserId(@Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * IDとユーザーIDで指定したタスクを削除
+     *
+     * 実務での使用場面：
+     * - タスクの削除（TaskService.deleteTask）
+     *
+     * @param id     タスクID
+     * @param userId ユーザーID
+     * @return 削除した行数（存在しない、または他人のタスクの場合は0）
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.id = :id AND t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") Long id,
+            @Param("userId") Long userId);
+
+    /**
+     * 更新日時・バージョンが一致する場合のみ、ステータスを変更（If-Match・version付きの更新）
+     *
+     * 実務での使用場面：
+     * - If-Matchヘッダー、またはversionパラメータ付きのステータス更新（TaskService.updateTaskStatus）
+     *
+     * 実務でのポイント：
+     * - 「更新日時・バージョンの確認」と「更新」を1回のUPDATE文で行うため、
+     * 確認してから更新するまでの間に、他の操作が割り込むことはありません
+     * - nullを指定した条件は確認しません
+     *
+     * @param id                タスクID
+     * @param userId            ユーザーID
+     * @param expectedUpdatedAt クライアントが取得したときの更新日時（nullの場合は確認しない）
+     * @param expectedVersion   クライアントが取得したときのバージョン（nullの場合は確認しない）
+     * @param status            変更後のステータス
+     * @param now               更新日時
+     * @param changeSeq         変更番号（TaskChangeService.nextChangeSeq()）
+     * @return 更新した行数（存在しない、他人のタスク、または更新日時・バージョンが一致しない場合は0）
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.changeSeq = :changeSeq, " +
+            "t.version = t.version + 1 " +
+            "WHERE t.id = :id AND t.user.id = :userId " +
+            "AND (:expectedUpdatedAt IS NULL OR t.updatedAt = :expectedUpdatedAt) " +
+            "AND (:expectedVersion IS NULL OR t.version = :expectedVersion)")
+    int updateStatusByIdAndUserIdIfUnchanged(@Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("expectedUpdatedAt") LocalDateTime expectedUpdatedAt,
+            @Param("expectedVersion") Long expectedVersion,
+            @Param("status") TaskStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * 更新日時が一致する場合のみ、タスクを削除（If-Match付きの削除）
+     *
+     * @param id                タスクID
+     * @param userId            ユーザーID
+     * @param expectedUpdatedAt クライアントが取得したときの更新日時
+     * @return 削除した行数（存在しない、他人のタスク、または更新日時が一致しない場合は0）
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t " +
+            "WHERE t.id = :id AND t.user.id = :userId AND t.updatedAt = :expectedUpdatedAt")
+    int deleteByIdAndUserIdAndUpdatedAt(@Param("id") Long id,
+            @Param("userId") Long userId,
+            @Param("expectedUpdatedAt") LocalDateTime expectedUpdatedAt);
+
+    // ========================================
+    // 差分同期（GET /api/tasks/changes）
+    // ========================================
+
+    /**
+     * 指定した位置より後に変更されたタスクの位置を、変更番号の順に取得
+     *
+     * 実務での使用場面：
+     * - 差分同期（TaskChangeService.findChanges）
+     *
+     * 実務でのポイント：
+     * - (user_id, change_seq, id) のインデックスで、前回の同期位置から直接読み始めます
+     * - タスクが2万件あっても、読み込むのは変更されたタスクの分だけです
+     * - 内容ではなく位置（変更番号・ID）だけを取得し、削除記録と合わせて並べてから内容を取得します
+     *
+     * @param userId    ユーザーID
+     * @param changeSeq 前回の同期位置の変更番号
+     * @param id        前回の同期位置のタスクID
+     * @param pageable  取得件数
+     * @return 位置のリスト（変更番号・IDの昇順）
+     */
+    @Query("SELECT new com.taskmanagement.backend.dto.TaskChangeToken(t.changeSeq, t.id) FROM Task t " +
+            "WHERE t.user.id = :userId " +
+            "AND (t.changeSeq > :changeSeq OR (t.changeSeq = :changeSeq AND t.id > :id)) " +
+            "ORDER BY t.changeSeq ASC, t.id ASC")
+    List<TaskChangeToken> findChangePositions(@Param("userId") Long userId,
+            @Param("changeSeq") long changeSeq,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    // ========================================
+    // 一括操作（UPDATE/DELETE）
+    // ========================================
+    //
+    // なぜ1件ずつ更新しないのか：
+    // - updateTaskStatus()を繰り返すと、1件ごとにSELECT・権限チェック・ダーティチェック・UPDATEが発生します
+    // - 100件のタスクを完了にすると、200回以上のSQLが実行されます
+    // - 集合指向のUPDATE/DELETE文では、何件でもSQLは1回です
+    //
+    // 実務でのポイント：
+    // - 権限チェックは、WHERE句の「t.user.id = :userId」で行います（他人のタスクは条件に一致しない）
+    // - UPDATE文では@PreUpdateが実行されないため、updatedAtも明示的に更新します
+    // - 差分同期のため、changeSeq（変更番号）も更新します。削除の場合は、削除の前にTaskTombstoneRepositoryで削除記録を作成します
+    // - clearAutomatically = true で、実行後に永続化コンテキストをクリアし、古いエンティティが残らないようにします
+    // - 戻り値は、実際に更新・削除された行数です
+
+    /**
+     * IDで指定したタスクのステータスを一括変更
+     *
+     * @param userId    ユーザーID
+     * @param ids       タスクIDのリスト
+     * @param status    変更後のステータス
+     * @param now       更新日時
+     * @param changeSeq 変更番号（TaskChangeService.nextChangeSeq()）
+     * @return 更新した行数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.changeSeq = :changeSeq, " +
+            "t.version = t.version + 1 " +
+            "WHERE t.user.id = :userId AND t.id IN :ids")
+    int updateStatusByUserIdAndIdIn(@Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids,
+            @Param("status") TaskStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * ステータス・優先度で指定したタスクのステータスを一括変更
+     *
+     * 条件の意味は findDtosByUserIdWithFilters と同じです
+     * （キーワードで指定した場合は、TaskSearchServiceで対象のIDを求めて updateStatusByUserIdAndIdIn を使用します）
+     *
+     * @param userId         ユーザーID
+     * @param filterStatus   対象のステータス（nullの場合はフィルタしない）
+     * @param filterPriority 対象の優先度（nullの場合はフィルタしない）
+     * @param status         変更後のステータス
+     * @param now            更新日時
+     * @param changeSeq      変更番号（TaskChangeService.nextChangeSeq()）
+     * @return 更新した行数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.status = :status, t.updatedAt = :now, t.changeSeq = :changeSeq, " +
+            "t.version = t.version + 1 " +
+            "WHERE t.user.id = :userId " +
+            "AND (:filterStatus IS NULL OR t.status = :filterStatus) " +
+            "AND (:filterPriority IS NULL OR t.priority = :filterPriority)")
+    int updateStatusByUserIdWithFilters(@Param("userId") Long userId,
+            @Param("filterStatus") TaskStatus filterStatus,
+            @Param("filterPriority") TaskPriority filterPriority,
+            @Param("status") TaskStatus status,
+            @Param("now") LocalDateTime now,
+            @Param("changeSeq") long changeSeq);
+
+    /**
+     * IDで指定したタスクを一括削除
+     *
+     * @param userId ユーザーID
+     * @param ids    タスクIDのリスト
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.user.id = :userId AND t.id IN :ids")
+    int deleteByUserIdAndIdIn(@Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids);
+
+    /**
+     * ステータス・優先度で指定したタスクを一括削除
+     *
+     * 条件の意味は findDtosByUserIdWithFilters と同じです
+     * （キーワードで指定した場合は、TaskSearchServiceで対象のIDを求めて deleteByUserIdAndIdIn を使用します）
+     *
+     * @param userId   ユーザーID
+     * @param status   対象のステータス（nullの場合はフィルタしない）
+     * @param priority 対象の優先度（nullの場合はフィルタしない）
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM Task t WHERE t.user.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority)")
+    int deleteByUserIdWithFilters(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority);
+}
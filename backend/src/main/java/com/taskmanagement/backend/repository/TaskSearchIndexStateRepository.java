@@ -0,0 +1,18 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.model.TaskSearchIndexState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * TaskSearchIndexStateRepositoryインターフェース
+ *
+ * 検索インデックスの作成状況（task_search_index_state）を操作します。
+ *
+ * 実務でのポイント：
+ * - このリポジトリはTaskSearchServiceからのみ使用します
+ * - 行は1行だけのため、findById(TaskSearchIndexState.ID) で取得します
+ */
+@Repository
+public interface TaskSearchIndexStateRepository extends JpaRepository<TaskSearchIndexState, Integer> {
+}
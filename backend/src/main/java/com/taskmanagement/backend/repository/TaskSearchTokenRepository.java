@@ -0,0 +1,162 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskSearchToken;
+import com.taskmanagement.backend.model.TaskSearchTokenId;
+import com.taskmanagement.backend.model.TaskStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TaskSearchTokenRepositoryインターフェース
+ *
+ * 検索用の転置インデックス（task_search_tokens）を操作します。
+ *
+ * 実務でのポイント：
+ * - このリポジトリはTaskSearchServiceからのみ使用します
+ * - インデックスの更新タイミング（タスクの作成・更新・削除）はTaskSearchServiceが管理します
+ */
+@Repository
+public interface TaskSearchTokenRepository extends JpaRepository<TaskSearchToken, TaskSearchTokenId> {
+
+    /**
+     * タスクIDでトークンを取得
+     *
+     * 実務での使用場面：
+     * - タスク更新時に、既存のトークンと新しいトークンの差分を計算する
+     *
+     * @param taskId タスクID
+     * @return トークンのリスト
+     */
+    List<TaskSearchToken> findByTaskId(Long taskId);
+
+    /**
+     * タスクIDでトークンを一括削除
+     *
+     * 実務でのポイント：
+     * - 1行ずつ削除せず、1回のDELETE文で削除します
+     * - flushAutomatically = true で、未反映のINSERTを先に実行してから削除します
+     *
+     * @param taskId タスクID
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskSearchToken s WHERE s.taskId = :taskId")
+    int deleteByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * 複数のタスクのトークンを一括削除
+     *
+     * 実務での使用場面：
+     * - 検索インデックスの作成で、登録し直すタスクの既存のトークンを削除する（TaskSearchService.rebuildBatch）
+     *
+     * @param taskIds タスクIDのリスト
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskSearchToken s WHERE s.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * すべてのトークンを含むタスクIDを、スコアの高い順に取得
+     *
+     * 処理の流れ：
+     * 1. (user_id, token) のインデックスで、キーワードのトークンを含む行だけを読み込む
+     * 2. タスクごとにグループ化し、すべてのトークンを含むタスクだけを残す（HAVING）
+     * 3. 一致したトークンの重みの合計（スコア）の降順に並べる
+     *
+     * 実務でのポイント：
+     * - 複合主キー (task_id, token) により、同じタスクの同じトークンは1行だけです
+     * - そのため、COUNT = トークン数 で「すべてのトークンを含む」と判定できます
+     * - スコアが同じ場合は、新しいタスク（IDが大きい）を優先します
+     *
+     * @param userId     ユーザーID
+     * @param tokens     キーワードのトークン
+     * @param tokenCount トークンの数
+     * @param pageable   取得する範囲
+     * @return タスクIDのリスト（スコアの降順）
+     */
+    @Query("SELECT s.taskId FROM TaskSearchToken s " +
+            "WHERE s.userId = :userId AND s.token IN :tokens " +
+            "GROUP BY s.taskId " +
+            "HAVING COUNT(s.token) = :tokenCount " +
+            "ORDER BY SUM(s.weight) DESC, s.taskId DESC")
+    List<Long> findRankedTaskIds(@Param("userId") Long userId,
+            @Param("tokens") Collection<String> tokens,
+            @Param("tokenCount") long tokenCount,
+            Pageable pageable);
+
+    /**
+     * すべてのトークンを含み、ステータス・優先度の条件に一致するタスクIDを、スコアの高い順に取得
+     *
+     * 実務でのポイント：
+     * - findRankedTaskIdsと同じ順序で、tasksテーブルと結合してステータス・優先度で絞り込みます
+     * - 絞り込んでから件数を制限するため、条件に一致するタスクのスコアが低くても、結果から漏れません
+     * （スコア順の上位を取得してから絞り込むと、上位が他のステータスのタスクで埋まった場合に0件になります）
+     * - 条件が無い場合は、tasksテーブルと結合しないfindRankedTaskIdsを使用します
+     *
+     * @param userId     ユーザーID
+     * @param tokens     キーワードのトークン
+     * @param tokenCount トークンの数
+     * @param status     タスクのステータス（nullの場合はフィルタしない）
+     * @param priority   タスクの優先度（nullの場合はフィルタしない）
+     * @param pageable   取得する範囲
+     * @return タスクIDのリスト（スコアの降順）
+     */
+    @Query("SELECT s.taskId FROM TaskSearchToken s JOIN Task t ON t.id = s.taskId " +
+            "WHERE s.userId = :userId AND s.token IN :tokens " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority) " +
+            "GROUP BY s.taskId " +
+            "HAVING COUNT(s.token) = :tokenCount " +
+            "ORDER BY SUM(s.weight) DESC, s.taskId DESC")
+    List<Long> findRankedTaskIdsWithFilters(@Param("userId") Long userId,
+            @Param("tokens") Collection<String> tokens,
+            @Param("tokenCount") long tokenCount,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            Pageable pageable);
+
+    /**
+     * IDで指定したタスクのトークンを一括削除
+     *
+     * 実務での使用場面：
+     * - タスクの一括削除（TaskService.deleteTasks）
+     *
+     * @param userId  ユーザーID（他人のタスクのトークンを削除しないため）
+     * @param taskIds タスクIDのリスト
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskSearchToken s WHERE s.userId = :userId AND s.taskId IN :taskIds")
+    int deleteByUserIdAndTaskIdIn(@Param("userId") Long userId,
+            @Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * ステータス・優先度で指定したタスクのトークンを一括削除
+     *
+     * 実務でのポイント：
+     * - タスクを削除する前に実行します（サブクエリでtasksテーブルを参照するため）
+     * - 条件の意味は TaskRepository.deleteByUserIdWithFilters と同じです
+     *
+     * @param userId   ユーザーID
+     * @param status   対象のステータス（nullの場合はフィルタしない）
+     * @param priority 対象の優先度（nullの場合はフィルタしない）
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskSearchToken s WHERE s.userId = :userId AND s.taskId IN (" +
+            "SELECT t.id FROM Task t WHERE t.user.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority))")
+    int deleteByUserIdWithFilters(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority);
+}
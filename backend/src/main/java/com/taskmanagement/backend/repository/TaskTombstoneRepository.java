@@ -0,0 +1,123 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.dto.TaskChangeToken;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.model.TaskTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TaskTombstoneRepositoryインターフェース
+ *
+ * タスクの削除記録（task_tombstones）を操作します。
+ *
+ * 実務でのポイント：
+ * - このリポジトリはTaskChangeServiceからのみ使用します
+ * - 一括削除では、削除するタスクをJavaに読み込まず、INSERT ... SELECT文1回で削除記録を作成します
+ * - 保持期間を過ぎた削除記録は、findExpired()で読み込み、deleteByTaskIdIn()で削除します（TaskTombstonePurger）
+ */
+@Repository
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * 指定した位置より後の削除記録の位置を、変更番号の順に取得
+     *
+     * 実務でのポイント：
+     * - (user_id, change_seq, task_id) のインデックスで、前回の同期位置から直接読み始めます
+     *
+     * @param userId    ユーザーID
+     * @param changeSeq 前回の同期位置の変更番号
+     * @param id        前回の同期位置のタスクID
+     * @param pageable  取得件数
+     * @return 位置のリスト（変更番号・タスクIDの昇順）
+     */
+    @Query("SELECT new com.taskmanagement.backend.dto.TaskChangeToken(s.changeSeq, s.taskId) FROM TaskTombstone s " +
+            "WHERE s.userId = :userId " +
+            "AND (s.changeSeq > :changeSeq OR (s.changeSeq = :changeSeq AND s.taskId > :id)) " +
+            "ORDER BY s.changeSeq ASC, s.taskId ASC")
+    List<TaskChangeToken> findChangePositions(@Param("userId") Long userId,
+            @Param("changeSeq") long changeSeq,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /**
+     * IDで指定したタスクの削除記録を一括作成（削除の前に実行）
+     *
+     * 実務でのポイント：
+     * - 条件の意味は TaskRepository.deleteByUserIdAndIdIn と同じです
+     * - 他人のタスクや存在しないIDは、SELECTの結果に含まれないため記録されません
+     * - SELECT句のパラメータは、型を確定させるためにCASTします
+     *
+     * @param userId    ユーザーID
+     * @param ids       タスクIDのリスト
+     * @param changeSeq 変更番号
+     * @param deletedAt 削除日時
+     * @return 作成した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO TaskTombstone (taskId, userId, changeSeq, deletedAt) " +
+            "SELECT t.id, t.user.id, CAST(:changeSeq AS Long), CAST(:deletedAt AS LocalDateTime) FROM Task t " +
+            "WHERE t.user.id = :userId AND t.id IN :ids")
+    int insertByUserIdAndIdIn(@Param("userId") Long userId,
+            @Param("ids") Collection<Long> ids,
+            @Param("changeSeq") long changeSeq,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * ステータス・優先度で指定したタスクの削除記録を一括作成（削除の前に実行）
+     *
+     * 実務でのポイント：
+     * - 条件の意味は TaskRepository.deleteByUserIdWithFilters と同じです
+     *
+     * @param userId    ユーザーID
+     * @param status    対象のステータス（nullの場合はフィルタしない）
+     * @param priority  対象の優先度（nullの場合はフィルタしない）
+     * @param changeSeq 変更番号
+     * @param deletedAt 削除日時
+     * @return 作成した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("INSERT INTO TaskTombstone (taskId, userId, changeSeq, deletedAt) " +
+            "SELECT t.id, t.user.id, CAST(:changeSeq AS Long), CAST(:deletedAt AS LocalDateTime) FROM Task t " +
+            "WHERE t.user.id = :userId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:priority IS NULL OR t.priority = :priority)")
+    int insertByUserIdWithFilters(@Param("userId") Long userId,
+            @Param("status") TaskStatus status,
+            @Param("priority") TaskPriority priority,
+            @Param("changeSeq") long changeSeq,
+            @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * 保持期間を過ぎた削除記録を、削除日時の古い順に取得
+     *
+     * 実務でのポイント：
+     * - (deleted_at) のインデックスで、古いものから取得件数だけを読み込みます
+     * - 削除位置（TaskChangeHorizon）の計算に、ユーザーID・変更番号・タスクIDを使用するため、エンティティで取得します
+     *
+     * @param cutoff   この日時より前に削除された削除記録が対象
+     * @param pageable 取得件数
+     * @return 削除記録のリスト（削除日時の昇順）
+     */
+    @Query("SELECT s FROM TaskTombstone s WHERE s.deletedAt < :cutoff ORDER BY s.deletedAt ASC")
+    List<TaskTombstone> findExpired(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * IDで指定した削除記録を一括削除
+     *
+     * @param taskIds タスクIDのリスト
+     * @return 削除した行数
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM TaskTombstone s WHERE s.taskId IN :taskIds")
+    int deleteByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+}
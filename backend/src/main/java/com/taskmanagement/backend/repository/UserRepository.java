@@ -1,7 +1,11 @@
 package com.taskmanagement.backend.repository;
 
 import com.taskmanagement.backend.model.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -107,4 +111,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return ユーザーのリスト（見つからない場合は空のリスト）
      */
     Optional<User> findByUsername(String username);
-}
\ No newline at end of file
+
+    /**
+     * 最後に登録されたユーザーを取得（主キーの降順で1件）
+     * 
+     * 実務での使用場面：
+     * - 起動時に、保存済みのパスワードのハッシュのコストを確認（SecurityConfig.passwordEncoder）
+     * 
+     * 実務でのポイント：
+     * - 主キーのインデックスを逆順にたどって1件だけ読むため、ユーザー数によらず一定の時間で取得できます
+     * 
+     * @return ユーザー（ユーザーがいない場合はOptional.empty()）
+     */
+    Optional<User> findFirstByOrderByIdDesc();
+
+    /**
+     * IDでユーザーを取得し、行をロックする（SELECT ... FOR UPDATE）
+     * 
+     * 実務での使用場面：
+     * - タスクの変更番号の採番（TaskChangeService.nextChangeSeq）
+     * 
+     * 実務でのポイント：
+     * - ロックはトランザクションの終了（コミットまたはロールバック）まで保持されます
+     * - 同じユーザーのタスクを変更するトランザクションは、1つずつ順番に実行されます
+     * - 通常のSELECT（ロックなし）は待たされないため、一覧表示やログインには影響しません
+     * 
+     * @param id ユーザーID
+     * @return ユーザー（見つからない場合はOptional.empty()）
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+}
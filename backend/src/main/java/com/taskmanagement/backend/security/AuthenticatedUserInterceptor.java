@@ -0,0 +1,82 @@
+package com.taskmanagement.backend.security;
+
+import com.taskmanagement.backend.exception.ForbiddenException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * リクエストのuserIdが、認証済みのユーザーと一致するかを確認するインターセプター
+ *
+ * このインターセプターの役割：
+ * - クエリパラメータのuserIdと、JwtAuthenticationFilterがSecurityContextに設定したユーザーID（principal）を比較する
+ * - 一致しない場合は、コントローラーを呼び出さずにForbiddenException（403）を投げる
+ *
+ * なぜ必要なのか：
+ * - タスクのAPIは、対象のユーザーを ?userId= で受け取ります
+ * - 確認しないと、ログインしたユーザーがuserIdを書き換えるだけで、
+ * 他のユーザーのタスクの取得・一括変更・一括削除・変更の同期・変更通知の受信ができてしまいます
+ *
+ * なぜコントローラーの引数ではなくインターセプターで確認するのか：
+ * - userIdを受け取るすべてのエンドポイントで、確認漏れが起きないようにするためです
+ * - 後からエンドポイントを追加しても、/api/tasks 以下であれば自動的に確認されます
+ *
+ * 注意点：
+ * - userIdが無い・数値でない場合は確認せず、コントローラーで400を返します
+ * - 非同期のディスパッチ（Server-Sent Eventsの接続の終了時など）は、最初のリクエストで確認済みのため確認しません
+ * - このクラスは@Componentを付けず、WebMvcConfigで登録します
+ */
+public class AuthenticatedUserInterceptor implements HandlerInterceptor {
+
+    /**
+     * 確認するクエリパラメータの名前
+     */
+    private static final String USER_ID_PARAMETER = "userId";
+
+    /**
+     * userIdと認証済みのユーザーIDを比較
+     *
+     * @param request  HttpServletRequest
+     * @param response HttpServletResponse
+     * @param handler  呼び出されるハンドラー
+     * @return 一致する場合はtrue
+     * @throws ForbiddenException 一致しない、または認証されていない場合
+     */
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.REQUEST) {
+            return true;
+        }
+
+        Long userId = parseUserId(request.getParameter(USER_ID_PARAMETER));
+        if (userId == null) {
+            return true;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !userId.equals(authentication.getPrincipal())) {
+            throw new ForbiddenException("他のユーザーのタスクにはアクセスできません");
+        }
+        return true;
+    }
+
+    /**
+     * userIdを数値に変換
+     *
+     * @param value クエリパラメータの値
+     * @return ユーザーID（無い・数値でない場合はnull）
+     */
+    private static Long parseUserId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
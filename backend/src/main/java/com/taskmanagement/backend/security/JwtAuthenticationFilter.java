@@ -0,0 +1,97 @@
+package com.taskmanagement.backend.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * JWT認証フィルタ
+ *
+ * このフィルタの役割：
+ * - Authorizationヘッダーから "Bearer {token}" を取り出す
+ * - トークンの署名と有効期限を検証する
+ * - 検証に成功した場合、SecurityContextに認証情報を設定する
+ *
+ * OncePerRequestFilterとは：
+ * - 1回のリクエストにつき、1回だけ実行されることが保証されたフィルタ
+ * - フォワードやインクルードで同じフィルタが複数回実行されるのを防ぎます
+ *
+ * パフォーマンスのポイント：
+ * - このフィルタは、データベースアクセスもBCryptの計算も行いません
+ * - 必要な情報（ユーザーID、メールアドレス）はすべてトークンに含まれています
+ * - そのため、検証コストはHMACの計算1回分だけです
+ *
+ * 実務でのポイント：
+ * - トークンが無い・不正な場合は、認証情報を設定せずに次のフィルタへ進みます
+ * - 認証が必要なエンドポイントでは、その後のAuthorizationFilterで401が返されます
+ *
+ * 落とし穴：
+ * - このクラスに@Componentを付けると、Spring Bootがサーブレットフィルタとしても自動登録し、
+ * Security側のチェーンでは「実行済み」と判定されてスキップされてしまいます
+ * - そのため、SecurityConfigでインスタンスを生成し、SecurityFilterChainにのみ追加します
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    /**
+     * Authorizationヘッダーのプレフィックス
+     */
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    /**
+     * JWTトークンプロバイダー
+     */
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * フィルタ処理
+     *
+     * 処理の流れ：
+     * 1. AuthorizationヘッダーからBearerトークンを取得
+     * 2. トークンを検証してクレームを取得
+     * 3. 認証情報（principal = ユーザーID）をSecurityContextに設定
+     * 4. 次のフィルタへ処理を渡す
+     *
+     * @param request     HttpServletRequest
+     * @param response    HttpServletResponse
+     * @param filterChain FilterChain
+     * @throws ServletException サーブレットエラー
+     * @throws IOException      入出力エラー
+     */
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+
+        if (header != null && header.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String token = header.substring(BEARER_PREFIX.length());
+
+            jwtTokenProvider.parseClaims(token).ifPresent(claims -> {
+                // 権限（ロール）は現時点では使用しないため、空のリストを渡します
+                // 3引数のコンストラクタを使用すると、認証済み（authenticated = true）として扱われます
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        jwtTokenProvider.getUserId(claims),
+                        null,
+                        Collections.emptyList());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
+        }
+
+        filterChain.doFilter(request, response);
+    }
+}
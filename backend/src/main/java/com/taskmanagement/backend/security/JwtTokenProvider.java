@@ -0,0 +1,145 @@
+package com.taskmanagement.backend.security;
+
+import com.taskmanagement.backend.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Optional;
+
+/**
+ * JWTトークンの生成・検証を行うコンポーネント
+ *
+ * このクラスの役割：
+ * - ログイン成功時に、ユーザーIDとメールアドレスを含む署名付きトークンを発行する
+ * - リクエストごとに、トークンの署名と有効期限を検証する
+ *
+ * なぜJWTを使うのか：
+ * - HTTP Basic認証では、リクエストごとにBCryptでパスワードを検証するため、
+ * 1リクエストあたり数十ミリ秒のCPU時間がかかります
+ * - JWTの検証はHMAC-SHAの計算のみで、データベースアクセスもBCryptも不要です
+ * - これにより、認証付きAPIのスループットが大幅に向上します
+ *
+ * 実務でのポイント：
+ * - シークレットキーは、application.propertiesのjwt.secretから読み込みます
+ * - 本番環境では、必ず環境変数JWT_SECRETで十分に長いランダムな値を設定します
+ * - 署名鍵（SecretKey）は起動時に1回だけ生成し、使い回します
+ */
+@Component
+public class JwtTokenProvider {
+
+    /**
+     * トークンに含めるメールアドレスのクレーム名
+     */
+    private static final String CLAIM_EMAIL = "email";
+
+    /**
+     * 署名鍵
+     *
+     * 実務でのポイント：
+     * - Keys.hmacShaKeyFor()は、鍵の長さに応じてHS256/HS384/HS512を自動選択します
+     * - 鍵が32バイト未満の場合は起動時にエラーになります（弱い鍵を防ぐため）
+     */
+    private final SecretKey secretKey;
+
+    /**
+     * トークンの有効期限（ミリ秒）
+     */
+    private final long expirationMillis;
+
+    /**
+     * コンストラクタ
+     *
+     * @param secret           jwt.secret（署名に使用するシークレットキー）
+     * @param expirationMillis jwt.expiration（トークンの有効期限、ミリ秒）
+     */
+    public JwtTokenProvider(
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration}") long expirationMillis) {
+        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.expirationMillis = expirationMillis;
+    }
+
+    /**
+     * ユーザー情報からJWTトークンを生成
+     *
+     * トークンに含める情報：
+     * - sub（subject）：ユーザーID
+     * - email：メールアドレス
+     * - iat（issued at）：発行日時
+     * - exp（expiration）：有効期限
+     *
+     * 注意点：
+     * - パスワードなどの機密情報は、絶対にトークンに含めません
+     * （JWTのペイロードはBase64エンコードされているだけで、誰でも読めるため）
+     *
+     * @param user Userエンティティ
+     * @return JWTトークン
+     */
+    public String generateToken(User user) {
+        Date now = new Date();
+        Date expiration = new Date(now.getTime() + expirationMillis);
+
+        return Jwts.builder()
+                .subject(String.valueOf(user.getId()))
+                .claim(CLAIM_EMAIL, user.getEmail())
+                .issuedAt(now)
+                .expiration(expiration)
+                .signWith(secretKey)
+                .compact();
+    }
+
+    /**
+     * JWTトークンを検証し、クレームを取得
+     *
+     * 検証内容：
+     * - 署名が正しいか（改ざんされていないか）
+     * - 有効期限が切れていないか
+     * - トークンの形式が正しいか
+     *
+     * 実務でのポイント：
+     * - 検証に失敗した場合は、例外をthrowせずにOptional.empty()を返します
+     * - フィルタ側では、空の場合は「未認証」として扱うだけで済みます
+     *
+     * @param token JWTトークン
+     * @return クレーム（検証に失敗した場合はOptional.empty()）
+     */
+    public Optional<Claims> parseClaims(String token) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(secretKey)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+            return Optional.of(claims);
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * クレームからユーザーIDを取得
+     *
+     * @param claims クレーム
+     * @return ユーザーID
+     */
+    public Long getUserId(Claims claims) {
+        return Long.valueOf(claims.getSubject());
+    }
+
+    /**
+     * クレームからメールアドレスを取得
+     *
+     * @param claims クレーム
+     * @return メールアドレス
+     */
+    public String getEmail(Claims claims) {
+        return claims.get(CLAIM_EMAIL, String.class);
+    }
+}
@@ -4,11 +4,16 @@ import com.taskmanagement.backend.dto.AuthResponseDto;
 import com.taskmanagement.backend.dto.LoginRequestDto;
 import com.taskmanagement.backend.dto.RegisterRequestDto;
 import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.exception.ServiceUnavailableException;
 import com.taskmanagement.backend.model.User;
 import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.security.JwtTokenProvider;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -21,8 +26,8 @@ import org.springframework.transaction.annotation.Transactional;
  * 実務でのポイント：
  * - パスワードは必ずハッシュ化して保存します
  * - ログイン時は、ハッシュ化されたパスワードと比較します
- * - Phase 2-5では、シンプルな認証機能を実装します
- * - Phase 2-6以降で、JWTトークンベースの認証に移行します
+ * - Phase 2-5では、シンプルな認証機能を実装しました
+ * - Phase 2-6で、ログイン時にJWTトークンを発行するように移行しました
  * 
  * @Service:
  *           - このクラスがServiceレイヤーのコンポーネントであることを示します
@@ -36,25 +41,50 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
+@Slf4j
 public class AuthService {
 
+    /**
+     * ログイン時にハッシュ化し直した回数のメトリクス名（/actuator/prometheus では auth_password_rehash_total）
+     */
+    public static final String PASSWORD_REHASH_METRIC = "auth.password.rehash";
+
     /**
      * ユーザーリポジトリ
      */
     private final UserRepository userRepository;
 
     /**
-     * パスワードエンコーダー
+     * ユーザーサービス（ハッシュ化し直したパスワードの保存）
+     */
+    private final UserService userService;
+
+    /**
+     * パスワードのハッシュ化・検証サービス
      * 
-     * PasswordEncoderとは：
-     * - パスワードをハッシュ化するためのインターフェース
-     * - SecurityConfigで定義したBCryptPasswordEncoderが注入されます
+     * PasswordHashingServiceとは：
+     * - SecurityConfigで定義したPasswordEncoder（{bcrypt}のDelegatingPasswordEncoder）を、専用のスレッドプールで実行します
+     * - ログインが集中した場合は、リクエストのスレッドとCPUを使い切る前に503で断ります
      * 
      * 実務でのポイント：
      * - パスワードは絶対に平文で保存してはいけません
      * - BCryptは、ソルト付きハッシュ化を自動で行います
      */
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+
+    /**
+     * JWTトークンプロバイダー
+     * 
+     * 実務でのポイント：
+     * - ログイン成功時に1回だけトークンを発行します
+     * - 以降のリクエストはトークンの署名検証のみで認証されるため、BCryptの計算は不要になります
+     */
+    private final JwtTokenProvider jwtTokenProvider;
+
+    /**
+     * メトリクスの登録先（パスワード検証の時間を記録）
+     */
+    private final MeterRegistry meterRegistry;
 
     /**
      * ユーザーを登録
@@ -65,15 +95,23 @@ public class AuthService {
      * 3. ユーザーをデータベースに保存
      * 4. UserResponseDtoを返す（Phase 2-5）
      * 
+     * トランザクション（Propagation.NOT_SUPPORTED）：
+     * - loginと同じく、BCryptの計算中（専用のスレッドプールの待ち行列で待つ間も含む）に
+     * データベースのコネクションを保持しないよう、トランザクションの外で実行します
+     * - 重複チェック（existsByEmail）と保存（save）は、それぞれリポジトリの短いトランザクションで実行します
+     * - 1つのトランザクションで実行すると、登録が集中した場合に、待ち行列で待つスレッドが
+     * 最大timeout-msの間コネクションを保持し続け、他のAPIがコネクションを取得できなくなります
+     * 
      * Phase 2-6以降での変更予定：
      * - JWTトークンを生成して返す
      * - AuthResponseDtoを返す
      * 
      * @param registerDto 新規登録リクエストDTO
      * @return UserResponseDto
-     * @throws IllegalArgumentException メールアドレスが既に使用されている場合
+     * @throws IllegalArgumentException    メールアドレスが既に使用されている場合
+     * @throws ServiceUnavailableException 登録が集中し、パスワードをハッシュ化できない場合
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto register(RegisterRequestDto registerDto) {
         // メールアドレスの重複チェック
         if (userRepository.existsByEmail(registerDto.getEmail())) {
@@ -86,15 +124,15 @@ public class AuthService {
 
         // パスワードをハッシュ化
         // 実務でのポイント：
-        // - passwordEncoder.encode()は、ソルト付きハッシュ化を行います
+        // - passwordHashingService.encode()は、専用のスレッドでソルト付きハッシュ化を行います
         // - 同じパスワードでも、毎回異なるハッシュ値が生成されます（ソルトがランダムなため）
         // - ハッシュ値には、ソルトも含まれています
-        String hashedPassword = passwordEncoder.encode(registerDto.getPassword());
+        String hashedPassword = passwordHashingService.encode(registerDto.getPassword());
         user.setPassword(hashedPassword);
 
         user.setUsername(registerDto.getUsername());
 
-        // データベースに保存
+        // データベースに保存（saveのトランザクションで、INSERTの間だけコネクションを使用）
         User savedUser = userRepository.save(user);
 
         // DTOに変換して返す
@@ -109,35 +147,79 @@ public class AuthService {
      * 処理の流れ：
      * 1. メールアドレスでユーザーを検索
      * 2. パスワードを検証
-     * 3. UserResponseDtoを返す（Phase 2-5）
+     * 3. JWTトークンを生成
+     * 4. AuthResponseDto（トークン + ユーザー情報）を返す
      * 
-     * Phase 2-6以降での変更予定：
-     * - JWTトークンを生成して返す
-     * - AuthResponseDtoを返す
+     * ハッシュ化し直し（rehash）：
+     * - 保存されているハッシュの方式が異なる、またはコストが現在の設定（SecurityConfig.passwordEncoder）より低い場合、
+     * ログインに成功した時に、入力されたパスワードを現在のコストでハッシュ化し直して保存します
+     * - 平文のパスワードが手に入るのはログインの時だけなので、コストを変えてもユーザーを締め出さずに移行できます
+     * - ハッシュ化し直せなかった場合（混雑・保存の失敗）も、ログインは成功させ、次回のログインで再び試みます
+     * 
+     * トランザクション（Propagation.NOT_SUPPORTED）：
+     * - BCryptの計算中にデータベースのコネクションを保持しないよう、トランザクションの外で実行します
+     * - ユーザーの検索と、ハッシュの保存（UserService.rehashPassword）は、それぞれ短いトランザクションで実行します
+     * - 読み取り専用のトランザクションの中で保存すると、変更がフラッシュされずに失われるためでもあります
+     * 
+     * 実務でのポイント：
+     * - BCryptによるパスワード検証は、ログイン時の1回だけ行います
+     * - 以降のAPIリクエストでは、発行したトークンで認証します
+     * - パスワード検証の計算時間は、PasswordHashingServiceがauth.password.hashingに結果（match / mismatch）ごとに記録します
      * 
      * @param loginDto ログインリクエストDTO
-     * @return UserResponseDto
-     * @throws IllegalArgumentException メールアドレスまたはパスワードが正しくない場合
+     * @return AuthResponseDto
+     * @throws IllegalArgumentException    メールアドレスまたはパスワードが正しくない場合
+     * @throws ServiceUnavailableException ログインが集中し、パスワードを検証できない場合
      */
-    public UserResponseDto login(LoginRequestDto loginDto) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthResponseDto login(LoginRequestDto loginDto) {
         // メールアドレスでユーザーを検索
         User user = userRepository.findByEmail(loginDto.getEmail().toLowerCase())
                 .orElseThrow(() -> new IllegalArgumentException("メールアドレスまたはパスワードが正しくありません"));
 
         // パスワードを検証
         // 実務でのポイント：
-        // - passwordEncoder.matches()は、平文のパスワードとハッシュ化されたパスワードを比較します
+        // - passwordHashingService.matches()は、平文のパスワードとハッシュ化されたパスワードを比較します
         // - ソルトを含めて比較するため、セキュアです
         // - エラーメッセージは、「メールアドレスまたはパスワードが正しくありません」とします
         // （どちらが間違っているか特定できないようにする：セキュリティ対策）
-        if (!passwordEncoder.matches(loginDto.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(loginDto.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("メールアドレスまたはパスワードが正しくありません");
         }
 
-        // DTOに変換して返す
-        // Phase 2-5では、UserResponseDtoを返します
-        // Phase 2-6以降では、JWTトークンを含むAuthResponseDtoを返す予定です
-        return UserResponseDto.fromEntity(user);
+        // 保存されているハッシュのコストが現在の設定より低い場合は、ハッシュ化し直す
+        if (passwordHashingService.upgradeEncoding(user.getPassword())) {
+            rehashPassword(user, loginDto.getPassword());
+        }
+
+        // JWTトークンを生成
+        String token = jwtTokenProvider.generateToken(user);
+
+        // トークンとユーザー情報をまとめて返す
+        return AuthResponseDto.of(token, UserResponseDto.fromEntity(user));
+    }
+
+    /**
+     * パスワードを現在のコストでハッシュ化し直して保存
+     * 
+     * 注意点：
+     * - ログイン自体は成功しているため、失敗してもログを出力するだけにします
+     * 
+     * @param user        ログインしたユーザー
+     * @param rawPassword 検証に成功した平文のパスワード
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            String newPassword = passwordHashingService.encode(rawPassword);
+            if (userService.rehashPassword(user.getId(), user.getPassword(), newPassword)) {
+                Counter.builder(PASSWORD_REHASH_METRIC)
+                        .description("ログイン時にパスワードを現在のコストでハッシュ化し直した回数")
+                        .register(meterRegistry)
+                        .increment();
+            }
+        } catch (RuntimeException e) {
+            log.warn("パスワードのハッシュ化し直しに失敗しました（次回のログインで再試行します）: userId={}", user.getId(), e);
+        }
     }
 
     /**
@@ -161,8 +243,8 @@ public class AuthService {
      * - パスワードのハッシュ化（BCryptPasswordEncoder）
      * - シンプルな認証機能（UserResponseDtoを返す）
      * 
-     * Phase 2-6以降での実装予定：
-     * - JWTトークンの生成
+     * Phase 2-6での実装：
+     * - ログイン時のJWTトークンの生成
      * - AuthResponseDtoを返す（トークン + ユーザー情報）
      * 
      * セキュリティのポイント：
@@ -0,0 +1,173 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.CacheRegionStatsDto;
+import com.taskmanagement.backend.repository.TaskRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import javax.cache.management.CacheStatisticsMXBean;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * キャッシュ統計サービス
+ *
+ * このServiceの役割：
+ * - Hibernateの2次キャッシュ・クエリキャッシュの効き具合（ヒット・ミス・追い出し）を集計する
+ *
+ * 統計の取得元：
+ * - ヒット・ミス・格納数：Hibernateの統計（hibernate.generate_statistics=true）
+ * - 追い出し数：JCacheの統計（application.confの monitoring.statistics = true）
+ * （Hibernateは、キャッシュの実装側で行われた追い出しを把握できないため）
+ * - タスク一覧のレスポンスキャッシュ（task-lists）：TaskListCache自身の統計
+ *
+ * メトリクス（MeterBinder）：
+ * - 同じ統計を、Micrometerのキャッシュのメトリクスとして公開します（/actuator/prometheus）
+ * - cache.gets{cache, result=hit|miss}、cache.puts{cache}、cache.hit.ratio{cache}
+ * - 値はスクレイプのたびに統計から読み取るため、リクエストの処理には影響しません
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatisticsService implements MeterBinder {
+
+    /**
+     * 統計を返すリージョン（application.confで件数の上限を設定しているもの）
+     */
+    static final List<String> REGIONS = List.of("tasks", "users", TaskRepository.TASK_QUERY_CACHE_REGION);
+
+    /**
+     * EntityManagerFactory（HibernateのSessionFactoryを取り出すために使用）
+     */
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * タスク一覧のレスポンスキャッシュ
+     */
+    private final TaskListCache taskListCache;
+
+    /**
+     * リージョンごとの統計情報を取得
+     *
+     * @return リージョンごとの統計情報のリスト（最後がタスク一覧のレスポンスキャッシュ）
+     */
+    public List<CacheRegionStatsDto> getRegionStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<CacheRegionStatsDto> result = new ArrayList<>();
+        for (String region : REGIONS) {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            if (regionStatistics == null) {
+                continue;
+            }
+            long hits = regionStatistics.getHitCount();
+            long misses = regionStatistics.getMissCount();
+            double hitRatio = hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+            result.add(new CacheRegionStatsDto(region, hits, misses, regionStatistics.getPutCount(),
+                    evictionCount(region), hitRatio));
+        }
+        result.add(taskListCache.stats());
+        return result;
+    }
+
+    /**
+     * キャッシュの統計をMicrometerに登録（Spring Bootが起動時に呼び出します）
+     *
+     * 実務でのポイント：
+     * - ヒット率は、Prometheus側で rate(cache_gets_total{result="hit"}) / rate(cache_gets_total) として
+     * 直近の値を計算できます（cache.hit.ratioは起動時からの累計です）
+     *
+     * @param registry MeterRegistry
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : REGIONS) {
+            bindRegion(registry, region,
+                    service -> service.regionCount(region, CacheRegionStatistics::getHitCount),
+                    service -> service.regionCount(region, CacheRegionStatistics::getMissCount),
+                    service -> service.regionCount(region, CacheRegionStatistics::getPutCount));
+        }
+        bindRegion(registry, TaskListCache.REGION,
+                service -> service.taskListCache.stats().getHitCount(),
+                service -> service.taskListCache.stats().getMissCount(),
+                service -> service.taskListCache.stats().getPutCount());
+    }
+
+    private void bindRegion(MeterRegistry registry, String region,
+            ToLongFunction<CacheStatisticsService> hits,
+            ToLongFunction<CacheStatisticsService> misses,
+            ToLongFunction<CacheStatisticsService> puts) {
+        FunctionCounter.builder("cache.gets", this, service -> hits.applyAsLong(service))
+                .tags("cache", region, "result", "hit")
+                .description("キャッシュのヒット数")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", this, service -> misses.applyAsLong(service))
+                .tags("cache", region, "result", "miss")
+                .description("キャッシュのミス数")
+                .register(registry);
+        FunctionCounter.builder("cache.puts", this, service -> puts.applyAsLong(service))
+                .tags("cache", region)
+                .description("キャッシュへの格納数")
+                .register(registry);
+        Gauge.builder("cache.hit.ratio", this, service -> {
+                    long hitCount = hits.applyAsLong(service);
+                    long total = hitCount + misses.applyAsLong(service);
+                    return total == 0 ? 0 : (double) hitCount / total;
+                })
+                .tags("cache", region)
+                .description("キャッシュのヒット率（起動時からの累計）")
+                .register(registry);
+    }
+
+    /**
+     * Hibernateの統計から、リージョンの件数を取得
+     *
+     * @param region リージョン名
+     * @param count  取得する件数
+     * @return 件数（リージョンが存在しない場合は0）
+     */
+    private long regionCount(String region, ToLongFunction<CacheRegionStatistics> count) {
+        CacheRegionStatistics regionStatistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics()
+                .getCacheRegionStatistics(region);
+        return regionStatistics == null ? 0 : count.applyAsLong(regionStatistics);
+    }
+
+    /**
+     * JCacheの統計（JMX）から、追い出された件数を取得
+     *
+     * @param region リージョン名（JCacheのキャッシュ名）
+     * @return 追い出された件数（統計が無効な場合はnull）
+     */
+    private Long evictionCount(String region) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            Set<ObjectName> names = server.queryNames(
+                    new ObjectName("javax.cache:type=CacheStatistics,Cache=" + region + ",*"), null);
+            if (names.isEmpty()) {
+                return null;
+            }
+            long evictions = 0;
+            for (ObjectName name : names) {
+                evictions += JMX.newMXBeanProxy(server, name, CacheStatisticsMXBean.class).getCacheEvictions();
+            }
+            return evictions;
+        } catch (MalformedObjectNameException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanagement.backend.service;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * N-gram（バイグラム）トークナイザー
+ *
+ * このクラスの役割：
+ * - タスクのタイトル・詳細を、検索インデックス用のトークン（文字の断片）に分割する
+ * - 検索キーワードを、インデックスと照合するためのトークンに分割する
+ *
+ * なぜN-gramなのか：
+ * - 英語のように単語がスペースで区切られている言語では、単語単位で分割できます
+ * - しかし日本語には単語の区切りが無いため、スペース区切りのトークナイザーは使えません
+ * - N-gramは「連続するN文字」を機械的に切り出すため、辞書なしで日本語も扱えます
+ *
+ * 分割の例（インデックス側、1文字 + 2文字）：
+ * "買い物に行く" → 買, い, 物, に, 行, く, 買い, い物, 物に, に行, 行く
+ *
+ * 分割の例（検索キーワード側）：
+ * - "買い物" → 買い, い物（2文字以上の場合はバイグラムのみ）
+ * - "買" → 買（1文字の場合はユニグラム）
+ *
+ * 実務でのポイント：
+ * - 検索キーワードのすべてのバイグラムを含むタスクが、部分一致の候補になります
+ * - バイグラムの一致は部分一致の必要条件なので、最終的には文字列の包含で確認します
+ * - トライグラムにすると候補の絞り込みは強くなりますが、2文字のキーワードが検索できなくなります
+ * - 全角・半角の揺れ（"ＡＢＣ"と"ABC"）は、NFKC正規化で吸収します
+ */
+public final class NGramTokenizer {
+
+    /**
+     * インスタンス化を禁止（ユーティリティクラス）
+     */
+    private NGramTokenizer() {
+    }
+
+    /**
+     * 文字列を正規化
+     *
+     * 処理内容：
+     * - NFKC正規化（全角英数字 → 半角、半角カナ → 全角カナ など）
+     * - 小文字に統一（大文字小文字を区別しない検索のため）
+     *
+     * @param text 文字列（nullの場合は空文字として扱う）
+     * @return 正規化された文字列
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * インデックス用のトークンを生成（ユニグラム + バイグラム）
+     *
+     * 実務でのポイント：
+     * - ユニグラムも登録しておくことで、1文字のキーワードでも検索できます
+     * - 空白を含むトークンは検索に役立たないため登録しません
+     * - codePoints()で処理するため、絵文字などのサロゲートペアも1文字として扱います
+     *
+     * @param text 文字列
+     * @return トークンの集合（重複なし）
+     */
+    public static Set<String> indexTokens(String text) {
+        int[] codePoints = normalize(text).codePoints().toArray();
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (int i = 0; i < codePoints.length; i++) {
+            if (Character.isWhitespace(codePoints[i])) {
+                continue;
+            }
+            tokens.add(new String(codePoints, i, 1));
+            if (i + 1 < codePoints.length && !Character.isWhitespace(codePoints[i + 1])) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 検索キーワード用のトークンを生成
+     *
+     * 実務でのポイント：
+     * - 2文字以上の部分ではバイグラムのみを使用します（ユニグラムは候補が多すぎるため）
+     * - 空白で区切られた部分が1文字だけの場合は、ユニグラムを使用します
+     * - 空白のみのキーワードの場合は、空の集合を返します
+     *
+     * @param keyword 検索キーワード
+     * @return トークンの集合（重複なし）
+     */
+    public static Set<String> queryTokens(String keyword) {
+        Set<String> tokens = new LinkedHashSet<>();
+
+        for (String part : normalize(keyword).trim().split("\\s+")) {
+            int[] codePoints = part.codePoints().toArray();
+            if (codePoints.length == 1) {
+                tokens.add(part);
+            }
+            for (int i = 0; i + 1 < codePoints.length; i++) {
+                tokens.add(new String(codePoints, i, 2));
+            }
+        }
+        return tokens;
+    }
+}
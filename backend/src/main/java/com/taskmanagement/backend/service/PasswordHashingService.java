@@ -0,0 +1,244 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * パスワードのハッシュ化・検証サービス（専用のスレッドプールで実行）
+ *
+ * このServiceの役割：
+ * - BCryptによるハッシュ化（新規登録）と検証（ログイン）を、リクエストのスレッドではなく専用のスレッドで実行する
+ * - スレッド数と待ち行列の長さに上限を設け、あふれた場合はすぐに503を返す
+ *
+ * なぜ専用のスレッドプールが必要なのか：
+ * - BCryptは、意図的にCPUを長時間（1回あたり数十〜数百ms）使う処理です
+ * - リクエストのスレッドで実行すると、デプロイ直後などにログインが集中した場合、
+ * Tomcatのスレッドと全コアがBCryptで埋まり、タスクの一覧など他のAPIも応答できなくなります
+ * - 専用のスレッド数をコア数の一定の割合（core-share）までにすることで、
+ * ログインが集中しても、残りのコアで他のAPIを処理できます
+ *
+ * 待ち行列があふれた場合：
+ * - 待たせ続けると、クライアントのタイムアウトと再送でさらに負荷が増えるため、
+ * ServiceUnavailableException（503 + Retry-After）ですぐに断ります
+ * - 待ち行列に入った後も、timeout-msを超えた場合は処理を取り消して503を返します
+ *
+ * メトリクス：
+ * - auth.password.hashing：ハッシュ化・検証の計算時間（operation=encode / matches、待ち行列の時間は含まない）
+ * 検証はresult=match / mismatchで結果ごとに分けます（ハッシュ化はresult=none）
+ * - auth.password.hashing.queue：待ち行列のタスク数
+ * - auth.password.hashing.active：計算中のスレッド数
+ * - auth.password.hashing.rejected：待ち行列があふれた・待機時間を超えたために断った回数
+ *
+ * 実務でのポイント：
+ * - 呼び出し側（リクエストのスレッド）は結果を待つだけなので、仮想スレッドの場合はキャリアスレッドを手放して待機します
+ * - 待ち行列を含めたログインの応答時間は、http.server.requests（uri=/api/auth/login）で確認します
+ * - Prometheusでは、同じ名前のメトリクスはタグのキーを揃える必要があるため、ハッシュ化にもresultタグを付けます
+ */
+@Service
+public class PasswordHashingService {
+
+    /**
+     * 計算時間のメトリクス名
+     */
+    public static final String HASHING_METRIC = "auth.password.hashing";
+
+    /**
+     * 待ち行列のタスク数のメトリクス名
+     */
+    public static final String QUEUE_METRIC = "auth.password.hashing.queue";
+
+    /**
+     * 計算中のスレッド数のメトリクス名
+     */
+    public static final String ACTIVE_METRIC = "auth.password.hashing.active";
+
+    /**
+     * 断った回数のメトリクス名
+     */
+    public static final String REJECTED_METRIC = "auth.password.hashing.rejected";
+
+    /**
+     * 混雑時のエラーメッセージ
+     */
+    static final String BUSY_MESSAGE = "ログイン・登録が混み合っています。しばらくしてから再度お試しください";
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final ThreadPoolExecutor executor;
+
+    private final long timeoutMillis;
+
+    private final Timer encodeTimer;
+
+    private final Timer matchTimer;
+
+    private final Timer mismatchTimer;
+
+    private final MeterRegistry meterRegistry;
+
+    private final Counter rejected;
+
+    /**
+     * コンストラクタ（スレッド数をコア数の割合から決める）
+     *
+     * @param passwordEncoder PasswordEncoder（SecurityConfigのDelegatingPasswordEncoder）
+     * @param meterRegistry   メトリクスの登録先
+     * @param coreShare       app.password-hashing.core-share（ハッシュ化に使うコア数の割合。最低1スレッド）
+     * @param queueCapacity   app.password-hashing.queue-capacity（待ち行列の長さの上限）
+     * @param timeoutMillis   app.password-hashing.timeout-ms（待ち行列を含めて、結果を待つ時間の上限）
+     */
+    @Autowired
+    public PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            @Value("${app.password-hashing.core-share:0.5}") double coreShare,
+            @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${app.password-hashing.timeout-ms:5000}") long timeoutMillis) {
+        this(passwordEncoder, meterRegistry,
+                Math.max(1, (int) (Runtime.getRuntime().availableProcessors() * coreShare)),
+                queueCapacity, timeoutMillis);
+    }
+
+    /**
+     * コンストラクタ（スレッド数を指定する。テスト用）
+     *
+     * @param passwordEncoder PasswordEncoder
+     * @param meterRegistry   メトリクスの登録先
+     * @param threads         ハッシュ化に使うスレッド数
+     * @param queueCapacity   待ち行列の長さの上限
+     * @param timeoutMillis   結果を待つ時間の上限（ミリ秒）
+     */
+    PasswordHashingService(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+            int threads, int queueCapacity, long timeoutMillis) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMillis = timeoutMillis;
+        this.meterRegistry = meterRegistry;
+        // AbortPolicy（デフォルト）：待ち行列があふれた場合は、RejectedExecutionExceptionですぐに断る
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hashing-", 0).daemon().factory());
+
+        this.encodeTimer = Timer.builder(HASHING_METRIC)
+                .description("パスワードのハッシュ化・検証（BCrypt）の計算時間")
+                .tag("operation", "encode")
+                .tag("result", "none")
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder(HASHING_METRIC)
+                .description("パスワードのハッシュ化・検証（BCrypt）の計算時間")
+                .tag("operation", "matches")
+                .tag("result", "match")
+                .register(meterRegistry);
+        this.mismatchTimer = Timer.builder(HASHING_METRIC)
+                .description("パスワードのハッシュ化・検証（BCrypt）の計算時間")
+                .tag("operation", "matches")
+                .tag("result", "mismatch")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(REJECTED_METRIC)
+                .description("混雑のためにパスワードのハッシュ化・検証を断った回数")
+                .register(meterRegistry);
+        Gauge.builder(QUEUE_METRIC, executor, pool -> pool.getQueue().size())
+                .description("パスワードのハッシュ化・検証の待ち行列のタスク数")
+                .register(meterRegistry);
+        Gauge.builder(ACTIVE_METRIC, executor, ThreadPoolExecutor::getActiveCount)
+                .description("パスワードのハッシュ化・検証を計算中のスレッド数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * パスワードをハッシュ化（新規登録）
+     *
+     * @param rawPassword 平文のパスワード
+     * @return ハッシュ値
+     * @throws ServiceUnavailableException 待ち行列があふれた、または待機時間の上限を超えた場合
+     */
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.recordCallable(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * パスワードを検証（ログイン）
+     *
+     * 実務でのポイント：
+     * - 計算時間を、結果（match / mismatch）ごとに記録します
+     * （BCryptのコストを上げた場合に、ログインの計算時間への影響を確認するため）
+     *
+     * @param rawPassword     平文のパスワード
+     * @param encodedPassword 保存されているハッシュ値
+     * @return 一致する場合はtrue
+     * @throws ServiceUnavailableException 待ち行列があふれた、または待機時間の上限を超えた場合
+     */
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+            sample.stop(matches ? matchTimer : mismatchTimer);
+            return matches;
+        });
+    }
+
+    /**
+     * 保存されているハッシュを、ハッシュ化し直す必要があるか（方式が異なる、またはコストが現在の設定より低いか）
+     *
+     * 実務でのポイント：
+     * - ハッシュ値の接頭辞とコストを読むだけで、BCryptの計算は行わないため、専用のスレッドでは実行しません
+     *
+     * @param encodedPassword 保存されているハッシュ値
+     * @return ハッシュ化し直す必要がある場合はtrue
+     */
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 専用のスレッドで実行し、結果を待つ
+     */
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("パスワードのハッシュ化に失敗しました", e.getCause());
+        }
+    }
+
+    /**
+     * アプリケーションの終了時にスレッドを停止
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,342 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.TaskChangeToken;
+import com.taskmanagement.backend.dto.TaskChangesResponseDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.exception.ChangeTokenExpiredException;
+import com.taskmanagement.backend.model.Task;
+import com.taskmanagement.backend.model.TaskChangeHorizon;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.model.TaskTombstone;
+import com.taskmanagement.backend.repository.TaskChangeHorizonRepository;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.repository.TaskTombstoneRepository;
+import com.taskmanagement.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * タスクの差分同期サービス
+ *
+ * このServiceの役割：
+ * - タスクを変更するトランザクションに、変更番号（Task.changeSeq）を採番する
+ * - タスクを削除したときに、削除記録（TaskTombstone）を作成する
+ * - 前回の同期以降の変更（作成・更新・削除）を返す（GET /api/tasks/changes）
+ *
+ * 変更番号の採番：
+ * 1. ユーザーの行をロックする（SELECT ... FOR UPDATE）
+ * 2. データベースのシーケンス（task_changes_seq）から番号を取得する
+ * 3. ロックはコミットまで保持されるため、同じユーザーの次のトランザクションは、
+ * このトランザクションのコミット後に番号を取得します
+ *
+ * なぜロックが必要なのか：
+ * - シーケンスだけでは、「番号10のトランザクションより先に、番号11のトランザクションがコミットされる」ことがあります
+ * - その間に同期したクライアントは11まで受け取り、後からコミットされた10を取りこぼします
+ * - ユーザー単位でロックすることで、同じユーザーの変更は必ず番号の順にコミットされます
+ *
+ * 実務でのポイント：
+ * - 同期は常にユーザー単位のため、ロックもユーザー単位で十分です（他のユーザーの書き込みは待たされません）
+ * - 変更番号はデータベースが採番するため、サーバーの時計のずれや巻き戻りの影響を受けません
+ *
+ * 削除記録の保持期間：
+ * - 保持期間を過ぎた削除記録は、TaskTombstonePurgerが定期的に削除します（purgeTombstones()）
+ * - 削除した位置は、ユーザーごとに削除位置（TaskChangeHorizon）として記録します
+ * - 削除位置より前のトークンで同期すると、受け取っていない削除を返せないため、410（Gone）を返し、
+ * クライアントに最初から同期し直してもらいます
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskChangeService {
+
+    /**
+     * 1回の同期で返す変更の件数（limitを省略した場合）
+     */
+    public static final int DEFAULT_CHANGES_LIMIT = 500;
+
+    /**
+     * 1回の同期で返す変更の最大件数
+     */
+    public static final int MAX_CHANGES_LIMIT = 1000;
+
+    /**
+     * 変更番号のシーケンス名（V4のマイグレーションで作成）
+     */
+    static final String CHANGE_SEQUENCE = "task_changes_seq";
+
+    private final EntityManager entityManager;
+
+    private final UserRepository userRepository;
+
+    private final TaskRepository taskRepository;
+
+    private final TaskTombstoneRepository taskTombstoneRepository;
+
+    private final TaskChangeHorizonRepository taskChangeHorizonRepository;
+
+    /**
+     * 変更番号を採番（タスクを変更するトランザクションの最初に呼び出す）
+     *
+     * 実務でのポイント：
+     * - シーケンスを取得するSQLは、Hibernateのダイアレクトから取得します
+     * （H2とPostgreSQLで構文が異なるため）
+     * - FlushModeType.COMMITにより、ネイティブクエリの実行前に永続化コンテキストがフラッシュされないようにします
+     * - ユーザーが存在しない場合もロックせずに採番します（その後のUPDATE/DELETEが0行になり、404になります）
+     *
+     * @param userId ユーザーID
+     * @return 変更番号
+     */
+    @Transactional
+    public long nextChangeSeq(Long userId) {
+        userRepository.findByIdForUpdate(userId);
+
+        String sql = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices()
+                .getDialect()
+                .getSequenceSupport()
+                .getSequenceNextValString(CHANGE_SEQUENCE);
+        Number changeSeq = (Number) entityManager.createNativeQuery(sql)
+                .setFlushMode(FlushModeType.COMMIT)
+                .getSingleResult();
+        return changeSeq.longValue();
+    }
+
+    /**
+     * タスク1件の削除記録を作成（削除時）
+     *
+     * @param userId    ユーザーID
+     * @param taskId    タスクID
+     * @param changeSeq 変更番号
+     */
+    @Transactional
+    public void recordDeletion(Long userId, Long taskId, long changeSeq) {
+        taskTombstoneRepository.save(new TaskTombstone(taskId, userId, changeSeq, Task.currentTimestamp()));
+    }
+
+    /**
+     * IDで指定したタスクの削除記録を一括作成（一括削除時）
+     *
+     * 実務でのポイント：
+     * - タスクを削除する前に呼び出します（削除するタスクをtasksテーブルから選ぶため）
+     *
+     * @param userId    ユーザーID
+     * @param taskIds   タスクIDのリスト
+     * @param changeSeq 変更番号
+     */
+    @Transactional
+    public void recordDeletions(Long userId, Collection<Long> taskIds, long changeSeq) {
+        taskTombstoneRepository.insertByUserIdAndIdIn(userId, taskIds, changeSeq, Task.currentTimestamp());
+    }
+
+    /**
+     * ステータス・優先度で指定したタスクの削除記録を一括作成（一括削除時）
+     *
+     * 実務でのポイント：
+     * - タスクを削除する前に呼び出します（削除するタスクをtasksテーブルから選ぶため）
+     *
+     * @param userId    ユーザーID
+     * @param status    対象のステータス（nullの場合はフィルタしない）
+     * @param priority  対象の優先度（nullの場合はフィルタしない）
+     * @param changeSeq 変更番号
+     */
+    @Transactional
+    public void recordDeletions(Long userId, TaskStatus status, TaskPriority priority, long changeSeq) {
+        taskTombstoneRepository.insertByUserIdWithFilters(
+                userId, status, priority, changeSeq, Task.currentTimestamp());
+    }
+
+    /**
+     * 前回の同期以降の変更を取得
+     *
+     * 処理の流れ：
+     * 1. 変更されたタスクと削除記録の位置（変更番号・ID）を、それぞれlimit + 1件取得
+     * 2. 2つのリストを (変更番号, ID) の順に並べ、先頭からlimit件を選ぶ
+     * 3. 選んだタスクの内容を、IDでまとめて取得（DTOプロジェクション）
+     * 4. 削除位置を位置の取得の前後で読み、トークンが古すぎないかを確認する
+     *
+     * なぜ位置だけを先に取得するのか：
+     * - 作成・更新と削除を合わせてlimit件にするため、どちらを何件返すかは並べてみるまで分かりません
+     * - 位置の取得はインデックスだけで完了し、内容は実際に返すタスクの分だけ読み込みます
+     *
+     * なぜ削除位置を前後で2回読むのか：
+     * - 位置の取得中に削除記録の削除がコミットされると、削除記録の位置が結果から抜け落ちます
+     * - 確認には後で読んだ削除位置を使います（抜け落ちた削除記録があれば、必ず後の読み取りに反映されています）
+     * - nextTokenには前に読んだ削除位置を記録します（後の読み取りだけに反映された削除は、次回の同期で検出されます）
+     *
+     * @param userId ユーザーID
+     * @param since  前回のレスポンスのnextToken（nullの場合は最初の同期）
+     * @param limit  1回で返す変更の最大件数（1〜MAX_CHANGES_LIMIT）
+     * @return 変更されたタスク、削除されたタスクのID、次回のトークン
+     * @throws IllegalArgumentException limitが範囲外、またはトークンが不正な場合
+     * @throws ChangeTokenExpiredException トークンより後の削除記録が、トークンの発行後に削除された場合
+     */
+    public TaskChangesResponseDto findChanges(Long userId, String since, int limit) {
+        if (limit < 1 || limit > MAX_CHANGES_LIMIT) {
+            throw new IllegalArgumentException("limitは1〜" + MAX_CHANGES_LIMIT + "の範囲で指定してください");
+        }
+        TaskChangeToken position = TaskChangeToken.decode(since);
+        PageRequest pageRequest = PageRequest.of(0, limit + 1);
+
+        TaskChangeToken horizon = findHorizon(userId);
+        List<TaskChangeToken> taskPositions = taskRepository.findChangePositions(
+                userId, position.getChangeSeq(), position.getId(), pageRequest);
+        List<TaskChangeToken> tombstonePositions = taskTombstoneRepository.findChangePositions(
+                userId, position.getChangeSeq(), position.getId(), pageRequest);
+        requireNotExpired(position, findHorizon(userId));
+
+        // 2つのリストを (変更番号, ID) の順にマージし、先頭からlimit件を選ぶ
+        List<Long> changedIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        TaskChangeToken last = position;
+        int taskIndex = 0;
+        int tombstoneIndex = 0;
+        while (changedIds.size() + deletedIds.size() < limit
+                && (taskIndex < taskPositions.size() || tombstoneIndex < tombstonePositions.size())) {
+            boolean takeTask = tombstoneIndex >= tombstonePositions.size()
+                    || (taskIndex < taskPositions.size()
+                            && tombstonePositions.get(tombstoneIndex).isAfter(taskPositions.get(taskIndex)));
+            if (takeTask) {
+                last = taskPositions.get(taskIndex++);
+                changedIds.add(last.getId());
+            } else {
+                last = tombstonePositions.get(tombstoneIndex++);
+                deletedIds.add(last.getId());
+            }
+        }
+        boolean hasMore = taskIndex < taskPositions.size() || tombstoneIndex < tombstonePositions.size();
+
+        return new TaskChangesResponseDto(findDtosInOrder(userId, changedIds), deletedIds,
+                last.withHorizon(horizon).encode(), hasMore);
+    }
+
+    /**
+     * 保持期間を過ぎた削除記録を削除（TaskTombstonePurgerから定期的に呼び出す）
+     *
+     * 処理の流れ：
+     * 1. 削除日時がcutoffより前の削除記録を、古い順にbatchSize件取得
+     * 2. ユーザーごとに、削除する削除記録のうち最も後ろの位置を、削除位置として記録する
+     * 3. 削除記録を削除する
+     *
+     * 実務でのポイント：
+     * - 削除位置の更新と削除記録の削除は、同じトランザクションでコミットします
+     * （削除記録だけが消え、削除位置が進まない状態をfindChanges()に見せないため）
+     * - 削除位置は後ろにだけ進めます（変更番号の順と削除日時の順は、厳密には一致しないため）
+     *
+     * @param cutoff    この日時より前に削除された削除記録を削除する
+     * @param batchSize 1回で削除する最大件数
+     * @return 削除した件数（batchSize未満の場合は、対象をすべて削除済み）
+     */
+    @Transactional
+    public int purgeTombstones(LocalDateTime cutoff, int batchSize) {
+        List<TaskTombstone> expired = taskTombstoneRepository.findExpired(cutoff, PageRequest.of(0, batchSize));
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        // ユーザーごとに、削除する削除記録のうち最も後ろの位置を求める
+        Map<Long, TaskChangeToken> lastPositions = new HashMap<>();
+        List<Long> taskIds = new ArrayList<>(expired.size());
+        for (TaskTombstone tombstone : expired) {
+            TaskChangeToken tombstonePosition = new TaskChangeToken(tombstone.getChangeSeq(), tombstone.getTaskId());
+            lastPositions.merge(tombstone.getUserId(), tombstonePosition,
+                    (current, candidate) -> candidate.isAfter(current) ? candidate : current);
+            taskIds.add(tombstone.getTaskId());
+        }
+
+        LocalDateTime now = Task.currentTimestamp();
+        Map<Long, TaskChangeHorizon> horizons = new HashMap<>();
+        for (TaskChangeHorizon horizon : taskChangeHorizonRepository.findAllById(lastPositions.keySet())) {
+            horizons.put(horizon.getUserId(), horizon);
+        }
+        List<TaskChangeHorizon> created = new ArrayList<>();
+        lastPositions.forEach((userId, lastPosition) -> {
+            TaskChangeHorizon horizon = horizons.get(userId);
+            if (horizon == null) {
+                created.add(new TaskChangeHorizon(userId, lastPosition.getChangeSeq(), lastPosition.getId(), now));
+            } else if (lastPosition.isAfter(new TaskChangeToken(horizon.getChangeSeq(), horizon.getTaskId()))) {
+                horizon.setChangeSeq(lastPosition.getChangeSeq());
+                horizon.setTaskId(lastPosition.getId());
+                horizon.setPurgedAt(now);
+            }
+        });
+        taskChangeHorizonRepository.saveAll(created);
+
+        return taskTombstoneRepository.deleteByTaskIdIn(taskIds);
+    }
+
+    /**
+     * ユーザーの削除位置を取得
+     *
+     * @param userId ユーザーID
+     * @return 削除位置（削除記録を削除したことが無い場合はFIRST）
+     */
+    private TaskChangeToken findHorizon(Long userId) {
+        return taskChangeHorizonRepository.findPositionByUserId(userId).orElse(TaskChangeToken.FIRST);
+    }
+
+    /**
+     * トークンより後の削除記録が、トークンの発行後に削除されていないことを確認
+     *
+     * 410（Gone）にする条件（すべてを満たす場合）：
+     * - 最初の同期ではない（最初から同期する場合は、削除を受け取る必要がありません）
+     * - 削除位置が、トークンの発行時より後ろに進んでいる
+     * - 削除位置が、トークンの位置より後ろにある（受け取っていない削除記録が削除された）
+     *
+     * @param position トークン
+     * @param horizon  現在の削除位置
+     * @throws ChangeTokenExpiredException 受け取っていない削除記録が削除された場合
+     */
+    private void requireNotExpired(TaskChangeToken position, TaskChangeToken horizon) {
+        if (position.isAfter(TaskChangeToken.FIRST)
+                && horizon.isAfter(position.horizon())
+                && horizon.isAfter(position)) {
+            throw new ChangeTokenExpiredException(
+                    "同期トークンの有効期限が切れています。sinceを省略して最初から同期し直してください");
+        }
+    }
+
+    /**
+     * IDで指定したタスクを、指定した順に取得
+     *
+     * 実務でのポイント：
+     * - 位置を取得した後に削除されたタスクは、結果に含まれません
+     * （削除記録の変更番号はnextTokenより後になるため、次回の同期で削除として返されます）
+     *
+     * @param userId ユーザーID
+     * @param ids    タスクIDのリスト
+     * @return タスクのリスト（idsの順）
+     */
+    private List<TaskResponseDto> findDtosInOrder(Long userId, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TaskResponseDto> tasksById = new HashMap<>();
+        for (TaskResponseDto task : taskRepository.findDtosByUserIdAndIdIn(userId, ids, null, null)) {
+            tasksById.put(task.getId(), task);
+        }
+
+        List<TaskResponseDto> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TaskResponseDto task = tasksById.get(id);
+            if (task != null) {
+                result.add(task);
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,548 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.TaskEventDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Deque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * タスクの変更通知の配信（Server-Sent Events）
+ *
+ * このクラスの役割：
+ * - GET /api/tasks/stream の接続（SseEmitter）を、ユーザーごとに管理する
+ * - TaskServiceの書き込みメソッドから受け取ったイベントを、そのユーザーのすべての接続に送信する
+ *
+ * なぜポーリングではなくプッシュなのか：
+ * - 開いているタブごとに一覧を定期的に取得すると、変更が無くてもクエリが実行されます
+ * - プッシュでは、変更があったときだけ通知し、クライアントは差分同期（GET /api/tasks/changes）で取得します
+ *
+ * 送信の仕組み：
+ * - publish()は、接続ごとのキューにイベントを追加するだけで、送信を待ちません
+ * - 送信は、接続ごとに仮想スレッドを1つ起動し、キューが空になるまで順番に行います
+ * - 送信していない接続（待機中の接続）は、スレッドもキューの領域も使用しません
+ *
+ * なぜ共有のスレッドプールではなく、接続ごとの仮想スレッドなのか：
+ * - SseEmitter.send()はブロッキングI/Oで、受信しないクライアントへの送信は、送信バッファが空くまで戻りません
+ * - 少数の共有スレッドで送信すると、受信しないクライアントが数個あるだけでスレッドがすべて止まり、
+ * 他のユーザーへの通知も届かなくなります（ハートビートも同じスレッドで送るため、止まった分だけ溜まります）
+ * - 仮想スレッドでは、送信が止まってもその接続の仮想スレッドが待つだけで、他の接続の送信は止まりません
+ *
+ * 遅いクライアントの扱い：
+ * - キューには最大queue-capacity件までしか溜めません（接続あたりのメモリの上限）
+ * - あふれた場合は、溜まっているイベントを捨て、代わりにRESYNCを1件だけ送ります（間引き）
+ * - 追いつかないまま間引きがmax-overflows回を超えた接続は、切断します
+ * - 1回の送信がwrite-timeout-msを超えても終わらない接続は、送信中のスレッドに割り込んで切断します
+ * （EventSourceは自動的に再接続するため、再接続後に差分同期で追いつきます）
+ *
+ * 実務でのポイント：
+ * - イベントはコミット後に送信します（ロールバックされた変更を通知しないため）
+ * - 一定間隔でコメント行（ハートビート）を送り、切断された接続を検出します
+ * - 1ユーザーあたりの接続数を制限し、上限を超えた場合は古い接続から切断します
+ *
+ * 注意点：
+ * - サーバーを複数台で動かす場合、他のサーバーで発生した変更は通知されません
+ * （Redis Pub/Subなどで、サーバー間でイベントを共有する必要があります）
+ * - 1台で保持できる接続数は計測していません。接続ごとのメモリ（SseEmitter・Tomcatのバッファ）と
+ * ファイルディスクリプタの上限に依存するため、server.tomcat.max-connectionsは負荷試験で確認して決めてください
+ */
+@Slf4j
+@Component
+public class TaskEventBroadcaster {
+
+    /**
+     * クライアントが再接続するまでの待ち時間（ミリ秒、SSEのretryフィールド）
+     */
+    private static final long RECONNECT_MILLIS = 3_000;
+
+    /**
+     * 1ユーザーあたりの接続数の上限
+     */
+    private final int maxConnectionsPerUser;
+
+    /**
+     * 接続ごとに溜めるイベントの上限
+     */
+    private final int queueCapacity;
+
+    /**
+     * 追いつかないまま間引きを繰り返せる回数（超えると切断）
+     */
+    private final int maxOverflows;
+
+    /**
+     * 接続のタイムアウト（ミリ秒）
+     */
+    private final long timeoutMillis;
+
+    /**
+     * 1回の送信のタイムアウト（ナノ秒、超えると切断）
+     */
+    private final long writeTimeoutNanos;
+
+    /**
+     * ユーザーごとの接続（古い順）
+     */
+    private final ConcurrentMap<Long, Deque<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 接続数（全ユーザーの合計）
+     */
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * 配信用のExecutor（送信ごとに仮想スレッドを起動）
+     */
+    private final ExecutorService dispatcher;
+
+    /**
+     * ハートビートと、送信のタイムアウトの確認用のスケジューラー
+     */
+    private final ScheduledExecutorService heartbeat;
+
+    /**
+     * コンストラクタ
+     *
+     * @param maxConnectionsPerUser app.task-events.max-connections-per-user（1ユーザーあたりの接続数の上限）
+     * @param queueCapacity         app.task-events.queue-capacity（接続ごとに溜めるイベントの上限）
+     * @param maxOverflows          app.task-events.max-overflows（追いつかないまま間引きできる回数）
+     * @param timeoutMillis         app.task-events.timeout-ms（接続のタイムアウト。クライアントは自動的に再接続します）
+     * @param heartbeatMillis       app.task-events.heartbeat-ms（ハートビートの間隔）
+     * @param writeTimeoutMillis    app.task-events.write-timeout-ms（1回の送信のタイムアウト。超えると切断）
+     */
+    public TaskEventBroadcaster(
+            @Value("${app.task-events.max-connections-per-user:8}") int maxConnectionsPerUser,
+            @Value("${app.task-events.queue-capacity:32}") int queueCapacity,
+            @Value("${app.task-events.max-overflows:3}") int maxOverflows,
+            @Value("${app.task-events.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${app.task-events.heartbeat-ms:30000}") long heartbeatMillis,
+            @Value("${app.task-events.write-timeout-ms:10000}") long writeTimeoutMillis) {
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.queueCapacity = queueCapacity;
+        this.maxOverflows = maxOverflows;
+        this.timeoutMillis = timeoutMillis;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.dispatcher = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("task-events-", 0).factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-events-heartbeat").daemon().factory());
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeats, heartbeatMillis, heartbeatMillis,
+                TimeUnit.MILLISECONDS);
+        // タイムアウトの半分の間隔で確認し、送信が止まった接続をwrite-timeout-msの1.5倍以内に切断する
+        long checkMillis = Math.max(1, writeTimeoutMillis / 2);
+        this.heartbeat.scheduleAtFixedRate(this::closeStalledSubscribers, checkMillis, checkMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 接続を登録
+     *
+     * 処理の流れ：
+     * 1. SseEmitterを作成し、最初にretry（再接続の待ち時間）を送信する
+     * 2. ユーザーの接続に追加し、上限を超えた場合は最も古い接続を切断する
+     * 3. 切断・タイムアウト・エラー時に、接続を自動的に削除する
+     *
+     * @param userId ユーザーID
+     * @return SseEmitter（コントローラーから返す）
+     */
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = createEmitter(userId);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> {
+            remove(subscriber);
+            emitter.complete();
+        });
+        emitter.onError(ex -> remove(subscriber));
+
+        try {
+            emitter.send(SseEmitter.event().comment("connected").reconnectTime(RECONNECT_MILLIS));
+        } catch (IOException ex) {
+            emitter.completeWithError(ex);
+            return emitter;
+        }
+
+        Subscriber[] evicted = new Subscriber[1];
+        subscribers.compute(userId, (id, userSubscribers) -> {
+            Deque<Subscriber> result = (userSubscribers != null) ? userSubscribers : new ConcurrentLinkedDeque<>();
+            result.addLast(subscriber);
+            if (result.size() > maxConnectionsPerUser) {
+                evicted[0] = result.peekFirst();
+            }
+            return result;
+        });
+        connections.incrementAndGet();
+
+        if (evicted[0] != null) {
+            evicted[0].close();
+        }
+        return emitter;
+    }
+
+    /**
+     * ユーザーのすべての接続にイベントを送信
+     *
+     * 実務でのポイント：
+     * - トランザクション中に呼び出された場合は、コミット後に送信します
+     * - キューに追加するだけのため、呼び出し元（書き込みのリクエスト）は送信を待ちません
+     *
+     * @param userId ユーザーID
+     * @param event  イベント
+     */
+    public void publish(Long userId, TaskEventDto event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(userId, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dispatch(userId, event);
+            }
+        });
+    }
+
+    /**
+     * ユーザーのすべての接続にイベントを送信（タスクIDを指定）
+     *
+     * @param userId  ユーザーID
+     * @param type    イベントの種類
+     * @param taskIds 変更されたタスクのID
+     */
+    public void publish(Long userId, TaskEventDto.Type type, List<Long> taskIds) {
+        publish(userId, TaskEventDto.of(type, taskIds));
+    }
+
+    /**
+     * 現在の接続数（全ユーザーの合計）
+     *
+     * @return 接続数
+     */
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    /**
+     * シャットダウン時に、すべての接続を閉じてスレッドを停止
+     */
+    @PreDestroy
+    public void shutdown() {
+        heartbeat.shutdownNow();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::close));
+        dispatcher.shutdownNow();
+    }
+
+    /**
+     * SseEmitterを作成
+     *
+     * 実務でのポイント：
+     * - テストで、受信しないクライアント（送信が戻らないSseEmitter）に置き換えるために分けています
+     *
+     * @param userId ユーザーID
+     * @return SseEmitter
+     */
+    SseEmitter createEmitter(Long userId) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    /**
+     * ユーザーの接続のキューにイベントを追加
+     *
+     * @param userId ユーザーID
+     * @param event  イベント
+     */
+    private void dispatch(Long userId, TaskEventDto event) {
+        Deque<Subscriber> userSubscribers = subscribers.get(userId);
+        if (userSubscribers == null) {
+            return;
+        }
+        for (Subscriber subscriber : userSubscribers) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    /**
+     * すべての接続にハートビートを要求
+     */
+    private void sendHeartbeats() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::requestHeartbeat));
+    }
+
+    /**
+     * 送信がwrite-timeout-msを超えても終わらない接続を切断
+     *
+     * 実務でのポイント：
+     * - このスレッドではSseEmitterを操作しません（送信中のスレッドがSseEmitterのロックを保持しているため、待たされます）
+     * - 接続を削除してから送信中のスレッドに割り込み、SseEmitterの終了は送信中のスレッドに任せます
+     */
+    private void closeStalledSubscribers() {
+        long now = System.nanoTime();
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(subscriber -> {
+            if (subscriber.isStalled(now)) {
+                log.debug("タスクの変更通知の送信が終わらないため切断します（userId={}）", subscriber.userId);
+                subscriber.close();
+            }
+        }));
+    }
+
+    /**
+     * 接続を削除
+     *
+     * @param subscriber 接続
+     */
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscribers.computeIfPresent(subscriber.userId, (id, userSubscribers) -> {
+            userSubscribers.remove(subscriber);
+            return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+        connections.decrementAndGet();
+    }
+
+    /**
+     * 1つの接続
+     *
+     * 実務でのポイント：
+     * - 送信は同時に1つのスレッドだけが行います（scheduledフラグ）
+     * - キューは、イベントを追加したときだけ領域を使用します（待機中の接続は空のまま）
+     * - 送信中は、送信を始めた時刻と送信中のスレッドを記録します（送信のタイムアウトの確認に使用）
+     */
+    private final class Subscriber {
+
+        private final Long userId;
+
+        private final SseEmitter emitter;
+
+        /**
+         * 送信待ちのイベント
+         */
+        private final Queue<TaskEventDto> queue = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 送信待ちのイベント数（ConcurrentLinkedQueue.size()はO(n)のため、別に数える）
+         */
+        private final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * キューがあふれたかどうか（trueの場合、次の送信でRESYNCを送る）
+         */
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+
+        /**
+         * ハートビートを送る必要があるかどうか
+         */
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+
+        /**
+         * 配信用のスレッドに送信を依頼済みかどうか
+         */
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /**
+         * 削除済みかどうか
+         */
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * 送信を始めた時刻（System.nanoTime()、送信中でない場合は0）
+         */
+        private volatile long sendStartedNanos;
+
+        /**
+         * 送信中のスレッド（送信していない場合はnull）
+         */
+        private final AtomicReference<Thread> sender = new AtomicReference<>();
+
+        /**
+         * 追いつかないまま間引いた回数（送信スレッドのみが参照する）
+         */
+        private int overflows;
+
+        Subscriber(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * イベントをキューに追加（あふれた場合は間引きを予約）
+         *
+         * @param event イベント
+         */
+        void enqueue(TaskEventDto event) {
+            if (pending.incrementAndGet() > queueCapacity) {
+                pending.decrementAndGet();
+                overflowed.set(true);
+            } else {
+                queue.offer(event);
+            }
+            schedule();
+        }
+
+        /**
+         * ハートビートを予約
+         */
+        void requestHeartbeat() {
+            heartbeatDue.set(true);
+            schedule();
+        }
+
+        /**
+         * 接続を切断して削除
+         *
+         * 実務でのポイント：
+         * - 送信中の場合は、送信中のスレッドに割り込んで送信を止めます
+         * - SseEmitterの終了は、送信が止まるまで待つ可能性があるため、別の仮想スレッドで行います
+         * （呼び出し元のハートビートのスレッドや、新しい接続のリクエストのスレッドを待たせないため）
+         */
+        void close() {
+            remove(this);
+            Thread thread = sender.get();
+            if (thread != null && sendStartedNanos != 0 && thread != Thread.currentThread()) {
+                thread.interrupt();
+            }
+            try {
+                dispatcher.execute(emitter::complete);
+            } catch (RejectedExecutionException ex) {
+                // シャットダウン中（接続はコンテナが閉じる）
+            }
+        }
+
+        /**
+         * 送信がwrite-timeout-msを超えても終わっていないかどうか
+         *
+         * @param now 現在の時刻（System.nanoTime()）
+         * @return 超えている場合はtrue
+         */
+        boolean isStalled(long now) {
+            long started = sendStartedNanos;
+            return started != 0 && now - started > writeTimeoutNanos;
+        }
+
+        /**
+         * 配信用のスレッドに送信を依頼（依頼済みの場合は何もしない）
+         */
+        private void schedule() {
+            if (closed.get() || !scheduled.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException ex) {
+                // シャットダウン中
+                scheduled.set(false);
+            }
+        }
+
+        /**
+         * 送信待ちが無くなるまで送信
+         */
+        private void drain() {
+            sender.set(Thread.currentThread());
+            try {
+                while (!closed.get()) {
+                    if (sendNext()) {
+                        continue;
+                    }
+                    scheduled.set(false);
+                    // フラグを戻す間に追加されたイベントを取りこぼさないよう、もう一度確認する
+                    if (!hasPending() || !scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // クライアントが切断した、または送信が止まったため割り込まれた
+                // （onErrorでも削除されるが、次の送信を止めるためにここでも削除する）
+                log.debug("タスクの変更通知を送信できませんでした（userId={}）", userId, ex);
+                remove(this);
+                emitter.completeWithError(ex);
+            } finally {
+                // 次の送信のスレッドが既に記録している場合は、上書きしない
+                sender.compareAndSet(Thread.currentThread(), null);
+            }
+        }
+
+        /**
+         * 次のイベントを1件送信
+         *
+         * @return 送信した場合はtrue、送信待ちが無い場合はfalse
+         * @throws IOException 接続が切断されている場合
+         */
+        private boolean sendNext() throws IOException {
+            if (overflowed.getAndSet(false)) {
+                while (queue.poll() != null) {
+                    pending.decrementAndGet();
+                }
+                if (++overflows > maxOverflows) {
+                    log.debug("タスクの変更通知に追いつかないため切断します（userId={}）", userId);
+                    close();
+                    return false;
+                }
+                send(TaskEventDto.of(TaskEventDto.Type.RESYNC, List.of()));
+                return true;
+            }
+
+            TaskEventDto event = queue.poll();
+            if (event != null) {
+                pending.decrementAndGet();
+                send(event);
+                return true;
+            }
+
+            if (heartbeatDue.getAndSet(false)) {
+                write(SseEmitter.event().comment("heartbeat"));
+                return true;
+            }
+
+            // キューが空になった（追いついた）
+            overflows = 0;
+            return false;
+        }
+
+        private boolean hasPending() {
+            return overflowed.get() || pending.get() > 0 || heartbeatDue.get();
+        }
+
+        private void send(TaskEventDto event) throws IOException {
+            write(SseEmitter.event()
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+        /**
+         * 1回の送信（送信を始めた時刻を記録する）
+         *
+         * @param builder 送信するイベント
+         * @throws IOException 接続が切断されている場合、または送信が止まったため割り込まれた場合
+         */
+        private void write(SseEmitter.SseEventBuilder builder) throws IOException {
+            sendStartedNanos = System.nanoTime();
+            try {
+                emitter.send(builder);
+            } finally {
+                sendStartedNanos = 0;
+            }
+        }
+    }
+}
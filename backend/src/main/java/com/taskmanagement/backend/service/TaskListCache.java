@@ -0,0 +1,246 @@
+package com.taskmanagement.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanagement.backend.dto.CacheRegionStatsDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * タスク一覧のレスポンスキャッシュ（ユーザーごとの世代番号で無効化）
+ *
+ * このクラスの役割：
+ * - タスク一覧（GET /api/tasks、/status/{status}、/priority/{priority}、/filter）の結果を、
+ * JSONに変換済みのバイト列としてメモリに保持する
+ * - キャッシュにある場合は、データベースへの問い合わせもJacksonによる変換も行わずに返す
+ *
+ * 世代番号（generation）による無効化：
+ * - ユーザーごとに世代番号を持ち、キャッシュのエントリには作成時の世代番号を記録します
+ * - タスクを作成・更新・削除すると、そのユーザーの世代番号を新しい値に進めます（invalidate）
+ * - 世代番号が一致しないエントリは古いものとして扱い、作り直します
+ * - ユーザーのすべてのエントリを探して削除する必要がないため、無効化はO(1)です
+ *
+ * なぜコミット後に世代番号を進めるのか：
+ * - コミット前に進めると、その間に別のリクエストが「更新前のデータ」を読み、
+ * 新しい世代番号で保存してしまう可能性があります
+ * - 読み取り側は、データベースに問い合わせる前に世代番号を取得します
+ * - これにより、古いデータは必ず古い世代番号で保存され、以降は使用されません
+ *
+ * 実務でのポイント：
+ * - メモリの上限は、JSONのバイト数の合計で指定します（app.task-list-cache.max-bytes）
+ * - 上限を超えると、最近使われていないエントリから追い出されます
+ * - Hibernateのクエリキャッシュと異なり、他のユーザーの書き込みでは無効化されません
+ *
+ * 注意点：
+ * - サーバーを複数台で動かす場合、世代番号はサーバーごとに管理されるため、
+ * 他のサーバーでの更新はこのキャッシュに反映されません（Redisなどで世代番号を共有する必要があります）
+ */
+@Component
+public class TaskListCache {
+
+    /**
+     * 統計情報のリージョン名
+     */
+    public static final String REGION = "task-lists";
+
+    /**
+     * 世代番号を保持するユーザー数の上限
+     */
+    private static final int MAX_TRACKED_USERS = 100_000;
+
+    /**
+     * エントリごとのオーバーヘッド（キー・オブジェクトヘッダーなど）の見積もり（バイト）
+     */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    /**
+     * キャッシュのキー
+     *
+     * @param userId ユーザーID
+     * @param query  クエリの種類とパラメータ（例：「status:TODO」）
+     */
+    private record Key(Long userId, String query) {
+    }
+
+    /**
+     * キャッシュのエントリ
+     *
+     * @param generation 作成時のユーザーの世代番号
+     * @param json       タスク一覧のJSON
+     */
+    private record Entry(long generation, byte[] json) {
+    }
+
+    /**
+     * JSONへの変換に使用するObjectMapper（Spring MVCと同じ設定）
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * キャッシュを有効にするかどうか
+     */
+    private final boolean enabled;
+
+    /**
+     * タスク一覧のJSON
+     */
+    private final Cache<Key, Entry> entries;
+
+    /**
+     * ユーザーごとの世代番号
+     *
+     * 実務でのポイント：
+     * - 上限を超えて追い出された場合も、次回は新しい番号（sequenceから採番）で再登録されるため、
+     * 追い出される前のエントリと世代番号が一致することはありません
+     */
+    private final Cache<Long, Long> generations;
+
+    /**
+     * 世代番号の採番に使用するカウンター（全ユーザー共通）
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 起動時刻（version()に含め、再起動前の世代番号と区別する）
+     */
+    private final long startedAt = System.currentTimeMillis();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * コンストラクタ
+     *
+     * @param objectMapper ObjectMapper
+     * @param enabled      app.task-list-cache.enabled（falseの場合は毎回クエリを実行してJSONに変換する）
+     * @param maxBytes     app.task-list-cache.max-bytes（キャッシュするJSONの合計バイト数の上限）
+     */
+    public TaskListCache(
+            ObjectMapper objectMapper,
+            @Value("${app.task-list-cache.enabled:true}") boolean enabled,
+            @Value("${app.task-list-cache.max-bytes:67108864}") long maxBytes) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key key, Entry entry) -> entry.json().length + key.query().length() * 2 + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_USERS)
+                .build();
+    }
+
+    /**
+     * タスク一覧のJSONを取得（キャッシュに無い場合はloaderで取得して保存）
+     *
+     * @param userId ユーザーID
+     * @param query  クエリの種類とパラメータ（同じ結果になるリクエストは同じ文字列にすること）
+     * @param loader タスク一覧の取得処理（TaskServiceのメソッド）
+     * @return タスク一覧のJSON（UTF-8）
+     */
+    public byte[] get(Long userId, String query, Supplier<List<TaskResponseDto>> loader) {
+        if (!enabled) {
+            return toJson(loader.get());
+        }
+
+        // データベースに問い合わせる前に、世代番号を取得する
+        long generation = currentGeneration(userId);
+        Key key = new Key(userId, query);
+
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.generation() == generation) {
+            hits.increment();
+            return entry.json();
+        }
+
+        misses.increment();
+        byte[] json = toJson(loader.get());
+        entries.put(key, new Entry(generation, json));
+        return json;
+    }
+
+    /**
+     * ユーザーの現在の世代番号を取得
+     *
+     * @param userId ユーザーID
+     * @return 世代番号（ユーザーのタスクが変更されるたびに変わる）
+     */
+    public long currentGeneration(Long userId) {
+        return generations.get(userId, id -> sequence.incrementAndGet());
+    }
+
+    /**
+     * ユーザーのタスク一覧のバージョンを取得（ETagの元）
+     *
+     * 実務でのポイント：
+     * - 世代番号はサーバーの再起動で1から採番し直されるため、起動時刻と組み合わせます
+     * - 再起動前のETagを持つクライアントが、別の内容に対して304を受け取ることはありません
+     *
+     * @param userId ユーザーID
+     * @return バージョン（ユーザーのタスクが変更されるたびに変わる）
+     */
+    public String version(Long userId) {
+        return Long.toString(startedAt, 36) + "-" + currentGeneration(userId);
+    }
+
+    /**
+     * ユーザーのキャッシュを無効化（タスクの作成・更新・削除時）
+     *
+     * 実務でのポイント：
+     * - トランザクション中に呼び出された場合は、コミット後に世代番号を進めます
+     * - ロールバックされた場合は、データが変わっていないため何もしません
+     *
+     * @param userId ユーザーID
+     */
+    public void invalidate(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            generations.put(userId, sequence.incrementAndGet());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                generations.put(userId, sequence.incrementAndGet());
+            }
+        });
+    }
+
+    /**
+     * キャッシュの統計情報を取得
+     *
+     * @return 統計情報（putCountは、クエリを実行して保存した回数）
+     */
+    public CacheRegionStatsDto stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        double hitRatio = hitCount + missCount == 0 ? 0 : (double) hitCount / (hitCount + missCount);
+        return new CacheRegionStatsDto(REGION, hitCount, missCount, missCount,
+                entries.stats().evictionCount(), hitRatio);
+    }
+
+    /**
+     * タスク一覧をJSONに変換
+     *
+     * @param tasks タスク一覧
+     * @return JSON（UTF-8）
+     */
+    private byte[] toJson(List<TaskResponseDto> tasks) {
+        try {
+            return objectMapper.writeValueAsBytes(tasks);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,501 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.exception.ServiceUnavailableException;
+import com.taskmanagement.backend.model.Task;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskSearchIndexState;
+import com.taskmanagement.backend.model.TaskSearchToken;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.repository.TaskSearchIndexStateRepository;
+import com.taskmanagement.backend.repository.TaskSearchTokenRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * タスク検索サービス（N-gram転置インデックス）
+ *
+ * このServiceの役割：
+ * - タスクの作成・更新・削除に合わせて、検索インデックス（task_search_tokens）を更新する
+ * - キーワード検索を、LIKEの全件スキャンではなくインデックスで実行する
+ * - 検索結果を、スコア（一致した箇所の重み）の高い順に並べる
+ *
+ * 検索の流れ：
+ * 1. キーワードをバイグラムに分割（NGramTokenizer）
+ * 2. すべてのバイグラムを含み、ステータス・優先度の条件に一致するタスクIDを、スコア順に取得
+ * 3. タスクIDでタスクの内容を取得（DTOプロジェクション）
+ * 4. キーワードが実際に連続して含まれているかを確認し、スコア順に並べる
+ * 5. MAX_SEARCH_RESULTS件に満たない場合は、次の候補を取得して2.から繰り返す
+ *
+ * なぜ4.の確認が必要なのか：
+ * - 「買い物」のバイグラム（買い、い物）をすべて含んでいても、
+ * 「買い出しと小物」のように、連続した文字列としては含まれていない場合があります
+ * - インデックスは候補を絞り込むためのもので、最終的な判定は文字列の包含で行います
+ *
+ * キーワードの一致の規則（すべての経路で共通）：
+ * - タイトル・詳細・キーワードをNFKC正規化・小文字化し（NGramTokenizer.normalize）、キーワードを連続した文字列として含むこと
+ * - 一覧（search）・ページング（findPage）・一括操作（findMatchingIds）は、どれもこの規則で判定します
+ * - LIKEの部分一致は全角・半角を同一視しないため、経路によって一致するタスクが変わらないよう、LIKEは使用しません
+ *
+ * 実務でのポイント：
+ * - インデックスの更新はTaskServiceの書き込みと同じトランザクションで行うため、
+ * タスクと検索インデックスの内容が食い違うことはありません
+ * - 既存のタスクからの作成（TaskSearchIndexInitializer）が完了するまでは、キーワード検索を
+ * ServiceUnavailableException（503）で断ります。LIKEの全件スキャンに切り替えると一致の規則が変わり、
+ * 作成途中のインデックスで検索すると未登録のタスクが結果から漏れるためです
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    /**
+     * 検索結果の最大件数
+     *
+     * 実務でのポイント：
+     * - 「の」「す」のような1文字のキーワードは、ほぼすべてのタスクに一致します
+     * - 上限を設けないと、タスクが100万件あるユーザーでは検索結果も100万件になります
+     * - 結果はスコア順のため、上位だけを返せば十分です
+     * - 上限は、ステータス・優先度の絞り込みと、連続した文字列の確認の後に適用します
+     * （先に候補を上限で切ると、条件に一致するタスクが候補の上位に入らなかった場合に、結果から漏れます）
+     */
+    public static final int MAX_SEARCH_RESULTS = 500;
+
+    /**
+     * タイトルに含まれるトークンの重み
+     */
+    static final int TITLE_WEIGHT = 2;
+
+    /**
+     * 詳細に含まれるトークンの重み
+     */
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    /**
+     * 一括操作の対象を求める際に、1回に読み込む候補の件数
+     */
+    static final int CANDIDATE_BATCH_SIZE = 500;
+
+    /**
+     * タスクリポジトリ
+     */
+    private final TaskRepository taskRepository;
+
+    /**
+     * 検索トークンリポジトリ
+     */
+    private final TaskSearchTokenRepository taskSearchTokenRepository;
+
+    /**
+     * 検索インデックスの作成状況リポジトリ
+     */
+    private final TaskSearchIndexStateRepository taskSearchIndexStateRepository;
+
+    /**
+     * 検索インデックスの作成が完了しているか（一度完了を確認した後は、データベースを読みません）
+     */
+    private volatile boolean indexReady;
+
+    /**
+     * タスクを検索インデックスに登録（作成・更新時）
+     *
+     * 処理の流れ：
+     * 1. タイトル・詳細から、トークンと重みを計算
+     * 2. 既存のトークンと比較し、不要になったトークンを削除
+     * 3. 重みが変わったトークンを更新し、新しいトークンを追加
+     *
+     * なぜ「全削除 → 全追加」ではなく差分更新なのか：
+     * - ステータスの変更だけなど、タイトル・詳細が変わらない更新では、SQLが1回（SELECT）で済みます
+     * - 全削除 → 全追加では、毎回数百行のDELETEとINSERTが発生します
+     *
+     * @param task 保存済みのタスク（IDが設定されていること）
+     */
+    @Transactional
+    public void index(Task task) {
+        Map<String, Integer> weights = tokenWeights(task);
+
+        List<TaskSearchToken> removed = new ArrayList<>();
+        for (TaskSearchToken existing : taskSearchTokenRepository.findByTaskId(task.getId())) {
+            Integer weight = weights.remove(existing.getToken());
+            if (weight == null) {
+                removed.add(existing);
+            } else if (weight != existing.getWeight()) {
+                // 管理状態のエンティティなので、変更はコミット時に自動的にUPDATEされます
+                existing.setWeight(weight);
+            }
+        }
+
+        taskSearchTokenRepository.deleteAll(removed);
+        taskSearchTokenRepository.saveAll(toTokens(task, weights));
+    }
+
+    /**
+     * 複数のタスクを検索インデックスに新規登録
+     *
+     * 実務での使用場面：
+     * - タスクの一括作成（TaskService.createTasks）
+     * - 既存のタスクから検索インデックスを作成する（rebuildBatch）
+     *
+     * 実務でのポイント：
+     * - インデックスがまだ無いタスクが対象のため、既存トークンとの比較を省略します
+     * - hibernate.jdbc.batch_size の設定により、INSERTはバッチで実行されます
+     *
+     * @param tasks インデックスが未登録のタスク
+     */
+    @Transactional
+    public void indexAll(List<Task> tasks) {
+        List<TaskSearchToken> tokens = new ArrayList<>();
+        for (Task task : tasks) {
+            tokens.addAll(toTokens(task, tokenWeights(task)));
+        }
+        taskSearchTokenRepository.saveAll(tokens);
+    }
+
+    /**
+     * タスクを検索インデックスから削除（削除時）
+     *
+     * @param taskId タスクID
+     */
+    @Transactional
+    public void remove(Long taskId) {
+        taskSearchTokenRepository.deleteByTaskId(taskId);
+    }
+
+    /**
+     * IDで指定したタスクを検索インデックスから一括削除（一括削除時）
+     *
+     * @param userId  ユーザーID
+     * @param taskIds タスクIDのリスト
+     */
+    @Transactional
+    public void removeAll(Long userId, Collection<Long> taskIds) {
+        taskSearchTokenRepository.deleteByUserIdAndTaskIdIn(userId, taskIds);
+    }
+
+    /**
+     * ステータス・優先度で指定したタスクを検索インデックスから一括削除（一括削除時）
+     *
+     * 実務でのポイント：
+     * - タスクを削除する前に呼び出します（条件の判定にtasksテーブルを使用するため）
+     * - キーワードで指定した場合は、findMatchingIdsで求めたIDで removeAll(userId, taskIds) を使用します
+     *
+     * @param userId   ユーザーID
+     * @param status   対象のステータス（nullの場合はフィルタしない）
+     * @param priority 対象の優先度（nullの場合はフィルタしない）
+     */
+    @Transactional
+    public void removeAll(Long userId, TaskStatus status, TaskPriority priority) {
+        taskSearchTokenRepository.deleteByUserIdWithFilters(userId, status, priority);
+    }
+
+    /**
+     * 検索インデックスの作成状況を取得
+     *
+     * 実務でのポイント：
+     * - 主キーの1行を読むだけのため、task_search_tokensの件数を数えるより大幅に軽量です
+     *
+     * @return 作成状況（作成を開始していない場合は空）
+     */
+    public Optional<TaskSearchIndexState> findIndexState() {
+        return taskSearchIndexStateRepository.findById(TaskSearchIndexState.ID);
+    }
+
+    /**
+     * 検索インデックスの作成が完了しているかを確認
+     *
+     * 実務でのポイント：
+     * - 完了を確認するまでは、呼び出しのたびに作成状況（主キーの1行）を読みます
+     * - 完了後はメモリのフラグだけで判定するため、検索ごとのSQLは増えません
+     * - 作成状況を削除（resetIndexState）すると、再び未完了として扱います
+     *
+     * @return 完了している場合はtrue
+     */
+    public boolean isIndexReady() {
+        if (!indexReady) {
+            indexReady = findIndexState().map(TaskSearchIndexState::isCompleted).orElse(false);
+        }
+        return indexReady;
+    }
+
+    /**
+     * 検索インデックスの作成を開始（作成状況を記録）
+     *
+     * @param maxTaskId 対象の最大のタスクID（タスクが無い場合は0）
+     * @return 作成状況（タスクが無い場合は完了済み）
+     */
+    @Transactional
+    public TaskSearchIndexState startIndexBuild(long maxTaskId) {
+        return taskSearchIndexStateRepository.save(
+                new TaskSearchIndexState(TaskSearchIndexState.ID, 0L, maxTaskId, maxTaskId == 0L));
+    }
+
+    /**
+     * 検索インデックスの作成状況を削除（次の起動時、またはTaskSearchIndexInitializer.rebuild()で作り直す）
+     */
+    @Transactional
+    public void resetIndexState() {
+        indexReady = false;
+        taskSearchIndexStateRepository.deleteById(TaskSearchIndexState.ID);
+    }
+
+    /**
+     * 複数のタスクを検索インデックスに登録し直し、作成状況を進める（検索インデックスの作成時）
+     *
+     * 実務でのポイント：
+     * - タスクの既存のトークンを削除してから登録するため、途中で停止したバッチや、
+     * 作成中にTaskServiceが登録したタスクを含んでいても、同じ結果になります
+     * - 作成状況の更新も同じトランザクションで行うため、停止した場合は、このバッチの最初から再開されます
+     *
+     * @param tasks     登録するタスク（IDの昇順）
+     * @param state     作成状況
+     * @param completed このバッチで作成が完了する場合はtrue
+     * @return 更新した作成状況
+     */
+    @Transactional
+    public TaskSearchIndexState rebuildBatch(List<Task> tasks, TaskSearchIndexState state, boolean completed) {
+        if (!tasks.isEmpty()) {
+            taskSearchTokenRepository.deleteByTaskIdIn(tasks.stream().map(Task::getId).toList());
+            indexAll(tasks);
+            state.setLastTaskId(tasks.get(tasks.size() - 1).getId());
+        }
+        state.setCompleted(completed);
+        return taskSearchIndexStateRepository.save(state);
+    }
+
+    /**
+     * キーワードでタスクを検索（スコアの降順）
+     *
+     * スコアの計算：
+     * - キーワードの各トークンについて、タイトルに含まれる場合は2、詳細に含まれる場合は1を加算します
+     * - タイトルに一致したタスクが、詳細にだけ一致したタスクより上位になります
+     *
+     * @param userId   ユーザーID
+     * @param keyword  検索キーワード（空白のみの場合は空のリストを返す）
+     * @param status   タスクのステータス（nullの場合はフィルタしない）
+     * @param priority タスクの優先度（nullの場合はフィルタしない）
+     * @return タスクのリスト（TaskResponseDto、スコアの降順、最大MAX_SEARCH_RESULTS件）
+     * @throws ServiceUnavailableException 検索インデックスの作成が完了していない場合
+     */
+    public List<TaskResponseDto> search(Long userId, String keyword, TaskStatus status, TaskPriority priority) {
+        Set<String> tokens = NGramTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        requireIndexReady();
+
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        List<TaskResponseDto> result = new ArrayList<>();
+        // 候補をMAX_SEARCH_RESULTS件ずつ取得し、連続した文字列として含まれるタスクが上限に達するまで続ける
+        // （連続した文字列として含まれない候補が少なければ、1回で終わります）
+        for (int page = 0; result.size() < MAX_SEARCH_RESULTS; page++) {
+            List<Long> rankedIds = findRankedTaskIds(userId, tokens, status, priority,
+                    PageRequest.of(page, MAX_SEARCH_RESULTS));
+            if (rankedIds.isEmpty()) {
+                break;
+            }
+
+            Map<Long, TaskResponseDto> tasksById = new HashMap<>();
+            for (TaskResponseDto task : taskRepository.findDtosByUserIdAndIdIn(userId, rankedIds, status, priority)) {
+                tasksById.put(task.getId(), task);
+            }
+            for (Long id : rankedIds) {
+                TaskResponseDto task = tasksById.get(id);
+                if (task != null && contains(task, normalizedKeyword) && result.size() < MAX_SEARCH_RESULTS) {
+                    result.add(task);
+                }
+            }
+
+            if (rankedIds.size() < MAX_SEARCH_RESULTS) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * キーワードに一致するタスクを1ページ分取得（作成日時の降順）
+     *
+     * 実務での使用場面：
+     * - キーワードを条件にしたページング（TaskService.findPageWithFilters）
+     *
+     * 処理の流れ：
+     * 1. すべてのバイグラムを含むタスクを、カーソルの位置からsize件取得（作成日時の降順）
+     * 2. キーワードを連続した文字列として含むタスクだけを残す
+     * 3. size件に満たない場合は、取得した最後のタスクをカーソルにして1.から繰り返す
+     *
+     * @param userId          ユーザーID
+     * @param keyword         検索キーワード（空白のみの場合は空のリストを返す）
+     * @param status          タスクのステータス（nullの場合はフィルタしない）
+     * @param priority        タスクの優先度（nullの場合はフィルタしない）
+     * @param cursorCreatedAt カーソルの作成日時
+     * @param cursorId        カーソルのタスクID
+     * @param size            取得件数
+     * @return タスクのリスト（作成日時の降順、最大size件）
+     * @throws ServiceUnavailableException 検索インデックスの作成が完了していない場合
+     */
+    public List<TaskResponseDto> findPage(Long userId, String keyword, TaskStatus status, TaskPriority priority,
+            LocalDateTime cursorCreatedAt, Long cursorId, int size) {
+        Set<String> tokens = NGramTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        requireIndexReady();
+
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        List<TaskResponseDto> result = new ArrayList<>();
+        LocalDateTime createdAt = cursorCreatedAt;
+        Long id = cursorId;
+        while (result.size() < size) {
+            List<TaskResponseDto> candidates = taskRepository.findPageByUserIdWithFiltersAndTokens(
+                    userId, status, priority, tokens, tokens.size(), createdAt, id, PageRequest.of(0, size));
+            for (TaskResponseDto task : candidates) {
+                if (contains(task, normalizedKeyword) && result.size() < size) {
+                    result.add(task);
+                }
+            }
+
+            if (candidates.size() < size) {
+                break;
+            }
+            TaskResponseDto last = candidates.get(candidates.size() - 1);
+            createdAt = last.getCreatedAt();
+            id = last.getId();
+        }
+        return result;
+    }
+
+    /**
+     * キーワードに一致するタスクのIDをすべて取得（一括操作用）
+     *
+     * 実務での使用場面：
+     * - キーワードを条件にした一括のステータス変更・削除（TaskService.updateTaskStatuses、deleteTasks）
+     *
+     * 実務でのポイント：
+     * - 一覧と同じ規則で判定するため、一覧に表示されたタスクと一括操作の対象が一致します
+     * - 候補をIDの順にCANDIDATE_BATCH_SIZE件ずつ読み込み、一度に大量のタスクをメモリに読み込まないようにします
+     * - searchと異なり件数の上限はありません（条件に一致するタスクはすべて対象です）
+     *
+     * @param userId   ユーザーID
+     * @param keyword  検索キーワード（空白のみの場合は空のリストを返す）
+     * @param status   タスクのステータス（nullの場合はフィルタしない）
+     * @param priority タスクの優先度（nullの場合はフィルタしない）
+     * @return タスクIDのリスト（IDの昇順）
+     * @throws ServiceUnavailableException 検索インデックスの作成が完了していない場合
+     */
+    public List<Long> findMatchingIds(Long userId, String keyword, TaskStatus status, TaskPriority priority) {
+        Set<String> tokens = NGramTokenizer.queryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        requireIndexReady();
+
+        String normalizedKeyword = NGramTokenizer.normalize(keyword);
+        List<Long> ids = new ArrayList<>();
+        long lastId = 0L;
+        while (true) {
+            List<TaskResponseDto> candidates = taskRepository.findDtosByUserIdWithFiltersAndTokens(
+                    userId, status, priority, tokens, tokens.size(), lastId,
+                    PageRequest.of(0, CANDIDATE_BATCH_SIZE));
+            for (TaskResponseDto task : candidates) {
+                if (contains(task, normalizedKeyword)) {
+                    ids.add(task.getId());
+                }
+            }
+
+            if (candidates.size() < CANDIDATE_BATCH_SIZE) {
+                return ids;
+            }
+            lastId = candidates.get(candidates.size() - 1).getId();
+        }
+    }
+
+    /**
+     * 検索インデックスの作成が完了していない場合に、検索を断る
+     *
+     * なぜ一括操作（findMatchingIds）でも断るのか：
+     * - 未登録のタスクが対象から漏れ、「一致するタスクをすべて削除」が一部だけ削除されるためです
+     *
+     * @throws ServiceUnavailableException 検索インデックスの作成が完了していない場合
+     */
+    private void requireIndexReady() {
+        if (!isIndexReady()) {
+            throw new ServiceUnavailableException("検索インデックスを作成中です。しばらくしてから再試行してください");
+        }
+    }
+
+    /**
+     * すべてのトークンを含むタスクIDを、スコアの高い順に取得
+     *
+     * @param userId   ユーザーID
+     * @param tokens   キーワードのトークン
+     * @param status   タスクのステータス（nullの場合はフィルタしない）
+     * @param priority タスクの優先度（nullの場合はフィルタしない）
+     * @param pageable 取得する範囲
+     * @return タスクIDのリスト（スコアの降順）
+     */
+    private List<Long> findRankedTaskIds(Long userId, Set<String> tokens, TaskStatus status, TaskPriority priority,
+            PageRequest pageable) {
+        if (status == null && priority == null) {
+            // 条件が無い場合は、tasksテーブルと結合せずにインデックスだけで取得する
+            return taskSearchTokenRepository.findRankedTaskIds(userId, tokens, tokens.size(), pageable);
+        }
+        return taskSearchTokenRepository.findRankedTaskIdsWithFilters(
+                userId, tokens, tokens.size(), status, priority, pageable);
+    }
+
+    /**
+     * タスクのタイトル・詳細から、トークンごとの重みを計算
+     *
+     * @param task タスク
+     * @return トークン → 重み（タイトル: 2、詳細: 1、両方: 3）
+     */
+    private Map<String, Integer> tokenWeights(Task task) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String token : NGramTokenizer.indexTokens(task.getTitle())) {
+            weights.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : NGramTokenizer.indexTokens(task.getDescription())) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Integer::sum);
+        }
+        return weights;
+    }
+
+    /**
+     * トークンと重みから、検索トークンエンティティを作成
+     *
+     * @param task    タスク
+     * @param weights トークン → 重み
+     * @return 検索トークンのリスト
+     */
+    private List<TaskSearchToken> toTokens(Task task, Map<String, Integer> weights) {
+        List<TaskSearchToken> tokens = new ArrayList<>(weights.size());
+        weights.forEach((token, weight) -> tokens.add(
+                new TaskSearchToken(task.getId(), token, task.getUser().getId(), weight)));
+        return tokens;
+    }
+
+    /**
+     * タイトルまたは詳細に、キーワードが連続した文字列として含まれるか
+     *
+     * @param task              タスク
+     * @param normalizedKeyword 正規化済みのキーワード
+     * @return 含まれる場合はtrue
+     */
+    private boolean contains(TaskResponseDto task, String normalizedKeyword) {
+        return NGramTokenizer.normalize(task.getTitle()).contains(normalizedKeyword)
+                || NGramTokenizer.normalize(task.getDescription()).contains(normalizedKeyword);
+    }
+}
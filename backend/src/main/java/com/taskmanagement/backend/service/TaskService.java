@@ -1,19 +1,47 @@
 package com.taskmanagement.backend.service;
 
+import com.taskmanagement.backend.dto.TaskBulkCreateResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkDeleteDto;
+import com.taskmanagement.backend.dto.TaskBulkItemResultDto;
+import com.taskmanagement.backend.dto.TaskBulkOperationResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkStatusUpdateDto;
+import com.taskmanagement.backend.dto.TaskChangesResponseDto;
+import com.taskmanagement.backend.dto.TaskCursor;
+import com.taskmanagement.backend.dto.TaskEventDto;
+import com.taskmanagement.backend.dto.TaskFilterDto;
+import com.taskmanagement.backend.dto.TaskPageResponseDto;
 import com.taskmanagement.backend.dto.TaskRequestDto;
 import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.TaskStatsResponseDto;
+import com.taskmanagement.backend.exception.ChangeTokenExpiredException;
+import com.taskmanagement.backend.exception.ForbiddenException;
+import com.taskmanagement.backend.exception.PreconditionFailedException;
+import com.taskmanagement.backend.exception.ResourceNotFoundException;
+import com.taskmanagement.backend.exception.TaskConflictException;
 import com.taskmanagement.backend.model.Task;
 import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
 import com.taskmanagement.backend.model.User;
 import com.taskmanagement.backend.repository.TaskRepository;
 import com.taskmanagement.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -31,6 +59,7 @@ import java.util.stream.Collectors;
  * 3. 検索（キーワード検索）
  * 4. ソート（作成日時、優先度）
  * 5. 複合条件での検索
+ * 6. キーセットページング（カーソル方式）
  * 
  * 実務でのポイント：
  * - Streamを活用して、リストの変換を簡潔に記述します
@@ -42,6 +71,44 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class TaskService {
 
+    /**
+     * 1ページあたりの最大取得件数
+     * 
+     * 実務でのポイント：
+     * - 上限を設けないと、limit=1000000のようなリクエストで全件取得と同じ負荷がかかります
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * 一括作成の最大件数
+     * 
+     * 実務でのポイント：
+     * - 上限を設けないと、1回のリクエストでトランザクションが長時間続き、メモリも大量に消費します
+     * - これより多い場合は、クライアント側で分割して送信します
+     */
+    public static final int MAX_BULK_SIZE = 1000;
+
+    /**
+     * If-Matchの更新日時が一致しない場合のエラーメッセージ
+     */
+    private static final String CONCURRENT_UPDATE_MESSAGE =
+            "タスクは他の操作で更新されています。最新の内容を取得してから、もう一度実行してください";
+
+    /**
+     * リクエストのバージョンが一致しない場合のエラーメッセージ（409と一緒に最新のタスクを返す）
+     */
+    private static final String VERSION_CONFLICT_MESSAGE =
+            "タスクは他の操作で更新されています。最新の内容を確認してください";
+
+    /**
+     * 一括作成で、1回にまとめてINSERTする件数
+     * 
+     * 実務でのポイント：
+     * - hibernate.jdbc.batch_sizeと同じ値にします
+     * - この件数ごとにflush()とclear()を行い、永続化コンテキストが大きくなりすぎないようにします
+     */
+    private static final int BULK_CHUNK_SIZE = 50;
+
     /**
      * タスクリポジトリ
      */
@@ -56,6 +123,55 @@ public class TaskService {
      */
     private final UserRepository userRepository;
 
+    /**
+     * タスク検索サービス
+     * 
+     * 実務でのポイント：
+     * - タスクの作成・更新・削除と同じトランザクションで、検索インデックスも更新します
+     */
+    private final TaskSearchService taskSearchService;
+
+    /**
+     * タスク一覧のレスポンスキャッシュ
+     * 
+     * 実務でのポイント：
+     * - タスクを変更するすべてのメソッドで invalidate() を呼び出し、そのユーザーの一覧キャッシュを無効化します
+     */
+    private final TaskListCache taskListCache;
+
+    /**
+     * タスクの差分同期サービス
+     * 
+     * 実務でのポイント：
+     * - タスクを変更するすべてのメソッドで、最初に nextChangeSeq() を呼び出して変更番号を採番します
+     * - 削除では、削除記録（TaskTombstone）も作成します
+     */
+    private final TaskChangeService taskChangeService;
+
+    /**
+     * タスクの変更通知の配信（GET /api/tasks/stream）
+     * 
+     * 実務でのポイント：
+     * - タスクを変更するすべてのメソッドで publish() を呼び出します（送信はコミット後）
+     */
+    private final TaskEventBroadcaster taskEventBroadcaster;
+
+    /**
+     * Bean Validationのバリデーター
+     * 
+     * 実務でのポイント：
+     * - 一括作成では、要素ごとにバリデーションを行い、不正な要素だけを失敗として返します
+     * - @Validでリスト全体を検証すると、1件でも不正があればリクエスト全体が400になってしまいます
+     */
+    private final Validator validator;
+
+    /**
+     * エンティティマネージャー
+     * 
+     * 一括作成で、永続化コンテキストをクリアするために使用します
+     */
+    private final EntityManager entityManager;
+
     /**
      * タスクを作成
      * 
@@ -71,7 +187,9 @@ public class TaskService {
      */
     @Transactional
     public TaskResponseDto createTask(TaskRequestDto requestDto, Long userId) {
-        // ユーザーを取得
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
+
+        // ユーザーを取得（nextChangeSeq()でロックして取得済みのため、永続化コンテキストから返されます）
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません"));
 
@@ -83,54 +201,177 @@ public class TaskService {
         task.setStatus(requestDto.getStatus());
         task.setPriority(requestDto.getPriority());
         task.setUser(user);
+        task.setChangeSeq(changeSeq);
 
         // データベースに保存
         Task savedTask = taskRepository.save(task);
 
+        // 検索インデックスに登録
+        taskSearchService.index(savedTask);
+        taskListCache.invalidate(userId);
+        taskEventBroadcaster.publish(userId, TaskEventDto.Type.CREATED, List.of(savedTask.getId()));
+
         // DTOに変換して返す
         return TaskResponseDto.fromEntity(savedTask);
     }
 
+    /**
+     * タスクを一括作成
+     * 
+     * 実務での使用場面：
+     * - 他のツールからのインポート（数千件のタスクを一度に作成）
+     * 
+     * なぜcreateTask()をループで呼び出さないのか：
+     * - createTask()では、1件ごとにユーザーの取得（SELECT）とINSERTが発生します
+     * - 一括作成では、ユーザーの取得は1回だけで、INSERTはBULK_CHUNK_SIZE件ずつバッチで実行されます
+     * - Task.idはSEQUENCE（allocationSize = 50）のため、IDの取得も50件に1回です
+     * 
+     * 処理の流れ：
+     * 1. ユーザーを1回だけ取得
+     * 2. 要素ごとにバリデーションを行い、不正な要素は失敗として記録
+     * 3. 正しい要素をBULK_CHUNK_SIZE件ずつ保存し、検索インデックスにも登録
+     * 4. チャンクごとにflush()（バッチINSERT）とclear()（メモリ解放）を行う
+     * 
+     * @param requestDtos TaskRequestDtoのリスト（1〜MAX_BULK_SIZE件）
+     * @param userId      ユーザーID
+     * @return 一括作成の結果（TaskBulkCreateResponseDto）
+     * @throws IllegalArgumentException ユーザーが見つからない場合、または件数が範囲外の場合
+     */
+    @Transactional
+    public TaskBulkCreateResponseDto createTasks(List<TaskRequestDto> requestDtos, Long userId) {
+        if (requestDtos == null || requestDtos.isEmpty() || requestDtos.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("一括作成は1〜" + MAX_BULK_SIZE + "件の範囲で指定してください");
+        }
+
+        // 変更番号は一括作成の全件で共通
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
+
+        // ユーザーを1回だけ取得
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("ユーザーが見つかりません"));
+
+        TaskBulkItemResultDto[] results = new TaskBulkItemResultDto[requestDtos.size()];
+        List<Task> chunk = new ArrayList<>(BULK_CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BULK_CHUNK_SIZE);
+        int created = 0;
+
+        for (int i = 0; i < requestDtos.size(); i++) {
+            TaskRequestDto requestDto = requestDtos.get(i);
+            String error = validate(requestDto);
+            if (error != null) {
+                results[i] = TaskBulkItemResultDto.failure(i, error);
+                continue;
+            }
+
+            Task task = new Task();
+            task.setTitle(requestDto.getTitle());
+            task.setDescription(requestDto.getDescription());
+            task.setDueDate(requestDto.getDueDate());
+            task.setStatus(requestDto.getStatus());
+            task.setPriority(requestDto.getPriority());
+            task.setUser(user);
+            task.setChangeSeq(changeSeq);
+            chunk.add(task);
+            chunkIndexes.add(i);
+
+            if (chunk.size() == BULK_CHUNK_SIZE) {
+                created += saveChunk(chunk, chunkIndexes, results);
+            }
+        }
+        created += saveChunk(chunk, chunkIndexes, results);
+
+        if (created > 0) {
+            taskListCache.invalidate(userId);
+            taskEventBroadcaster.publish(userId, TaskEventDto.Type.CREATED, Arrays.stream(results)
+                    .filter(TaskBulkItemResultDto::isSuccess)
+                    .map(result -> result.getTask().getId())
+                    .toList());
+        }
+        return new TaskBulkCreateResponseDto(created, requestDtos.size() - created, List.of(results));
+    }
+
+    /**
+     * 一括作成の1チャンク分を保存
+     * 
+     * @param chunk        保存するタスク
+     * @param chunkIndexes 各タスクのリクエストの配列の位置
+     * @param results      結果の格納先
+     * @return 保存した件数
+     */
+    private int saveChunk(List<Task> chunk, List<Integer> chunkIndexes, TaskBulkItemResultDto[] results) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Task> savedTasks = taskRepository.saveAll(chunk);
+        taskSearchService.indexAll(savedTasks);
+
+        // バッチINSERTを実行し、永続化コンテキストを空にする
+        taskRepository.flush();
+        entityManager.clear();
+
+        for (int i = 0; i < savedTasks.size(); i++) {
+            int index = chunkIndexes.get(i);
+            results[index] = TaskBulkItemResultDto.success(index, TaskResponseDto.fromEntity(savedTasks.get(i)));
+        }
+
+        int saved = savedTasks.size();
+        chunk.clear();
+        chunkIndexes.clear();
+        return saved;
+    }
+
+    /**
+     * リクエストをバリデーション
+     * 
+     * @param requestDto TaskRequestDto
+     * @return エラーメッセージ（正しい場合はnull）
+     */
+    private String validate(TaskRequestDto requestDto) {
+        if (requestDto == null) {
+            return "タスクの内容が指定されていません";
+        }
+        Set<ConstraintViolation<TaskRequestDto>> violations = validator.validate(requestDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
     /**
      * IDでタスクを取得
      * 
      * 実務でのポイント：
      * - ユーザーIDも受け取り、権限チェックを行います
      * - これにより、他人のタスクを取得できないようにします
+     * - 権限チェックはWHERE句で行い、1回のSQLでDTOを取得します
      * 
      * @param taskId タスクID
      * @param userId ユーザーID
      * @return TaskResponseDto
-     * @throws IllegalArgumentException タスクが見つからない、または権限がない場合
+     * @throws ResourceNotFoundException タスクが見つからない場合
+     * @throws ForbiddenException        他人のタスクの場合
      */
     public TaskResponseDto findById(Long taskId, Long userId) {
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません"));
-
-        // 権限チェック：タスクの所有者であることを確認
-        if (!task.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("このタスクにアクセスする権限がありません");
-        }
-
-        return TaskResponseDto.fromEntity(task);
+        return taskRepository.findDtoByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> taskNotAccessible(taskId, "このタスクにアクセスする権限がありません"));
     }
 
     /**
      * ユーザーIDで全タスクを取得（作成日時の降順）
      * 
      * 実務でのポイント：
-     * - Streamを使用して、List<Task>をList<TaskResponseDto>に変換します
-     * - map(TaskResponseDto::fromEntity)はラムダ式の省略形です
-     * - collect(Collectors.toList())でリストに変換します
+     * - 一覧表示は読み取り専用なので、エンティティではなくDTOプロジェクションで取得します
+     * - 必要なカラムとユーザー名だけを1回のSQLで取得し、エンティティの生成と変換を省略します
      * 
      * @param userId ユーザーID
      * @return タスクのリスト（TaskResponseDto）
      */
     public List<TaskResponseDto> findAllByUserId(Long userId) {
-        return taskRepository.findByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return taskRepository.findDtosByUserIdOrderByCreatedAtDesc(userId);
     }
 
     /**
@@ -145,10 +386,7 @@ public class TaskService {
      * @return タスクのリスト（TaskResponseDto）
      */
     public List<TaskResponseDto> findByStatus(Long userId, TaskStatus status) {
-        return taskRepository.findByUserIdAndStatus(userId, status)
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return taskRepository.findDtosByUserIdAndStatus(userId, status);
     }
 
     /**
@@ -162,10 +400,7 @@ public class TaskService {
      * @return タスクのリスト（TaskResponseDto）
      */
     public List<TaskResponseDto> findByPriority(Long userId, TaskPriority priority) {
-        return taskRepository.findByUserIdAndPriority(userId, priority)
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return taskRepository.findDtosByUserIdAndPriority(userId, priority);
     }
 
     /**
@@ -175,15 +410,20 @@ public class TaskService {
      * - タスク検索機能
      * - タイトルや詳細で検索
      * 
+     * 実務でのポイント：
+     * - LIKE '%キーワード%' の全件スキャンではなく、N-gramの検索インデックスを使用します
+     * - 結果は、タイトルに一致したタスクが上位になるスコア順です（最大TaskSearchService.MAX_SEARCH_RESULTS件）
+     * - キーワードが空の場合は、全タスクを返します（LIKE '%%' と同じ動作）
+     * 
      * @param userId  ユーザーID
      * @param keyword 検索キーワード
      * @return タスクのリスト（TaskResponseDto）
      */
     public List<TaskResponseDto> searchByKeyword(Long userId, String keyword) {
-        return taskRepository.searchByKeyword(userId, keyword)
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        if (!hasKeyword(keyword)) {
+            return taskRepository.findDtosByUserIdOrderByCreatedAtDesc(userId);
+        }
+        return taskSearchService.search(userId, keyword, null, null);
     }
 
     /**
@@ -197,10 +437,7 @@ public class TaskService {
      * @return タスクのリスト（TaskResponseDto）
      */
     public List<TaskResponseDto> findOverdueTasks(Long userId) {
-        return taskRepository.findByUserIdAndDueDateBefore(userId, LocalDate.now())
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return taskRepository.findDtosByUserIdAndDueDateBefore(userId, LocalDate.now());
     }
 
     /**
@@ -214,10 +451,7 @@ public class TaskService {
      * @return タスクのリスト（TaskResponseDto）
      */
     public List<TaskResponseDto> findFutureTasks(Long userId) {
-        return taskRepository.findByUserIdAndDueDateAfter(userId, LocalDate.now())
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return taskRepository.findDtosByUserIdAndDueDateAfter(userId, LocalDate.now());
     }
 
     /**
@@ -237,13 +471,12 @@ public class TaskService {
             TaskStatus status,
             TaskPriority priority,
             String keyword) {
-        // keywordがnullの場合は空文字に変換
-        String safeKeyword = (keyword == null) ? "" : keyword;
+        // キーワードがある場合は、検索インデックスを使用（スコア順）
+        if (hasKeyword(keyword)) {
+            return taskSearchService.search(userId, keyword, status, priority);
+        }
 
-        return taskRepository.findByUserIdWithFilters(userId, status, priority, safeKeyword)
-                .stream()
-                .map(TaskResponseDto::fromEntity)
-                .collect(Collectors.toList());
+        return taskRepository.findDtosByUserIdWithFilters(userId, status, priority);
     }
 
     /**
@@ -251,23 +484,62 @@ public class TaskService {
      * 
      * 実務でのポイント：
      * - 権限チェックを行い、他人のタスクを更新できないようにします
+     * - 権限チェックはWHERE句で行い、タスクとユーザーを1回のSQLで取得します
      * - @PreUpdateが自動実行され、updatedAtが更新されます
      * 
      * @param taskId     タスクID
      * @param requestDto TaskRequestDto
      * @param userId     ユーザーID
      * @return 更新されたタスク（TaskResponseDto）
-     * @throws IllegalArgumentException タスクが見つからない、または権限がない場合
+     * @throws ResourceNotFoundException タスクが見つからない場合
+     * @throws ForbiddenException        他人のタスクの場合
      */
     @Transactional
     public TaskResponseDto updateTask(Long taskId, TaskRequestDto requestDto, Long userId) {
-        // タスクを取得
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません"));
+        return updateTask(taskId, requestDto, userId, null);
+    }
 
-        // 権限チェック：タスクの所有者であることを確認
-        if (!task.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("このタスクを更新する権限がありません");
+    /**
+     * タスクを更新（更新日時・バージョンの確認付き）
+     * 
+     * 実務での使用場面：
+     * - If-Matchヘッダー付きの更新（TaskController.updateTask）
+     * - 取得した後に他の操作で更新されていた場合は、上書きせずに412を返します
+     * - リクエストにversionを含めた更新では、バージョンが一致しない場合に409と最新のタスクを返します
+     * 
+     * 実務でのポイント：
+     * - saveAndFlush()で@PreUpdateを実行し、新しいupdatedAt（ETagの元）とversionをレスポンスに含めます
+     * - save()だけでは、UPDATE文と@PreUpdateはコミット時まで実行されず、古いupdatedAtが返ります
+     * 
+     * なぜ読み込んだ後の更新を見落とさないのか：
+     * - 最初に nextChangeSeq() でユーザーの行をロックするため、同じユーザーのタスクへの書き込みは1つずつ実行されます
+     * - さらに、UPDATE文には「version = 読み込んだときの値」が付くため（@Version）、
+     * ロックを経由しない更新が割り込んだ場合も0行になり、上書きされません（409）
+     * 
+     * @param taskId            タスクID
+     * @param requestDto        TaskRequestDto
+     * @param userId            ユーザーID
+     * @param expectedUpdatedAt クライアントが取得したときの更新日時（nullの場合は確認しない）
+     * @return 更新されたタスク（TaskResponseDto）
+     * @throws ResourceNotFoundException   タスクが見つからない場合
+     * @throws ForbiddenException          他人のタスクの場合
+     * @throws PreconditionFailedException 更新日時が一致しない場合
+     * @throws TaskConflictException       リクエストのバージョンが一致しない場合
+     */
+    @Transactional
+    public TaskResponseDto updateTask(Long taskId, TaskRequestDto requestDto, Long userId,
+            LocalDateTime expectedUpdatedAt) {
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
+
+        // タスクを取得（所有者でなければ取得されない）
+        // ユーザーはnextChangeSeq()でロックして取得済みのため、レスポンスのユーザー名にSQLは発生しません
+        Task task = taskRepository.findByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> taskNotAccessible(taskId, "このタスクを更新する権限がありません"));
+        if (expectedUpdatedAt != null && !expectedUpdatedAt.equals(task.getUpdatedAt())) {
+            throw new PreconditionFailedException(CONCURRENT_UPDATE_MESSAGE);
+        }
+        if (requestDto.getVersion() != null && !requestDto.getVersion().equals(task.getVersion())) {
+            throw new TaskConflictException(VERSION_CONFLICT_MESSAGE, TaskResponseDto.fromEntity(task));
         }
 
         // タスクを更新
@@ -276,9 +548,15 @@ public class TaskService {
         task.setDueDate(requestDto.getDueDate());
         task.setStatus(requestDto.getStatus());
         task.setPriority(requestDto.getPriority());
+        task.setChangeSeq(changeSeq);
 
         // データベースに保存
-        Task updatedTask = taskRepository.save(task);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+
+        // 検索インデックスを更新（タイトル・詳細が変わった部分のみ）
+        taskSearchService.index(updatedTask);
+        taskListCache.invalidate(userId);
+        taskEventBroadcaster.publish(userId, TaskEventDto.Type.UPDATED, List.of(taskId));
 
         // DTOに変換して返す
         return TaskResponseDto.fromEntity(updatedTask);
@@ -291,31 +569,82 @@ public class TaskService {
      * - タスク完了時に、ステータスのみを更新
      * - UIでドラッグ&ドロップによるステータス変更
      * 
+     * 実務でのポイント：
+     * - エンティティを取得せず、所有者を条件に含めたUPDATE文で直接更新します
+     * - 更新後の内容はDTOプロジェクションで取得します（SELECT・ダーティチェックが不要）
+     * 
      * @param taskId タスクID
      * @param status 新しいステータス
      * @param userId ユーザーID
      * @return 更新されたタスク（TaskResponseDto）
-     * @throws IllegalArgumentException タスクが見つからない、または権限がない場合
+     * @throws ResourceNotFoundException タスクが見つからない場合
+     * @throws ForbiddenException        他人のタスクの場合
      */
     @Transactional
     public TaskResponseDto updateTaskStatus(Long taskId, TaskStatus status, Long userId) {
-        // タスクを取得
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません"));
+        return updateTaskStatus(taskId, status, userId, null);
+    }
 
-        // 権限チェック
-        if (!task.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("このタスクを更新する権限がありません");
-        }
+    /**
+     * タスクのステータスのみを更新（更新日時の確認付き）
+     * 
+     * 実務でのポイント：
+     * - 更新日時の確認もUPDATE文のWHERE句で行うため、確認と更新の間に他の操作が割り込むことはありません
+     * - 0行だった場合のみ、原因（存在しない・他人のタスク・更新日時の不一致）を調べます
+     * 
+     * @param taskId            タスクID
+     * @param status            新しいステータス
+     * @param userId            ユーザーID
+     * @param expectedUpdatedAt クライアントが取得したときの更新日時（nullの場合は確認しない）
+     * @return 更新されたタスク（TaskResponseDto）
+     * @throws ResourceNotFoundException   タスクが見つからない場合
+     * @throws ForbiddenException          他人のタスクの場合
+     * @throws PreconditionFailedException 更新日時が一致しない場合
+     */
+    @Transactional
+    public TaskResponseDto updateTaskStatus(Long taskId, TaskStatus status, Long userId,
+            LocalDateTime expectedUpdatedAt) {
+        return updateTaskStatus(taskId, status, userId, expectedUpdatedAt, null);
+    }
 
-        // ステータスのみを更新
-        task.setStatus(status);
+    /**
+     * タスクのステータスのみを更新（更新日時・バージョンの確認付き）
+     * 
+     * 実務でのポイント：
+     * - バージョンの確認も更新日時と同じく、UPDATE文のWHERE句で行います
+     * - バージョンが一致しなかった場合は、409と最新のタスクを返します
+     * 
+     * @param taskId            タスクID
+     * @param status            新しいステータス
+     * @param userId            ユーザーID
+     * @param expectedUpdatedAt クライアントが取得したときの更新日時（nullの場合は確認しない）
+     * @param expectedVersion   クライアントが取得したときのバージョン（nullの場合は確認しない）
+     * @return 更新されたタスク（TaskResponseDto）
+     * @throws ResourceNotFoundException   タスクが見つからない場合
+     * @throws ForbiddenException          他人のタスクの場合
+     * @throws PreconditionFailedException 更新日時が一致しない場合
+     * @throws TaskConflictException       バージョンが一致しない場合
+     */
+    @Transactional
+    public TaskResponseDto updateTaskStatus(Long taskId, TaskStatus status, Long userId,
+            LocalDateTime expectedUpdatedAt, Long expectedVersion) {
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
 
-        // データベースに保存
-        Task updatedTask = taskRepository.save(task);
+        // ステータスのみを更新（所有者でなければ0行）
+        LocalDateTime now = Task.currentTimestamp();
+        int updated = (expectedUpdatedAt == null && expectedVersion == null)
+                ? taskRepository.updateStatusByIdAndUserId(taskId, userId, status, now, changeSeq)
+                : taskRepository.updateStatusByIdAndUserIdIfUnchanged(
+                        taskId, userId, expectedUpdatedAt, expectedVersion, status, now, changeSeq);
+        if (updated == 0) {
+            throw taskNotModified(taskId, userId, expectedVersion, "このタスクを更新する権限がありません");
+        }
+        taskListCache.invalidate(userId);
+        taskEventBroadcaster.publish(userId, TaskEventDto.Type.STATUS_CHANGED, List.of(taskId));
 
-        // DTOに変換して返す
-        return TaskResponseDto.fromEntity(updatedTask);
+        // 更新後のタスクをDTOで取得して返す
+        return taskRepository.findDtoByIdAndUserId(taskId, userId)
+                .orElseThrow(() -> new ResourceNotFoundException("タスクが見つかりません"));
     }
 
     /**
@@ -324,24 +653,260 @@ public class TaskService {
      * 実務でのポイント：
      * - 権限チェックを行い、他人のタスクを削除できないようにします
      * - 論理削除と物理削除の選択（今回は物理削除）
+     * - deleteById()は内部でタスクを取得してから削除するため、所有者を条件に含めたDELETE文を直接実行します
      * 
      * @param taskId タスクID
      * @param userId ユーザーID
-     * @throws IllegalArgumentException タスクが見つからない、または権限がない場合
+     * @throws ResourceNotFoundException タスクが見つからない場合
+     * @throws ForbiddenException        他人のタスクの場合
      */
     @Transactional
     public void deleteTask(Long taskId, Long userId) {
-        // タスクを取得
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() -> new IllegalArgumentException("タスクが見つかりません"));
+        deleteTask(taskId, userId, null);
+    }
+
+    /**
+     * タスクを削除（更新日時の確認付き）
+     * 
+     * 実務での使用場面：
+     * - If-Matchヘッダー付きの削除（取得した後に更新されたタスクを、確認せずに削除しない）
+     * 
+     * @param taskId            タスクID
+     * @param userId            ユーザーID
+     * @param expectedUpdatedAt クライアントが取得したときの更新日時（nullの場合は確認しない）
+     * @throws ResourceNotFoundException   タスクが見つからない場合
+     * @throws ForbiddenException          他人のタスクの場合
+     * @throws PreconditionFailedException 更新日時が一致しない場合
+     */
+    @Transactional
+    public void deleteTask(Long taskId, Long userId, LocalDateTime expectedUpdatedAt) {
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
 
-        // 権限チェック
-        if (!task.getUser().getId().equals(userId)) {
-            throw new IllegalArgumentException("このタスクを削除する権限がありません");
+        // タスクを削除（所有者でなければ0行）
+        int deleted = (expectedUpdatedAt == null)
+                ? taskRepository.deleteByIdAndUserId(taskId, userId)
+                : taskRepository.deleteByIdAndUserIdAndUpdatedAt(taskId, userId, expectedUpdatedAt);
+        if (deleted == 0) {
+            throw taskNotModified(taskId, userId, null, "このタスクを削除する権限がありません");
         }
+        taskChangeService.recordDeletion(userId, taskId, changeSeq);
 
-        // タスクを削除
-        taskRepository.deleteById(taskId);
+        // 検索インデックスから削除
+        taskSearchService.remove(taskId);
+        taskListCache.invalidate(userId);
+        taskEventBroadcaster.publish(userId, TaskEventDto.Type.DELETED, List.of(taskId));
+    }
+
+    /**
+     * 更新日時・バージョンを確認するUPDATE/DELETE文が0行だった場合の例外を作成
+     * 
+     * 判定の順序：
+     * 1. 自分のタスクとして存在し、バージョンが一致しない → 409（最新のタスクを含める）
+     * 2. 自分のタスクとして存在する → 更新日時が一致しなかった（412）
+     * 3. 存在しない、または他人のタスク → taskNotAccessible()（404または403）
+     * 
+     * @param taskId           タスクID
+     * @param userId           ユーザーID
+     * @param expectedVersion  クライアントが取得したときのバージョン（nullの場合は確認していない）
+     * @param forbiddenMessage 他人のタスクの場合のエラーメッセージ
+     * @return TaskConflictException、PreconditionFailedException、ResourceNotFoundException、
+     *         またはForbiddenException
+     */
+    private RuntimeException taskNotModified(Long taskId, Long userId, Long expectedVersion,
+            String forbiddenMessage) {
+        Optional<TaskResponseDto> current = taskRepository.findDtoByIdAndUserId(taskId, userId);
+        if (current.isEmpty()) {
+            return taskNotAccessible(taskId, forbiddenMessage);
+        }
+        if (expectedVersion != null && !expectedVersion.equals(current.get().getVersion())) {
+            return new TaskConflictException(VERSION_CONFLICT_MESSAGE, current.get());
+        }
+        return new PreconditionFailedException(CONCURRENT_UPDATE_MESSAGE);
+    }
+
+    /**
+     * 所有者を条件にした操作が0件だった場合の例外を作成
+     * 
+     * なぜ存在確認を別に行うのか：
+     * - 「t.id = :id AND t.user.id = :userId」が0件の場合、
+     * タスクが存在しないのか、他人のタスクなのかを区別できません
+     * - 正常時のSQLを増やさないよう、エラーの場合だけ existsById() で確認します
+     * 
+     * @param taskId           タスクID
+     * @param forbiddenMessage 他人のタスクの場合のエラーメッセージ
+     * @return ResourceNotFoundException（404）またはForbiddenException（403）
+     */
+    private RuntimeException taskNotAccessible(Long taskId, String forbiddenMessage) {
+        if (taskRepository.existsById(taskId)) {
+            return new ForbiddenException(forbiddenMessage);
+        }
+        return new ResourceNotFoundException("タスクが見つかりません");
+    }
+
+    /**
+     * タスクのステータスを一括変更
+     * 
+     * 実務での使用場面：
+     * - カンバンボードで、列のタスクをまとめて「完了」に移動する
+     * 
+     * 実務でのポイント：
+     * - タスクを1件も読み込まず、UPDATE文1回で変更します
+     * - 権限チェックはWHERE句で行うため、他人のタスクは変更されません
+     * - ステータスはタイトル・詳細に影響しないため、検索インデックスの更新は不要です
+     * - 条件にキーワードを含む場合は、一覧と同じ規則で対象のIDを求め（TaskSearchService.findMatchingIds）、
+     * MAX_BULK_SIZE件ずつIDで変更します
+     * 
+     * @param requestDto 対象（idsまたはfilter）と変更後のステータス
+     * @param userId     ユーザーID
+     * @return 変更した件数（TaskBulkOperationResponseDto）
+     * @throws IllegalArgumentException 対象の指定が不正な場合
+     */
+    @Transactional
+    public TaskBulkOperationResponseDto updateTaskStatuses(TaskBulkStatusUpdateDto requestDto, Long userId) {
+        validateBulkTarget(requestDto.getIds(), requestDto.getFilter());
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
+        LocalDateTime now = Task.currentTimestamp();
+
+        int affected;
+        if (requestDto.getIds() != null) {
+            affected = taskRepository.updateStatusByUserIdAndIdIn(
+                    userId, requestDto.getIds(), requestDto.getStatus(), now, changeSeq);
+        } else {
+            TaskFilterDto filter = requestDto.getFilter();
+            if (hasKeyword(filter.getKeyword())) {
+                affected = 0;
+                for (List<Long> ids : partition(taskSearchService.findMatchingIds(
+                        userId, filter.getKeyword(), filter.getStatus(), filter.getPriority()))) {
+                    affected += taskRepository.updateStatusByUserIdAndIdIn(
+                            userId, ids, requestDto.getStatus(), now, changeSeq);
+                }
+            } else {
+                affected = taskRepository.updateStatusByUserIdWithFilters(
+                        userId, filter.getStatus(), filter.getPriority(), requestDto.getStatus(), now, changeSeq);
+            }
+        }
+        if (affected > 0) {
+            taskListCache.invalidate(userId);
+            taskEventBroadcaster.publish(userId, TaskEventDto.Type.STATUS_CHANGED, bulkEventTaskIds(requestDto.getIds()));
+        }
+        return new TaskBulkOperationResponseDto(affected);
+    }
+
+    /**
+     * タスクを一括削除
+     * 
+     * 実務での使用場面：
+     * - 完了したタスクをまとめて削除する
+     * 
+     * 処理の流れ：
+     * 1. 対象タスクの検索インデックスを削除（DELETE文1回）
+     * 2. 対象タスクの削除記録を作成（INSERT ... SELECT文1回）
+     * 3. 対象タスクを削除（DELETE文1回）
+     * 
+     * 実務でのポイント：
+     * - 条件にキーワードを含む場合は、一覧と同じ規則で対象のIDを求め（TaskSearchService.findMatchingIds）、
+     * MAX_BULK_SIZE件ずつ1.〜3.を実行します
+     * 
+     * @param requestDto 対象（idsまたはfilter）
+     * @param userId     ユーザーID
+     * @return 削除した件数（TaskBulkOperationResponseDto）
+     * @throws IllegalArgumentException 対象の指定が不正な場合
+     */
+    @Transactional
+    public TaskBulkOperationResponseDto deleteTasks(TaskBulkDeleteDto requestDto, Long userId) {
+        validateBulkTarget(requestDto.getIds(), requestDto.getFilter());
+        long changeSeq = taskChangeService.nextChangeSeq(userId);
+
+        int affected;
+        if (requestDto.getIds() != null) {
+            taskSearchService.removeAll(userId, requestDto.getIds());
+            taskChangeService.recordDeletions(userId, requestDto.getIds(), changeSeq);
+            affected = taskRepository.deleteByUserIdAndIdIn(userId, requestDto.getIds());
+        } else {
+            TaskFilterDto filter = requestDto.getFilter();
+            if (hasKeyword(filter.getKeyword())) {
+                affected = 0;
+                for (List<Long> ids : partition(taskSearchService.findMatchingIds(
+                        userId, filter.getKeyword(), filter.getStatus(), filter.getPriority()))) {
+                    taskSearchService.removeAll(userId, ids);
+                    taskChangeService.recordDeletions(userId, ids, changeSeq);
+                    affected += taskRepository.deleteByUserIdAndIdIn(userId, ids);
+                }
+            } else {
+                taskSearchService.removeAll(userId, filter.getStatus(), filter.getPriority());
+                taskChangeService.recordDeletions(userId, filter.getStatus(), filter.getPriority(), changeSeq);
+                affected = taskRepository.deleteByUserIdWithFilters(userId, filter.getStatus(), filter.getPriority());
+            }
+        }
+        if (affected > 0) {
+            taskListCache.invalidate(userId);
+            taskEventBroadcaster.publish(userId, TaskEventDto.Type.DELETED, bulkEventTaskIds(requestDto.getIds()));
+        }
+        return new TaskBulkOperationResponseDto(affected);
+    }
+
+    /**
+     * 一括操作の対象指定をチェック
+     * 
+     * @param ids    タスクIDのリスト
+     * @param filter 絞り込み条件
+     * @throws IllegalArgumentException idsとfilterの両方、またはどちらも指定されていない場合など
+     */
+    private void validateBulkTarget(List<Long> ids, TaskFilterDto filter) {
+        if ((ids == null) == (filter == null)) {
+            throw new IllegalArgumentException("idsとfilterのどちらか一方を指定してください");
+        }
+        if (ids != null && (ids.isEmpty() || ids.size() > MAX_BULK_SIZE)) {
+            throw new IllegalArgumentException("idsは1〜" + MAX_BULK_SIZE + "件の範囲で指定してください");
+        }
+        if (filter != null && filter.isEmpty()) {
+            // 条件が空だと全タスクが対象になるため、明示的な指定を求めます
+            throw new IllegalArgumentException("filterには1つ以上の条件を指定してください");
+        }
+    }
+
+    /**
+     * キーワードが指定されているかどうか
+     * 
+     * @param keyword 検索キーワード
+     * @return nullまたは空白のみの場合はfalse
+     */
+    private boolean hasKeyword(String keyword) {
+        return keyword != null && !keyword.isBlank();
+    }
+
+    /**
+     * タスクIDのリストを、MAX_BULK_SIZE件ずつに分割
+     * 
+     * 実務でのポイント：
+     * - IN句のパラメータ数を、IDで指定する一括操作と同じ上限に抑えます
+     * 
+     * @param ids タスクIDのリスト
+     * @return 分割したリスト（空の場合は空のリスト）
+     */
+    private List<List<Long>> partition(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_BULK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(from + MAX_BULK_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 一括操作の変更通知に含めるタスクIDを作成
+     * 
+     * 実務でのポイント：
+     * - 条件（filter）で指定した場合は、対象のIDを取得せずに空のリストを通知します
+     * （IDを取得するためだけにSELECTを追加しないため。クライアントは差分同期で取得します）
+     * 
+     * @param ids リクエストのタスクIDのリスト（filterで指定した場合はnull）
+     * @return 通知するタスクIDのリスト
+     */
+    private List<Long> bulkEventTaskIds(List<Long> ids) {
+        if (ids == null) {
+            return List.of();
+        }
+        return ids.stream().filter(Objects::nonNull).distinct().toList();
     }
 
     /**
@@ -350,11 +915,15 @@ public class TaskService {
      * 実務での使用場面：
      * - ダッシュボードでの統計情報表示
      * 
+     * 実務でのポイント：
+     * - 一覧を取得してsize()を数えるのではなく、データベースでCOUNTを計算します
+     * - エンティティを1件も生成しないため、タスク数が多くてもメモリを消費しません
+     * 
      * @param userId ユーザーID
      * @return タスク総数
      */
     public long countTasksByUserId(Long userId) {
-        return taskRepository.findByUserId(userId).size();
+        return taskRepository.countByUserId(userId);
     }
 
     /**
@@ -368,6 +937,222 @@ public class TaskService {
      * @return ステータス別タスク数
      */
     public long countTasksByUserIdAndStatus(Long userId, TaskStatus status) {
-        return taskRepository.findByUserIdAndStatus(userId, status).size();
+        return taskRepository.countByUserIdAndStatus(userId, status);
+    }
+
+    /**
+     * ユーザーのタスク統計を取得
+     * 
+     * 実務での使用場面：
+     * - ダッシュボードの統計ウィジェット
+     * 
+     * 処理の流れ：
+     * 1. ステータス × 優先度ごとの件数を、1回のGROUP BYクエリで取得（最大9行）
+     * 2. Java側で、ステータス別・優先度別・期限切れ・今日が期日の合計を計算
+     * 
+     * 実務でのポイント：
+     * - EnumMapを使用し、すべてのステータス・優先度を0で初期化しておきます
+     * - これにより、該当タスクが無い項目もレスポンスに0として含まれます
+     * 
+     * @param userId ユーザーID
+     * @return タスク統計（TaskStatsResponseDto）
+     */
+    public TaskStatsResponseDto getTaskStats(Long userId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        long overdue = 0;
+        long dueToday = 0;
+
+        for (TaskRepository.StatusPriorityCount row : taskRepository.countGroupByStatusAndPriority(userId,
+                LocalDate.now())) {
+            long count = row.getTotal();
+            byStatus.merge(row.getStatus(), count, Long::sum);
+            byPriority.merge(row.getPriority(), count, Long::sum);
+            total += count;
+            overdue += row.getOverdue();
+            dueToday += row.getDueToday();
+        }
+
+        return new TaskStatsResponseDto(total, byStatus, byPriority, overdue, dueToday);
+    }
+
+    /**
+     * 前回の同期以降の変更を取得（差分同期）
+     * 
+     * 実務での使用場面：
+     * - モバイルアプリやオフライン対応のクライアントが、起動時・復帰時に変更分だけを取り込む
+     * - 全件を取得し直す代わりに、前回のnextTokenを渡して、作成・更新されたタスクと削除されたタスクのIDを受け取ります
+     * 
+     * @param userId ユーザーID
+     * @param since  前回のレスポンスのnextToken（nullの場合は最初の同期で、全件を順に返す）
+     * @param limit  1回で返す変更の最大件数（1〜TaskChangeService.MAX_CHANGES_LIMIT）
+     * @return 変更されたタスク・削除されたタスクのID・次回のトークン（TaskChangesResponseDto）
+     * @throws IllegalArgumentException トークンまたは件数が不正な場合
+     * @throws ChangeTokenExpiredException トークンより後の削除記録が、保持期間を過ぎて削除された場合
+     */
+    public TaskChangesResponseDto findChanges(Long userId, String since, int limit) {
+        return taskChangeService.findChanges(userId, since, limit);
+    }
+
+    // ========================================
+    // キーセットページング
+    // ========================================
+
+    /**
+     * ユーザーIDでタスクを1ページ分取得（作成日時の降順）
+     * 
+     * 実務でのポイント：
+     * - カーソルがnullの場合は1ページ目を返します
+     * - 2ページ目以降は、前のレスポンスのnextCursorを渡します
+     * - 何ページ目でも、1ページ目と同じコストで取得できます
+     * 
+     * @param userId ユーザーID
+     * @param cursor カーソル（nullの場合は1ページ目）
+     * @param limit  1ページあたりの件数（1〜MAX_PAGE_SIZE）
+     * @return 1ページ分のタスク（TaskPageResponseDto）
+     * @throws IllegalArgumentException カーソルまたは件数が不正な場合
+     */
+    public TaskPageResponseDto findPageByUserId(Long userId, String cursor, int limit) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageByUserId(
+                userId, position.getCreatedAt(), position.getId(), pageRequest(limit)), limit);
+    }
+
+    /**
+     * ステータスでフィルタして1ページ分取得（作成日時の降順）
+     * 
+     * @param userId ユーザーID
+     * @param status タスクのステータス
+     * @param cursor カーソル（nullの場合は1ページ目）
+     * @param limit  1ページあたりの件数
+     * @return 1ページ分のタスク（TaskPageResponseDto）
+     * @throws IllegalArgumentException カーソルまたは件数が不正な場合
+     */
+    public TaskPageResponseDto findPageByStatus(Long userId, TaskStatus status, String cursor, int limit) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageByUserIdAndStatus(
+                userId, status, position.getCreatedAt(), position.getId(), pageRequest(limit)), limit);
+    }
+
+    /**
+     * 優先度でフィルタして1ページ分取得（作成日時の降順）
+     * 
+     * @param userId   ユーザーID
+     * @param priority タスクの優先度
+     * @param cursor   カーソル（nullの場合は1ページ目）
+     * @param limit    1ページあたりの件数
+     * @return 1ページ分のタスク（TaskPageResponseDto）
+     * @throws IllegalArgumentException カーソルまたは件数が不正な場合
+     */
+    public TaskPageResponseDto findPageByPriority(Long userId, TaskPriority priority, String cursor, int limit) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageByUserIdAndPriority(
+                userId, priority, position.getCreatedAt(), position.getId(), pageRequest(limit)), limit);
+    }
+
+    /**
+     * 期限切れタスクを1ページ分取得（作成日時の降順）
+     * 
+     * @param userId ユーザーID
+     * @param cursor カーソル（nullの場合は1ページ目）
+     * @param limit  1ページあたりの件数
+     * @return 1ページ分のタスク（TaskPageResponseDto）
+     * @throws IllegalArgumentException カーソルまたは件数が不正な場合
+     */
+    public TaskPageResponseDto findPageOverdueTasks(Long userId, String cursor, int limit) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageByUserIdAndDueDateBefore(
+                userId, LocalDate.now(), position.getCreatedAt(), position.getId(), pageRequest(limit)), limit);
+    }
+
+    /**
+     * 今後のタスクを1ページ分取得（作成日時の降順）
+     * 
+     * @param userId ユーザーID
+     * @param cursor カーソル（nullの場合は1ページ目）
+     * @param limit  1ページあたりの件数
+     * @return 1ページ分のタスク（TaskPageResponseDto）
+     * @throws IllegalArgumentException カーソルまたは件数が不正な場合
+     */
+    public TaskPageResponseDto findPageFutureTasks(Long userId, String cursor, int limit) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        return toPage(taskRepository.findPageByUserIdAndDueDateAfter(
+                userId, LocalDate.now(), position.getCreatedAt(), position.getId(), pageRequest(limit)), limit);
+    }
+
+    /**
+     * 複合条件で検索して1ページ分取得（作成日時の降順）
+     * 
+     * 実務でのポイント：
+     * - キーワードがある場合は、findWithFiltersと同じ規則で判定します（TaskSearchService.findPage）
+     * 
+     * @param userId   ユーザーID
+     * @param status   タスクのステータス（nullの場合はフィルタしない）
+     * @param priority タスクの優先度（nullの場合はフィルタしない）
+     * @param keyword  検索キーワード（空の場合は検索しない）
+     * @param cursor   カーソル（nullの場合は1ページ目）
+     * @param limit    1ページあたりの件数
+     * @return 1ページ分のタスク（TaskPageResponseDto）
+     * @throws IllegalArgumentException カーソルまたは件数が不正な場合
+     */
+    public TaskPageResponseDto findPageWithFilters(Long userId,
+            TaskStatus status,
+            TaskPriority priority,
+            String keyword,
+            String cursor,
+            int limit) {
+        TaskCursor position = TaskCursor.decode(cursor);
+        PageRequest pageRequest = pageRequest(limit);
+
+        if (hasKeyword(keyword)) {
+            return toPage(taskSearchService.findPage(userId, keyword, status, priority,
+                    position.getCreatedAt(), position.getId(), pageRequest.getPageSize()), limit);
+        }
+        return toPage(taskRepository.findPageByUserIdWithFilters(
+                userId, status, priority, position.getCreatedAt(), position.getId(), pageRequest), limit);
+    }
+
+    /**
+     * 取得件数からPageRequestを作成
+     * 
+     * 実務でのポイント：
+     * - 次のページが存在するか判定するため、limit + 1件を取得します
+     * - これにより、COUNTクエリを発行せずにhasNextを判定できます
+     * 
+     * @param limit 1ページあたりの件数
+     * @return PageRequest
+     * @throws IllegalArgumentException 件数が範囲外の場合
+     */
+    private PageRequest pageRequest(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limitは1〜" + MAX_PAGE_SIZE + "の範囲で指定してください");
+        }
+        return PageRequest.of(0, limit + 1);
+    }
+
+    /**
+     * 取得結果（最大limit + 1件）をページレスポンスに変換
+     * 
+     * @param tasks 取得したタスク（DTOプロジェクション）
+     * @param limit 1ページあたりの件数
+     * @return TaskPageResponseDto
+     */
+    private TaskPageResponseDto toPage(List<TaskResponseDto> tasks, int limit) {
+        boolean hasNext = tasks.size() > limit;
+        List<TaskResponseDto> items = hasNext ? tasks.subList(0, limit) : tasks;
+
+        String nextCursor = hasNext
+                ? TaskCursor.of(items.get(items.size() - 1)).encode()
+                : null;
+
+        return new TaskPageResponseDto(items, nextCursor, hasNext);
     }
-}
\ No newline at end of file
+}
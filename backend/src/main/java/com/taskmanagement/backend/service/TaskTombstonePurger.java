@@ -0,0 +1,103 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.model.Task;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 保持期間を過ぎた削除記録（TaskTombstone）の定期削除
+ *
+ * このクラスの役割：
+ * - purge-interval-msごとに、削除からtombstone-retention-days日を過ぎた削除記録を削除する
+ * - 削除はTaskChangeService.purgeTombstones()で、BATCH_SIZE件ずつ別のトランザクションで行う
+ *
+ * なぜ削除記録を削除するのか：
+ * - 削除記録はタスクを削除するたびに増え続け、削除したタスクの数だけテーブルが大きくなります
+ * - 保持期間より長く同期していないクライアントは、410（Gone）を受け取り、最初から同期し直します
+ *
+ * 実務でのポイント：
+ * - 1回のトランザクションで削除する件数を制限し、ロックとUNDOログが大きくならないようにします
+ * - 削除に失敗しても、次の実行で残りを削除するため、ログを出力して処理を続けます
+ *
+ * 注意点：
+ * - サーバーを複数台で動かす場合は、各サーバーで実行されます
+ * （同じ削除記録を削除しても結果は同じですが、必要であればShedLockなどで1台に絞ってください）
+ */
+@Slf4j
+@Component
+public class TaskTombstonePurger {
+
+    /**
+     * 1回のトランザクションで削除する件数
+     */
+    static final int BATCH_SIZE = 1000;
+
+    private final TaskChangeService taskChangeService;
+
+    /**
+     * 削除記録の保持期間（日）
+     */
+    private final long retentionDays;
+
+    /**
+     * 定期削除用のスケジューラー
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * コンストラクタ
+     *
+     * @param taskChangeService   TaskChangeService
+     * @param retentionDays       app.task-changes.tombstone-retention-days（削除記録の保持期間）
+     * @param purgeIntervalMillis app.task-changes.purge-interval-ms（定期削除の間隔）
+     */
+    public TaskTombstonePurger(
+            TaskChangeService taskChangeService,
+            @Value("${app.task-changes.tombstone-retention-days:30}") long retentionDays,
+            @Value("${app.task-changes.purge-interval-ms:3600000}") long purgeIntervalMillis) {
+        this.taskChangeService = taskChangeService;
+        this.retentionDays = retentionDays;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("task-tombstone-purge").daemon().factory());
+        this.scheduler.scheduleWithFixedDelay(this::purgeExpired, purgeIntervalMillis, purgeIntervalMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 保持期間を過ぎた削除記録をすべて削除
+     *
+     * @return 削除した件数
+     */
+    public int purgeExpired() {
+        LocalDateTime cutoff = Task.currentTimestamp().minusDays(retentionDays);
+        int purged = 0;
+        try {
+            int batch;
+            do {
+                batch = taskChangeService.purgeTombstones(cutoff, BATCH_SIZE);
+                purged += batch;
+            } while (batch == BATCH_SIZE && !Thread.currentThread().isInterrupted());
+        } catch (RuntimeException ex) {
+            log.warn("削除記録の削除に失敗しました（次回の実行で再試行します）", ex);
+        }
+        if (purged > 0) {
+            log.info("保持期間を過ぎた削除記録を{}件削除しました", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * シャットダウン時に、スケジューラーを停止
+     */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -51,6 +51,13 @@ public class UserService {
      */
     private final UserRepository userRepository;
 
+    /**
+     * タスク一覧のレスポンスキャッシュ
+     * 
+     * タスク一覧のJSONにはユーザー名（username）が含まれるため、ユーザー名の変更時に無効化します
+     */
+    private final TaskListCache taskListCache;
+
     /**
      * IDでユーザーを取得
      * 
@@ -156,6 +163,9 @@ public class UserService {
         // データベースに保存（@PreUpdateが自動実行され、updatedAtが更新される）
         User updatedUser = userRepository.save(user);
 
+        // タスク一覧のキャッシュを無効化（一覧にユーザー名が含まれるため）
+        taskListCache.invalidate(id);
+
         // DTOに変換して返す
         return UserResponseDto.fromEntity(updatedUser);
     }
@@ -189,6 +199,27 @@ public class UserService {
         return UserResponseDto.fromEntity(updatedUser);
     }
 
+    /**
+     * パスワードのハッシュを、ハッシュ化し直したものに置き換える（ログイン時のコストの移行）
+     * 
+     * 実務でのポイント：
+     * - 保存されているハッシュがcurrentPasswordのままの場合だけ置き換えます
+     * - ログインの検証中にパスワードが変更された場合は、変更後のパスワードを上書きしません
+     * - エンティティ経由で更新するため、2次キャッシュ（users）も更新されます
+     * 
+     * @param id              ユーザーID
+     * @param currentPassword 検証に使ったハッシュ値
+     * @param newPassword     ハッシュ化し直したハッシュ値
+     * @return 置き換えた場合はtrue（ユーザーが削除された、またはパスワードが変更されていた場合はfalse）
+     */
+    @Transactional
+    public boolean rehashPassword(Long id, String currentPassword, String newPassword) {
+        Optional<User> user = userRepository.findById(id)
+                .filter(found -> found.getPassword().equals(currentPassword));
+        user.ifPresent(found -> found.setPassword(newPassword));
+        return user.isPresent();
+    }
+
     /**
      * ユーザーを削除
      * 
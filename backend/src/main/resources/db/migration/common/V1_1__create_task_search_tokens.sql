@@ -0,0 +1,22 @@
+-- ========================================
+-- V1.1: 検索インデックス（TaskSearchToken）
+-- ========================================
+--
+-- なぜV1とは別のファイルなのか：
+-- - ddl-auto=update で作成済みの既存データベースは、baseline-on-migrate によりV1をスキップします
+-- - V1で作成すると、既存データベースにはこのテーブルが作成されず、ddl-auto=validate で起動に失敗します
+--
+-- 実務でのポイント：
+-- - IF NOT EXISTS により、ddl-auto=update でこのテーブルが作成済みのデータベースにも適用できます
+-- - 外部キーは設定しません（削除済みタスクのトークンは検索時に除外されます）
+-- - トークンの作成は、起動時にTaskSearchIndexInitializerが行います
+
+CREATE TABLE IF NOT EXISTS task_search_tokens (
+    task_id BIGINT NOT NULL,
+    token   VARCHAR(8) NOT NULL,
+    user_id BIGINT NOT NULL,
+    weight  INTEGER NOT NULL,
+    CONSTRAINT pk_task_search_tokens PRIMARY KEY (task_id, token)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_search_tokens_user_token ON task_search_tokens (user_id, token, task_id);
@@ -0,0 +1,19 @@
+-- ========================================
+-- V1.2: ddl-auto=update で作成されたカラムの型をV1に揃える
+-- ========================================
+--
+-- なぜ必要なのか：
+-- - ddl-auto=update で作成済みの既存データベースは、V1をスキップするため、カラムの型が異なります
+--   - description：TEXT（H2ではCLOB）→ V1はVARCHAR(5000)
+--   - status、priority：H2ではENUM型（Hibernate 6の既定）→ V1はVARCHAR(20)
+-- - 型が異なると、ddl-auto=validate で起動に失敗します
+--
+-- 実務でのポイント：
+-- - V1で作成したデータベースでは、同じ型への変更のため何も変わりません
+-- - SET DATA TYPE は、H2とPostgreSQLの両方で使用できる構文です
+
+ALTER TABLE tasks ALTER COLUMN description SET DATA TYPE VARCHAR(5000);
+
+ALTER TABLE tasks ALTER COLUMN status SET DATA TYPE VARCHAR(20);
+
+ALTER TABLE tasks ALTER COLUMN priority SET DATA TYPE VARCHAR(20);
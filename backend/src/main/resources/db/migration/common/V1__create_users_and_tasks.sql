@@ -0,0 +1,41 @@
+-- ========================================
+-- V1: 初期スキーマ
+-- ========================================
+--
+-- これまで spring.jpa.hibernate.ddl-auto=update で作成していたテーブルを、
+-- マイグレーションとして定義します。
+--
+-- 実務でのポイント：
+-- - H2（開発・テスト）とPostgreSQL（本番）の両方で動作する構文のみを使用します
+-- - ddl-auto=update で作成済みの既存データベースは、baseline-on-migrate により
+--   このファイルをスキップし、V1.1以降のみが適用されます
+-- - そのため、このファイルには既存データベースに必ずあるテーブル（users、tasks）だけを定義します
+--   後から追加したテーブルは、既存データベースにも作成されるよう、V1.1以降のマイグレーションで作成します
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(255) NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    username   VARCHAR(255) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+-- tasks.idは、Task.idのシーケンス（tasks_seq、V3で作成）から採番するため、既定値（IDENTITY）を持ちません
+-- IDENTITYがあると、IDを指定しないINSERTがシーケンスとは別の番号を使い、IDが重複します
+CREATE TABLE tasks (
+    id          BIGINT PRIMARY KEY,
+    title       VARCHAR(255) NOT NULL,
+    description VARCHAR(5000),
+    due_date    DATE,
+    status      VARCHAR(20) NOT NULL,
+    priority    VARCHAR(20) NOT NULL,
+    user_id     BIGINT NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT fk_tasks_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT ck_tasks_status CHECK (status IN ('TODO', 'IN_PROGRESS', 'DONE')),
+    CONSTRAINT ck_tasks_priority CHECK (priority IN ('HIGH', 'MEDIUM', 'LOW'))
+);
+
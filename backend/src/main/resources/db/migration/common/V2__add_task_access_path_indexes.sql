@@ -0,0 +1,26 @@
+-- ========================================
+-- V2: タスクのアクセスパスごとの複合インデックス
+-- ========================================
+--
+-- なぜ複合インデックスが必要なのか：
+-- - すべてのタスク取得は「user_id = ?」から始まるため、先頭列は必ずuser_idにします
+-- - 2列目以降に絞り込み条件（status、priority、due_date）と並び順（created_at DESC, id DESC）を並べることで、
+--   インデックスだけで対象行を特定し、ソートせずにLIMIT件だけ読み込めます
+--
+-- 対応するTaskRepositoryのメソッド：
+-- - idx_tasks_user_created:  findDtosByUserIdOrderByCreatedAtDesc, findPageByUserId, countByUserId
+-- - idx_tasks_user_status:   findDtosByUserIdAndStatus, findPageByUserIdAndStatus, countByUserIdAndStatus
+-- - idx_tasks_user_priority: findDtosByUserIdAndPriority, findPageByUserIdAndPriority
+-- - idx_tasks_user_due_date: findDtosByUserIdAndDueDateBefore/After, findPageByUserIdAndDueDateBefore/After
+--
+-- 実務でのポイント：
+-- - IF NOT EXISTS により、ddl-auto=update で作成済みのデータベースにも安全に適用できます
+-- - PostgreSQLは外部キーに自動でインデックスを作成しないため、user_idのインデックスはここで作成されます
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_created ON tasks (user_id, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_status ON tasks (user_id, status, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_priority ON tasks (user_id, priority, created_at DESC, id DESC);
+
+CREATE INDEX IF NOT EXISTS idx_tasks_user_due_date ON tasks (user_id, due_date);
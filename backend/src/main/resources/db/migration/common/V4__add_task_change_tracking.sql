@@ -0,0 +1,35 @@
+-- ========================================
+-- V4: 差分同期（GET /api/tasks/changes）のための変更番号と削除記録
+-- ========================================
+--
+-- 変更番号（change_seq）とは：
+-- - タスクを作成・更新・削除するたびに、task_changes_seq から採番する番号です
+-- - クライアントは「最後に受け取った変更番号」を保持し、それより後の変更だけを取得します
+--
+-- なぜupdated_atではなく変更番号なのか：
+-- - updated_at はアプリケーションサーバーの時計で決まるため、サーバー間の時計のずれや、
+--   時計の巻き戻り（NTPによる補正）があると、後から書き込まれた行が過去の時刻になります
+-- - また、トランザクションのコミット順と updated_at の順序は一致しません
+-- - シーケンスはデータベースが採番するため、時計に依存せず単調に増加します
+--
+-- 実務でのポイント：
+-- - 既存のタスクの change_seq は0になります（初回の同期ですべて返されます）
+-- - task_tombstones は削除したタスクの記録です。削除された行は tasks に残らないため、
+--   「削除された」ことをクライアントに伝えるために別のテーブルに記録します
+-- - task_search_tokens と同様に外部キーは設定しません（ユーザーの削除を妨げないため）
+
+CREATE SEQUENCE task_changes_seq START WITH 1 INCREMENT BY 1;
+
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX idx_tasks_user_change ON tasks (user_id, change_seq, id);
+
+CREATE TABLE task_tombstones (
+    task_id    BIGINT NOT NULL,
+    user_id    BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_tombstones PRIMARY KEY (task_id)
+);
+
+CREATE INDEX idx_task_tombstones_user_change ON task_tombstones (user_id, change_seq, task_id);
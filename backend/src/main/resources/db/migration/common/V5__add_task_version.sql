@@ -0,0 +1,15 @@
+-- ========================================
+-- V5: タスクの楽観的ロック（バージョン番号）
+-- ========================================
+--
+-- バージョン番号（version）とは：
+-- - タスクを更新するたびに1ずつ増える番号です（JPAの@Version）
+-- - クライアントは取得したときのバージョンを更新リクエストに含め、
+--   その間に他の操作で更新されていた場合は、上書きせずに409（Conflict）を返します
+--
+-- 実務でのポイント：
+-- - 既存のタスクのバージョンは0から始まります
+-- - 一括UPDATE（TaskRepositoryの@Query）では、Hibernateがバージョンを自動で増やさないため、
+--   SET句で明示的に version = version + 1 を指定しています
+
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
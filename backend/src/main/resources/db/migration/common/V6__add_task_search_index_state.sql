@@ -0,0 +1,27 @@
+-- ========================================
+-- V6: 検索インデックスの作成状況（TaskSearchIndexInitializer）
+-- ========================================
+--
+-- なぜ作成状況を記録するのか：
+-- - これまでは起動のたびに task_search_tokens と tasks の件数（COUNT）を数え、
+--   インデックスが空の場合に作成していました
+-- - 数億行のトークンのCOUNTは全件の走査になり、起動が数分遅れます
+-- - また、作成の途中で停止すると、インデックスが空ではないため、残りのタスクが作成されないままになります
+--
+-- 各カラムの意味：
+-- - last_task_id: インデックスを作成し終えた最後のタスクID（バッチと同じトランザクションで更新）
+-- - max_task_id: 作成を開始した時点の最大のタスクID（それより後のタスクは、作成時にインデックスが登録されます）
+-- - completed: 作成が完了したかどうか
+--
+-- 実務でのポイント：
+-- - 行は1行だけです（id = 1）
+-- - 既存のデータベースには行が無いため、次の起動時にインデックスを作り直します
+--   （インデックスが途中までしか作成されていないかどうかを、件数を数えずに判定できないため）
+
+CREATE TABLE task_search_index_state (
+    id           INTEGER NOT NULL,
+    last_task_id BIGINT  NOT NULL,
+    max_task_id  BIGINT  NOT NULL,
+    completed    BOOLEAN NOT NULL,
+    CONSTRAINT pk_task_search_index_state PRIMARY KEY (id)
+);
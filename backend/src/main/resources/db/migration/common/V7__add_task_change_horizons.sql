@@ -0,0 +1,26 @@
+-- ========================================
+-- V7: 削除記録（task_tombstones）の保持期間と、削除した位置の記録
+-- ========================================
+--
+-- なぜ削除記録を削除するのか：
+-- - 削除記録はタスクを削除するたびに増え続けるため、保持期間（app.task-changes.tombstone-retention-days）を
+--   過ぎたものを TaskTombstonePurger が定期的に削除します
+--
+-- task_change_horizons とは：
+-- - ユーザーごとに、削除した削除記録の最も後ろの位置（change_seq, task_id）を記録します
+-- - この位置より前のトークンで同期すると、削除を取りこぼすため、410（Gone）を返して全件の再同期を求めます
+-- - 削除記録を削除したことが無いユーザーには行がありません（古いトークンでも、そのまま同期できます）
+--
+-- 実務でのポイント：
+-- - idx_task_tombstones_deleted_at は、保持期間を過ぎた削除記録を削除日時の順に読み込むためのインデックスです
+-- - task_tombstones と同様に外部キーは設定しません（ユーザーの削除を妨げないため）
+
+CREATE TABLE task_change_horizons (
+    user_id    BIGINT       NOT NULL,
+    change_seq BIGINT       NOT NULL,
+    task_id    BIGINT       NOT NULL,
+    purged_at  TIMESTAMP(6) NOT NULL,
+    CONSTRAINT pk_task_change_horizons PRIMARY KEY (user_id)
+);
+
+CREATE INDEX idx_task_tombstones_deleted_at ON task_tombstones (deleted_at);
@@ -0,0 +1,10 @@
+-- ========================================
+-- V3: タスクIDのシーケンス（H2）
+-- ========================================
+--
+-- Task.idをIDENTITYからSEQUENCE（pooled）に変更するためのシーケンスです。
+-- INCREMENT BY は、Task.idの@SequenceGeneratorのallocationSizeと一致させます。
+--
+-- H2は開発・テスト用のインメモリDBで、起動時は常に空のため、1から開始します。
+
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
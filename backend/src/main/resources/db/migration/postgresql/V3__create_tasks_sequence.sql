@@ -0,0 +1,18 @@
+-- ========================================
+-- V3: タスクIDのシーケンス（PostgreSQL）
+-- ========================================
+--
+-- Task.idをIDENTITYからSEQUENCE（pooled）に変更するためのシーケンスです。
+-- INCREMENT BY は、Task.idの@SequenceGeneratorのallocationSizeと一致させます。
+--
+-- 実務でのポイント：
+-- - 既存のタスクがあるデータベースでは、既存のIDと重複しないように開始位置を設定します
+-- - pooledでは、シーケンスの値が「払い出すIDの上限」になるため、最大ID + 50 を設定します
+-- - ddl-auto=update で作成済みのデータベースでは、tasks.idがIDENTITYのため、IDの採番元を
+--   シーケンスだけにするよう、IDENTITYを削除します（V1で作成した場合は何もしません）
+
+CREATE SEQUENCE tasks_seq INCREMENT BY 50;
+
+SELECT setval('tasks_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM tasks));
+
+ALTER TABLE tasks ALTER COLUMN id DROP IDENTITY IF EXISTS;
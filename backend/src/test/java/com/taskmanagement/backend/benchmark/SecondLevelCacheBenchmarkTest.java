@@ -0,0 +1,165 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.service.TaskService;
+import com.taskmanagement.backend.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2次キャッシュ・クエリキャッシュのベンチマーク（読み取りが多いワークロード）
+ *
+ * テストの目的：
+ * - 読み取り90%・書き込み10%の操作を、キャッシュなし・キャッシュありで実行し、
+ * データベースへの往復回数（実行したSQLの数）と処理時間を比較する
+ *
+ * 操作の内訳：
+ * - 40%: タスク一覧（GET /api/tasks）
+ * - 25%: タスクの詳細（GET /api/tasks/{id}）
+ * - 25%: ユーザーの取得（GET /api/users/{id}）
+ * - 10%: ステータスの変更（PUT /api/tasks/{id}/status）
+ *
+ * 実行方法：
+ * ./mvnw test -Dtest=SecondLevelCacheBenchmarkTest -Dbenchmark=true
+ * -Dbenchmark.users=50 -Dbenchmark.tasksPerUser=200 -Dbenchmark.operations=20000
+ * -Dspring.jpa.show-sql=false
+ *
+ * 実務でのポイント：
+ * - 「キャッシュなし」は、操作ごとにすべてのキャッシュを破棄して計測します（同じ操作列・同じデータ）
+ * - 書き込みのたびにtasksテーブルのクエリ結果はすべて無効になるため、
+ * 書き込みの割合が増えるほど、クエリキャッシュの効果は小さくなります
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class SecondLevelCacheBenchmarkTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_search_tokens");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users WHERE email LIKE 'cache-benchmark-%@example.com'");
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+    }
+
+    /**
+     * キャッシュなし・キャッシュありで、SQLの実行回数と処理時間を比較するベンチマーク
+     */
+    @Test
+    void benchmarkReadHeavyMix() {
+        int userCount = Integer.getInteger("benchmark.users", 50);
+        int tasksPerUser = Integer.getInteger("benchmark.tasksPerUser", 200);
+        int operations = Integer.getInteger("benchmark.operations", 20000);
+
+        List<Long> userIds = new ArrayList<>();
+        List<List<Long>> taskIds = new ArrayList<>();
+        for (int u = 0; u < userCount; u++) {
+            Long userId = userService.createUser(
+                    "cache-benchmark-" + u + "@example.com", "password", "ベンチマーク" + u).getId();
+            userIds.add(userId);
+            taskService.createTasks(createRequests(tasksPerUser), userId);
+            taskIds.add(taskService.findAllByUserId(userId).stream().map(TaskResponseDto::getId).toList());
+        }
+
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        Statistics statistics = sessionFactory.getStatistics();
+
+        // ウォームアップ
+        run(userIds, taskIds, Math.min(1000, operations), false, sessionFactory);
+
+        statistics.clear();
+        long uncachedStart = System.nanoTime();
+        run(userIds, taskIds, operations, true, sessionFactory);
+        double uncachedSeconds = (System.nanoTime() - uncachedStart) / 1e9;
+        long uncachedStatements = statistics.getPrepareStatementCount();
+
+        sessionFactory.getCache().evictAllRegions();
+        statistics.clear();
+        long cachedStart = System.nanoTime();
+        run(userIds, taskIds, operations, false, sessionFactory);
+        double cachedSeconds = (System.nanoTime() - cachedStart) / 1e9;
+        long cachedStatements = statistics.getPrepareStatementCount();
+
+        System.out.printf("キャッシュなし: %d操作 SQL %d回 %.2f秒 (%.0f操作/秒)%n",
+                operations, uncachedStatements, uncachedSeconds, operations / uncachedSeconds);
+        System.out.printf("キャッシュあり: %d操作 SQL %d回 %.2f秒 (%.0f操作/秒)%n",
+                operations, cachedStatements, cachedSeconds, operations / cachedSeconds);
+        System.out.printf("クエリキャッシュ: ヒット %d / ミス %d、2次キャッシュ: ヒット %d / ミス %d%n",
+                statistics.getQueryCacheHitCount(), statistics.getQueryCacheMissCount(),
+                statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount());
+
+        assertTrue(cachedStatements < uncachedStatements);
+    }
+
+    /**
+     * 操作列を実行（同じシードを使うため、毎回同じ操作列になります）
+     *
+     * @param evictBeforeEach trueの場合、操作ごとにすべてのキャッシュを破棄する（キャッシュなし）
+     */
+    private void run(List<Long> userIds, List<List<Long>> taskIds, int operations,
+            boolean evictBeforeEach, SessionFactory sessionFactory) {
+        Random random = new Random(42);
+        TaskStatus[] statuses = TaskStatus.values();
+
+        for (int i = 0; i < operations; i++) {
+            if (evictBeforeEach) {
+                sessionFactory.getCache().evictAllRegions();
+            }
+            int u = random.nextInt(userIds.size());
+            Long userId = userIds.get(u);
+            List<Long> ids = taskIds.get(u);
+            int operation = random.nextInt(100);
+
+            if (operation < 40) {
+                taskService.findAllByUserId(userId);
+            } else if (operation < 65) {
+                taskService.findById(ids.get(random.nextInt(ids.size())), userId);
+            } else if (operation < 90) {
+                userService.findById(userId);
+            } else {
+                taskService.updateTaskStatus(ids.get(random.nextInt(ids.size())),
+                        statuses[random.nextInt(statuses.length)], userId);
+            }
+        }
+    }
+
+    private List<TaskRequestDto> createRequests(int taskCount) {
+        List<TaskRequestDto> requests = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            TaskRequestDto request = new TaskRequestDto();
+            request.setTitle("タスク " + i);
+            request.setDescription("キャッシュのベンチマーク用のタスク " + i);
+            request.setStatus(TaskStatus.TODO);
+            request.setPriority(TaskPriority.MEDIUM);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,102 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.dto.TaskBulkCreateResponseDto;
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.service.TaskService;
+import com.taskmanagement.backend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * タスク作成のベンチマーク（1件ずつ作成 vs 一括作成）
+ *
+ * テストの目的：
+ * - POST /api/tasks を繰り返す場合（createTaskのループ）と、
+ * POST /api/tasks/bulk（createTasks）のスループットを比較する
+ *
+ * 実行方法：
+ * ./mvnw test -Dtest=TaskBulkCreateBenchmarkTest -Dbenchmark=true -Dbenchmark.tasks=5000
+ *
+ * 実務でのポイント：
+ * - 通常のテスト実行では時間がかかりすぎるため、-Dbenchmark=true を指定した場合のみ実行します
+ * - spring.jpa.show-sql=true のままだとログ出力が支配的になるため、
+ * -Dspring.jpa.show-sql=false を指定して実行してください
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskBulkCreateBenchmarkTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_search_tokens");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users WHERE email = 'bulk-benchmark@example.com'");
+    }
+
+    /**
+     * 1件ずつ作成と一括作成のスループットを比較するベンチマーク
+     */
+    @Test
+    void benchmarkSingleVersusBulk() {
+        int taskCount = Integer.getInteger("benchmark.tasks", 5000);
+        UserResponseDto user = userService.createUser("bulk-benchmark@example.com", "password", "ベンチマーク");
+        List<TaskRequestDto> requests = createRequests(taskCount);
+
+        // ウォームアップ
+        taskService.createTasks(requests.subList(0, Math.min(100, taskCount)), user.getId());
+
+        long singleStart = System.nanoTime();
+        for (TaskRequestDto request : requests) {
+            taskService.createTask(request, user.getId());
+        }
+        double singleSeconds = (System.nanoTime() - singleStart) / 1e9;
+
+        long bulkStart = System.nanoTime();
+        int created = 0;
+        for (int from = 0; from < taskCount; from += TaskService.MAX_BULK_SIZE) {
+            int to = Math.min(from + TaskService.MAX_BULK_SIZE, taskCount);
+            TaskBulkCreateResponseDto result = taskService.createTasks(requests.subList(from, to), user.getId());
+            created += result.getCreated();
+        }
+        double bulkSeconds = (System.nanoTime() - bulkStart) / 1e9;
+
+        assertEquals(taskCount, created);
+        System.out.printf("1件ずつ: %d件 %.2f秒 (%.0f件/秒)%n", taskCount, singleSeconds, taskCount / singleSeconds);
+        System.out.printf("一括作成: %d件 %.2f秒 (%.0f件/秒)%n", taskCount, bulkSeconds, taskCount / bulkSeconds);
+        System.out.printf("倍率: %.1f倍%n", singleSeconds / bulkSeconds);
+    }
+
+    private List<TaskRequestDto> createRequests(int taskCount) {
+        List<TaskRequestDto> requests = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            TaskRequestDto request = new TaskRequestDto();
+            request.setTitle("インポートされたタスク " + i);
+            request.setDescription("他のツールから取り込んだタスクの詳細 " + i);
+            request.setStatus(TaskStatus.TODO);
+            request.setPriority(TaskPriority.MEDIUM);
+            requests.add(request);
+        }
+        return requests;
+    }
+}
@@ -0,0 +1,211 @@
+package com.taskmanagement.backend.benchmark;
+
+import com.taskmanagement.backend.config.TaskSearchIndexInitializer;
+import com.taskmanagement.backend.dataset.TaskDatasetGenerator;
+import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.service.TaskSearchService;
+import com.taskmanagement.backend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * キーワード検索のベンチマーク（LIKE vs N-gram検索インデックス）
+ *
+ * テストの目的：
+ * - 1人のユーザーが大量のタスクを持つ場合に、LIKE検索と検索インデックスの応答時間を比較する
+ * - 両方の検索で、同じタスクがヒットすることを確認する
+ *
+ * 何と何を比較するのか：
+ * - LIKE(ms)とindex(ms)は、どちらも一致するすべてのタスクIDを取得する時間です
+ * （LIKEの全件と、findMatchingIds()の全件。件数の上限が無い同じ条件で比較し、IDの集合が一致することも確認します）
+ * - top500(ms)は、一覧のキーワード検索（search()、スコア順に最大MAX_SEARCH_RESULTS件）の時間で、参考値です
+ * （LIKEにはスコアが無く、同じ順序の上位500件を求められないため、LIKEとは比較しません）
+ *
+ * 実行方法：
+ * ./mvnw test -Dtest=TaskSearchBenchmarkTest -Dbenchmark=true -Dbenchmark.tasks=1000000
+ *
+ * 実務でのポイント：
+ * - 通常のテスト実行では時間がかかりすぎるため、-Dbenchmark=true を指定した場合のみ実行します
+ * - タスク数は -Dbenchmark.tasks で指定します（デフォルト100万件）
+ * - 100万件の場合、H2のインメモリDBでは数GBのヒープが必要です（-DargLine=-Xmx8g）
+ * - 本番に近い数値を得るには、spring.datasource.urlをPostgreSQLに向けて実行してください
+ */
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TaskSearchBenchmarkTest {
+
+    /**
+     * タイトル・詳細の生成に使用する単語
+     */
+    private static final String[] WORDS = {
+            "買い物", "資料", "作成", "会議", "準備", "レビュー", "報告書", "見積もり", "請求書", "確認",
+            "プロジェクト", "設計", "実装", "テスト", "リリース", "顧客", "打ち合わせ", "予約", "掃除", "整理",
+            "メール", "返信", "電話", "契約", "更新", "調査", "分析", "提案", "発注", "在庫"
+    };
+
+    /**
+     * 検索するキーワード
+     */
+    private static final String[] KEYWORDS = { "報告書", "見積もり", "打ち合わせ", "リリース", "在庫" };
+
+    private static final int INSERT_BATCH_SIZE = 5000;
+
+    private static final int WARMUP = 3;
+
+    private static final int ITERATIONS = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskSearchIndexInitializer taskSearchIndexInitializer;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_search_tokens");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users WHERE email = 'benchmark@example.com'");
+    }
+
+    /**
+     * LIKE検索と検索インデックスの応答時間を比較するベンチマーク
+     */
+    @Test
+    void benchmarkLikeVersusIndex() {
+        int taskCount = Integer.getInteger("benchmark.tasks", 1_000_000);
+        jdbcTemplate.update("DELETE FROM task_search_tokens");
+        jdbcTemplate.update("DELETE FROM tasks");
+        jdbcTemplate.update("DELETE FROM users WHERE email = 'benchmark@example.com'");
+
+        UserResponseDto user = userService.createUser("benchmark@example.com", "password", "ベンチマーク");
+        Long userId = user.getId();
+
+        long seedStart = System.nanoTime();
+        seedTasks(userId, taskCount);
+        System.out.printf("タスク投入: %d件 %.1f秒%n", taskCount, (System.nanoTime() - seedStart) / 1e9);
+
+        long indexStart = System.nanoTime();
+        taskSearchIndexInitializer.rebuild();
+        System.out.printf("インデックス作成: %.1f秒%n", (System.nanoTime() - indexStart) / 1e9);
+
+        System.out.printf("%-12s %12s %12s %12s %8s%n", "keyword", "LIKE(ms)", "index(ms)", "top500(ms)", "hits");
+        for (String keyword : KEYWORDS) {
+            List<Long> likeIds = likeSearch(userId, keyword);
+            List<Long> indexIds = taskSearchService.findMatchingIds(userId, keyword, null, null);
+            assertEquals(likeIds, indexIds, keyword + " の検索結果が、LIKEと検索インデックスで異なります");
+
+            double likeMillis = measure(() -> likeSearch(userId, keyword));
+            double indexMillis = measure(() -> taskSearchService.findMatchingIds(userId, keyword, null, null));
+            double topMillis = measure(() -> taskSearchService.search(userId, keyword, null, null));
+            System.out.printf("%-12s %12.1f %12.1f %12.1f %8d%n",
+                    keyword, likeMillis, indexMillis, topMillis, likeIds.size());
+        }
+    }
+
+    /**
+     * JDBCのバッチINSERTでタスクを投入
+     *
+     * 実務でのポイント：
+     * - JPAでエンティティを100万件保存すると時間がかかるため、JdbcTemplateで直接INSERTします
+     * - 乱数のシードを固定し、毎回同じデータで計測できるようにします
+     * - IDはTaskDatasetGenerator.reserveTaskIds()でtasks_seqから確保します
+     * （アプリケーションが後から採番するIDと重複しないようにするため）
+     *
+     * @param userId    ユーザーID
+     * @param taskCount タスク数
+     */
+    private void seedTasks(Long userId, int taskCount) {
+        Random random = new Random(42);
+        String[] statuses = { "TODO", "IN_PROGRESS", "DONE" };
+        String[] priorities = { "HIGH", "MEDIUM", "LOW" };
+        LocalDateTime base = LocalDateTime.now().minusDays(365);
+        long firstTaskId = jdbcTemplate.execute(
+                (ConnectionCallback<Long>) connection -> TaskDatasetGenerator.reserveTaskIds(connection, taskCount));
+
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 0; i < taskCount; i++) {
+            Timestamp createdAt = Timestamp.valueOf(base.plusSeconds(i));
+            rows.add(new Object[] {
+                    firstTaskId + i,
+                    randomText(random, 3),
+                    randomText(random, 12),
+                    statuses[random.nextInt(statuses.length)],
+                    priorities[random.nextInt(priorities.length)],
+                    userId,
+                    createdAt,
+                    createdAt
+            });
+            if (rows.size() == INSERT_BATCH_SIZE || i == taskCount - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO tasks " +
+                        "(id, title, description, status, priority, user_id, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+                rows.clear();
+            }
+        }
+    }
+
+    /**
+     * LIKEの部分一致で検索（比較の基準）
+     *
+     * 実務でのポイント：
+     * - アプリケーションのキーワード検索はすべて検索インデックスを使用するため、LIKEの検索はこのベンチマークにだけあります
+     * - LOWER()は全角・半角を同一視しないため、検索インデックス（NFKC正規化）とは結果が異なる場合があります
+     * （KEYWORDSは正規化しても変わらない語のみのため、このベンチマークでは同じ結果になります）
+     *
+     * @param userId  ユーザーID
+     * @param keyword キーワード
+     * @return ヒットしたタスクのID（IDの昇順。findMatchingIds()と同じ順序）
+     */
+    private List<Long> likeSearch(Long userId, String keyword) {
+        String pattern = "%" + keyword.toLowerCase() + "%";
+        return jdbcTemplate.queryForList("SELECT t.id FROM tasks t WHERE t.user_id = ? "
+                + "AND (LOWER(t.title) LIKE ? OR LOWER(t.description) LIKE ?) ORDER BY t.id",
+                Long.class, userId, pattern, pattern);
+    }
+
+    private String randomText(Random random, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]);
+            text.append(random.nextInt(4) == 0 ? "、" : "の");
+        }
+        return text.toString();
+    }
+
+    /**
+     * ウォームアップ後の平均実行時間を計測
+     *
+     * @param search 検索処理
+     * @return 平均実行時間（ミリ秒）
+     */
+    private double measure(Supplier<?> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            search.get();
+        }
+        return (System.nanoTime() - start) / 1e6 / ITERATIONS;
+    }
+}
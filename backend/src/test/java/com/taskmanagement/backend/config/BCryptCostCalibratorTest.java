@@ -0,0 +1,87 @@
+package com.taskmanagement.backend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BCryptCostCalibrator・CalibratedBCryptPasswordEncoderの単体テスト
+ *
+ * テストの目的：
+ * - 計測時間から、目標の検証時間に収まる最大のコストが選ばれることを確認
+ * - 選ばれるコストが、下限・上限の範囲に収まることを確認
+ * - 保存されているハッシュのコストが現在のコストより低い場合だけ、
+ * ハッシュ化し直しが必要と判定されることを確認（高い場合は下げない）
+ */
+class BCryptCostCalibratorTest {
+
+    private static final long MILLIS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * コストが1上がるごとに検証時間が2倍になる前提で、目標に収まる最大のコストを選ぶテスト
+     */
+    @Test
+    void testCostForTargetTime() {
+        // コスト8で4ms → 9: 8ms, 10: 16ms, ... 14: 256ms
+        assertEquals(13, BCryptCostCalibrator.costFor(250 * MILLIS, 4 * MILLIS, 4, 31));
+        assertEquals(14, BCryptCostCalibrator.costFor(300 * MILLIS, 4 * MILLIS, 4, 31));
+        // 計測時間が目標より長い場合は、CALIBRATION_COSTより下げる
+        assertEquals(BCryptCostCalibrator.CALIBRATION_COST - 1,
+                BCryptCostCalibrator.costFor(3 * MILLIS, 4 * MILLIS, 4, 31));
+    }
+
+    /**
+     * 選ばれるコストが、下限・上限の範囲に収まるテスト
+     */
+    @Test
+    void testCostIsClampedToRange() {
+        assertEquals(10, BCryptCostCalibrator.costFor(1 * MILLIS, 4 * MILLIS, 10, 14));
+        assertEquals(14, BCryptCostCalibrator.costFor(10_000 * MILLIS, 1, 10, 14));
+        assertThrows(IllegalArgumentException.class,
+                () -> BCryptCostCalibrator.costFor(250 * MILLIS, 4 * MILLIS, 14, 10));
+    }
+
+    /**
+     * 実際に計測した場合も、範囲内のコストが選ばれるテスト
+     */
+    @Test
+    void testCalibrateReturnsCostInRange() {
+        int cost = BCryptCostCalibrator.calibrate(Duration.ofMillis(50), 4, 12);
+
+        assertTrue(cost >= 4 && cost <= 12, "コストが範囲外です: " + cost);
+    }
+
+    /**
+     * 保存されているハッシュのコストが低い場合だけ、ハッシュ化し直しが必要と判定するテスト
+     */
+    @Test
+    void testUpgradeEncodingOnlyWhenCostIsLower() {
+        CalibratedBCryptPasswordEncoder encoder = new CalibratedBCryptPasswordEncoder(5);
+
+        assertFalse(encoder.upgradeEncoding(encoder.encode("password123")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        // 高いコストのハッシュは下げない（サーバーごとに計測したコストが揺れても、行き来しない）
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123")));
+        // BCryptの形式でない場合は判定しない
+        assertFalse(encoder.upgradeEncoding(null));
+        assertFalse(encoder.upgradeEncoding("plain-text"));
+    }
+
+    /**
+     * ハッシュ値からコストを読み取るテスト
+     */
+    @Test
+    void testCostOf() {
+        String hash = new BCryptPasswordEncoder(6).encode("password123");
+
+        assertEquals(OptionalInt.of(6), CalibratedBCryptPasswordEncoder.costOf(hash));
+        assertEquals(OptionalInt.of(6), CalibratedBCryptPasswordEncoder.costOf("{bcrypt}" + hash));
+        assertEquals(OptionalInt.empty(), CalibratedBCryptPasswordEncoder.costOf("{noop}password123"));
+        assertEquals(OptionalInt.empty(), CalibratedBCryptPasswordEncoder.costOf(null));
+    }
+}
@@ -0,0 +1,160 @@
+package com.taskmanagement.backend.config;
+
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.exception.ServiceUnavailableException;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskSearchIndexState;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.repository.TaskSearchTokenRepository;
+import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.service.TaskSearchService;
+import com.taskmanagement.backend.service.TaskService;
+import com.taskmanagement.backend.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskSearchIndexInitializerのテスト（作成状況の記録と再開）
+ *
+ * テストの目的：
+ * - 作成状況（task_search_index_state）が未完了の場合に、記録した位置から続きを作成することを確認
+ * - 作成状況が完了済みの場合は、トークンの件数に関係なく何もしないことを確認
+ * - 既にトークンがあるタスクを作り直しても、重複せずに同じ結果になることを確認
+ * - 作成が完了するまで、キーワード検索が503（ServiceUnavailableException）で断られることを確認
+ *
+ * 実務でのポイント：
+ * - 作成は別のスレッドで実行されるため、buildIfIncomplete()が返すFutureをjoin()してから結果を確認します
+ *
+ * なぜ@Transactionalを付けないのか：
+ * - 作成は1バッチ = 1トランザクションでコミットするため、テストメソッドのトランザクションとは別になります
+ */
+@SpringBootTest
+class TaskSearchIndexInitializerTest {
+
+    @Autowired
+    private TaskSearchIndexInitializer taskSearchIndexInitializer;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchTokenRepository taskSearchTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long userId;
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        userId = userService.createUser("index@example.com", "password", "インデックスユーザー").getId();
+
+        taskIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("報告書" + i);
+            requestDto.setStatus(TaskStatus.TODO);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            taskIds.add(taskService.createTask(requestDto, userId).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+        // 他のテストに影響しないよう、作成済みの状態に戻す
+        taskSearchService.startIndexBuild(0L);
+    }
+
+    /**
+     * 途中で停止した作成を、記録した位置から再開するテスト
+     */
+    @Test
+    void testResumesInterruptedBuild() {
+        // 1件目まで作成した時点で停止した状態
+        jdbcTemplate.update("DELETE FROM task_search_tokens WHERE task_id > ?", taskIds.get(0));
+        saveState(taskIds.get(0), taskIds.get(2), false);
+        assertFalse(taskSearchService.isIndexReady());
+        assertThrows(ServiceUnavailableException.class,
+                () -> taskSearchService.search(userId, "報告書", null, null));
+        assertThrows(ServiceUnavailableException.class,
+                () -> taskSearchService.findMatchingIds(userId, "報告書", null, null));
+
+        taskSearchIndexInitializer.buildIfIncomplete().join();
+
+        assertEquals(3, taskSearchService.search(userId, "報告書", null, null).size());
+        TaskSearchIndexState state = taskSearchService.findIndexState().orElseThrow();
+        assertTrue(state.isCompleted());
+        assertEquals(taskIds.get(2), state.getLastTaskId());
+    }
+
+    /**
+     * 作成済みの場合は、トークンが無くても作成しないテスト（件数ではなく作成状況で判定する）
+     */
+    @Test
+    void testSkipsCompletedBuild() {
+        taskSearchTokenRepository.deleteAllInBatch();
+        saveState(taskIds.get(2), taskIds.get(2), true);
+
+        taskSearchIndexInitializer.buildIfIncomplete().join();
+        assertTrue(taskSearchService.search(userId, "報告書", null, null).isEmpty());
+
+        // 作り直しを指定した場合は作成する
+        taskSearchIndexInitializer.rebuild();
+        assertEquals(3, taskSearchService.search(userId, "報告書", null, null).size());
+    }
+
+    /**
+     * 作成状況が無い場合（既存のデータベース）に、既存のトークンと重複せずに作り直すテスト
+     */
+    @Test
+    void testBuildsFromScratchOverExistingTokens() {
+        taskSearchService.resetIndexState();
+        long tokenCount = taskSearchTokenRepository.count();
+
+        taskSearchIndexInitializer.buildIfIncomplete().join();
+
+        assertEquals(tokenCount, taskSearchTokenRepository.count());
+        assertEquals(3, taskSearchService.search(userId, "報告書", null, null).size());
+        TaskSearchIndexState state = taskSearchService.findIndexState().orElseThrow();
+        assertTrue(state.isCompleted());
+        assertEquals(taskIds.get(2), state.getMaxTaskId());
+    }
+
+    private void saveState(long lastTaskId, long maxTaskId, boolean completed) {
+        taskSearchService.resetIndexState();
+        jdbcTemplate.update(
+                "INSERT INTO task_search_index_state (id, last_task_id, max_task_id, completed) VALUES (?, ?, ?, ?)",
+                TaskSearchIndexState.ID, lastTaskId, maxTaskId, completed);
+    }
+
+    private void cleanUp() {
+        taskSearchTokenRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
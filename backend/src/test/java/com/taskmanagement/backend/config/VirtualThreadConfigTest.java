@@ -0,0 +1,65 @@
+package com.taskmanagement.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualThreadConfigの単体テスト（ConnectionLimitingDataSourceの許可の数と待機時間）
+ *
+ * テストの目的：
+ * - 許可の数が、HikariCPのmaximum-pool-sizeと同じになることを確認
+ * - セマフォとHikariCPの待機時間の合計が、HikariCPのconnection-timeout（1つの上限）に収まることを確認
+ *
+ * 実務でのポイント：
+ * - HikariDataSourceは最初のgetConnection()までプールを起動しないため、データベースに接続せずにテストできます
+ */
+class VirtualThreadConfigTest {
+
+    private final HikariDataSource hikari = new HikariDataSource();
+
+    @AfterEach
+    void tearDown() {
+        hikari.close();
+    }
+
+    /**
+     * 許可の数をプールのサイズから決めるテスト
+     */
+    @Test
+    void testPermitsFollowPoolSize() {
+        hikari.setMaximumPoolSize(25);
+
+        ConnectionLimitingDataSource guard = VirtualThreadConfig.limit(hikari, hikari, 5000);
+
+        assertEquals(25, guard.getAvailablePermits());
+    }
+
+    /**
+     * セマフォとHikariCPの待機時間を、connection-timeoutの中で分けるテスト
+     */
+    @Test
+    void testTimeoutsShareOneBudget() {
+        hikari.setConnectionTimeout(30000);
+
+        ConnectionLimitingDataSource guard = VirtualThreadConfig.limit(hikari, hikari, 5000);
+
+        assertEquals(5000, hikari.getConnectionTimeout());
+        assertEquals(25000, guard.getTimeoutMillis());
+    }
+
+    /**
+     * connection-timeoutが短い場合も、HikariCPの待機時間は全体の半分までに収まるテスト
+     */
+    @Test
+    void testPoolTimeoutIsCappedAtHalfOfBudget() {
+        hikari.setConnectionTimeout(2000);
+
+        ConnectionLimitingDataSource guard = VirtualThreadConfig.limit(hikari, hikari, 5000);
+
+        assertEquals(1000, hikari.getConnectionTimeout());
+        assertEquals(2000, hikari.getConnectionTimeout() + guard.getTimeoutMillis());
+    }
+}
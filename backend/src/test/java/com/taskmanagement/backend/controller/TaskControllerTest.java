@@ -1,26 +1,52 @@
 package com.taskmanagement.backend.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.backend.dto.TaskBulkCreateResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkItemResultDto;
+import com.taskmanagement.backend.dto.TaskBulkOperationResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkStatusUpdateDto;
+import com.taskmanagement.backend.dto.TaskChangesResponseDto;
+import com.taskmanagement.backend.dto.TaskPageResponseDto;
 import com.taskmanagement.backend.dto.TaskRequestDto;
 import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.TaskStatsResponseDto;
+import com.taskmanagement.backend.exception.ChangeTokenExpiredException;
+import com.taskmanagement.backend.exception.ForbiddenException;
+import com.taskmanagement.backend.exception.PreconditionFailedException;
+import com.taskmanagement.backend.exception.ResourceNotFoundException;
+import com.taskmanagement.backend.exception.TaskConflictException;
 import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.dto.TaskEventDto;
+import com.taskmanagement.backend.service.TaskEventBroadcaster;
+import com.taskmanagement.backend.service.TaskListCache;
 import com.taskmanagement.backend.service.TaskService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.http.MediaType;
-import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -55,8 +81,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - テスト時にSpring Securityのフィルタを無効化することは、一般的な手法です
  * - Controller層のテストでは、ビジネスロジックに焦点を当てるため、認証はスキップします
  * - 認証のテストは、別途統合テストで行います（Phase 2-6で実装）
+ *
+ * タスク一覧のキャッシュ（TaskListCache）について：
+ * - TaskListCacheは@WebMvcTestの対象外のため、@Importで登録します
+ * - app.task-list-cache.enabled=false により、毎回TaskService（モック）を呼び出してJSONに変換します
+ * - テストごとにモックの戻り値が変わるため、キャッシュを有効にすると前のテストの結果が返ってしまいます
+ * - 変更通知の配信（TaskEventBroadcaster）も同様に@Importで登録し、実際にイベントを送信して確認します
+ *
+ * 認証情報について：
+ * - フィルタを無効化しているため、JwtAuthenticationFilterの代わりにauthenticate()で、
+ * JWTと同じ形式の認証情報（principalがユーザーID）を設定します
+ * - AuthenticatedUserInterceptorがuserIdとprincipalを比較するため、各テストはユーザーID=1として実行します
  */
-@WebMvcTest(TaskController.class)
+@WebMvcTest(value = TaskController.class, properties = "app.task-list-cache.enabled=false")
+@Import({ TaskListCache.class, TaskEventBroadcaster.class })
 @AutoConfigureMockMvc(addFilters = false)
 class TaskControllerTest {
 
@@ -69,11 +107,33 @@ class TaskControllerTest {
         @MockitoBean
         private TaskService taskService;
 
+        @Autowired
+        private TaskEventBroadcaster taskEventBroadcaster;
+
+        /**
+         * テスト用のタスクの更新日時
+         */
+        private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2025, 10, 17, 10, 30, 0, 123456000);
+
+        /**
+         * UPDATED_ATに対応する、タスクID=1のETag（"{ID}-{エポックからのマイクロ秒}"）
+         */
+        private static final String TASK_ETAG = "\"1-1760697000123456\"";
+
+        @BeforeEach
+        void setUp() {
+                authenticate(1L);
+        }
+
+        @AfterEach
+        void tearDown() {
+                TestSecurityContextHolder.clearContext();
+        }
+
         /**
          * タスクを作成するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testCreateTask() throws Exception {
                 TaskRequestDto requestDto = new TaskRequestDto();
                 requestDto.setTitle("買い物に行く");
@@ -105,32 +165,105 @@ class TaskControllerTest {
                                 .andExpect(jsonPath("$.title").value("買い物に行く"));
         }
 
+        /**
+         * ステータスを一括変更するテスト
+         */
+        @Test
+        void testUpdateTaskStatuses() throws Exception {
+                when(taskService.updateTaskStatuses(any(TaskBulkStatusUpdateDto.class), eq(1L)))
+                                .thenReturn(new TaskBulkOperationResponseDto(3));
+
+                mockMvc.perform(put("/api/tasks/bulk/status")
+                                .param("userId", "1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\": [1, 2, 3], \"status\": \"DONE\"}"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.affected").value(3));
+        }
+
+        /**
+         * タスクを一括作成するテスト（一部の要素が失敗）
+         */
+        @Test
+        void testCreateTasksBulk() throws Exception {
+                TaskRequestDto validDto = new TaskRequestDto();
+                validDto.setTitle("買い物に行く");
+                validDto.setStatus(TaskStatus.TODO);
+                validDto.setPriority(TaskPriority.HIGH);
+
+                TaskRequestDto invalidDto = new TaskRequestDto();
+                invalidDto.setStatus(TaskStatus.TODO);
+                invalidDto.setPriority(TaskPriority.HIGH);
+
+                TaskResponseDto createdDto = new TaskResponseDto();
+                createdDto.setId(1L);
+                createdDto.setTitle("買い物に行く");
+
+                TaskBulkCreateResponseDto responseDto = new TaskBulkCreateResponseDto(1, 1, List.of(
+                                TaskBulkItemResultDto.success(0, createdDto),
+                                TaskBulkItemResultDto.failure(1, "タイトルは必須です")));
+
+                when(taskService.createTasks(anyList(), eq(1L))).thenReturn(responseDto);
+
+                mockMvc.perform(post("/api/tasks/bulk")
+                                .param("userId", "1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(validDto, invalidDto))))
+                                .andExpect(status().isCreated())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.failed").value(1))
+                                .andExpect(jsonPath("$.results[0].task.id").value(1))
+                                .andExpect(jsonPath("$.results[1].success").value(false))
+                                .andExpect(jsonPath("$.results[1].error").value("タイトルは必須です"));
+        }
+
         /**
          * IDでタスクを取得するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testGetTaskById() throws Exception {
                 TaskResponseDto responseDto = new TaskResponseDto();
                 responseDto.setId(1L);
                 responseDto.setTitle("買い物に行く");
                 responseDto.setStatus(TaskStatus.TODO);
                 responseDto.setPriority(TaskPriority.HIGH);
+                responseDto.setUpdatedAt(UPDATED_AT);
 
                 when(taskService.findById(1L, 1L)).thenReturn(responseDto);
 
                 mockMvc.perform(get("/api/tasks/1")
                                 .param("userId", "1"))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", TASK_ETAG))
+                                .andExpect(header().exists("Last-Modified"))
                                 .andExpect(jsonPath("$.id").value(1))
                                 .andExpect(jsonPath("$.title").value("買い物に行く"));
         }
 
+        /**
+         * If-None-MatchのETagが一致する場合に、304を返すテスト
+         */
+        @Test
+        void testGetTaskById_NotModified() throws Exception {
+                TaskResponseDto responseDto = new TaskResponseDto();
+                responseDto.setId(1L);
+                responseDto.setTitle("買い物に行く");
+                responseDto.setUpdatedAt(UPDATED_AT);
+
+                when(taskService.findById(1L, 1L)).thenReturn(responseDto);
+
+                mockMvc.perform(get("/api/tasks/1")
+                                .param("userId", "1")
+                                .header("If-None-Match", TASK_ETAG))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", TASK_ETAG))
+                                .andExpect(content().string(""));
+        }
+
         /**
          * 全タスクを取得するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testGetAllTasks() throws Exception {
                 TaskResponseDto task1 = new TaskResponseDto();
                 task1.setId(1L);
@@ -149,15 +282,38 @@ class TaskControllerTest {
                 mockMvc.perform(get("/api/tasks")
                                 .param("userId", "1"))
                                 .andExpect(status().isOk())
+                                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                                 .andExpect(jsonPath("$[0].id").value(1))
                                 .andExpect(jsonPath("$[0].title").value("買い物に行く"));
         }
 
+        /**
+         * タスク一覧が変更されていない場合に、クエリを実行せずに304を返すテスト
+         */
+        @Test
+        void testGetAllTasks_NotModified() throws Exception {
+                when(taskService.findAllByUserId(1L)).thenReturn(List.of());
+
+                String etag = mockMvc.perform(get("/api/tasks")
+                                .param("userId", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/api/tasks")
+                                .param("userId", "1")
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+
+                // 2回目のリクエストでは、TaskServiceは呼ばれない
+                verify(taskService, times(1)).findAllByUserId(1L);
+        }
+
         /**
          * ステータスでフィルタするテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testGetTasksByStatus() throws Exception {
                 TaskResponseDto task1 = new TaskResponseDto();
                 task1.setId(1L);
@@ -178,7 +334,6 @@ class TaskControllerTest {
          * 優先度でフィルタするテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testGetTasksByPriority() throws Exception {
                 TaskResponseDto task1 = new TaskResponseDto();
                 task1.setId(1L);
@@ -199,7 +354,6 @@ class TaskControllerTest {
          * キーワード検索のテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testSearchTasks() throws Exception {
                 TaskResponseDto task1 = new TaskResponseDto();
                 task1.setId(1L);
@@ -220,7 +374,6 @@ class TaskControllerTest {
          * 複合条件で検索するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testFilterTasks() throws Exception {
                 TaskResponseDto task1 = new TaskResponseDto();
                 task1.setId(1L);
@@ -247,7 +400,6 @@ class TaskControllerTest {
          * タスクを更新するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testUpdateTask() throws Exception {
                 TaskRequestDto requestDto = new TaskRequestDto();
                 requestDto.setTitle("更新されたタスク");
@@ -260,8 +412,9 @@ class TaskControllerTest {
                 responseDto.setId(1L);
                 responseDto.setTitle("更新されたタスク");
                 responseDto.setStatus(TaskStatus.IN_PROGRESS);
+                responseDto.setUpdatedAt(UPDATED_AT);
 
-                when(taskService.updateTask(eq(1L), any(TaskRequestDto.class), eq(1L)))
+                when(taskService.updateTask(eq(1L), any(TaskRequestDto.class), eq(1L), isNull()))
                                 .thenReturn(responseDto);
 
                 mockMvc.perform(put("/api/tasks/1")
@@ -269,21 +422,112 @@ class TaskControllerTest {
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(requestDto)))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag", TASK_ETAG))
                                 .andExpect(jsonPath("$.title").value("更新されたタスク"));
         }
 
+        /**
+         * If-Match付きでタスクを更新するテスト
+         * 
+         * テストの目的：
+         * - If-MatchのETagから取り出した更新日時が、TaskServiceに渡されることを確認
+         * - 更新日時が一致しない場合（PreconditionFailedException）に、412を返すことを確認
+         */
+        @Test
+        void testUpdateTask_IfMatch() throws Exception {
+                TaskRequestDto requestDto = new TaskRequestDto();
+                requestDto.setTitle("更新されたタスク");
+                requestDto.setStatus(TaskStatus.IN_PROGRESS);
+                requestDto.setPriority(TaskPriority.MEDIUM);
+
+                when(taskService.updateTask(eq(1L), any(TaskRequestDto.class), eq(1L), eq(UPDATED_AT)))
+                                .thenThrow(new PreconditionFailedException("タスクは他の操作で更新されています"));
+
+                mockMvc.perform(put("/api/tasks/1")
+                                .param("userId", "1")
+                                .header("If-Match", TASK_ETAG)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requestDto)))
+                                .andExpect(status().isPreconditionFailed())
+                                .andExpect(jsonPath("$.message").value("タスクは他の操作で更新されています"));
+        }
+
+        /**
+         * 別のタスクのETagをIf-Matchに指定した場合に、更新せずに412を返すテスト
+         */
+        @Test
+        void testUpdateTaskStatus_IfMatchForAnotherTask() throws Exception {
+                mockMvc.perform(put("/api/tasks/2/status")
+                                .param("status", "DONE")
+                                .param("userId", "1")
+                                .header("If-Match", TASK_ETAG))
+                                .andExpect(status().isPreconditionFailed());
+
+                verify(taskService, never()).updateTaskStatus(any(), any(), any(), any(), any());
+        }
+
+        /**
+         * リクエストのversionが古い場合に、409と最新のタスクを返すテスト
+         */
+        @Test
+        void testUpdateTask_VersionConflict() throws Exception {
+                TaskRequestDto requestDto = new TaskRequestDto();
+                requestDto.setTitle("更新されたタスク");
+                requestDto.setStatus(TaskStatus.IN_PROGRESS);
+                requestDto.setPriority(TaskPriority.MEDIUM);
+                requestDto.setVersion(3L);
+
+                TaskResponseDto current = new TaskResponseDto();
+                current.setId(1L);
+                current.setTitle("他の画面で更新されたタスク");
+                current.setVersion(4L);
+
+                when(taskService.updateTask(eq(1L), any(TaskRequestDto.class), eq(1L), isNull()))
+                                .thenThrow(new TaskConflictException("タスクは他の操作で更新されています", current));
+
+                mockMvc.perform(put("/api/tasks/1")
+                                .param("userId", "1")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(requestDto)))
+                                .andExpect(status().isConflict())
+                                .andExpect(jsonPath("$.status").value(409))
+                                .andExpect(jsonPath("$.current.title").value("他の画面で更新されたタスク"))
+                                .andExpect(jsonPath("$.current.version").value(4));
+        }
+
+        /**
+         * ステータスの更新でversionを指定した場合に、サービスに渡されるテスト
+         */
+        @Test
+        void testUpdateTaskStatus_WithVersion() throws Exception {
+                TaskResponseDto responseDto = new TaskResponseDto();
+                responseDto.setId(1L);
+                responseDto.setStatus(TaskStatus.DONE);
+                responseDto.setUpdatedAt(UPDATED_AT);
+                responseDto.setVersion(4L);
+
+                when(taskService.updateTaskStatus(1L, TaskStatus.DONE, 1L, null, 3L)).thenReturn(responseDto);
+
+                mockMvc.perform(put("/api/tasks/1/status")
+                                .param("status", "DONE")
+                                .param("userId", "1")
+                                .param("version", "3"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.version").value(4));
+        }
+
         /**
          * ステータスのみを更新するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testUpdateTaskStatus() throws Exception {
                 TaskResponseDto responseDto = new TaskResponseDto();
                 responseDto.setId(1L);
                 responseDto.setTitle("買い物に行く");
                 responseDto.setStatus(TaskStatus.DONE);
+                responseDto.setUpdatedAt(UPDATED_AT);
 
-                when(taskService.updateTaskStatus(1L, TaskStatus.DONE, 1L)).thenReturn(responseDto);
+                when(taskService.updateTaskStatus(1L, TaskStatus.DONE, 1L, null, null)).thenReturn(responseDto);
 
                 mockMvc.perform(put("/api/tasks/1/status")
                                 .param("status", "DONE")
@@ -296,18 +540,45 @@ class TaskControllerTest {
          * タスクを削除するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testDeleteTask() throws Exception {
                 mockMvc.perform(delete("/api/tasks/1")
                                 .param("userId", "1"))
                                 .andExpect(status().isNoContent());
         }
 
+        /**
+         * 存在しないタスクを取得するテスト（404）
+         */
+        @Test
+        void testGetTaskById_NotFound() throws Exception {
+                when(taskService.findById(999L, 1L))
+                                .thenThrow(new ResourceNotFoundException("タスクが見つかりません"));
+
+                mockMvc.perform(get("/api/tasks/999")
+                                .param("userId", "1"))
+                                .andExpect(status().isNotFound())
+                                .andExpect(jsonPath("$.message").value("タスクが見つかりません"));
+        }
+
+        /**
+         * 他のユーザーのタスクを削除するテスト（403）
+         */
+        @Test
+        void testDeleteTask_Forbidden() throws Exception {
+                authenticate(2L);
+                doThrow(new ForbiddenException("このタスクを削除する権限がありません"))
+                                .when(taskService).deleteTask(1L, 2L, null);
+
+                mockMvc.perform(delete("/api/tasks/1")
+                                .param("userId", "2"))
+                                .andExpect(status().isForbidden())
+                                .andExpect(jsonPath("$.message").value("このタスクを削除する権限がありません"));
+        }
+
         /**
          * タスク総数を取得するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testCountTasks() throws Exception {
                 when(taskService.countTasksByUserId(1L)).thenReturn(42L);
 
@@ -321,7 +592,6 @@ class TaskControllerTest {
          * ステータス別タスク数を取得するテスト
          */
         @Test
-        @WithMockUser(username = "test@example.com", roles = "USER")
         void testCountTasksByStatus() throws Exception {
                 when(taskService.countTasksByUserIdAndStatus(1L, TaskStatus.TODO)).thenReturn(10L);
 
@@ -330,4 +600,208 @@ class TaskControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(content().string("10"));
         }
-}
\ No newline at end of file
+
+        /**
+         * limitを指定してタスクを1ページ分取得するテスト
+         */
+        @Test
+        void testGetAllTasksPage() throws Exception {
+                TaskResponseDto task1 = new TaskResponseDto();
+                task1.setId(2L);
+                task1.setTitle("資料作成");
+
+                TaskPageResponseDto page = new TaskPageResponseDto(List.of(task1), "next-cursor", true);
+
+                when(taskService.findPageByUserId(1L, null, 1)).thenReturn(page);
+
+                mockMvc.perform(get("/api/tasks")
+                                .param("userId", "1")
+                                .param("limit", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].id").value(2))
+                                .andExpect(jsonPath("$.nextCursor").value("next-cursor"))
+                                .andExpect(jsonPath("$.hasNext").value(true));
+        }
+
+        /**
+         * タスク統計を取得するテスト
+         */
+        @Test
+        void testGetTaskStats() throws Exception {
+                TaskStatsResponseDto stats = new TaskStatsResponseDto(
+                                42L,
+                                Map.of(TaskStatus.TODO, 20L, TaskStatus.IN_PROGRESS, 12L, TaskStatus.DONE, 10L),
+                                Map.of(TaskPriority.HIGH, 8L, TaskPriority.MEDIUM, 24L, TaskPriority.LOW, 10L),
+                                3L,
+                                2L);
+
+                when(taskService.getTaskStats(1L)).thenReturn(stats);
+
+                mockMvc.perform(get("/api/tasks/stats")
+                                .param("userId", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.total").value(42))
+                                .andExpect(jsonPath("$.byStatus.TODO").value(20))
+                                .andExpect(jsonPath("$.byPriority.HIGH").value(8))
+                                .andExpect(jsonPath("$.overdue").value(3))
+                                .andExpect(jsonPath("$.dueToday").value(2));
+        }
+
+        /**
+         * 前回の同期以降の変更を取得するテスト
+         */
+        @Test
+        void testGetTaskChanges() throws Exception {
+                TaskResponseDto task = new TaskResponseDto();
+                task.setId(105L);
+                task.setTitle("買い物に行く");
+                TaskChangesResponseDto changes = new TaskChangesResponseDto(
+                                List.of(task), List.of(98L), "NDN8MTA1", false);
+
+                when(taskService.findChanges(1L, "NDJ8MTA1", 100)).thenReturn(changes);
+
+                mockMvc.perform(get("/api/tasks/changes")
+                                .param("userId", "1")
+                                .param("since", "NDJ8MTA1")
+                                .param("limit", "100"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.changed[0].id").value(105))
+                                .andExpect(jsonPath("$.deleted[0]").value(98))
+                                .andExpect(jsonPath("$.nextToken").value("NDN8MTA1"))
+                                .andExpect(jsonPath("$.hasMore").value(false));
+        }
+
+        /**
+         * 差分同期でsince・limitを省略した場合のテスト（最初の同期、デフォルトの件数）
+         */
+        @Test
+        void testGetTaskChangesWithDefaults() throws Exception {
+                when(taskService.findChanges(1L, null, 500))
+                                .thenReturn(new TaskChangesResponseDto(List.of(), List.of(), "LTF8MA", false));
+
+                mockMvc.perform(get("/api/tasks/changes")
+                                .param("userId", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.changed").isEmpty());
+
+                verify(taskService).findChanges(1L, null, 500);
+        }
+
+        /**
+         * 削除記録が保持期間を過ぎて削除された後の、古いトークンで410を返すテスト
+         */
+        @Test
+        void testGetTaskChanges_ExpiredToken() throws Exception {
+                when(taskService.findChanges(1L, "NDJ8MTA1", 500))
+                                .thenThrow(new ChangeTokenExpiredException("同期トークンの有効期限が切れています"));
+
+                mockMvc.perform(get("/api/tasks/changes")
+                                .param("userId", "1")
+                                .param("since", "NDJ8MTA1"))
+                                .andExpect(status().isGone())
+                                .andExpect(jsonPath("$.message").value("同期トークンの有効期限が切れています"));
+        }
+
+        /**
+         * タスクの変更通知を受信するテスト（Server-Sent Events）
+         * 
+         * 検証内容：
+         * - 接続は非同期処理として開いたままになる
+         * - publish()したイベントが、同じユーザーの接続にだけ送信される
+         */
+        @Test
+        void testStreamTaskEvents() throws Exception {
+                int connections = taskEventBroadcaster.connectionCount();
+
+                MvcResult result = mockMvc.perform(get("/api/tasks/stream")
+                                .param("userId", "1"))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                assertEquals(connections + 1, taskEventBroadcaster.connectionCount());
+
+                taskEventBroadcaster.publish(2L, TaskEventDto.Type.DELETED, List.of(7L));
+                taskEventBroadcaster.publish(1L, TaskEventDto.Type.STATUS_CHANGED, List.of(42L));
+
+                // 送信は配信用のスレッドで行われるため、届くまで待つ
+                String content = "";
+                for (int i = 0; i < 50 && !content.contains("STATUS_CHANGED"); i++) {
+                        Thread.sleep(100);
+                        content = result.getResponse().getContentAsString();
+                }
+
+                assertTrue(content.contains("event:STATUS_CHANGED"));
+                assertTrue(content.contains("\"taskIds\":[42]"));
+                assertFalse(content.contains("DELETED"));
+        }
+
+        /**
+         * userIdが認証済みのユーザーと異なる場合に、403を返すテスト（変更の同期）
+         */
+        @Test
+        void testGetTaskChanges_OtherUser() throws Exception {
+                mockMvc.perform(get("/api/tasks/changes")
+                                .param("userId", "2"))
+                                .andExpect(status().isForbidden())
+                                .andExpect(jsonPath("$.message").value("他のユーザーのタスクにはアクセスできません"));
+
+                verify(taskService, never()).findChanges(any(), any(), anyInt());
+        }
+
+        /**
+         * userIdが認証済みのユーザーと異なる場合に、接続せずに403を返すテスト（変更通知）
+         */
+        @Test
+        void testStreamTaskEvents_OtherUser() throws Exception {
+                int connections = taskEventBroadcaster.connectionCount();
+
+                mockMvc.perform(get("/api/tasks/stream")
+                                .param("userId", "2"))
+                                .andExpect(status().isForbidden());
+
+                assertEquals(connections, taskEventBroadcaster.connectionCount());
+        }
+
+        /**
+         * userIdが認証済みのユーザーと異なる場合に、一括変更・一括削除を行わないテスト
+         */
+        @Test
+        void testBulkOperations_OtherUser() throws Exception {
+                mockMvc.perform(put("/api/tasks/bulk/status")
+                                .param("userId", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\":[1],\"status\":\"DONE\"}"))
+                                .andExpect(status().isForbidden());
+                mockMvc.perform(post("/api/tasks/bulk/delete")
+                                .param("userId", "2")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"ids\":[1]}"))
+                                .andExpect(status().isForbidden());
+
+                verify(taskService, never()).updateTaskStatuses(any(), any());
+                verify(taskService, never()).deleteTasks(any(), any());
+        }
+
+        /**
+         * 認証情報が無い場合に、403を返すテスト
+         */
+        @Test
+        void testGetAllTasks_Unauthenticated() throws Exception {
+                TestSecurityContextHolder.clearContext();
+
+                mockMvc.perform(get("/api/tasks")
+                                .param("userId", "1"))
+                                .andExpect(status().isForbidden());
+
+                verify(taskService, never()).findAllByUserId(any());
+        }
+
+        /**
+         * JwtAuthenticationFilterと同じ形式の認証情報（principalがユーザーID）を設定
+         *
+         * @param userId ユーザーID
+         */
+        private static void authenticate(Long userId) {
+                TestSecurityContextHolder.setAuthentication(
+                                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+        }
+}
@@ -0,0 +1,560 @@
+package com.taskmanagement.backend.dataset;
+
+import com.taskmanagement.backend.model.Task;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 大量データ（数百万〜数千万件のタスク）の生成ツール
+ *
+ * このクラスの役割：
+ * - 数千人のユーザーと、数百万件のタスクを高速に投入する
+ * - 実際の利用に近い偏りのあるデータを作り、少量のデータでは表れない実行計画の問題を見つけられるようにする
+ *
+ * 生成するデータ：
+ * - タスク数の偏り：Zipf分布（順位rのユーザーのタスク数が 1/r^s に比例、ユーザーIDが小さいほど多い）
+ * - 言語：ユーザーの約3割は英語、残りは日本語でタイトル・詳細を書く
+ * - 作成日時：過去2年間に分散（古いタスクほど完了している割合が高い）
+ * - 期限：約3割は無し、残りは作成日の2週間後を中心に前後に分散
+ *
+ * 投入方法：
+ * - PostgreSQL：COPY（CopyManager）で、SQLを解析せずにストリームで投入します
+ * - その他（H2）：複数行のINSERT（VALUES (...), (...), ...）をJDBCバッチで実行します
+ *
+ * 実務でのポイント：
+ * - JPAを経由しないため、1,000万件でも数分で投入できます（PostgreSQL、インデックスあり）
+ * - タスクのIDは、投入する件数分をtasks_seqから確保し、投入後にアプリケーションが採番するIDと重複しないようにします
+ * - 乱数のシードを固定すると、毎回同じデータを生成します
+ * - ユーザーのパスワードは全員 PASSWORD のため、負荷試験のログインにも使用できます
+ *
+ * 注意点：
+ * - 検索インデックス（task_search_tokens）は作成しません
+ * （空のデータベースであれば起動時に作成されます。それ以外は TaskSearchIndexInitializer.rebuild() で作り直せます）
+ * - 2次キャッシュ・TaskListCacheを経由しないため、アプリケーションの起動前に投入してください
+ */
+public class TaskDatasetGenerator {
+
+    /**
+     * 生成したユーザーのパスワード（平文）
+     */
+    public static final String PASSWORD = "password123";
+
+    /**
+     * Zipf分布の指数（デフォルト、1.0でユーザー5,000人の場合、上位1%のユーザーが全体の約半分のタスクを持つ）
+     */
+    public static final double DEFAULT_ZIPF_EXPONENT = 1.0;
+
+    /**
+     * 英語でタスクを書くユーザーの割合（デフォルト）
+     */
+    public static final double DEFAULT_ENGLISH_USER_RATIO = 0.3;
+
+    /**
+     * 生成したユーザーのメールアドレスの接頭辞（削除時の条件に使用）
+     */
+    public static final String EMAIL_PREFIX = "dataset-";
+
+    /**
+     * Task.idの@SequenceGeneratorのallocationSize
+     */
+    private static final int TASK_ID_ALLOCATION_SIZE = 50;
+
+    /**
+     * 作成日時を分散させる期間（日）
+     */
+    private static final int HISTORY_DAYS = 730;
+
+    /**
+     * 複数行INSERTの1文あたりの行数
+     */
+    private static final int ROWS_PER_STATEMENT = 100;
+
+    /**
+     * 複数行INSERTのJDBCバッチの文数
+     */
+    private static final int STATEMENTS_PER_BATCH = 10;
+
+    /**
+     * COPYで1回に送信する行数
+     */
+    private static final int COPY_BUFFER_ROWS = 10_000;
+
+    private static final String TASK_COLUMNS =
+            "id, title, description, due_date, status, priority, user_id, created_at, updated_at, change_seq, version";
+
+    private static final int TASK_COLUMN_COUNT = 11;
+
+    private static final String[] JAPANESE_WORDS = {
+            "買い物", "資料", "作成", "会議", "準備", "レビュー", "報告書", "見積もり", "請求書", "確認",
+            "プロジェクト", "設計", "実装", "テスト", "リリース", "顧客", "打ち合わせ", "予約", "掃除", "整理",
+            "メール", "返信", "電話", "契約", "更新", "調査", "分析", "提案", "発注", "在庫"
+    };
+
+    private static final String[] ENGLISH_WORDS = {
+            "buy", "groceries", "draft", "meeting", "prepare", "review", "report", "estimate", "invoice", "check",
+            "project", "design", "implement", "test", "release", "customer", "call", "book", "clean", "organize",
+            "email", "reply", "contract", "update", "research", "analyze", "proposal", "order", "inventory", "deploy"
+    };
+
+    private static final String[] JAPANESE_NAMES = { "佐藤", "鈴木", "高橋", "田中", "伊藤", "渡辺", "山本", "中村" };
+
+    private static final String[] ENGLISH_NAMES = { "Smith", "Johnson", "Brown", "Taylor", "Miller", "Wilson" };
+
+    private final DataSource dataSource;
+
+    private final long seed;
+
+    private double zipfExponent = DEFAULT_ZIPF_EXPONENT;
+
+    private double englishUserRatio = DEFAULT_ENGLISH_USER_RATIO;
+
+    /**
+     * @param dataSource 投入先のデータソース（Flywayのマイグレーション済み）
+     * @param seed       乱数のシード
+     */
+    public TaskDatasetGenerator(DataSource dataSource, long seed) {
+        this.dataSource = dataSource;
+        this.seed = seed;
+    }
+
+    /**
+     * Zipf分布の指数を設定（0の場合は全員が同じ件数）
+     *
+     * @param zipfExponent 指数（0以上）
+     * @return this
+     */
+    public TaskDatasetGenerator zipfExponent(double zipfExponent) {
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("zipfExponentは0以上で指定してください");
+        }
+        this.zipfExponent = zipfExponent;
+        return this;
+    }
+
+    /**
+     * 英語でタスクを書くユーザーの割合を設定
+     *
+     * @param englishUserRatio 割合（0〜1）
+     * @return this
+     */
+    public TaskDatasetGenerator englishUserRatio(double englishUserRatio) {
+        if (englishUserRatio < 0 || englishUserRatio > 1) {
+            throw new IllegalArgumentException("englishUserRatioは0〜1の範囲で指定してください");
+        }
+        this.englishUserRatio = englishUserRatio;
+        return this;
+    }
+
+    /**
+     * ユーザーとタスクを投入
+     *
+     * 処理の流れ：
+     * 1. ユーザーを投入し、IDを取得する
+     * 2. Zipf分布で、ユーザーごとのタスク数を決める
+     * 3. tasks_seqから、タスク数分のIDを確保する
+     * 4. タスクを生成しながら、COPYまたは複数行INSERTで投入する
+     *
+     * @param userCount ユーザー数（1以上）
+     * @param taskCount タスク数（0以上）
+     * @return 投入結果
+     */
+    public Dataset generate(int userCount, long taskCount) {
+        if (userCount < 1 || taskCount < 0) {
+            throw new IllegalArgumentException("ユーザー数は1以上、タスク数は0以上で指定してください");
+        }
+
+        long start = System.nanoTime();
+        Random random = new Random(seed);
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+
+            boolean[] english = new boolean[userCount];
+            for (int i = 0; i < userCount; i++) {
+                english[i] = random.nextDouble() < englishUserRatio;
+            }
+            List<Long> userIds = insertUsers(connection, english, random);
+
+            long[] taskCounts = zipfCounts(userCount, taskCount);
+            long firstTaskId = reserveTaskIds(connection, taskCount);
+
+            LocalDateTime now = Task.currentTimestamp();
+            long taskId = firstTaskId;
+            try (TaskRowWriter writer = postgres ? new CopyWriter(connection) : new MultiRowInsertWriter(connection)) {
+                for (int i = 0; i < userCount; i++) {
+                    for (long j = 0; j < taskCounts[i]; j++) {
+                        writer.write(newTask(random, taskId++, userIds.get(i), english[i], now));
+                    }
+                }
+            }
+
+            return new Dataset(Collections.unmodifiableList(userIds), taskCounts, firstTaskId,
+                    Duration.ofNanos(System.nanoTime() - start));
+        } catch (SQLException e) {
+            throw new IllegalStateException("データセットの投入に失敗しました", e);
+        } finally {
+            DataSourceUtils.releaseConnection(connection, dataSource);
+        }
+    }
+
+    /**
+     * Zipf分布で、ユーザーごとのタスク数を決める
+     *
+     * 実務でのポイント：
+     * - 端数は上位のユーザーから1件ずつ割り当て、合計がtaskCountと一致するようにします
+     *
+     * @param userCount ユーザー数
+     * @param taskCount タスク数
+     * @return ユーザーごとのタスク数（順位の順）
+     */
+    long[] zipfCounts(int userCount, long taskCount) {
+        double[] weights = new double[userCount];
+        double total = 0;
+        for (int i = 0; i < userCount; i++) {
+            weights[i] = 1.0 / Math.pow(i + 1, zipfExponent);
+            total += weights[i];
+        }
+
+        long[] counts = new long[userCount];
+        long assigned = 0;
+        for (int i = 0; i < userCount; i++) {
+            counts[i] = (long) Math.floor(taskCount * weights[i] / total);
+            assigned += counts[i];
+        }
+        for (int i = 0; assigned < taskCount; i = (i + 1) % userCount) {
+            counts[i]++;
+            assigned++;
+        }
+        return counts;
+    }
+
+    /**
+     * ユーザーを投入し、IDを取得
+     *
+     * @return ユーザーID（投入した順）
+     */
+    private List<Long> insertUsers(Connection connection, boolean[] english, Random random) throws SQLException {
+        String tag = Long.toString(seed, 36) + "-" + Long.toString(System.currentTimeMillis(), 36);
+        // SecurityConfigのDelegatingPasswordEncoderと同じ形式（{bcrypt}の接頭辞付き）
+        // コストが起動時に選ばれたコストと異なる場合は、各ユーザーの初回のログインでハッシュ化し直されます
+        String passwordHash = "{bcrypt}" + new BCryptPasswordEncoder().encode(PASSWORD);
+        Timestamp now = Timestamp.valueOf(Task.currentTimestamp());
+
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO users (email, password, username, created_at, updated_at) VALUES (?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < english.length; i++) {
+                statement.setString(1, EMAIL_PREFIX + tag + "-" + i + "@example.com");
+                statement.setString(2, passwordHash);
+                statement.setString(3, english[i]
+                        ? ENGLISH_NAMES[random.nextInt(ENGLISH_NAMES.length)] + " " + i
+                        : JAPANESE_NAMES[random.nextInt(JAPANESE_NAMES.length)] + i);
+                statement.setTimestamp(4, now);
+                statement.setTimestamp(5, now);
+                statement.addBatch();
+                if ((i + 1) % 1000 == 0) {
+                    statement.executeBatch();
+                }
+            }
+            statement.executeBatch();
+        }
+
+        List<Long> userIds = new ArrayList<>(english.length);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id FROM users WHERE email LIKE ? ORDER BY id")) {
+            statement.setString(1, EMAIL_PREFIX + tag + "-%");
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    userIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+        return userIds;
+    }
+
+    /**
+     * tasks_seqから、タスク数分のIDを確保
+     *
+     * なぜシーケンスを進めるのか：
+     * - Task.idはpooled（allocationSize = 50）で採番され、シーケンスの値が「払い出すIDの上限」になります
+     * - 投入したIDの最大値 + allocationSize にシーケンスを進めることで、
+     * 投入後にアプリケーションが採番するIDが、投入したIDと重複しないようにします
+     *
+     * 実務でのポイント：
+     * - tasks.idには既定値（IDENTITY）が無いため、JDBCでタスクを直接投入する場合は、必ずこのメソッドでIDを確保します
+     * （TaskSearchBenchmarkTestなど、このクラス以外の投入処理からも使用します）
+     *
+     * @param connection コネクション
+     * @param taskCount  投入するタスク数
+     * @return 投入する最初のタスクID（firstTaskId 〜 firstTaskId + taskCount - 1 を使用できます）
+     * @throws SQLException シーケンスの操作に失敗した場合
+     */
+    public static long reserveTaskIds(Connection connection, long taskCount) throws SQLException {
+        boolean postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+        try (Statement statement = connection.createStatement()) {
+            long maxId = queryLong(statement, "SELECT COALESCE(MAX(id), 0) FROM tasks");
+            long sequenceValue = queryLong(statement,
+                    postgres ? "SELECT nextval('tasks_seq')" : "SELECT NEXT VALUE FOR tasks_seq");
+            long firstTaskId = Math.max(maxId, sequenceValue) + 1;
+            statement.execute("ALTER SEQUENCE tasks_seq RESTART WITH "
+                    + (firstTaskId + taskCount + TASK_ID_ALLOCATION_SIZE));
+            return firstTaskId;
+        }
+    }
+
+    private static long queryLong(Statement statement, String sql) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    /**
+     * タスクを1件生成
+     */
+    private TaskRow newTask(Random random, long id, long userId, boolean english, LocalDateTime now) {
+        long historySeconds = HISTORY_DAYS * 86_400L;
+        long ageSeconds = random.nextLong(historySeconds);
+        LocalDateTime createdAt = now.minusSeconds(ageSeconds);
+        LocalDateTime updatedAt = createdAt.plusSeconds(random.nextLong(Math.min(ageSeconds, 7 * 86_400L) + 1));
+
+        // 古いタスクほど完了している割合が高い（20%〜90%）
+        double doneRatio = 0.2 + 0.7 * ageSeconds / historySeconds;
+        double statusValue = random.nextDouble();
+        TaskStatus status = statusValue < doneRatio ? TaskStatus.DONE
+                : statusValue < doneRatio + (1 - doneRatio) / 3 ? TaskStatus.IN_PROGRESS
+                : TaskStatus.TODO;
+
+        double priorityValue = random.nextDouble();
+        TaskPriority priority = priorityValue < 0.2 ? TaskPriority.HIGH
+                : priorityValue < 0.7 ? TaskPriority.MEDIUM
+                : TaskPriority.LOW;
+
+        LocalDate dueDate = random.nextInt(10) < 3 ? null
+                : createdAt.toLocalDate().plusDays(Math.round(random.nextGaussian() * 21 + 14));
+
+        String title = text(random, english, 2 + random.nextInt(4));
+        String description = random.nextInt(5) == 0 ? null : text(random, english, 8 + random.nextInt(23));
+
+        return new TaskRow(id, title, description, dueDate, status, priority, userId, createdAt, updatedAt);
+    }
+
+    private static String text(Random random, boolean english, int wordCount) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (english) {
+                if (i > 0) {
+                    text.append(' ');
+                }
+                text.append(ENGLISH_WORDS[random.nextInt(ENGLISH_WORDS.length)]);
+            } else {
+                text.append(JAPANESE_WORDS[random.nextInt(JAPANESE_WORDS.length)]);
+                if (i < wordCount - 1) {
+                    text.append(random.nextInt(4) == 0 ? "、" : "の");
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * 投入結果
+     *
+     * @param userIds     ユーザーID（タスク数の多い順）
+     * @param taskCounts  ユーザーごとのタスク数（userIdsの順）
+     * @param firstTaskId 投入した最初のタスクID（IDは連番）
+     * @param elapsed     投入にかかった時間
+     */
+    public record Dataset(List<Long> userIds, long[] taskCounts, long firstTaskId, Duration elapsed) {
+
+        /**
+         * 投入したタスクの件数
+         *
+         * @return タスク数
+         */
+        public long taskCount() {
+            long total = 0;
+            for (long count : taskCounts) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * 投入するタスクの1行
+     */
+    private record TaskRow(long id, String title, String description, LocalDate dueDate, TaskStatus status,
+            TaskPriority priority, long userId, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * タスクの投入方法
+     */
+    private interface TaskRowWriter extends AutoCloseable {
+
+        void write(TaskRow row) throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    /**
+     * COPYによる投入（PostgreSQL）
+     *
+     * 実務でのポイント：
+     * - CSV形式の行をCOPY_BUFFER_ROWS件ずつまとめて送信し、メモリ使用量を一定に保ちます
+     */
+    private static final class CopyWriter implements TaskRowWriter {
+
+        private final CopyIn copyIn;
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        private int bufferedRows;
+
+        CopyWriter(Connection connection) throws SQLException {
+            this.copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn("COPY tasks (" + TASK_COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        public void write(TaskRow row) throws SQLException {
+            buffer.append(row.id()).append(',')
+                    .append(csv(row.title())).append(',')
+                    .append(csv(row.description())).append(',')
+                    .append(row.dueDate() == null ? "" : row.dueDate().toString()).append(',')
+                    .append(row.status().name()).append(',')
+                    .append(row.priority().name()).append(',')
+                    .append(row.userId()).append(',')
+                    .append(row.createdAt()).append(',')
+                    .append(row.updatedAt()).append(',')
+                    .append("0,0\n");
+            if (++bufferedRows == COPY_BUFFER_ROWS) {
+                flush();
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+
+        private void flush() throws SQLException {
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+            bufferedRows = 0;
+        }
+
+        /**
+         * CSVの値（nullは空欄、文字列は引用符で囲む）
+         */
+        private static String csv(String value) {
+            return value == null ? "" : '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * 複数行INSERTによる投入（H2など）
+     *
+     * 実務でのポイント：
+     * - 1文でROWS_PER_STATEMENT行を投入し、さらにSTATEMENTS_PER_BATCH文をまとめて送信します
+     * - 端数の行は、行数に合わせたINSERT文で投入します
+     */
+    private static final class MultiRowInsertWriter implements TaskRowWriter {
+
+        private final Connection connection;
+
+        private final PreparedStatement statement;
+
+        private final List<TaskRow> rows = new ArrayList<>(ROWS_PER_STATEMENT);
+
+        private int batchedStatements;
+
+        MultiRowInsertWriter(Connection connection) throws SQLException {
+            this.connection = connection;
+            this.statement = connection.prepareStatement(insertSql(ROWS_PER_STATEMENT));
+        }
+
+        @Override
+        public void write(TaskRow row) throws SQLException {
+            rows.add(row);
+            if (rows.size() == ROWS_PER_STATEMENT) {
+                bind(statement, rows);
+                statement.addBatch();
+                rows.clear();
+                if (++batchedStatements == STATEMENTS_PER_BATCH) {
+                    statement.executeBatch();
+                    batchedStatements = 0;
+                }
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try (statement) {
+                statement.executeBatch();
+                if (!rows.isEmpty()) {
+                    try (PreparedStatement remainder = connection.prepareStatement(insertSql(rows.size()))) {
+                        bind(remainder, rows);
+                        remainder.executeUpdate();
+                    }
+                    rows.clear();
+                }
+            }
+        }
+
+        private static String insertSql(int rowCount) {
+            String placeholders = "(" + "?, ".repeat(TASK_COLUMN_COUNT - 1) + "?)";
+            return "INSERT INTO tasks (" + TASK_COLUMNS + ") VALUES "
+                    + String.join(", ", Collections.nCopies(rowCount, placeholders));
+        }
+
+        private static void bind(PreparedStatement statement, List<TaskRow> rows) throws SQLException {
+            int index = 1;
+            for (TaskRow row : rows) {
+                statement.setLong(index++, row.id());
+                statement.setString(index++, row.title());
+                if (row.description() == null) {
+                    statement.setNull(index++, Types.VARCHAR);
+                } else {
+                    statement.setString(index++, row.description());
+                }
+                if (row.dueDate() == null) {
+                    statement.setNull(index++, Types.DATE);
+                } else {
+                    statement.setObject(index++, row.dueDate());
+                }
+                statement.setString(index++, row.status().name());
+                statement.setString(index++, row.priority().name());
+                statement.setLong(index++, row.userId());
+                statement.setTimestamp(index++, Timestamp.valueOf(row.createdAt()));
+                statement.setTimestamp(index++, Timestamp.valueOf(row.updatedAt()));
+                statement.setLong(index++, 0L);
+                statement.setLong(index++, 0L);
+            }
+        }
+    }
+}
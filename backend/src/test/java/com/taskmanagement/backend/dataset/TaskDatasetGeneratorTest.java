@@ -0,0 +1,161 @@
+package com.taskmanagement.backend.dataset;
+
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.service.TaskService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskDatasetGeneratorのテスト
+ *
+ * テストの目的：
+ * - 指定した件数のタスクが、Zipf分布に従ってユーザーに割り当てられることを確認する
+ * - 投入後にアプリケーションが作成したタスクのIDが、投入したIDと重複しないことを確認する
+ *
+ * 大量データの投入（PostgreSQL）：
+ * ./mvnw test -Dtest=TaskDatasetGeneratorTest
+ * -Dpostgres.url=jdbc:postgresql://localhost:5432/taskdb_bench
+ * -Dpostgres.username=postgres -Dpostgres.password=postgres
+ * -Ddataset.users=5000 -Ddataset.tasks=10000000
+ *
+ * 実務でのポイント：
+ * - 大量データの投入は、接続先とタスク数を指定した場合のみ実行します
+ * - 投入したデータは削除しません（ベンチマークや PostgresIndexPlanTest の実行計画の確認に使用します）
+ */
+@SpringBootTest
+class TaskDatasetGeneratorTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskService taskService;
+
+    @AfterEach
+    void tearDown() {
+        String datasetUsers = "SELECT id FROM users WHERE email LIKE '" + TaskDatasetGenerator.EMAIL_PREFIX + "%'";
+        jdbcTemplate.update("DELETE FROM task_search_tokens WHERE user_id IN (" + datasetUsers + ")");
+        jdbcTemplate.update("DELETE FROM tasks WHERE user_id IN (" + datasetUsers + ")");
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (" + datasetUsers + ")");
+    }
+
+    /**
+     * Zipf分布によるタスク数の割り当てのテスト
+     *
+     * 重み 1, 1/2, 1/3, 1/4 で10件を割り当てると、切り捨てで [4, 2, 1, 1]、
+     * 残りの2件を上位から割り当てて [5, 3, 1, 1] になります
+     */
+    @Test
+    void testZipfCounts() {
+        TaskDatasetGenerator generator = new TaskDatasetGenerator(dataSource, 42L);
+
+        assertArrayEquals(new long[] { 5, 3, 1, 1 }, generator.zipfCounts(4, 10));
+        assertArrayEquals(new long[] { 3, 3, 2, 2 }, generator.zipfExponent(0).zipfCounts(4, 10));
+    }
+
+    /**
+     * ユーザーとタスクを投入するテスト
+     */
+    @Test
+    void testGenerate() {
+        TaskDatasetGenerator.Dataset dataset = new TaskDatasetGenerator(dataSource, 42L).generate(20, 2_000);
+
+        assertEquals(20, dataset.userIds().size());
+        assertEquals(2_000, dataset.taskCount());
+
+        // タスク数はユーザーの順位の順に減っていく
+        for (int i = 0; i < dataset.userIds().size(); i++) {
+            Long count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM tasks WHERE user_id = ?", Long.class, dataset.userIds().get(i));
+            assertEquals(dataset.taskCounts()[i], count);
+            if (i > 0) {
+                assertTrue(dataset.taskCounts()[i] <= dataset.taskCounts()[i - 1]);
+            }
+        }
+
+        // 投入したタスクは、アプリケーションから読み取れる
+        Long topUserId = dataset.userIds().get(0);
+        List<TaskResponseDto> tasks = taskService.findAllByUserId(topUserId);
+        assertEquals(dataset.taskCounts()[0], tasks.size());
+        assertTrue(tasks.stream().allMatch(task -> task.getVersion() == 0L));
+    }
+
+    /**
+     * 英語のユーザーのタスクが、英語で作成されるテスト
+     */
+    @Test
+    void testGenerateEnglishText() {
+        TaskDatasetGenerator.Dataset dataset = new TaskDatasetGenerator(dataSource, 42L)
+                .englishUserRatio(1.0)
+                .generate(2, 100);
+
+        List<String> titles = jdbcTemplate.queryForList(
+                "SELECT title FROM tasks WHERE user_id = ?", String.class, dataset.userIds().get(0));
+        assertFalse(titles.isEmpty());
+        assertTrue(titles.stream().allMatch(title -> title.matches("[a-z ]+")));
+    }
+
+    /**
+     * 投入後にアプリケーションが作成したタスクのIDが、投入したIDと重複しないテスト
+     */
+    @Test
+    void testTaskIdsDoNotCollideWithApplication() {
+        TaskDatasetGenerator.Dataset dataset = new TaskDatasetGenerator(dataSource, 42L).generate(5, 500);
+        long lastTaskId = dataset.firstTaskId() + dataset.taskCount() - 1;
+
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("投入後のタスク");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        TaskResponseDto task = taskService.createTask(requestDto, dataset.userIds().get(0));
+
+        assertTrue(task.getId() > lastTaskId, "採番されたID " + task.getId() + " が投入したID " + lastTaskId + " 以下です");
+    }
+
+    /**
+     * 大量データをPostgreSQLに投入（COPY）
+     */
+    @Test
+    @EnabledIfSystemProperty(named = "postgres.url", matches = ".+")
+    @EnabledIfSystemProperty(named = "dataset.tasks", matches = "\\d+")
+    void seedPostgresDataset() {
+        DriverManagerDataSource postgres = new DriverManagerDataSource(
+                System.getProperty("postgres.url"),
+                System.getProperty("postgres.username", "postgres"),
+                System.getProperty("postgres.password", ""));
+        Flyway.configure()
+                .dataSource(postgres)
+                .locations("classpath:db/migration/common", "classpath:db/migration/postgresql")
+                .load()
+                .migrate();
+
+        int users = Integer.getInteger("dataset.users", 5_000);
+        long tasks = Long.getLong("dataset.tasks");
+        TaskDatasetGenerator.Dataset dataset = new TaskDatasetGenerator(postgres, Long.getLong("dataset.seed", 42L))
+                .generate(users, tasks);
+
+        // 統計情報を更新し、投入したデータに基づいた実行計画を選ばせる
+        new JdbcTemplate(postgres).execute("ANALYZE users, tasks");
+
+        System.out.printf("投入: ユーザー%d人、タスク%d件、%.1f秒（最多のユーザーID %d: %d件）%n",
+                users, dataset.taskCount(), dataset.elapsed().toMillis() / 1e3,
+                dataset.userIds().get(0), dataset.taskCounts()[0]);
+    }
+}
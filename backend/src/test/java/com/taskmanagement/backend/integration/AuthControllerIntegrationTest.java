@@ -4,13 +4,20 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.taskmanagement.backend.dto.LoginRequestDto;
 import com.taskmanagement.backend.dto.RegisterRequestDto;
 import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.model.User;
 import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.service.AuthService;
+import com.taskmanagement.backend.service.PasswordHashingService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
@@ -58,6 +65,12 @@ public class AuthControllerIntegrationTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PasswordHashingService passwordHashingService;
+
     /**
      * 各テストの前に実行される初期化処理
      * 
@@ -117,7 +130,7 @@ public class AuthControllerIntegrationTest {
         // パスワードがハッシュ化されていることを確認
         userRepository.findById(userResponse.getId()).ifPresent(user -> {
             assertThat(user.getPassword()).isNotEqualTo("password123"); // パスワードがハッシュ化されている
-            assertThat(user.getPassword()).startsWith("$2a$"); // BCryptのハッシュ形式
+            assertThat(user.getPassword()).startsWith("{bcrypt}$2a$"); // DelegatingPasswordEncoderのBCryptのハッシュ形式
         });
     }
 
@@ -205,7 +218,7 @@ public class AuthControllerIntegrationTest {
      * 1. 新規登録を行う
      * 2. ログインAPIにリクエストを送信
      * 3. HTTPステータスコード200（OK）が返される
-     * 4. レスポンスに正しいユーザー情報が含まれる
+     * 4. レスポンスにJWTトークンと正しいユーザー情報が含まれる
      */
     @Test
     void testLoginSuccess() throws Exception {
@@ -229,10 +242,11 @@ public class AuthControllerIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginDto)))
                 .andExpect(status().isOk()) // HTTPステータスコード200
-                .andExpect(jsonPath("$.id").exists())
-                .andExpect(jsonPath("$.email").value("test@example.com"))
-                .andExpect(jsonPath("$.username").value("テストユーザー"))
-                .andExpect(jsonPath("$.password").doesNotExist()); // パスワードがレスポンスに含まれない
+                .andExpect(jsonPath("$.token").isNotEmpty()) // JWTトークンが発行される
+                .andExpect(jsonPath("$.user.id").exists())
+                .andExpect(jsonPath("$.user.email").value("test@example.com"))
+                .andExpect(jsonPath("$.user.username").value("テストユーザー"))
+                .andExpect(jsonPath("$.user.password").doesNotExist()); // パスワードがレスポンスに含まれない
     }
 
     /**
@@ -289,4 +303,96 @@ public class AuthControllerIntegrationTest {
                 .andExpect(status().isBadRequest()) // HTTPステータスコード400
                 .andExpect(jsonPath("$.message").value("メールアドレスまたはパスワードが正しくありません"));
     }
-}
\ No newline at end of file
+
+    /**
+     * ログイン時に、パスワード検証の時間が結果ごとに記録されるテスト
+     */
+    @Test
+    void testLoginRecordsPasswordVerificationTime() throws Exception {
+        RegisterRequestDto registerDto = new RegisterRequestDto();
+        registerDto.setEmail("test@example.com");
+        registerDto.setPassword("password123");
+        registerDto.setUsername("テストユーザー");
+
+        mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerDto)))
+                .andExpect(status().isCreated());
+
+        long matchesBefore = verificationCount("match");
+        long mismatchesBefore = verificationCount("mismatch");
+
+        LoginRequestDto loginDto = new LoginRequestDto();
+        loginDto.setEmail("test@example.com");
+        loginDto.setPassword("password123");
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDto)))
+                .andExpect(status().isOk());
+
+        loginDto.setPassword("wrongpassword");
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDto)))
+                .andExpect(status().isBadRequest());
+
+        assertThat(verificationCount("match")).isEqualTo(matchesBefore + 1);
+        assertThat(verificationCount("mismatch")).isEqualTo(mismatchesBefore + 1);
+    }
+
+    /**
+     * 保存されているハッシュのコストが低い場合に、ログイン時にハッシュ化し直すテスト
+     * 
+     * テストシナリオ：
+     * 1. DelegatingPasswordEncoderの導入前の形式（接頭辞なし、コスト4）のハッシュでユーザーを保存
+     * 2. ログインが成功する
+     * 3. ハッシュが {bcrypt} 付きの現在のコストで保存し直される
+     * 4. 2回目のログインでは、ハッシュ化し直さない
+     */
+    @Test
+    void testLoginRehashesPasswordWithLowerCost() throws Exception {
+        User user = new User();
+        user.setEmail("legacy@example.com");
+        user.setPassword(new BCryptPasswordEncoder(4).encode("password123"));
+        user.setUsername("既存ユーザー");
+        Long userId = userRepository.save(user).getId();
+        String legacyHash = user.getPassword();
+
+        long rehashesBefore = rehashCount();
+
+        LoginRequestDto loginDto = new LoginRequestDto();
+        loginDto.setEmail("legacy@example.com");
+        loginDto.setPassword("password123");
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").exists());
+
+        String rehashed = userRepository.findById(userId).orElseThrow().getPassword();
+        assertThat(rehashed).isNotEqualTo(legacyHash);
+        assertThat(rehashed).startsWith("{bcrypt}$2a$");
+        assertThat(passwordHashingService.upgradeEncoding(rehashed)).isFalse();
+        assertThat(rehashCount()).isEqualTo(rehashesBefore + 1);
+
+        // 現在のコストで保存し直したため、2回目のログインではハッシュ化し直さない
+        mockMvc.perform(post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(loginDto)))
+                .andExpect(status().isOk());
+
+        assertThat(userRepository.findById(userId).orElseThrow().getPassword()).isEqualTo(rehashed);
+        assertThat(rehashCount()).isEqualTo(rehashesBefore + 1);
+    }
+
+    private long rehashCount() {
+        Counter counter = meterRegistry.find(AuthService.PASSWORD_REHASH_METRIC).counter();
+        return counter == null ? 0 : (long) counter.count();
+    }
+
+    private long verificationCount(String result) {
+        Timer timer = meterRegistry.find(PasswordHashingService.HASHING_METRIC)
+                .tags("operation", "matches", "result", result).timer();
+        return timer == null ? 0 : timer.count();
+    }
+}
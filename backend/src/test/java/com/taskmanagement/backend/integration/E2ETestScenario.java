@@ -6,16 +6,23 @@ import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
 import com.taskmanagement.backend.repository.TaskRepository;
 import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.test.context.TestSecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -63,6 +70,9 @@ public class E2ETestScenario {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     /**
      * 各テストの前に実行される初期化処理
      */
@@ -73,6 +83,14 @@ public class E2ETestScenario {
         userRepository.deleteAll();
     }
 
+    /**
+     * 各テストの後に、認証情報をクリア
+     */
+    @AfterEach
+    void tearDown() {
+        TestSecurityContextHolder.clearContext();
+    }
+
     /**
      * E2Eテストシナリオ: ユーザー登録からタスク管理までの一連の流れ
      * 
@@ -128,12 +146,14 @@ public class E2ETestScenario {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(loginDto)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.id").value(userId))
-                .andExpect(jsonPath("$.email").value("user@example.com"));
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.user.id").value(userId))
+                .andExpect(jsonPath("$.user.email").value("user@example.com"));
 
         // ========================================
         // Step 3: タスク作成
         // ========================================
+        authenticate(userId);
         TaskRequestDto taskDto1 = new TaskRequestDto();
         taskDto1.setTitle("買い物に行く");
         taskDto1.setDescription("スーパーで食材を買う");
@@ -322,6 +342,7 @@ public class E2ETestScenario {
         // ========================================
         // ユーザー1がタスクを作成
         // ========================================
+        authenticate(user1Id);
         TaskRequestDto user1TaskDto = new TaskRequestDto();
         user1TaskDto.setTitle("ユーザー1のタスク");
         user1TaskDto.setDescription("これはユーザー1のタスクです");
@@ -340,6 +361,7 @@ public class E2ETestScenario {
         // ========================================
         // ユーザー2がタスクを作成
         // ========================================
+        authenticate(user2Id);
         TaskRequestDto user2TaskDto = new TaskRequestDto();
         user2TaskDto.setTitle("ユーザー2のタスク");
         user2TaskDto.setDescription("これはユーザー2のタスクです");
@@ -358,6 +380,7 @@ public class E2ETestScenario {
         // ========================================
         // ユーザー1のタスク一覧を取得
         // ========================================
+        authenticate(user1Id);
         mockMvc.perform(get("/api/tasks")
                 .param("userId", user1Id.toString()))
                 .andExpect(status().isOk())
@@ -368,6 +391,7 @@ public class E2ETestScenario {
         // ========================================
         // ユーザー2のタスク一覧を取得
         // ========================================
+        authenticate(user2Id);
         mockMvc.perform(get("/api/tasks")
                 .param("userId", user2Id.toString()))
                 .andExpect(status().isOk())
@@ -381,6 +405,88 @@ public class E2ETestScenario {
         // ユーザー間でタスクが分離されていることを確認しました！
     }
 
+    /**
+     * E2Eテストシナリオ: 一覧系のAPIのSQLの実行回数（N+1の検出）
+     * 
+     * テストシナリオ：
+     * 1. 新規登録し、タスクを500件一括作成する
+     * 2. 一覧・ページ・絞り込み・統計のAPIを呼び出し、それぞれのSQLが1回以下であることを確認する
+     * 3. 同じ一覧をもう一度取得すると、レスポンスキャッシュから返されSQLが実行されないことを確認する
+     * 
+     * このテストの意義：
+     * - Task.userの取得方法の変更などで、タスクの件数分のSQLが実行されるようになった場合に失敗します
+     * - Controller・Service・Repositoryを通したAPI単位で回数を確認します
+     */
+    @Test
+    void testListEndpointsStatementCounts() throws Exception {
+        RegisterRequestDto registerDto = new RegisterRequestDto();
+        registerDto.setEmail("sql@example.com");
+        registerDto.setPassword("password123");
+        registerDto.setUsername("SQL確認ユーザー");
+
+        MvcResult registerResult = mockMvc.perform(post("/api/auth/register")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(registerDto)))
+                .andExpect(status().isCreated())
+                .andReturn();
+        Long userId = objectMapper.readValue(registerResult.getResponse().getContentAsString(), UserResponseDto.class)
+                .getId();
+        authenticate(userId);
+
+        List<TaskRequestDto> taskDtos = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            TaskRequestDto taskDto = new TaskRequestDto();
+            taskDto.setTitle("タスク" + i);
+            taskDto.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            taskDto.setPriority(TaskPriority.values()[i % TaskPriority.values().length]);
+            taskDtos.add(taskDto);
+        }
+        mockMvc.perform(post("/api/tasks/bulk")
+                .param("userId", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskDtos)))
+                .andExpect(status().isCreated());
+
+        SqlStatementCounter sqlCounter = new SqlStatementCounter(entityManagerFactory);
+        sqlCounter.evictCaches();
+
+        sqlCounter.assertStatementCountAtMost(1, "GET /api/tasks", () -> mockMvc.perform(get("/api/tasks")
+                .param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(500)));
+        sqlCounter.assertStatementCount(0, "GET /api/tasks（2回目）", () -> mockMvc.perform(get("/api/tasks")
+                .param("userId", userId.toString()))
+                .andExpect(status().isOk()));
+        sqlCounter.assertStatementCountAtMost(1, "GET /api/tasks?limit", () -> mockMvc.perform(get("/api/tasks")
+                .param("userId", userId.toString())
+                .param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(100)));
+        sqlCounter.assertStatementCountAtMost(1, "GET /api/tasks/filter", () -> mockMvc.perform(get("/api/tasks/filter")
+                .param("userId", userId.toString())
+                .param("status", "TODO"))
+                .andExpect(status().isOk()));
+        sqlCounter.assertStatementCountAtMost(1, "GET /api/tasks/stats", () -> mockMvc.perform(get("/api/tasks/stats")
+                .param("userId", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(500)));
+    }
+
+    /**
+     * JwtAuthenticationFilterと同じ形式の認証情報（principalがユーザーID）を設定
+     * 
+     * なぜ必要なのか：
+     * - フィルタを無効化しているため、ログインで取得したトークンは使われません
+     * - /api/tasks はuserIdが認証済みのユーザーと一致しない場合に403を返すため（AuthenticatedUserInterceptor）、
+     * 操作するユーザーの認証情報を設定します
+     * 
+     * @param userId ユーザーID
+     */
+    private static void authenticate(Long userId) {
+        TestSecurityContextHolder.setAuthentication(
+                new UsernamePasswordAuthenticationToken(userId, null, List.of()));
+    }
+
     /**
      * E2Eテストのポイント（コメント）
      * 
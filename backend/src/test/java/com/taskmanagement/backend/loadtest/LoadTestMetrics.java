@@ -0,0 +1,162 @@
+package com.taskmanagement.backend.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 負荷試験の計測結果（エンドポイントごと）
+ *
+ * このクラスの役割：
+ * - エンドポイントごとに、レイテンシの分布（HdrHistogram）と、エラーの件数を記録する
+ * - 計測時間から、スループット（リクエスト/秒）を計算する
+ * - 結果を表形式で出力する
+ *
+ * なぜHdrHistogramを使うのか：
+ * - 平均値では、一部のリクエストだけが遅い（ロック待ち、GC、コネクション待ちなど）ことが分かりません
+ * - すべてのレイテンシを固定のメモリで記録でき、p99・p99.9のような高いパーセンタイルも正確に計算できます
+ *
+ * 注意点：
+ * - エラーになったリクエストのレイテンシも記録します（エラーが速く返ると、分布が良く見えることに注意してください）
+ * - 接続エラー（IOException）は、レスポンスが無いためエラー件数だけを記録します
+ */
+class LoadTestMetrics {
+
+    /**
+     * 記録できる最大のレイテンシ（これより遅いリクエストは、この値として記録します）
+     */
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    /**
+     * 有効桁数（3桁：1msのレイテンシを1µsの精度で記録）
+     */
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * リクエストの結果を記録
+     *
+     * @param endpoint     エンドポイント（例："GET /api/tasks"）
+     * @param latencyNanos レイテンシ（ナノ秒）
+     * @param statusCode   HTTPステータスコード
+     */
+    void record(String endpoint, long latencyNanos, int statusCode) {
+        EndpointMetrics metrics = endpoint(endpoint);
+        metrics.latency.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), MAX_LATENCY_MICROS));
+        if (statusCode >= 400) {
+            metrics.errors.computeIfAbsent(statusCode, code -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * 接続エラー（レスポンスを受け取れなかった）を記録
+     *
+     * @param endpoint エンドポイント
+     */
+    void recordFailure(String endpoint) {
+        endpoint(endpoint).failures.increment();
+    }
+
+    /**
+     * すべてのエンドポイントのリクエスト数
+     *
+     * @return リクエスト数（接続エラーを含む）
+     */
+    long totalRequests() {
+        return endpoints.values().stream().mapToLong(EndpointMetrics::requests).sum();
+    }
+
+    /**
+     * すべてのエンドポイントのエラー数
+     *
+     * @return エラー数（4xx・5xx・接続エラー）
+     */
+    long totalErrors() {
+        return endpoints.values().stream().mapToLong(EndpointMetrics::errorCount).sum();
+    }
+
+    /**
+     * 結果を表形式で出力
+     *
+     * @param out             出力先
+     * @param durationSeconds 計測時間（秒）
+     */
+    void print(PrintStream out, double durationSeconds) {
+        out.printf("%-28s %9s %10s %8s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "req/s", "error%", "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "errors");
+        for (Map.Entry<String, EndpointMetrics> entry : new TreeMap<>(endpoints).entrySet()) {
+            EndpointMetrics metrics = entry.getValue();
+            Histogram latency = metrics.latency.copy();
+            long requests = metrics.requests();
+            out.printf("%-28s %9d %10.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f  %s%n",
+                    entry.getKey(),
+                    requests,
+                    requests / durationSeconds,
+                    requests == 0 ? 0.0 : 100.0 * metrics.errorCount() / requests,
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue()),
+                    metrics.errorSummary());
+        }
+        out.printf("%-28s %9d %10.1f %7.2f%%%n",
+                "total",
+                totalRequests(),
+                totalRequests() / durationSeconds,
+                totalRequests() == 0 ? 0.0 : 100.0 * totalErrors() / totalRequests());
+    }
+
+    private EndpointMetrics endpoint(String endpoint) {
+        return endpoints.computeIfAbsent(endpoint, key -> new EndpointMetrics());
+    }
+
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+
+    /**
+     * 1つのエンドポイントの計測結果
+     */
+    private static final class EndpointMetrics {
+
+        /**
+         * レイテンシの分布（マイクロ秒、複数スレッドから同時に記録できる）
+         */
+        private final ConcurrentHistogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, SIGNIFICANT_DIGITS);
+
+        /**
+         * ステータスコードごとのエラー数
+         */
+        private final ConcurrentMap<Integer, LongAdder> errors = new ConcurrentHashMap<>();
+
+        /**
+         * 接続エラーの数
+         */
+        private final LongAdder failures = new LongAdder();
+
+        long requests() {
+            return latency.getTotalCount() + failures.sum();
+        }
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum() + failures.sum();
+        }
+
+        String errorSummary() {
+            StringBuilder summary = new StringBuilder();
+            new TreeMap<>(errors).forEach((code, count) -> summary.append(code).append('=').append(count.sum()).append(' '));
+            if (failures.sum() > 0) {
+                summary.append("io=").append(failures.sum());
+            }
+            return summary.toString().trim();
+        }
+    }
+}
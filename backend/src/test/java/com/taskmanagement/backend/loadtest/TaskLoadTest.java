@@ -0,0 +1,317 @@
+package com.taskmanagement.backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.backend.support.VirtualThreadPinningMonitor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 負荷試験（複数の仮想ユーザーによる、本番に近い操作の組み合わせ）
+ *
+ * テストの目的：
+ * - E2ETestScenarioは1人のユーザーの操作が正しいことを確認しますが、同時アクセス時の性能は分かりません
+ * - アプリケーションをランダムなポートで起動し、N人の仮想ユーザーがHTTP経由で操作を繰り返します
+ * - エンドポイントごとのスループット、レイテンシ（p50・p99・p99.9）、エラー率を出力します
+ *
+ * 実行方法：
+ * ./mvnw test -Dtest=TaskLoadTest -Dloadtest=true -Dloadtest.users=200 -Dloadtest.duration-seconds=120
+ *
+ * 設定（システムプロパティ）：
+ * - loadtest.users：仮想ユーザー数（デフォルト50）
+ * - loadtest.tasks-per-user：仮想ユーザーごとに作成しておくタスク数（デフォルト100）
+ * - loadtest.warmup-seconds：ウォームアップ時間（デフォルト10秒、この間のリクエストは記録しない）
+ * - loadtest.duration-seconds：計測時間（デフォルト60秒）
+ * - loadtest.interval-ms：仮想ユーザーごとのリクエスト間隔（デフォルト0 = 応答を受け取ったらすぐ次を送信）
+ * - loadtest.mix：操作の比率（例："list=40,filter=15,search=10"、指定しない操作は比率0）
+ * - loadtest.max-error-rate：許容するエラー率（デフォルト0.01 = 1%）
+ *
+ * コネクションプールの計測：
+ * - 計測時間中のコネクションの取得回数、取得待ちの平均時間、保持時間の平均、
+ * 「コネクション1本・1秒あたりに処理できたリクエスト数」を出力します（HikariCPのメトリクス）
+ * - open-in-viewの有無による違いは、次のように同じ条件で比較してください
+ * （open-in-viewが有効の場合、JSONの書き出しが終わるまでコネクションを保持するため、保持時間が長くなります）
+ * ./mvnw test -Dtest=TaskLoadTest -Dloadtest=true -Dspring.datasource.hikari.maximum-pool-size=5
+ * ./mvnw test -Dtest=TaskLoadTest -Dloadtest=true -Dspring.datasource.hikari.maximum-pool-size=5 -Dspring.jpa.open-in-view=true
+ *
+ * 実行モードの比較（プラットフォームスレッドと仮想スレッド）：
+ * - -Dspring.threads.virtual.enabled=true を指定すると、サーバー側のリクエスト処理を仮想スレッドで実行します
+ * - 仮想スレッドの場合は、計測時間中のキャリアスレッドの固定（JFRのjdk.VirtualThreadPinned）も出力します
+ * - 同時実行数の違いが結果に出るよう、仮想ユーザー数はTomcatのスレッド数（200）より多くしてください
+ * ./mvnw test -Dtest=TaskLoadTest -Dloadtest=true -Dloadtest.users=1000
+ * ./mvnw test -Dtest=TaskLoadTest -Dloadtest=true -Dloadtest.users=1000 -Dspring.threads.virtual.enabled=true
+ *
+ * 実務でのポイント：
+ * - 通常のテスト実行では時間がかかりすぎるため、-Dloadtest=true を指定した場合のみ実行します
+ * - 操作の比率は、本番のアクセスログの比率に合わせてください（デフォルトは一覧・絞り込みが中心の比率です）
+ * - 本番に近い数値を得るには、spring.datasource.urlをPostgreSQLに向けて実行してください
+ *
+ * 注意点（Coordinated Omission）：
+ * - 間隔0の場合、サーバーが遅くなると仮想ユーザーもリクエストを送らなくなるため、
+ * 遅い時間帯のリクエストが少なく記録され、高いパーセンタイルが実際より良く見えます
+ * - loadtest.interval-msを指定すると、本来リクエストを送るはずだった時刻からレイテンシを計測するため、
+ * 待たされた時間もレイテンシに含まれます（容量計画にはこちらを使用してください）
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class TaskLoadTest {
+
+    /**
+     * 仮想ユーザーが実行する操作と、デフォルトの比率
+     */
+    enum Operation {
+        /** ユーザー登録（POST /api/auth/register） */
+        REGISTER(1),
+        /** ログイン（POST /api/auth/login） */
+        LOGIN(4),
+        /** 一覧取得（GET /api/tasks） */
+        LIST(40),
+        /** 絞り込み（GET /api/tasks/filter） */
+        FILTER(15),
+        /** キーワード検索（GET /api/tasks/search） */
+        SEARCH(10),
+        /** 作成（POST /api/tasks） */
+        CREATE(8),
+        /** ステータス変更（PUT /api/tasks/{id}/status） */
+        STATUS_CHANGE(15),
+        /** 削除（DELETE /api/tasks/{id}） */
+        DELETE(7);
+
+        private final int defaultWeight;
+
+        Operation(int defaultWeight) {
+            this.defaultWeight = defaultWeight;
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 負荷試験
+     */
+    @Test
+    void runLoadTest() throws Exception {
+        int users = Integer.getInteger("loadtest.users", 50);
+        int tasksPerUser = Integer.getInteger("loadtest.tasks-per-user", 100);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("loadtest.warmup-seconds", 10));
+        long durationNanos = TimeUnit.SECONDS.toNanos(Integer.getInteger("loadtest.duration-seconds", 60));
+        long intervalNanos = TimeUnit.MILLISECONDS.toNanos(Integer.getInteger("loadtest.interval-ms", 0));
+        double maxErrorRate = Double.parseDouble(System.getProperty("loadtest.max-error-rate", "0.01"));
+        Map<Operation, Integer> mix = parseMix(System.getProperty("loadtest.mix"));
+
+        String baseUrl = "http://localhost:" + port;
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        System.out.printf("仮想ユーザー: %d人、タスク: %d件/人、ウォームアップ: %d秒、計測: %d秒、間隔: %dms%n",
+                users, tasksPerUser, TimeUnit.NANOSECONDS.toSeconds(warmupNanos),
+                TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toMillis(intervalNanos));
+        System.out.println("操作の比率: " + mix);
+        System.out.println("サーバーの実行モード: " + (virtualThreads ? "仮想スレッド" : "プラットフォームスレッド"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+        PoolSnapshot poolBefore;
+        PoolSnapshot poolAfter;
+        VirtualThreadPinningMonitor pinningMonitor = null;
+        try {
+            // 1. 全員のユーザー登録・ログイン・タスク作成が終わるまで待つ
+            List<VirtualUser> virtualUsers = new ArrayList<>(users);
+            List<Future<?>> setUps = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                VirtualUser virtualUser = new VirtualUser(httpClient, objectMapper, baseUrl, metrics, runId, i);
+                virtualUsers.add(virtualUser);
+                setUps.add(executor.submit(() -> {
+                    virtualUser.setUp(tasksPerUser);
+                    return null;
+                }));
+            }
+            for (Future<?> setUp : setUps) {
+                setUp.get();
+            }
+
+            // 2. ウォームアップ後から計測を開始し、計測時間が経過するまで操作を繰り返す
+            long measureStartNanos = System.nanoTime() + warmupNanos;
+            long endNanos = measureStartNanos + durationNanos;
+            List<Future<?>> runs = new ArrayList<>(users);
+            for (int i = 0; i < users; i++) {
+                VirtualUser virtualUser = virtualUsers.get(i);
+                Random random = new Random(i);
+                virtualUser.measureFrom(measureStartNanos);
+                runs.add(executor.submit(() -> {
+                    long intendedStartNanos = System.nanoTime();
+                    while (intendedStartNanos < endNanos) {
+                        virtualUser.execute(pick(mix, random), intendedStartNanos);
+                        if (intervalNanos > 0) {
+                            intendedStartNanos += intervalNanos;
+                            LockSupport.parkNanos(intendedStartNanos - System.nanoTime());
+                        } else {
+                            intendedStartNanos = System.nanoTime();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            LockSupport.parkNanos(measureStartNanos - System.nanoTime());
+            poolBefore = PoolSnapshot.take(meterRegistry);
+            if (virtualThreads) {
+                pinningMonitor = new VirtualThreadPinningMonitor(Duration.ofMillis(1));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+            poolAfter = PoolSnapshot.take(meterRegistry);
+            if (pinningMonitor != null) {
+                pinningMonitor.stop();
+            }
+        } finally {
+            executor.shutdownNow();
+            if (pinningMonitor != null) {
+                pinningMonitor.close();
+            }
+        }
+
+        // 3. 結果を出力
+        metrics.print(System.out, durationNanos / 1e9);
+
+        long requests = metrics.totalRequests();
+        poolAfter.printSince(poolBefore, requests, System.out);
+        if (pinningMonitor != null) {
+            pinningMonitor.print(System.out);
+        }
+        double errorRate = requests == 0 ? 0.0 : (double) metrics.totalErrors() / requests;
+        assertTrue(requests > 0, "計測時間中にリクエストが完了していません");
+        assertTrue(errorRate <= maxErrorRate,
+                String.format("エラー率 %.2f%% が許容値 %.2f%% を超えています", errorRate * 100, maxErrorRate * 100));
+    }
+
+    /**
+     * コネクションプールのメトリクス（HikariCPのTimer）の累計値
+     *
+     * @param acquireCount   コネクションの取得回数
+     * @param acquireSeconds コネクションの取得待ちの合計時間（秒）
+     * @param usageCount     コネクションの返却回数
+     * @param usageSeconds   コネクションの保持時間の合計（秒）
+     */
+    record PoolSnapshot(long acquireCount, double acquireSeconds, long usageCount, double usageSeconds) {
+
+        static PoolSnapshot take(MeterRegistry registry) {
+            long acquireCount = 0;
+            double acquireSeconds = 0;
+            for (Timer timer : registry.find("hikaricp.connections.acquire").timers()) {
+                acquireCount += timer.count();
+                acquireSeconds += timer.totalTime(TimeUnit.SECONDS);
+            }
+            long usageCount = 0;
+            double usageSeconds = 0;
+            for (Timer timer : registry.find("hikaricp.connections.usage").timers()) {
+                usageCount += timer.count();
+                usageSeconds += timer.totalTime(TimeUnit.SECONDS);
+            }
+            return new PoolSnapshot(acquireCount, acquireSeconds, usageCount, usageSeconds);
+        }
+
+        /**
+         * 計測開始時からの差分を出力
+         *
+         * @param before   計測開始時の累計値
+         * @param requests 計測時間中に完了したリクエスト数
+         * @param out      出力先
+         */
+        void printSince(PoolSnapshot before, long requests, PrintStream out) {
+            long acquires = acquireCount - before.acquireCount;
+            double acquireWait = acquireSeconds - before.acquireSeconds;
+            long usages = usageCount - before.usageCount;
+            double usage = usageSeconds - before.usageSeconds;
+            if (acquires == 0 || usages == 0) {
+                out.println("コネクションプールのメトリクスがありません（HikariCP以外のデータソース）");
+                return;
+            }
+            out.println("コネクションプール（計測時間中）：");
+            out.printf("  取得回数: %d回（リクエストあたり %.2f回）%n", acquires, (double) acquires / Math.max(requests, 1));
+            out.printf("  取得待ち: 平均 %.3fms%n", acquireWait * 1000 / acquires);
+            out.printf("  保持時間: 平均 %.3fms、合計 %.1fコネクション秒%n", usage * 1000 / usages, usage);
+            out.printf("  1コネクション秒あたりのリクエスト数: %.1f%n", usage > 0 ? requests / usage : 0.0);
+        }
+    }
+
+    /**
+     * 操作の比率を解析
+     *
+     * @param mix 操作の比率（例："list=40,filter=15"、nullの場合はデフォルトの比率）
+     * @return 操作ごとの比率
+     */
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        if (mix == null || mix.isBlank()) {
+            for (Operation operation : Operation.values()) {
+                weights.put(operation, operation.defaultWeight);
+            }
+            return weights;
+        }
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mixの形式が正しくありません: " + entry);
+            }
+            weights.put(Operation.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(pair[1].trim()));
+        }
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("loadtest.mixの比率の合計は1以上にしてください");
+        }
+        return weights;
+    }
+
+    /**
+     * 比率に従って、操作をランダムに選ぶ
+     */
+    private static Operation pick(Map<Operation, Integer> mix, Random random) {
+        int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int value = random.nextInt(total);
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("操作を選択できません");
+    }
+}
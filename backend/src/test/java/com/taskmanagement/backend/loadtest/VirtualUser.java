@@ -0,0 +1,290 @@
+package com.taskmanagement.backend.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.backend.dto.AuthResponseDto;
+import com.taskmanagement.backend.dto.LoginRequestDto;
+import com.taskmanagement.backend.dto.RegisterRequestDto;
+import com.taskmanagement.backend.dto.TaskBulkCreateResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkItemResultDto;
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.service.TaskService;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 負荷試験の仮想ユーザー（1つのスレッドで、1人のユーザーの操作を繰り返す）
+ *
+ * このクラスの役割：
+ * - ユーザー登録・ログインを行い、JWTトークンを取得する
+ * - 自分のタスクを作成しておき、一覧・絞り込み・検索・ステータス変更・削除を実行する
+ * - 各リクエストのレイテンシとステータスコードをLoadTestMetricsに記録する
+ *
+ * 実務でのポイント：
+ * - 実際のクライアントと同じく、HTTP経由（JWT認証、JSONのシリアライズを含む）でリクエストします
+ * - 削除・ステータス変更の対象は、自分が作成したタスクのIDから選びます（404にならないようにするため）
+ * - 準備（setUp）と、計測開始（ウォームアップ終了）前のリクエストは記録しません
+ *
+ * 注意点：
+ * - このクラスはスレッドセーフではありません（1つの仮想ユーザーは1つのスレッドで実行します）
+ */
+class VirtualUser {
+
+    /**
+     * タイトル・詳細の生成に使用する単語（検索キーワードにも使用）
+     */
+    static final String[] WORDS = {
+            "買い物", "資料", "作成", "会議", "準備", "レビュー", "報告書", "見積もり", "請求書", "確認",
+            "プロジェクト", "設計", "実装", "テスト", "リリース", "顧客", "打ち合わせ", "予約", "掃除", "整理",
+            "メール", "返信", "電話", "契約", "更新", "調査", "分析", "提案", "発注", "在庫"
+    };
+
+    private static final String PASSWORD = "password123";
+
+    private final HttpClient httpClient;
+
+    private final ObjectMapper objectMapper;
+
+    private final String baseUrl;
+
+    private final LoadTestMetrics metrics;
+
+    private final Random random;
+
+    private final String email;
+
+    private final List<Long> taskIds = new ArrayList<>();
+
+    private Long userId;
+
+    private String token;
+
+    /**
+     * 計測を開始する時刻（System.nanoTime()、それより前に開始したリクエストは記録しない）
+     */
+    private long measureStartNanos = Long.MAX_VALUE;
+
+    /**
+     * @param httpClient   HTTPクライアント（すべての仮想ユーザーで共有）
+     * @param objectMapper ObjectMapper
+     * @param baseUrl      アプリケーションのURL（例："http://localhost:8080"）
+     * @param metrics      計測結果の記録先
+     * @param runId        試験の実行ID（メールアドレスを実行ごとに一意にするため）
+     * @param index        仮想ユーザーの番号
+     */
+    VirtualUser(HttpClient httpClient, ObjectMapper objectMapper, String baseUrl, LoadTestMetrics metrics,
+            String runId, int index) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+        this.random = new Random(index);
+        this.email = "load-" + runId + "-" + index + "@example.com";
+    }
+
+    /**
+     * ユーザー登録・ログインを行い、タスクを作成しておく（計測しない）
+     *
+     * @param taskCount 作成しておくタスクの件数
+     * @throws IOException          通信エラー、または登録・ログイン・作成に失敗した場合
+     * @throws InterruptedException 割り込まれた場合
+     */
+    void setUp(int taskCount) throws IOException, InterruptedException {
+        register(email, System.nanoTime());
+        login(System.nanoTime());
+        if (token == null) {
+            throw new IOException("ログインに失敗しました: " + email);
+        }
+
+        List<TaskRequestDto> requests = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            requests.add(newTask());
+        }
+        for (int from = 0; from < requests.size(); from += TaskService.MAX_BULK_SIZE) {
+            List<TaskRequestDto> chunk = requests.subList(from,
+                    Math.min(from + TaskService.MAX_BULK_SIZE, requests.size()));
+            HttpResponse<byte[]> response = send("POST /api/tasks/bulk",
+                    authorized(uri("/api/tasks/bulk", "userId", userId)).POST(json(chunk)).build(),
+                    System.nanoTime());
+            if (response == null || response.statusCode() != 201) {
+                throw new IOException("タスクの作成に失敗しました: " + email);
+            }
+            TaskBulkCreateResponseDto result = objectMapper.readValue(response.body(), TaskBulkCreateResponseDto.class);
+            for (TaskBulkItemResultDto item : result.getResults()) {
+                if (item.getTask() != null) {
+                    taskIds.add(item.getTask().getId());
+                }
+            }
+        }
+    }
+
+    /**
+     * 計測を開始する時刻を設定
+     *
+     * @param measureStartNanos 計測を開始する時刻（System.nanoTime()）
+     */
+    void measureFrom(long measureStartNanos) {
+        this.measureStartNanos = measureStartNanos;
+    }
+
+    /**
+     * 操作を1回実行
+     *
+     * @param operation          実行する操作
+     * @param intendedStartNanos 本来リクエストを開始するはずだった時刻（レイテンシの起点）
+     * @throws IOException          JSONの変換に失敗した場合
+     * @throws InterruptedException 割り込まれた場合
+     */
+    void execute(TaskLoadTest.Operation operation, long intendedStartNanos) throws IOException, InterruptedException {
+        switch (operation) {
+            case REGISTER -> register("load-" + System.nanoTime() + "-" + random.nextInt(1_000_000) + "@example.com",
+                    intendedStartNanos);
+            case LOGIN -> login(intendedStartNanos);
+            case LIST -> send("GET /api/tasks",
+                    authorized(uri("/api/tasks", "userId", userId)).GET().build(), intendedStartNanos);
+            case FILTER -> send("GET /api/tasks/filter",
+                    authorized(uri("/api/tasks/filter", "userId", userId, "status", randomStatus())).GET().build(),
+                    intendedStartNanos);
+            case SEARCH -> send("GET /api/tasks/search",
+                    authorized(uri("/api/tasks/search", "userId", userId, "keyword", randomWord())).GET().build(),
+                    intendedStartNanos);
+            case CREATE -> create(intendedStartNanos);
+            case STATUS_CHANGE -> {
+                if (taskIds.isEmpty()) {
+                    create(intendedStartNanos);
+                    return;
+                }
+                Long taskId = taskIds.get(random.nextInt(taskIds.size()));
+                send("PUT /api/tasks/{id}/status",
+                        authorized(uri("/api/tasks/" + taskId + "/status", "userId", userId, "status", randomStatus()))
+                                .PUT(HttpRequest.BodyPublishers.noBody()).build(),
+                        intendedStartNanos);
+            }
+            case DELETE -> {
+                if (taskIds.isEmpty()) {
+                    create(intendedStartNanos);
+                    return;
+                }
+                Long taskId = taskIds.remove(random.nextInt(taskIds.size()));
+                send("DELETE /api/tasks/{id}",
+                        authorized(uri("/api/tasks/" + taskId, "userId", userId)).DELETE().build(),
+                        intendedStartNanos);
+            }
+        }
+    }
+
+    private void register(String email, long intendedStartNanos) throws IOException, InterruptedException {
+        RegisterRequestDto request = new RegisterRequestDto();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+        request.setUsername("負荷試験");
+
+        HttpResponse<byte[]> response = send("POST /api/auth/register",
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/register"))
+                        .header("Content-Type", "application/json")
+                        .POST(json(request)).build(),
+                intendedStartNanos);
+        if (userId == null && response != null && response.statusCode() == 201) {
+            userId = objectMapper.readValue(response.body(), UserResponseDto.class).getId();
+        }
+    }
+
+    private void login(long intendedStartNanos) throws IOException, InterruptedException {
+        LoginRequestDto request = new LoginRequestDto();
+        request.setEmail(email);
+        request.setPassword(PASSWORD);
+
+        HttpResponse<byte[]> response = send("POST /api/auth/login",
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .header("Content-Type", "application/json")
+                        .POST(json(request)).build(),
+                intendedStartNanos);
+        if (response != null && response.statusCode() == 200) {
+            token = objectMapper.readValue(response.body(), AuthResponseDto.class).getToken();
+        }
+    }
+
+    private void create(long intendedStartNanos) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = send("POST /api/tasks",
+                authorized(uri("/api/tasks", "userId", userId)).POST(json(newTask())).build(),
+                intendedStartNanos);
+        if (response != null && response.statusCode() == 201) {
+            taskIds.add(objectMapper.readValue(response.body(), TaskResponseDto.class).getId());
+        }
+    }
+
+    /**
+     * リクエストを送信し、結果を記録
+     *
+     * @return レスポンス（接続エラーの場合はnull）
+     */
+    private HttpResponse<byte[]> send(String endpoint, HttpRequest request, long intendedStartNanos)
+            throws InterruptedException {
+        boolean measuring = intendedStartNanos >= measureStartNanos;
+        try {
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            if (measuring) {
+                metrics.record(endpoint, System.nanoTime() - intendedStartNanos, response.statusCode());
+            }
+            return response;
+        } catch (IOException e) {
+            if (measuring) {
+                metrics.recordFailure(endpoint);
+            }
+            return null;
+        }
+    }
+
+    private HttpRequest.Builder authorized(URI uri) {
+        return HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+    }
+
+    private URI uri(String path, Object... params) {
+        StringBuilder url = new StringBuilder(baseUrl).append(path);
+        for (int i = 0; i < params.length; i += 2) {
+            url.append(i == 0 ? '?' : '&')
+                    .append(params[i])
+                    .append('=')
+                    .append(URLEncoder.encode(String.valueOf(params[i + 1]), StandardCharsets.UTF_8));
+        }
+        return URI.create(url.toString());
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) throws JsonProcessingException {
+        return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+    }
+
+    private TaskRequestDto newTask() {
+        TaskRequestDto request = new TaskRequestDto();
+        request.setTitle(randomWord() + randomWord() + randomWord());
+        request.setDescription(random.nextInt(5) == 0 ? null : randomWord() + "の" + randomWord() + "を" + randomWord());
+        request.setDueDate(random.nextInt(10) < 3 ? null : LocalDate.now().plusDays(random.nextInt(121) - 60));
+        request.setStatus(randomStatus());
+        request.setPriority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)]);
+        return request;
+    }
+
+    private TaskStatus randomStatus() {
+        return TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+    }
+
+    private String randomWord() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
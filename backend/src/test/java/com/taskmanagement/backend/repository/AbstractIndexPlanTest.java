@@ -0,0 +1,321 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.support.SqlStatementRecorder;
+import com.taskmanagement.backend.support.SqlStatementRecorder.RecordedStatement;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * リポジトリのクエリが、インデックスを使用することを確認するテストの共通部分
+ *
+ * テストの目的：
+ * - リポジトリの各メソッドを実際に呼び出し、Hibernateが生成したSQLをSqlStatementRecorderで記録する
+ * - 記録したSQLを同じパラメータでEXPLAINし、テーブルの全件スキャンになっていないことを確認する
+ * - マイグレーションのインデックスを削除・変更した場合や、クエリの条件を変更した場合に、このテストが失敗します
+ *
+ * 実務でのポイント：
+ * - リポジトリにメソッドを追加した場合は、accessPaths()に呼び出しを追加してください
+ * （追加しないと testEveryRepositoryMethodHasAccessPath が失敗します）
+ * - 「:status IS NULL OR ...」の条件を持つクエリは、絞り込みなし・ありの両方のパラメータで呼び出します
+ * - データベースごとの実行計画の判定は、サブクラス（H2：TaskIndexPlanTest、PostgreSQL：PostgresIndexPlanTest）で行います
+ */
+abstract class AbstractIndexPlanTest {
+
+    /**
+     * 確認するリポジトリ（宣言されたすべてのメソッドを対象にします）
+     */
+    private static final List<Class<?>> REPOSITORIES = List.of(
+            TaskRepository.class,
+            TaskSearchTokenRepository.class,
+            TaskTombstoneRepository.class,
+            TaskChangeHorizonRepository.class,
+            TaskSearchIndexStateRepository.class,
+            UserRepository.class);
+
+    /**
+     * 実行計画を確認しないメソッドと、その理由
+     */
+    private static final Map<String, String> EXCLUDED = Map.of(
+            "UserRepository.findByUsername",
+            "アプリケーションからは呼び出されません（ユーザー名は一意ではないため、インデックスも作成していません）");
+
+    @Autowired
+    protected TestEntityManager entityManager;
+
+    @Autowired
+    protected SqlStatementRecorder sqlRecorder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchTokenRepository taskSearchTokenRepository;
+
+    @Autowired
+    private TaskTombstoneRepository taskTombstoneRepository;
+
+    @Autowired
+    private TaskChangeHorizonRepository taskChangeHorizonRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * 実行計画がインデックスを使用していることを確認
+     *
+     * @param name アクセスパスの名前（失敗時のメッセージに使用）
+     * @param plan 実行計画
+     */
+    protected abstract void assertUsesIndex(String name, String plan);
+
+    /**
+     * EXPLAINの前に、接続の設定を変更する（必要なデータベースのみ）
+     *
+     * @param connection 接続
+     * @throws SQLException SQLの実行に失敗した場合
+     */
+    protected void beforeExplain(Connection connection) throws SQLException {
+    }
+
+    /**
+     * リポジトリのメソッドと、その呼び出し
+     *
+     * 実務でのポイント：
+     * - キーは「リポジトリ名.メソッド名」です
+     * - 空のテーブルに対して呼び出します（実行計画の確認が目的のため、データは不要です）
+     *
+     * @return メソッド名と呼び出しのMap（定義した順）
+     */
+    protected Map<String, Runnable> accessPaths() {
+        Long userId = 1L;
+        Long taskId = 100L;
+        List<Long> ids = List.of(100L, 101L);
+        List<String> tokens = List.of("買い", "い物");
+        LocalDate date = LocalDate.of(2025, 1, 1);
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        Pageable page = PageRequest.of(0, 21);
+
+        Map<String, Runnable> paths = new LinkedHashMap<>();
+
+        // 件数・集計
+        paths.put("TaskRepository.countByUserId", () -> taskRepository.countByUserId(userId));
+        paths.put("TaskRepository.countByUserIdAndStatus",
+                () -> taskRepository.countByUserIdAndStatus(userId, TaskStatus.TODO));
+        paths.put("TaskRepository.countGroupByStatusAndPriority",
+                () -> taskRepository.countGroupByStatusAndPriority(userId, date));
+
+        // 一覧（DTOプロジェクション）
+        paths.put("TaskRepository.findDtosByUserIdOrderByCreatedAtDesc",
+                () -> taskRepository.findDtosByUserIdOrderByCreatedAtDesc(userId));
+        paths.put("TaskRepository.findDtosByUserIdAndStatus",
+                () -> taskRepository.findDtosByUserIdAndStatus(userId, TaskStatus.TODO));
+        paths.put("TaskRepository.findDtosByUserIdAndPriority",
+                () -> taskRepository.findDtosByUserIdAndPriority(userId, TaskPriority.HIGH));
+        paths.put("TaskRepository.findDtosByUserIdAndDueDateBefore",
+                () -> taskRepository.findDtosByUserIdAndDueDateBefore(userId, date));
+        paths.put("TaskRepository.findDtosByUserIdAndDueDateAfter",
+                () -> taskRepository.findDtosByUserIdAndDueDateAfter(userId, date));
+        paths.put("TaskRepository.findDtosByUserIdWithFilters", () -> {
+            taskRepository.findDtosByUserIdWithFilters(userId, null, null);
+            taskRepository.findDtosByUserIdWithFilters(userId, TaskStatus.TODO, TaskPriority.HIGH);
+        });
+        paths.put("TaskRepository.findDtosByUserIdWithFiltersAndTokens", () -> {
+            taskRepository.findDtosByUserIdWithFiltersAndTokens(userId, null, null, tokens, tokens.size(), 0L, page);
+            taskRepository.findDtosByUserIdWithFiltersAndTokens(
+                    userId, TaskStatus.TODO, TaskPriority.HIGH, tokens, tokens.size(), 0L, page);
+        });
+        paths.put("TaskRepository.findDtosByUserIdAndIdIn", () -> {
+            taskRepository.findDtosByUserIdAndIdIn(userId, ids, null, null);
+            taskRepository.findDtosByUserIdAndIdIn(userId, ids, TaskStatus.TODO, TaskPriority.HIGH);
+        });
+
+        // 検索インデックスの構築
+        paths.put("TaskRepository.findByIdBetweenOrderByIdAsc",
+                () -> taskRepository.findByIdBetweenOrderByIdAsc(1L, 1000L, page));
+        paths.put("TaskRepository.findFirstByOrderByIdDesc", taskRepository::findFirstByOrderByIdDesc);
+
+        // キーセットページング
+        paths.put("TaskRepository.findPageByUserId",
+                () -> taskRepository.findPageByUserId(userId, now, taskId, page));
+        paths.put("TaskRepository.findPageByUserIdAndStatus",
+                () -> taskRepository.findPageByUserIdAndStatus(userId, TaskStatus.TODO, now, taskId, page));
+        paths.put("TaskRepository.findPageByUserIdAndPriority",
+                () -> taskRepository.findPageByUserIdAndPriority(userId, TaskPriority.HIGH, now, taskId, page));
+        paths.put("TaskRepository.findPageByUserIdAndDueDateBefore",
+                () -> taskRepository.findPageByUserIdAndDueDateBefore(userId, date, now, taskId, page));
+        paths.put("TaskRepository.findPageByUserIdAndDueDateAfter",
+                () -> taskRepository.findPageByUserIdAndDueDateAfter(userId, date, now, taskId, page));
+        paths.put("TaskRepository.findPageByUserIdWithFilters", () -> {
+            taskRepository.findPageByUserIdWithFilters(userId, null, null, now, taskId, page);
+            taskRepository.findPageByUserIdWithFilters(userId, TaskStatus.TODO, TaskPriority.HIGH, now, taskId, page);
+        });
+        paths.put("TaskRepository.findPageByUserIdWithFiltersAndTokens", () -> {
+            taskRepository.findPageByUserIdWithFiltersAndTokens(
+                    userId, null, null, tokens, tokens.size(), now, taskId, page);
+            taskRepository.findPageByUserIdWithFiltersAndTokens(
+                    userId, TaskStatus.TODO, TaskPriority.HIGH, tokens, tokens.size(), now, taskId, page);
+        });
+
+        // 1件の操作
+        paths.put("TaskRepository.findDtoByIdAndUserId", () -> taskRepository.findDtoByIdAndUserId(taskId, userId));
+        paths.put("TaskRepository.findByIdAndUserId", () -> taskRepository.findByIdAndUserId(taskId, userId));
+        paths.put("TaskRepository.updateStatusByIdAndUserId",
+                () -> taskRepository.updateStatusByIdAndUserId(taskId, userId, TaskStatus.DONE, now, 1L));
+        paths.put("TaskRepository.deleteByIdAndUserId", () -> taskRepository.deleteByIdAndUserId(taskId, userId));
+        paths.put("TaskRepository.updateStatusByIdAndUserIdIfUnchanged", () -> {
+            taskRepository.updateStatusByIdAndUserIdIfUnchanged(taskId, userId, null, null, TaskStatus.DONE, now, 1L);
+            taskRepository.updateStatusByIdAndUserIdIfUnchanged(taskId, userId, now, 0L, TaskStatus.DONE, now, 1L);
+        });
+        paths.put("TaskRepository.deleteByIdAndUserIdAndUpdatedAt",
+                () -> taskRepository.deleteByIdAndUserIdAndUpdatedAt(taskId, userId, now));
+
+        // 差分同期
+        paths.put("TaskRepository.findChangePositions",
+                () -> taskRepository.findChangePositions(userId, 0L, 0L, page));
+        paths.put("TaskTombstoneRepository.findChangePositions",
+                () -> taskTombstoneRepository.findChangePositions(userId, 0L, 0L, page));
+        paths.put("TaskTombstoneRepository.findExpired", () -> taskTombstoneRepository.findExpired(now, page));
+        paths.put("TaskTombstoneRepository.deleteByTaskIdIn", () -> taskTombstoneRepository.deleteByTaskIdIn(ids));
+        paths.put("TaskChangeHorizonRepository.findPositionByUserId",
+                () -> taskChangeHorizonRepository.findPositionByUserId(userId));
+
+        // 一括操作
+        paths.put("TaskRepository.updateStatusByUserIdAndIdIn",
+                () -> taskRepository.updateStatusByUserIdAndIdIn(userId, ids, TaskStatus.DONE, now, 1L));
+        paths.put("TaskRepository.updateStatusByUserIdWithFilters", () -> {
+            taskRepository.updateStatusByUserIdWithFilters(userId, null, null, TaskStatus.DONE, now, 1L);
+            taskRepository.updateStatusByUserIdWithFilters(
+                    userId, TaskStatus.TODO, TaskPriority.HIGH, TaskStatus.DONE, now, 1L);
+        });
+        paths.put("TaskRepository.deleteByUserIdAndIdIn", () -> taskRepository.deleteByUserIdAndIdIn(userId, ids));
+        paths.put("TaskRepository.deleteByUserIdWithFilters", () -> {
+            taskRepository.deleteByUserIdWithFilters(userId, null, null);
+            taskRepository.deleteByUserIdWithFilters(userId, TaskStatus.TODO, TaskPriority.HIGH);
+        });
+        paths.put("TaskTombstoneRepository.insertByUserIdAndIdIn",
+                () -> taskTombstoneRepository.insertByUserIdAndIdIn(userId, ids, 1L, now));
+        paths.put("TaskTombstoneRepository.insertByUserIdWithFilters", () -> {
+            taskTombstoneRepository.insertByUserIdWithFilters(userId, null, null, 1L, now);
+            taskTombstoneRepository.insertByUserIdWithFilters(userId, TaskStatus.TODO, TaskPriority.HIGH, 1L, now);
+        });
+
+        // 全文検索
+        paths.put("TaskSearchTokenRepository.findByTaskId", () -> taskSearchTokenRepository.findByTaskId(taskId));
+        paths.put("TaskSearchTokenRepository.deleteByTaskId", () -> taskSearchTokenRepository.deleteByTaskId(taskId));
+        paths.put("TaskSearchTokenRepository.deleteByTaskIdIn",
+                () -> taskSearchTokenRepository.deleteByTaskIdIn(ids));
+        paths.put("TaskSearchTokenRepository.findRankedTaskIds",
+                () -> taskSearchTokenRepository.findRankedTaskIds(userId, tokens, tokens.size(), page));
+        paths.put("TaskSearchTokenRepository.findRankedTaskIdsWithFilters", () -> {
+            taskSearchTokenRepository.findRankedTaskIdsWithFilters(userId, tokens, tokens.size(), null, null, page);
+            taskSearchTokenRepository.findRankedTaskIdsWithFilters(
+                    userId, tokens, tokens.size(), TaskStatus.DONE, TaskPriority.HIGH, page);
+        });
+        paths.put("TaskSearchTokenRepository.deleteByUserIdAndTaskIdIn",
+                () -> taskSearchTokenRepository.deleteByUserIdAndTaskIdIn(userId, ids));
+        paths.put("TaskSearchTokenRepository.deleteByUserIdWithFilters", () -> {
+            taskSearchTokenRepository.deleteByUserIdWithFilters(userId, null, null);
+            taskSearchTokenRepository.deleteByUserIdWithFilters(userId, TaskStatus.TODO, TaskPriority.HIGH);
+        });
+
+        // ユーザー
+        paths.put("UserRepository.findByEmail", () -> userRepository.findByEmail("test@example.com"));
+        paths.put("UserRepository.existsByEmail", () -> userRepository.existsByEmail("test@example.com"));
+        paths.put("UserRepository.findFirstByOrderByIdDesc", userRepository::findFirstByOrderByIdDesc);
+        paths.put("UserRepository.findByIdForUpdate", () -> userRepository.findByIdForUpdate(userId));
+
+        return paths;
+    }
+
+    /**
+     * リポジトリに宣言されたすべてのメソッドが、accessPaths()で確認されるテスト
+     *
+     * なぜ必要なのか：
+     * - リポジトリにクエリを追加しても、このテストに追加しなければ実行計画は確認されません
+     * - 追加漏れを、レビューではなくテストの失敗で検出します
+     */
+    @Test
+    void testEveryRepositoryMethodHasAccessPath() {
+        Set<String> declared = new TreeSet<>();
+        for (Class<?> repository : REPOSITORIES) {
+            for (Method method : repository.getDeclaredMethods()) {
+                if (!method.isDefault() && !method.isSynthetic() && !Modifier.isStatic(method.getModifiers())) {
+                    declared.add(repository.getSimpleName() + "." + method.getName());
+                }
+            }
+        }
+
+        Set<String> covered = new TreeSet<>(accessPaths().keySet());
+        covered.addAll(EXCLUDED.keySet());
+
+        Set<String> missing = new TreeSet<>(declared);
+        missing.removeAll(covered);
+        assertTrue(missing.isEmpty(), "実行計画を確認していないリポジトリのメソッドがあります: " + missing);
+
+        Set<String> unknown = new TreeSet<>(covered);
+        unknown.removeAll(declared);
+        assertTrue(unknown.isEmpty(), "リポジトリに存在しないメソッドが登録されています: " + unknown);
+    }
+
+    /**
+     * すべてのアクセスパスが、全件スキャンではなくインデックスを使用するテスト
+     */
+    @Test
+    void testEveryAccessPathUsesIndex() throws Exception {
+        for (String name : accessPaths().keySet()) {
+            for (String plan : plans(name)) {
+                assertUsesIndex(name, plan);
+            }
+        }
+    }
+
+    /**
+     * アクセスパスを呼び出し、実行されたSQLごとの実行計画を取得
+     *
+     * @param name アクセスパスの名前
+     * @return 実行計画のリスト（実行されたSQLの順）
+     * @throws Exception 呼び出し・EXPLAINに失敗した場合
+     */
+    protected List<String> plans(String name) throws Exception {
+        Runnable access = accessPaths().get(name);
+        assertNotNull(access, name + " はaccessPaths()に登録されていません");
+
+        entityManager.flush();
+        entityManager.clear();
+        List<RecordedStatement> statements = sqlRecorder.record(() -> {
+            access.run();
+            return null;
+        });
+        assertFalse(statements.isEmpty(), name + " でSQLが実行されませんでした");
+
+        return entityManager.getEntityManager().unwrap(Session.class).doReturningWork(connection -> {
+            beforeExplain(connection);
+            List<String> plans = new ArrayList<>();
+            for (RecordedStatement statement : statements) {
+                plans.add(statement.sql() + "\n" + sqlRecorder.explain(connection, statement));
+            }
+            return plans;
+        });
+    }
+}
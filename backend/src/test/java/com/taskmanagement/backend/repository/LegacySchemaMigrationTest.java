@@ -0,0 +1,131 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.config.TaskSearchIndexInitializer;
+import com.taskmanagement.backend.service.TaskSearchService;
+import com.taskmanagement.backend.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ddl-auto=update で作成済みのデータベースを、Flywayでマイグレーションするテスト
+ *
+ * テストの目的：
+ * - Flyway導入前（ddl-auto=update）に作成されたスキーマに、baseline-on-migrate でV1.1以降を適用し、
+ * ddl-auto=validate でアプリケーションが起動できることを確認する
+ * - V1にだけテーブルを追加した場合など、既存データベースの移行が壊れた場合に、このテストが失敗します
+ *
+ * 実務でのポイント：
+ * - LEGACY_SCHEMAは、Flyway導入前のエンティティ（Task.idはIDENTITY、descriptionはTEXT、
+ * status・priorityはHibernate 6の既定のENUM型）から、ddl-auto=update がH2に作成するスキーマです
+ * - アプリケーションのコンテキストを作成する前に、@DynamicPropertySourceで別のH2データベースに作成します
+ * - コンテキストの作成時に、Flywayのマイグレーションとddl-auto=validateが実行されます
+ */
+@SpringBootTest
+class LegacySchemaMigrationTest {
+
+    /**
+     * 既存データベースのURL（他のテストのtestdbとは別のデータベース）
+     */
+    private static final String LEGACY_URL = "jdbc:h2:mem:legacy-schema;DB_CLOSE_DELAY=-1";
+
+    /**
+     * ddl-auto=update で作成されたスキーマ（Flyway導入前）
+     */
+    private static final String LEGACY_SCHEMA = """
+            CREATE TABLE users (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                created_at TIMESTAMP(6) NOT NULL,
+                email VARCHAR(255) NOT NULL,
+                password VARCHAR(255) NOT NULL,
+                updated_at TIMESTAMP(6) NOT NULL,
+                username VARCHAR(255) NOT NULL,
+                PRIMARY KEY (id)
+            );
+            ALTER TABLE users ADD CONSTRAINT uk_legacy_users_email UNIQUE (email);
+            CREATE TABLE tasks (
+                id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+                created_at TIMESTAMP(6) NOT NULL,
+                description TEXT,
+                due_date DATE,
+                priority ENUM ('LOW', 'MEDIUM', 'HIGH') NOT NULL,
+                status ENUM ('TODO', 'IN_PROGRESS', 'DONE') NOT NULL,
+                title VARCHAR(255) NOT NULL,
+                updated_at TIMESTAMP(6) NOT NULL,
+                user_id BIGINT NOT NULL,
+                PRIMARY KEY (id)
+            );
+            ALTER TABLE tasks ADD CONSTRAINT fk_legacy_tasks_user FOREIGN KEY (user_id) REFERENCES users;
+            INSERT INTO users (created_at, email, password, username, updated_at)
+                VALUES (CURRENT_TIMESTAMP, 'legacy@example.com', 'password', '既存ユーザー', CURRENT_TIMESTAMP);
+            INSERT INTO tasks (created_at, description, priority, status, title, updated_at, user_id)
+                VALUES (CURRENT_TIMESTAMP, '移行前に作成', 'HIGH', 'TODO', '既存の報告書', CURRENT_TIMESTAMP, 1);
+            """;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskSearchIndexInitializer taskSearchIndexInitializer;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @Autowired
+    private UserService userService;
+
+    /**
+     * 既存データベースを作成し、アプリケーションの接続先にする
+     *
+     * @param registry DynamicPropertyRegistry
+     */
+    @DynamicPropertySource
+    static void legacyDatabase(DynamicPropertyRegistry registry) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(LEGACY_URL, "sa", "");
+                Statement statement = connection.createStatement()) {
+            for (String sql : LEGACY_SCHEMA.split(";")) {
+                if (!sql.isBlank()) {
+                    statement.execute(sql);
+                }
+            }
+        }
+        registry.add("spring.datasource.url", () -> LEGACY_URL);
+    }
+
+    /**
+     * V1をスキップし、V1.1以降が適用されるテスト
+     */
+    @Test
+    void testBaselinesAndAppliesLaterMigrations() {
+        assertEquals("1", jdbcTemplate.queryForObject(
+                "SELECT \"version\" FROM \"flyway_schema_history\" WHERE \"type\" = 'BASELINE'", String.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM \"flyway_schema_history\" WHERE \"success\" = FALSE", Integer.class));
+        assertEquals("CHARACTER VARYING", jdbcTemplate.queryForObject(
+                "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS "
+                        + "WHERE TABLE_NAME = 'TASKS' AND COLUMN_NAME = 'STATUS'", String.class));
+    }
+
+    /**
+     * 移行後のデータベースで、既存のタスクを検索できるテスト（検索インデックスのテーブルが作成されている）
+     *
+     * 実務でのポイント：
+     * - 既存のタスクの検索インデックスは、起動後に別のスレッドで作成されるため、完了を待ってから検索します
+     */
+    @Test
+    void testExistingTasksAreSearchable() {
+        taskSearchIndexInitializer.buildIfIncomplete().join();
+        Long userId = userService.findByEmail("legacy@example.com").orElseThrow().getId();
+        assertEquals(1, taskSearchService.search(userId, "報告書", null, null).size());
+    }
+}
@@ -0,0 +1,59 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.support.SqlStatementRecorder;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * リポジトリのクエリが、インデックスを使用することを確認するテスト（PostgreSQL）
+ *
+ * テストの目的：
+ * - TaskIndexPlanTestと同じリポジトリの呼び出しを、PostgreSQLに対して実行し、
+ * PostgreSQLの方言でHibernateが生成したSQLの実行計画を確認する
+ *
+ * 実行方法（空のデータベースを用意して実行してください）：
+ * ./mvnw test -Dtest=PostgresIndexPlanTest
+ * -Dpostgres.url=jdbc:postgresql://localhost:5432/taskdb_test
+ * -Dpostgres.username=postgres -Dpostgres.password=postgres
+ *
+ * 実務でのポイント：
+ * - @AutoConfigureTestDatabase(replace = NONE) で、組み込みのH2に置き換えず、指定したPostgreSQLに接続します
+ * - マイグレーションは、アプリケーションと同じFlywayの設定（common + postgresql）で実行されます
+ * - PostgreSQLは統計情報から実行計画を選ぶため、テーブルが空だと全件スキャン（Seq Scan）を選びます
+ * - enable_seqscan = off で全件スキャンのコストを極端に高くし、「使えるインデックスがあるか」だけを確認します
+ * - それでも Seq Scan が出る場合は、そのクエリに使えるインデックスが存在しません
+ */
+@EnabledIfSystemProperty(named = "postgres.url", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.datasource.url=${postgres.url}",
+        "spring.datasource.username=${postgres.username:postgres}",
+        "spring.datasource.password=${postgres.password:}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(SqlStatementRecorder.Config.class)
+class PostgresIndexPlanTest extends AbstractIndexPlanTest {
+
+    @Override
+    protected void beforeExplain(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET enable_seqscan = off");
+        }
+    }
+
+    @Override
+    protected void assertUsesIndex(String name, String plan) {
+        assertFalse(plan.contains("Seq Scan"), name + " は全件スキャンになっています:\n" + plan);
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.backend.repository;
+
+import com.taskmanagement.backend.support.SqlStatementRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * リポジトリのクエリが、インデックスを使用することを確認するテスト（H2）
+ *
+ * テストの目的：
+ * - リポジトリの各メソッドが実行したSQLの実行計画（EXPLAIN）を取得し、
+ * テーブルの全件スキャン（tableScan）になっていないことを確認する（AbstractIndexPlanTest）
+ * - 絞り込みの条件ごとに、専用の複合インデックスが選ばれることを確認する
+ *
+ * 実務でのポイント：
+ * - インデックスはFlywayのマイグレーションで作成されるため、@DataJpaTestでもFlywayが実行されます
+ * - クエリキャッシュにヒットするとSQLが実行されないため、キャッシュを無効にしています
+ * - PostgreSQLでの確認は PostgresIndexPlanTest で行います（接続先を指定した場合のみ実行）
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+@Import(SqlStatementRecorder.Config.class)
+class TaskIndexPlanTest extends AbstractIndexPlanTest {
+
+    /**
+     * H2の実行計画の例：
+     * - インデックス使用: FROM PUBLIC.TASKS T /* PUBLIC.IDX_TASKS_USER_STATUS: USER_ID = ?1 AND STATUS = ?2 *&#47;
+     * - 全件スキャン:     FROM PUBLIC.TASKS T /* PUBLIC.TASKS.tableScan *&#47;
+     *
+     * 注意点：
+     * - 主キーの順に読み、LIMITで打ち切るクエリ（findFirstByOrderByIdDesc）は、
+     * tableScanと表示されても「index sorted」が付き、先頭の1行だけを読みます
+     */
+    @Override
+    protected void assertUsesIndex(String name, String plan) {
+        assertFalse(plan.contains("tableScan") && !plan.contains("index sorted"),
+                name + " は全件スキャンになっています:\n" + plan);
+    }
+
+    /**
+     * ステータス・優先度・期限の絞り込みで、専用の複合インデックスが選ばれるテスト
+     *
+     * 実務でのポイント：
+     * - user_idだけのインデックス（外部キー）が選ばれると、ユーザーの全タスクを読み込んでから絞り込むことになります
+     */
+    @Test
+    void testFilteredAccessPathsUseCompositeIndex() throws Exception {
+        assertTrue(String.join("\n", plans("TaskRepository.findPageByUserIdAndStatus"))
+                .toUpperCase().contains("IDX_TASKS_USER_STATUS"));
+        assertTrue(String.join("\n", plans("TaskRepository.findPageByUserIdAndPriority"))
+                .toUpperCase().contains("IDX_TASKS_USER_PRIORITY"));
+        assertTrue(String.join("\n", plans("TaskRepository.findDtosByUserIdAndDueDateBefore"))
+                .toUpperCase().contains("IDX_TASKS_USER_DUE_DATE"));
+    }
+}
@@ -1,18 +1,27 @@
 package com.taskmanagement.backend.repository;
 
+import com.taskmanagement.backend.dto.TaskCursor;
+import com.taskmanagement.backend.dto.TaskResponseDto;
 import com.taskmanagement.backend.model.Task;
 import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
 import com.taskmanagement.backend.model.User;
+import com.taskmanagement.backend.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import java.time.LocalDate;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -29,8 +38,16 @@ import static org.junit.jupiter.api.Assertions.*;
  *               - カスタムクエリメソッドの動作確認
  *               - フィルタリング機能の動作確認
  *               - 検索機能の動作確認
+ * 
+ *               2次キャッシュを無効にする理由：
+ *               - @DataJpaTestは、テストクラスごとに別のインメモリデータベースを使用します
+ *               - 2次キャッシュ（Caffeine）は同じJVMのすべてのテストで共有されるため、
+ *               別のデータベースの同じIDのエンティティがキャッシュから返される可能性があります
+ *               - リポジトリのテストはSQLの動作を確認するものなので、キャッシュは不要です
  */
-@DataJpaTest
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false" })
 class TaskRepositoryTest {
 
     @Autowired
@@ -39,6 +56,9 @@ class TaskRepositoryTest {
     @Autowired
     private TestEntityManager entityManager;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private User testUser;
     private Task task1;
     private Task task2;
@@ -132,318 +152,262 @@ class TaskRepositoryTest {
     }
 
     /**
-     * findByUserId()メソッドのテスト - ユーザーIDでタスクを検索
-     * 
-     * 実務での使用場面：
-     * - ログインユーザーの全タスクを取得
-     */
-    @Test
-    void testFindByUserId() {
-        // ユーザーIDでタスクを検索
-        List<Task> tasks = taskRepository.findByUserId(testUser.getId());
-
-        // 検証
-        assertEquals(3, tasks.size()); // 3件のタスクが見つかる
-    }
-
-    /**
-     * findByUserIdAndStatus()メソッドのテスト - ステータスでフィルタ
+     * findDtosByUserIdAndStatus()メソッドのテスト - ステータスでフィルタ
      * 
      * 実務での使用場面：
      * - 未着手のタスクのみを表示
      */
     @Test
-    void testFindByUserIdAndStatus() {
-        // 未着手のタスクを検索
-        List<Task> todoTasks = taskRepository.findByUserIdAndStatus(testUser.getId(), TaskStatus.TODO);
-
-        // 検証
+    void testFindDtosByUserIdAndStatus() {
+        List<TaskResponseDto> todoTasks = taskRepository.findDtosByUserIdAndStatus(testUser.getId(), TaskStatus.TODO);
         assertEquals(1, todoTasks.size());
         assertEquals("買い物に行く", todoTasks.get(0).getTitle());
 
-        // 進行中のタスクを検索
-        List<Task> inProgressTasks = taskRepository.findByUserIdAndStatus(testUser.getId(), TaskStatus.IN_PROGRESS);
-
-        // 検証
-        assertEquals(1, inProgressTasks.size());
-        assertEquals("プロジェクトの資料作成", inProgressTasks.get(0).getTitle());
-
-        // 完了したタスクを検索
-        List<Task> doneTasks = taskRepository.findByUserIdAndStatus(testUser.getId(), TaskStatus.DONE);
-
-        // 検証
+        List<TaskResponseDto> doneTasks = taskRepository.findDtosByUserIdAndStatus(testUser.getId(), TaskStatus.DONE);
         assertEquals(1, doneTasks.size());
         assertEquals("メールの返信", doneTasks.get(0).getTitle());
     }
 
     /**
-     * findByUserIdAndPriority()メソッドのテスト - 優先度でフィルタ
+     * findDtosByUserIdAndPriority()メソッドのテスト - 優先度でフィルタ
      * 
      * 実務での使用場面：
      * - 高優先度のタスクのみを表示
      */
     @Test
-    void testFindByUserIdAndPriority() {
-        // 高優先度のタスクを検索
-        List<Task> highPriorityTasks = taskRepository.findByUserIdAndPriority(testUser.getId(), TaskPriority.HIGH);
-
-        // 検証
+    void testFindDtosByUserIdAndPriority() {
+        List<TaskResponseDto> highPriorityTasks = taskRepository.findDtosByUserIdAndPriority(
+                testUser.getId(), TaskPriority.HIGH);
         assertEquals(1, highPriorityTasks.size());
         assertEquals("買い物に行く", highPriorityTasks.get(0).getTitle());
 
-        // 中優先度のタスクを検索
-        List<Task> mediumPriorityTasks = taskRepository.findByUserIdAndPriority(testUser.getId(), TaskPriority.MEDIUM);
-
-        // 検証
+        List<TaskResponseDto> mediumPriorityTasks = taskRepository.findDtosByUserIdAndPriority(
+                testUser.getId(), TaskPriority.MEDIUM);
         assertEquals(1, mediumPriorityTasks.size());
         assertEquals("プロジェクトの資料作成", mediumPriorityTasks.get(0).getTitle());
     }
 
     /**
-     * findByUserIdOrderByCreatedAtDesc()メソッドのテスト - 作成日時の降順でソート
+     * findDtosByUserIdAndDueDateBefore()・After()メソッドのテスト - 期限切れ・今後のタスクの検索
      * 
      * 実務での使用場面：
-     * - 最新のタスクを上に表示
-     * 
-     * 注意点：
-     * - setUp()メソッドで task1 → task2 → task3 の順で作成されます
-     * - 作成日時の降順（新しい順）なので、task3 → task2 → task1 の順序になります
-     * - しかし、persistAndFlush()を使用すると、ほぼ同時に作成されるため、
-     * 実際の順序は実行環境に依存する可能性があります
-     * - そのため、このテストでは「3件取得できること」のみを検証します
+     * - 期限切れのタスクを一覧表示
      */
     @Test
-    void testFindByUserIdOrderByCreatedAtDesc() {
-        // 作成日時の降順でタスクを取得
-        List<Task> tasks = taskRepository.findByUserIdOrderByCreatedAtDesc(testUser.getId());
-
-        // 検証
-        assertEquals(3, tasks.size());
+    void testFindDtosByUserIdAndDueDate() {
+        List<TaskResponseDto> overdueTasks = taskRepository.findDtosByUserIdAndDueDateBefore(
+                testUser.getId(), LocalDate.now());
+        assertEquals(1, overdueTasks.size());
+        assertEquals("メールの返信", overdueTasks.get(0).getTitle());
 
-        // 実際の順序を確認（デバッグ用）
-        // 作成順序（task1 → task2 → task3）なので、降順では task3 → task2 → task1 のはず
-        // しかし、実行環境によっては順序が異なる可能性があります
-
-        // より確実なテスト：createdAtが降順であることを確認
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            assertTrue(
-                    tasks.get(i).getCreatedAt().isAfter(tasks.get(i + 1).getCreatedAt()) ||
-                            tasks.get(i).getCreatedAt().isEqual(tasks.get(i + 1).getCreatedAt()),
-                    "作成日時が降順であること");
-        }
+        List<TaskResponseDto> futureTasks = taskRepository.findDtosByUserIdAndDueDateAfter(
+                testUser.getId(), LocalDate.now());
+        assertEquals(2, futureTasks.size()); // task1とtask2
     }
 
     /**
-     * findByUserIdOrderByPriorityDesc()メソッドのテスト - 優先度の降順でソート
-     * 
-     * 実務での使用場面：
-     * - 優先度が高いタスクを上に表示
-     * 
-     * 重要な注意点：
-     * - @Enumerated(EnumType.STRING)を使用しているため、データベースには
-     * "HIGH", "MEDIUM", "LOW" という文字列が保存されます
-     * - データベースでのソート順は「アルファベット順」になります
-     * - アルファベット順の降順（DESC）: "MEDIUM" → "LOW" → "HIGH"
-     * 
-     * 実務での改善案：
-     * - Enumに数値フィールドを追加し、数値でソートする
-     * - または、@OrderByアノテーションでカスタムソート順を定義する
-     * 
-     * 今回のテストでは、実際の動作（アルファベット順）を検証します
+     * deleteById()メソッドのテスト - タスクの削除
      */
     @Test
-    void testFindByUserIdOrderByPriorityDesc() {
-        // 優先度の降順でタスクを取得
-        List<Task> tasks = taskRepository.findByUserIdOrderByPriorityDesc(testUser.getId());
+    void testDeleteById() {
+        // タスクを削除
+        taskRepository.deleteById(task1.getId());
 
         // 検証
-        assertEquals(3, tasks.size());
-
-        // アルファベット順の降順: MEDIUM → LOW → HIGH
-        assertEquals(TaskPriority.MEDIUM, tasks.get(0).getPriority());
-        assertEquals("プロジェクトの資料作成", tasks.get(0).getTitle());
-
-        assertEquals(TaskPriority.LOW, tasks.get(1).getPriority());
-        assertEquals("メールの返信", tasks.get(1).getTitle());
+        Optional<Task> foundTask = taskRepository.findById(task1.getId());
+        assertFalse(foundTask.isPresent());
 
-        assertEquals(TaskPriority.HIGH, tasks.get(2).getPriority());
-        assertEquals("買い物に行く", tasks.get(2).getTitle());
+        // 他のタスクは削除されていないことを確認
+        assertEquals(2, taskRepository.countByUserId(testUser.getId()));
     }
 
     /**
-     * searchByKeyword()メソッドのテスト - キーワード検索
-     * 
-     * 実務での使用場面：
-     * - タスク検索機能
+     * update()のテスト - タスク情報の更新
      */
     @Test
-    void testSearchByKeyword() {
-        // 「買い物」で検索
-        List<Task> tasks1 = taskRepository.searchByKeyword(testUser.getId(), "買い物");
-
-        // 検証
-        assertEquals(1, tasks1.size());
-        assertEquals("買い物に行く", tasks1.get(0).getTitle());
-
-        // 「プロジェクト」で検索
-        List<Task> tasks2 = taskRepository.searchByKeyword(testUser.getId(), "プロジェクト");
+    void testUpdateTask() {
+        // タスクを取得
+        Task task = taskRepository.findById(task1.getId()).orElseThrow();
 
-        // 検証
-        assertEquals(1, tasks2.size());
-        assertEquals("プロジェクトの資料作成", tasks2.get(0).getTitle());
+        // ステータスを更新
+        task.setStatus(TaskStatus.IN_PROGRESS);
+        task.setTitle("更新されたタスク");
 
-        // 「メール」で検索
-        List<Task> tasks3 = taskRepository.searchByKeyword(testUser.getId(), "メール");
+        // 保存（更新）
+        Task updatedTask = taskRepository.save(task);
 
         // 検証
-        assertEquals(1, tasks3.size());
-        assertEquals("メールの返信", tasks3.get(0).getTitle());
+        assertEquals(TaskStatus.IN_PROGRESS, updatedTask.getStatus());
+        assertEquals("更新されたタスク", updatedTask.getTitle());
     }
 
     /**
-     * searchByKeyword()メソッドのテスト - 部分一致検索
+     * findPageByUserId()メソッドのテスト - キーセットページング
+     * 
+     * 検証内容：
+     * - 1ページ目で指定件数だけ取得できる
+     * - 最後の行のカーソルを渡すと、続きの行だけが取得できる
+     * - ページをまたいで、行の重複や欠落が起きない
      * 
-     * 実務での重要な動作確認：
-     * - 大文字小文字を区別しない
-     * - 部分一致で検索できる
+     * 注意点：
+     * - persistAndFlush()で連続作成したタスクは、createdAtが同じになる可能性があります
+     * - 同時刻の場合もidで順序が決まるため、重複・欠落が無いことを検証します
      */
     @Test
-    void testSearchByKeywordPartialMatch() {
-        // 「資料」で検索（「資料作成」の一部）
-        List<Task> tasks = taskRepository.searchByKeyword(testUser.getId(), "資料");
-
-        // 検証
-        assertEquals(1, tasks.size());
-        assertEquals("プロジェクトの資料作成", tasks.get(0).getTitle());
+    void testFindPageByUserId() {
+        // 1ページ目（2件）
+        List<TaskResponseDto> firstPage = taskRepository.findPageByUserId(
+                testUser.getId(),
+                TaskCursor.FIRST.getCreatedAt(),
+                TaskCursor.FIRST.getId(),
+                PageRequest.of(0, 2));
+        assertEquals(2, firstPage.size());
+
+        // 2ページ目（最後のタスクの直後から）
+        TaskCursor cursor = TaskCursor.of(firstPage.get(firstPage.size() - 1));
+        List<TaskResponseDto> secondPage = taskRepository.findPageByUserId(
+                testUser.getId(),
+                cursor.getCreatedAt(),
+                cursor.getId(),
+                PageRequest.of(0, 2));
+        assertEquals(1, secondPage.size());
+
+        // 重複・欠落なく3件すべて取得できていること
+        Set<Long> ids = new HashSet<>();
+        firstPage.forEach(task -> ids.add(task.getId()));
+        secondPage.forEach(task -> ids.add(task.getId()));
+        assertEquals(Set.of(task1.getId(), task2.getId(), task3.getId()), ids);
     }
 
     /**
-     * searchByKeyword()メソッドのテスト - 詳細も検索対象
+     * findPageByUserIdAndStatus()メソッドのテスト - ステータス条件付きのキーセットページング
      */
     @Test
-    void testSearchByKeywordInDescription() {
-        // 「スーパー」で検索（詳細に含まれる）
-        List<Task> tasks = taskRepository.searchByKeyword(testUser.getId(), "スーパー");
+    void testFindPageByUserIdAndStatus() {
+        List<TaskResponseDto> tasks = taskRepository.findPageByUserIdAndStatus(
+                testUser.getId(),
+                TaskStatus.TODO,
+                TaskCursor.FIRST.getCreatedAt(),
+                TaskCursor.FIRST.getId(),
+                PageRequest.of(0, 10));
 
-        // 検証
         assertEquals(1, tasks.size());
         assertEquals("買い物に行く", tasks.get(0).getTitle());
     }
 
     /**
-     * findByUserIdAndDueDateBefore()メソッドのテスト - 期限切れタスクの検索
-     * 
-     * 実務での使用場面：
-     * - 期限切れのタスクを一覧表示
+     * countByUserId()、countByUserIdAndStatus()メソッドのテスト
      */
     @Test
-    void testFindByUserIdAndDueDateBefore() {
-        // 今日より前（期限切れ）のタスクを検索
-        List<Task> overdueTasks = taskRepository.findByUserIdAndDueDateBefore(testUser.getId(), LocalDate.now());
-
-        // 検証
-        assertEquals(1, overdueTasks.size());
-        assertEquals("メールの返信", overdueTasks.get(0).getTitle());
+    void testCountByUserId() {
+        assertEquals(3, taskRepository.countByUserId(testUser.getId()));
+        assertEquals(1, taskRepository.countByUserIdAndStatus(testUser.getId(), TaskStatus.DONE));
     }
 
     /**
-     * findByUserIdAndDueDateAfter()メソッドのテスト - 今後のタスクの検索
+     * countGroupByStatusAndPriority()メソッドのテスト - ステータス × 優先度ごとの集計
      */
     @Test
-    void testFindByUserIdAndDueDateAfter() {
-        // 今日より後のタスクを検索
-        List<Task> futureTasks = taskRepository.findByUserIdAndDueDateAfter(testUser.getId(), LocalDate.now());
+    void testCountGroupByStatusAndPriority() {
+        List<TaskRepository.StatusPriorityCount> rows = taskRepository
+                .countGroupByStatusAndPriority(testUser.getId(), LocalDate.now());
 
-        // 検証
-        assertEquals(2, futureTasks.size()); // task1とtask2
+        // task1〜task3はステータス・優先度がすべて異なるため3グループ
+        assertEquals(3, rows.size());
+        assertEquals(3L, rows.stream().mapToLong(TaskRepository.StatusPriorityCount::getTotal).sum());
+
+        // task3のみ期限切れ（昨日が期日）
+        assertEquals(1L, rows.stream().mapToLong(TaskRepository.StatusPriorityCount::getOverdue).sum());
+        assertEquals(0L, rows.stream().mapToLong(TaskRepository.StatusPriorityCount::getDueToday).sum());
     }
 
     /**
-     * findByUserIdWithFilters()メソッドのテスト - 複合条件での検索
+     * DTOプロジェクションのテスト - エンティティを経由せずにTaskResponseDtoを取得
      * 
-     * 実務での使用場面：
-     * - 高度なフィルタリング機能
+     * 検証内容：
+     * - JOINで取得したユーザーID・ユーザー名が正しく設定される
+     * - 取得したDTOは、エンティティと同じ値を持つ
      */
     @Test
-    void testFindByUserIdWithFilters() {
-        // ステータスのみでフィルタ
-        List<Task> tasks1 = taskRepository.findByUserIdWithFilters(
-                testUser.getId(),
-                TaskStatus.TODO,
-                null,
-                "");
-        assertEquals(1, tasks1.size());
-        assertEquals("買い物に行く", tasks1.get(0).getTitle());
+    void testFindDtosByUserIdOrderByCreatedAtDesc() {
+        List<TaskResponseDto> tasks = taskRepository.findDtosByUserIdOrderByCreatedAtDesc(testUser.getId());
 
-        // 優先度のみでフィルタ
-        List<Task> tasks2 = taskRepository.findByUserIdWithFilters(
-                testUser.getId(),
-                null,
-                TaskPriority.HIGH,
-                "");
-        assertEquals(1, tasks2.size());
-        assertEquals("買い物に行く", tasks2.get(0).getTitle());
-
-        // キーワードのみで検索
-        List<Task> tasks3 = taskRepository.findByUserIdWithFilters(
-                testUser.getId(),
-                null,
-                null,
-                "プロジェクト");
-        assertEquals(1, tasks3.size());
-        assertEquals("プロジェクトの資料作成", tasks3.get(0).getTitle());
-
-        // すべての条件を組み合わせ
-        List<Task> tasks4 = taskRepository.findByUserIdWithFilters(
-                testUser.getId(),
-                TaskStatus.TODO,
-                TaskPriority.HIGH,
-                "買い物");
-        assertEquals(1, tasks4.size());
-        assertEquals("買い物に行く", tasks4.get(0).getTitle());
-
-        // 条件を指定しない場合（全件取得）
-        List<Task> tasks5 = taskRepository.findByUserIdWithFilters(
-                testUser.getId(),
-                null,
-                null,
-                "");
-        assertEquals(3, tasks5.size());
+        assertEquals(3, tasks.size());
+        tasks.forEach(task -> {
+            assertEquals(testUser.getId(), task.getUserId());
+            assertEquals("テストユーザー", task.getUsername());
+            assertNotNull(task.getCreatedAt());
+        });
+
+        TaskResponseDto dto = tasks.stream()
+                .filter(task -> task.getId().equals(task1.getId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals("買い物に行く", dto.getTitle());
+        assertEquals("スーパーで食材を買う", dto.getDescription());
+        assertEquals(TaskStatus.TODO, dto.getStatus());
+        assertEquals(TaskPriority.HIGH, dto.getPriority());
     }
 
     /**
-     * deleteById()メソッドのテスト - タスクの削除
+     * 複合条件のDTOプロジェクションのテスト
      */
     @Test
-    void testDeleteById() {
-        // タスクを削除
-        taskRepository.deleteById(task1.getId());
+    void testFindDtosByUserIdWithFilters() {
+        List<TaskResponseDto> tasks = taskRepository.findDtosByUserIdWithFilters(
+                testUser.getId(), null, TaskPriority.MEDIUM);
 
-        // 検証
-        Optional<Task> foundTask = taskRepository.findById(task1.getId());
-        assertFalse(foundTask.isPresent());
-
-        // 他のタスクは削除されていないことを確認
-        assertEquals(2, taskRepository.findByUserId(testUser.getId()).size());
+        assertEquals(1, tasks.size());
+        assertEquals("プロジェクトの資料作成", tasks.get(0).getTitle());
     }
 
     /**
-     * update()のテスト - タスク情報の更新
+     * Taskエンティティを返すクエリのフェッチプランのテスト
+     *
+     * テストの目的：
+     * - Task.userはLAZYのため、ユーザー名を使うクエリ（@EntityGraph）は、
+     * ユーザーが複数いても1回のSQLでTaskResponseDtoに変換できることを確認します
+     * - ユーザーIDしか使わないクエリは、usersテーブルを読まずに外部キーの値を返すことを確認します
      */
     @Test
-    void testUpdateTask() {
-        // タスクを取得
-        Task task = taskRepository.findById(task1.getId()).orElseThrow();
+    void testEntityQueriesFetchPlans() throws Exception {
+        User otherUser = new User();
+        otherUser.setEmail("other@example.com");
+        otherUser.setPassword("password");
+        otherUser.setUsername("別のユーザー");
+        entityManager.persist(otherUser);
+        Task otherTask = new Task();
+        otherTask.setTitle("別のユーザーのタスク");
+        otherTask.setStatus(TaskStatus.TODO);
+        otherTask.setPriority(TaskPriority.LOW);
+        otherTask.setUser(otherUser);
+        entityManager.persist(otherTask);
+        entityManager.flush();
+        entityManager.clear();
 
-        // ステータスを更新
-        task.setStatus(TaskStatus.IN_PROGRESS);
-        task.setTitle("更新されたタスク");
+        SqlStatementCounter sqlCounter = new SqlStatementCounter(entityManagerFactory);
 
-        // 保存（更新）
-        Task updatedTask = taskRepository.save(task);
+        // 検索インデックスの再構築：ユーザーIDは外部キーから取得し、ユーザーは読み込まない
+        List<Task> allTasks = sqlCounter.assertStatementCount(1, "全タスクの読み込み",
+                () -> taskRepository.findByIdBetweenOrderByIdAsc(1L, Long.MAX_VALUE, PageRequest.of(0, 100)));
+        assertEquals(4, allTasks.size());
+        Set<Long> userIds = sqlCounter.assertStatementCount(0, "ユーザーIDの参照",
+                () -> allTasks.stream().map(task -> task.getUser().getId()).collect(Collectors.toSet()));
+        assertEquals(Set.of(testUser.getId(), otherUser.getId()), userIds);
+        allTasks.forEach(task -> assertFalse(Hibernate.isInitialized(task.getUser())));
+        entityManager.clear();
 
-        // 検証
-        assertEquals(TaskStatus.IN_PROGRESS, updatedTask.getStatus());
-        assertEquals("更新されたタスク", updatedTask.getTitle());
+        // 一覧：ユーザー名も同じSQLで取得する
+        List<TaskResponseDto> filtered = sqlCounter.assertStatementCount(1, "複合条件の検索",
+                () -> taskRepository.findDtosByUserIdWithFilters(testUser.getId(), null, null));
+        assertEquals(3, filtered.size());
+        filtered.forEach(task -> assertEquals("テストユーザー", task.getUsername()));
+        entityManager.clear();
+
+        // 更新：所有者は外部キーで確認し、usersテーブルはJOINしない
+        Task found = sqlCounter.assertStatementCount(1, "IDとユーザーIDでの取得",
+                () -> taskRepository.findByIdAndUserId(task1.getId(), testUser.getId()).orElseThrow());
+        assertFalse(Hibernate.isInitialized(found.getUser()));
+        assertEquals(testUser.getId(), found.getUser().getId());
     }
-}
\ No newline at end of file
+}
@@ -29,8 +29,16 @@ import static org.junit.jupiter.api.Assertions.*;
  *               - persist(): データベースに保存
  *               - flush(): 保留中の変更をデータベースに反映
  *               - clear(): 永続化コンテキストをクリア
+ * 
+ *               2次キャッシュを無効にする理由：
+ *               - @DataJpaTestは、テストクラスごとに別のインメモリデータベースを使用します
+ *               - 2次キャッシュ（Caffeine）は同じJVMのすべてのテストで共有されるため、
+ *               別のデータベースの同じIDのエンティティがキャッシュから返される可能性があります
+ *               - リポジトリのテストはSQLの動作を確認するものなので、キャッシュは不要です
  */
-@DataJpaTest
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false" })
 class UserRepositoryTest {
 
     @Autowired
@@ -0,0 +1,96 @@
+package com.taskmanagement.backend.security;
+
+import com.taskmanagement.backend.model.User;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JwtTokenProviderの単体テスト
+ *
+ * テストの目的：
+ * - トークンの生成と検証が正しく動作することを確認
+ * - 改ざんされたトークン、期限切れのトークンが拒否されることを確認
+ *
+ * 実務でのポイント：
+ * - JwtTokenProviderはSpringのコンテキストに依存しないため、newで生成してテストできます
+ * - Spring Bootを起動しないので、テストが高速です
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-for-jwt-token-provider-unit-test-1234567890";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 3600000L);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("test@example.com");
+        user.setUsername("テストユーザー");
+    }
+
+    /**
+     * 生成したトークンからユーザーIDとメールアドレスを取得できるテスト
+     */
+    @Test
+    void testGenerateAndParseToken() {
+        String token = jwtTokenProvider.generateToken(user);
+
+        Optional<Claims> claims = jwtTokenProvider.parseClaims(token);
+
+        assertTrue(claims.isPresent());
+        assertEquals(1L, jwtTokenProvider.getUserId(claims.get()));
+        assertEquals("test@example.com", jwtTokenProvider.getEmail(claims.get()));
+    }
+
+    /**
+     * 改ざんされたトークンが拒否されるテスト
+     */
+    @Test
+    void testTamperedTokenIsRejected() {
+        String token = jwtTokenProvider.generateToken(user);
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertTrue(jwtTokenProvider.parseClaims(tampered).isEmpty());
+    }
+
+    /**
+     * 別のシークレットキーで署名されたトークンが拒否されるテスト
+     */
+    @Test
+    void testTokenSignedWithAnotherKeyIsRejected() {
+        JwtTokenProvider anotherProvider = new JwtTokenProvider(
+                "another-secret-key-for-jwt-token-provider-unit-test-0987654321", 3600000L);
+        String token = anotherProvider.generateToken(user);
+
+        assertTrue(jwtTokenProvider.parseClaims(token).isEmpty());
+    }
+
+    /**
+     * 期限切れのトークンが拒否されるテスト
+     */
+    @Test
+    void testExpiredTokenIsRejected() {
+        JwtTokenProvider expiredProvider = new JwtTokenProvider(SECRET, -1000L);
+        String token = expiredProvider.generateToken(user);
+
+        assertTrue(jwtTokenProvider.parseClaims(token).isEmpty());
+    }
+
+    /**
+     * 不正な形式の文字列が拒否されるテスト
+     */
+    @Test
+    void testMalformedTokenIsRejected() {
+        assertTrue(jwtTokenProvider.parseClaims("not-a-jwt").isEmpty());
+        assertTrue(jwtTokenProvider.parseClaims("").isEmpty());
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.LoginRequestDto;
+import com.taskmanagement.backend.dto.RegisterRequestDto;
+import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * AuthServiceのテスト（パスワードのハッシュ化・検証中のコネクションの保持）
+ *
+ * テストの目的：
+ * - 新規登録・ログインで、パスワードのハッシュ化・検証を待つ間に、
+ * データベースのコネクションを保持していないことを確認します
+ *
+ * 実務でのポイント：
+ * - PasswordHashingServiceを@MockitoBeanで置き換え、ハッシュ化・検証が呼び出された時点で、
+ * HikariCPの使用中のコネクション数を記録します
+ * （実際のPasswordHashingServiceでは、この時点で専用のスレッドプールの結果を待っています）
+ * - 保持していると、登録・ログインが集中した場合に、待ち行列で待つスレッドがプールを使い切ります
+ *
+ * 注意点：
+ * - @MockitoBeanによりアプリケーションコンテキストが他のテストと別になるため、このクラスにまとめています
+ */
+@SpringBootTest
+class AuthServiceTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @MockitoBean
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    /**
+     * 新規登録で、パスワードのハッシュ化を待つ間にコネクションを保持しないテスト
+     */
+    @Test
+    void testRegisterDoesNotHoldConnectionWhileHashing() {
+        AtomicInteger activeWhileHashing = new AtomicInteger(-1);
+        when(passwordHashingService.encode(any())).thenAnswer(invocation -> {
+            activeWhileHashing.set(activeConnections());
+            return "{bcrypt}hashed";
+        });
+
+        RegisterRequestDto registerDto = new RegisterRequestDto();
+        registerDto.setEmail("register@example.com");
+        registerDto.setPassword("password123");
+        registerDto.setUsername("テストユーザー");
+        UserResponseDto registered = authService.register(registerDto);
+
+        assertEquals(0, activeWhileHashing.get(), "ハッシュ化の待機中にコネクションを保持しています");
+        assertEquals("{bcrypt}hashed", userRepository.findById(registered.getId()).orElseThrow().getPassword());
+    }
+
+    /**
+     * ログインで、パスワードの検証を待つ間にコネクションを保持しないテスト
+     */
+    @Test
+    void testLoginDoesNotHoldConnectionWhileVerifying() {
+        when(passwordHashingService.encode(any())).thenReturn("{bcrypt}hashed");
+        RegisterRequestDto registerDto = new RegisterRequestDto();
+        registerDto.setEmail("login@example.com");
+        registerDto.setPassword("password123");
+        registerDto.setUsername("テストユーザー");
+        authService.register(registerDto);
+
+        AtomicInteger activeWhileVerifying = new AtomicInteger(-1);
+        when(passwordHashingService.matches(any(), anyString())).thenAnswer(invocation -> {
+            activeWhileVerifying.set(activeConnections());
+            return true;
+        });
+
+        LoginRequestDto loginDto = new LoginRequestDto();
+        loginDto.setEmail("login@example.com");
+        loginDto.setPassword("password123");
+        assertNotNull(authService.login(loginDto).getToken());
+
+        assertEquals(0, activeWhileVerifying.get(), "パスワードの検証の待機中にコネクションを保持しています");
+    }
+
+    private int activeConnections() throws SQLException {
+        return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+    }
+}
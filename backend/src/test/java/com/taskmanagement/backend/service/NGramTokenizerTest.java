@@ -0,0 +1,65 @@
+package com.taskmanagement.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * NGramTokenizerの単体テスト
+ *
+ * テストの目的：
+ * - 日本語の文字列が、ユニグラム・バイグラムに正しく分割されることを確認
+ * - 全角・半角、大文字・小文字の揺れが正規化されることを確認
+ *
+ * 実務でのポイント：
+ * - NGramTokenizerはSpringのコンテキストに依存しないため、Spring Bootを起動せずにテストできます
+ */
+class NGramTokenizerTest {
+
+    /**
+     * インデックス用トークン（ユニグラム + バイグラム）のテスト
+     */
+    @Test
+    void testIndexTokens() {
+        Set<String> tokens = NGramTokenizer.indexTokens("買い物");
+
+        assertEquals(Set.of("買", "い", "物", "買い", "い物"), tokens);
+    }
+
+    /**
+     * 空白をまたぐトークンが生成されないテスト
+     */
+    @Test
+    void testIndexTokensSkipWhitespace() {
+        Set<String> tokens = NGramTokenizer.indexTokens("ab cd");
+
+        assertEquals(Set.of("a", "b", "c", "d", "ab", "cd"), tokens);
+        assertTrue(NGramTokenizer.indexTokens(null).isEmpty());
+    }
+
+    /**
+     * 検索キーワード用トークンのテスト
+     */
+    @Test
+    void testQueryTokens() {
+        // 2文字以上はバイグラムのみ
+        assertEquals(Set.of("プロ", "ロジ", "ジェ", "ェク", "クト"), NGramTokenizer.queryTokens("プロジェクト"));
+
+        // 1文字はユニグラム
+        assertEquals(Set.of("買"), NGramTokenizer.queryTokens("買"));
+
+        // 空白のみの場合は空
+        assertTrue(NGramTokenizer.queryTokens("   ").isEmpty());
+    }
+
+    /**
+     * 全角英数字・大文字が正規化されるテスト
+     */
+    @Test
+    void testNormalize() {
+        assertEquals("api設計", NGramTokenizer.normalize("ＡＰＩ設計"));
+        assertEquals(NGramTokenizer.queryTokens("api"), NGramTokenizer.queryTokens("ＡＰＩ"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PasswordHashingServiceの単体テスト
+ *
+ * テストの目的：
+ * - ハッシュ化・検証が専用のスレッドで実行され、計算時間が記録されることを確認
+ * - 待ち行列があふれた場合は、待たずにServiceUnavailableException（503）になることを確認
+ * - 待ち行列で待機時間の上限を超えた場合も、ServiceUnavailableExceptionになることを確認
+ *
+ * 実務でのポイント：
+ * - Spring Bootを起動せず、スレッド数・待ち行列の長さを指定するコンストラクタでテストします
+ * - 計算が終わらないPasswordEncoder（BlockingPasswordEncoder）で、スレッドが埋まった状態を再現します
+ */
+class PasswordHashingServiceTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final BlockingPasswordEncoder blockingEncoder = new BlockingPasswordEncoder();
+
+    private PasswordHashingService service;
+
+    @AfterEach
+    void tearDown() {
+        blockingEncoder.release.countDown();
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    /**
+     * ハッシュ化と検証のテスト
+     */
+    @Test
+    void testEncodeAndMatches() {
+        service = new PasswordHashingService(new BCryptPasswordEncoder(4), meterRegistry, 2, 8, 5000);
+
+        String hash = service.encode("password123");
+
+        assertNotEquals("password123", hash);
+        assertTrue(service.matches("password123", hash));
+        assertFalse(service.matches("wrong-password", hash));
+        assertEquals(1, meterRegistry.get(PasswordHashingService.HASHING_METRIC)
+                .tag("operation", "encode").timer().count());
+        assertEquals(1, meterRegistry.get(PasswordHashingService.HASHING_METRIC)
+                .tags("operation", "matches", "result", "match").timer().count());
+        assertEquals(1, meterRegistry.get(PasswordHashingService.HASHING_METRIC)
+                .tags("operation", "matches", "result", "mismatch").timer().count());
+        assertEquals(0.0, meterRegistry.get(PasswordHashingService.REJECTED_METRIC).counter().count());
+    }
+
+    /**
+     * 待ち行列があふれた場合は、すぐに断るテスト
+     */
+    @Test
+    void testRejectsImmediatelyWhenQueueIsFull() throws Exception {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 1, 5000);
+
+        // 1件目がスレッドを使い、2件目が待ち行列に入る
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+        assertTrue(blockingEncoder.started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("second"));
+        waitForQueueSize(1);
+
+        // 3件目は待たずに断られる
+        long start = System.nanoTime();
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> service.encode("third"));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+        assertEquals(PasswordHashingService.BUSY_MESSAGE, ex.getMessage());
+        assertEquals(1.0, meterRegistry.get(PasswordHashingService.REJECTED_METRIC).counter().count());
+        assertEquals(1.0, meterRegistry.get(PasswordHashingService.ACTIVE_METRIC).gauge().value());
+
+        // 計算が終われば、待っていたリクエストも処理される
+        blockingEncoder.release.countDown();
+        assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 待ち行列で待機時間の上限を超えた場合に断るテスト
+     */
+    @Test
+    void testRejectsWhenTimeoutExpiresInQueue() throws Exception {
+        service = new PasswordHashingService(blockingEncoder, meterRegistry, 1, 1, 100);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+        assertTrue(blockingEncoder.started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(ServiceUnavailableException.class, () -> service.matches("second", "hashed:second"));
+        // 1件目も同じ上限で打ち切られるため、回数は1回以上
+        assertTrue(meterRegistry.get(PasswordHashingService.REJECTED_METRIC).counter().count() >= 1.0);
+
+        blockingEncoder.release.countDown();
+        assertThrows(Exception.class, () -> running.get(5, TimeUnit.SECONDS));
+    }
+
+    private void waitForQueueSize(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(PasswordHashingService.QUEUE_METRIC).gauge().value() < expected) {
+            assertTrue(System.nanoTime() < deadline, "待ち行列にタスクが入りません");
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * releaseが呼ばれるまで計算が終わらないPasswordEncoder
+     */
+    private static class BlockingPasswordEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            await();
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            await();
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+
+        private void await() {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
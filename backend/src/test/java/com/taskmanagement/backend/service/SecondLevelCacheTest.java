@@ -0,0 +1,227 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.CacheRegionStatsDto;
+import com.taskmanagement.backend.dto.TaskBulkStatusUpdateDto;
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.exception.ResourceNotFoundException;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.repository.TaskSearchTokenRepository;
+import com.taskmanagement.backend.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 2次キャッシュ・クエリキャッシュのテスト
+ *
+ * テストの目的：
+ * - 同じ読み取りを繰り返した場合、2回目以降はSQLを実行しないこと
+ * - 書き込み（TaskService・UserServiceのすべての更新系メソッド）の後は、キャッシュではなく最新の内容を返すこと
+ *
+ * なぜ@Transactionalを付けないのか：
+ * - 2次キャッシュは、トランザクションのコミット時に更新されます
+ * - テスト全体を1つのトランザクションにすると、永続化コンテキスト（1次キャッシュ）だけで完結してしまい、
+ * 2次キャッシュの動作を確認できません
+ * - そのため、作成したデータは@AfterEachで削除します
+ */
+@SpringBootTest
+class SecondLevelCacheTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchTokenRepository taskSearchTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        cleanUp();
+        userId = userService.createUser("cache@example.com", "password", "キャッシュユーザー").getId();
+        taskId = taskService.createTask(createRequest("買い物に行く", TaskStatus.TODO), userId).getId();
+        taskService.createTask(createRequest("資料を作成する", TaskStatus.IN_PROGRESS), userId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    /**
+     * タスク一覧の2回目の取得がクエリキャッシュから返されるテスト
+     */
+    @Test
+    void testTaskListIsServedFromQueryCache() {
+        taskService.findAllByUserId(userId);
+
+        List<TaskResponseDto> tasks = assertNoStatements(() -> taskService.findAllByUserId(userId));
+        assertEquals(2, tasks.size());
+
+        // パラメータごとに別の結果としてキャッシュされる
+        taskService.findByStatus(userId, TaskStatus.TODO);
+        List<TaskResponseDto> todoTasks = assertNoStatements(() -> taskService.findByStatus(userId, TaskStatus.TODO));
+        assertEquals(1, todoTasks.size());
+    }
+
+    /**
+     * ユーザーの2回目の取得が2次キャッシュから返されるテスト
+     */
+    @Test
+    void testUserIsServedFromEntityCache() {
+        userService.findById(userId);
+
+        UserResponseDto user = assertNoStatements(() -> userService.findById(userId).orElseThrow());
+        assertEquals("キャッシュユーザー", user.getUsername());
+    }
+
+    /**
+     * タスクの書き込み後に、キャッシュではなく最新の内容が返されるテスト
+     */
+    @Test
+    void testTaskWritesInvalidateCache() {
+        // キャッシュに載せる
+        taskService.findAllByUserId(userId);
+        taskService.findById(taskId, userId);
+
+        // 作成
+        taskService.createTask(createRequest("メールを返信する", TaskStatus.TODO), userId);
+        assertEquals(3, taskService.findAllByUserId(userId).size());
+
+        // 更新
+        TaskRequestDto updateRequest = createRequest("買い物に行く（更新）", TaskStatus.TODO);
+        taskService.updateTask(taskId, updateRequest, userId);
+        assertEquals("買い物に行く（更新）", taskService.findById(taskId, userId).getTitle());
+
+        // ステータスのみ更新（UPDATE文）
+        taskService.updateTaskStatus(taskId, TaskStatus.IN_PROGRESS, userId);
+        assertEquals(TaskStatus.IN_PROGRESS, taskService.findById(taskId, userId).getStatus());
+        assertEquals(1, taskService.countTasksByUserIdAndStatus(userId, TaskStatus.TODO));
+
+        // 一括ステータス変更（UPDATE文）
+        taskService.updateTaskStatuses(new TaskBulkStatusUpdateDto(List.of(taskId), null, TaskStatus.DONE), userId);
+        assertEquals(TaskStatus.DONE, taskService.findById(taskId, userId).getStatus());
+        assertEquals(1, taskService.findByStatus(userId, TaskStatus.DONE).size());
+
+        // 削除（DELETE文）
+        taskService.deleteTask(taskId, userId);
+        assertThrows(ResourceNotFoundException.class, () -> taskService.findById(taskId, userId));
+        assertEquals(2, taskService.findAllByUserId(userId).size());
+        assertEquals(2, taskService.countTasksByUserId(userId));
+    }
+
+    /**
+     * ユーザーの書き込み後に、キャッシュではなく最新の内容が返されるテスト
+     */
+    @Test
+    void testUserWritesInvalidateCache() {
+        userService.findById(userId);
+        taskService.findAllByUserId(userId);
+
+        userService.updateUser(userId, "名前を変更したユーザー");
+
+        assertEquals("名前を変更したユーザー", userService.findById(userId).orElseThrow().getUsername());
+        // 一覧のユーザー名（usersテーブルとのJOIN）も更新される
+        assertEquals("名前を変更したユーザー", taskService.findAllByUserId(userId).get(0).getUsername());
+    }
+
+    /**
+     * キャッシュの統計情報が集計されるテスト
+     */
+    @Test
+    void testRegionStats() {
+        taskService.findAllByUserId(userId);
+        taskService.findAllByUserId(userId);
+
+        CacheRegionStatsDto queries = cacheStatisticsService.getRegionStats().stream()
+                .filter(stats -> stats.getRegion().equals(TaskRepository.TASK_QUERY_CACHE_REGION))
+                .findFirst()
+                .orElseThrow();
+
+        assertTrue(queries.getHitCount() >= 1);
+        assertTrue(queries.getPutCount() >= 1);
+        assertTrue(queries.getHitRatio() > 0);
+    }
+
+    /**
+     * キャッシュの統計がメトリクス（cache.gets・cache.hit.ratio）として公開されるテスト
+     */
+    @Test
+    void testCacheMetrics() {
+        taskService.findAllByUserId(userId);
+        taskService.findAllByUserId(userId);
+
+        String region = TaskRepository.TASK_QUERY_CACHE_REGION;
+        double hits = meterRegistry.get("cache.gets").tag("cache", region).tag("result", "hit")
+                .functionCounter().count();
+        double hitRatio = meterRegistry.get("cache.hit.ratio").tag("cache", region).gauge().value();
+
+        assertTrue(hits >= 1);
+        assertTrue(hitRatio > 0 && hitRatio <= 1);
+        assertNotNull(meterRegistry.find("cache.gets").tag("cache", TaskListCache.REGION).functionCounter());
+    }
+
+    /**
+     * 処理中にSQLが1回も実行されないことを確認
+     */
+    private <T> T assertNoStatements(Supplier<T> action) {
+        long before = statistics.getPrepareStatementCount();
+        T result = action.get();
+        assertEquals(before, statistics.getPrepareStatementCount(), "キャッシュから返されず、SQLが実行されました");
+        return result;
+    }
+
+    private TaskRequestDto createRequest(String title, TaskStatus status) {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle(title);
+        requestDto.setStatus(status);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        return requestDto;
+    }
+
+    /**
+     * 作成したデータを削除（一括DELETEでもキャッシュは無効化されます）
+     */
+    private void cleanUp() {
+        taskSearchTokenRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
@@ -0,0 +1,157 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.exception.TaskConflictException;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * タスクの同時更新のストレステスト（楽観的ロック）
+ *
+ * テストの目的：
+ * - 複数のスレッドが同じタスクを同時に「読み込み → 加算 → 保存」しても、更新が失われないことを確認
+ * - 各スレッドは、取得したときのバージョンを指定して更新し、409（TaskConflictException）の場合は読み込みからやり直します
+ *
+ * なぜ@Transactionalを付けないのか：
+ * - 各スレッドの更新は、それぞれ別のトランザクションでコミットされる必要があります
+ * - テストメソッドのトランザクションは、他のスレッドからは見えません
+ * - そのため、@BeforeEach・@AfterEachでデータを作成・削除します
+ *
+ * 実務でのポイント：
+ * - バージョンを指定しない「確認なしの上書き」では、同じ値を読み込んだ2つのスレッドが同じ結果を書き込み、
+ * 加算が1回分失われます（lost update）
+ * - 最終的な値が「スレッド数 × 加算回数」と一致すれば、失われた更新が無いことを示せます
+ */
+@SpringBootTest
+class TaskConcurrencyTest {
+
+    /**
+     * 同時に更新するスレッド数
+     */
+    private static final int THREADS = 4;
+
+    /**
+     * スレッドごとの加算回数
+     */
+    private static final int INCREMENTS_PER_THREAD = 25;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+    private Long taskId;
+
+    @BeforeEach
+    void setUp() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+
+        userId = userService.createUser("concurrency@example.com", "password", "同時更新ユーザー").getId();
+        taskId = taskService.createTask(counterRequest(0), userId).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        taskRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    /**
+     * 同時に加算しても、更新が失われないテスト
+     *
+     * 検証内容：
+     * - カウンター（タスクの詳細）が「スレッド数 × 加算回数」になる
+     * - バージョンも同じ回数だけ増えている（成功した更新だけが保存された）
+     */
+    @Test
+    void testNoLostUpdatesUnderContention() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int n = 0; n < INCREMENTS_PER_THREAD; n++) {
+                    incrementWithRetry();
+                }
+                return null;
+            }));
+        }
+
+        // すべてのスレッドを同時に開始する
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int expected = THREADS * INCREMENTS_PER_THREAD;
+        TaskResponseDto result = taskService.findById(taskId, userId);
+        assertEquals(String.valueOf(expected), result.getDescription());
+        assertEquals(expected, result.getVersion().intValue());
+    }
+
+    /**
+     * カウンターを1加算（競合した場合は、読み込みからやり直す）
+     */
+    private void incrementWithRetry() {
+        while (true) {
+            TaskResponseDto current = taskService.findById(taskId, userId);
+            TaskRequestDto requestDto = counterRequest(Integer.parseInt(current.getDescription()) + 1);
+            requestDto.setVersion(current.getVersion());
+            try {
+                taskService.updateTask(taskId, requestDto, userId);
+                return;
+            } catch (TaskConflictException | ObjectOptimisticLockingFailureException ex) {
+                // 他のスレッドが先に更新した → 最新の値を読み込んでやり直す
+            }
+        }
+    }
+
+    /**
+     * カウンターの値を詳細に持つタスクのリクエストを作成
+     *
+     * @param value カウンターの値
+     * @return TaskRequestDto
+     */
+    private TaskRequestDto counterRequest(int value) {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("カウンター");
+        requestDto.setDescription(String.valueOf(value));
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        return requestDto;
+    }
+}
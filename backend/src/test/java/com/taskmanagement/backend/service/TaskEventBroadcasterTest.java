@@ -0,0 +1,145 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.dto.TaskEventDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskEventBroadcasterのテスト（受信しないクライアント）
+ *
+ * テストの目的：
+ * - 受信しないクライアントへの送信が止まっても、他のユーザーへの通知が遅れないことを確認
+ * - 送信がwrite-timeout-msを超えても終わらない接続が、切断されることを確認
+ *
+ * 実務でのポイント：
+ * - 受信しないクライアントは、send()が戻らないSseEmitterで再現します（createEmitterを置き換え）
+ * - 実際のSseEmitter.send()も、クライアントが受信せず送信バッファが一杯になると、同じように戻りません
+ */
+class TaskEventBroadcasterTest {
+
+    /**
+     * 受信しないユーザーの数（以前の配信用のスレッド数4より多くする）
+     */
+    private static final int STALLED_USERS = 16;
+
+    /**
+     * 受信するユーザーのID
+     */
+    private static final long HEALTHY_USER_ID = 1_000L;
+
+    /**
+     * 送信を受け付けたユーザーID
+     */
+    private final BlockingQueue<Long> delivered = new LinkedBlockingQueue<>();
+
+    /**
+     * 止まっている送信を再開させるラッチ
+     */
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    /**
+     * 止まっている送信が割り込まれたことを通知するラッチ
+     */
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+
+    private TaskEventBroadcaster broadcaster;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        broadcaster.shutdown();
+    }
+
+    /**
+     * 受信しないクライアントが多数あっても、他のユーザーへの通知が遅れないテスト
+     */
+    @Test
+    void testNonReadingSubscribersDoNotDelayOtherUsers() throws Exception {
+        Set<Long> stalledUserIds = LongStream.rangeClosed(1, STALLED_USERS).boxed().collect(Collectors.toSet());
+        broadcaster = broadcaster(stalledUserIds, 60_000);
+
+        for (Long userId : stalledUserIds) {
+            broadcaster.subscribe(userId);
+            broadcaster.publish(userId, TaskEventDto.of(TaskEventDto.Type.CREATED, List.of(userId)));
+        }
+        broadcaster.subscribe(HEALTHY_USER_ID);
+        broadcaster.publish(HEALTHY_USER_ID, TaskEventDto.of(TaskEventDto.Type.CREATED, List.of(1L)));
+
+        assertEquals(HEALTHY_USER_ID, delivered.poll(5, TimeUnit.SECONDS),
+                "受信しないクライアントへの送信に、他のユーザーへの通知が待たされています");
+    }
+
+    /**
+     * 送信がwrite-timeout-msを超えても終わらない接続が、切断されるテスト
+     */
+    @Test
+    void testStalledSubscriberIsClosedAfterWriteTimeout() throws Exception {
+        broadcaster = broadcaster(Set.of(1L), 200);
+        broadcaster.subscribe(1L);
+        broadcaster.subscribe(HEALTHY_USER_ID);
+        assertEquals(2, broadcaster.connectionCount());
+
+        broadcaster.publish(1L, TaskEventDto.of(TaskEventDto.Type.CREATED, List.of(1L)));
+
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS), "止まった送信が中断されていません");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (broadcaster.connectionCount() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, broadcaster.connectionCount());
+
+        // 他のユーザーの接続は残り、通知も届く
+        broadcaster.publish(HEALTHY_USER_ID, TaskEventDto.of(TaskEventDto.Type.CREATED, List.of(1L)));
+        assertEquals(HEALTHY_USER_ID, delivered.poll(5, TimeUnit.SECONDS));
+    }
+
+    /**
+     * 指定したユーザーへの送信が戻らないTaskEventBroadcasterを作成
+     *
+     * @param stalledUserIds     受信しないユーザーのID
+     * @param writeTimeoutMillis 1回の送信のタイムアウト
+     * @return TaskEventBroadcaster
+     */
+    private TaskEventBroadcaster broadcaster(Set<Long> stalledUserIds, long writeTimeoutMillis) {
+        return new TaskEventBroadcaster(8, 32, 3, 60_000, 60_000, writeTimeoutMillis) {
+            @Override
+            SseEmitter createEmitter(Long userId) {
+                return new SseEmitter(60_000L) {
+                    private final AtomicInteger sends = new AtomicInteger();
+
+                    @Override
+                    public void send(SseEventBuilder builder) throws IOException {
+                        // 最初の送信（接続時のretry）は、コントローラーから返す前のため止めない
+                        if (sends.getAndIncrement() == 0) {
+                            return;
+                        }
+                        if (stalledUserIds.contains(userId)) {
+                            try {
+                                release.await();
+                            } catch (InterruptedException ex) {
+                                interrupted.countDown();
+                                throw new InterruptedIOException("送信が中断されました");
+                            }
+                        }
+                        delivered.add(userId);
+                    }
+                };
+            }
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.taskmanagement.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.backend.dto.CacheRegionStatsDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * TaskListCacheの単体テスト
+ *
+ * テストの目的：
+ * - キャッシュにある場合は、タスク一覧の取得処理（loader）が呼ばれないことを確認
+ * - invalidateの後は、取得処理が再度呼ばれることを確認
+ * - トランザクション中のinvalidateは、コミット後に反映されることを確認
+ *
+ * 実務でのポイント：
+ * - TaskListCacheはSpringのコンテキストに依存しないため、Spring Bootを起動せずにテストできます
+ * - トランザクションは、TransactionSynchronizationManagerを直接操作して再現します
+ */
+class TaskListCacheTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    /**
+     * 呼び出し回数を数える取得処理
+     */
+    private Supplier<List<TaskResponseDto>> loader(String title) {
+        return () -> {
+            loads.incrementAndGet();
+            TaskResponseDto task = new TaskResponseDto();
+            task.setId(1L);
+            task.setTitle(title);
+            return List.of(task);
+        };
+    }
+
+    /**
+     * 2回目以降はキャッシュから返すテスト
+     */
+    @Test
+    void testGetReturnsCachedJson() {
+        TaskListCache cache = new TaskListCache(objectMapper, true, 1024 * 1024);
+
+        byte[] first = cache.get(1L, "all", loader("買い物に行く"));
+        byte[] second = cache.get(1L, "all", loader("買い物に行く"));
+
+        assertEquals(1, loads.get());
+        assertSame(first, second);
+        assertTrue(new String(first, StandardCharsets.UTF_8).contains("買い物に行く"));
+
+        CacheRegionStatsDto stats = cache.stats();
+        assertEquals(TaskListCache.REGION, stats.getRegion());
+        assertEquals(1, stats.getHitCount());
+        assertEquals(1, stats.getMissCount());
+    }
+
+    /**
+     * クエリ・ユーザーごとに別のエントリになるテスト
+     */
+    @Test
+    void testEntriesAreSeparatedByUserAndQuery() {
+        TaskListCache cache = new TaskListCache(objectMapper, true, 1024 * 1024);
+
+        cache.get(1L, "all", loader("a"));
+        cache.get(1L, "status:TODO", loader("b"));
+        cache.get(2L, "all", loader("c"));
+
+        assertEquals(3, loads.get());
+    }
+
+    /**
+     * トランザクション外のinvalidateは、すぐに反映されるテスト
+     */
+    @Test
+    void testInvalidateOutsideTransaction() {
+        TaskListCache cache = new TaskListCache(objectMapper, true, 1024 * 1024);
+        cache.get(1L, "all", loader("変更前"));
+        long generation = cache.currentGeneration(1L);
+
+        cache.invalidate(1L);
+        byte[] json = cache.get(1L, "all", loader("変更後"));
+
+        assertNotEquals(generation, cache.currentGeneration(1L));
+        assertEquals(2, loads.get());
+        assertTrue(new String(json, StandardCharsets.UTF_8).contains("変更後"));
+
+        // 他のユーザーのキャッシュは無効化されない
+        cache.get(2L, "all", loader("他のユーザー"));
+        cache.invalidate(1L);
+        cache.get(2L, "all", loader("他のユーザー"));
+        assertEquals(3, loads.get());
+    }
+
+    /**
+     * トランザクション中のinvalidateは、コミット後に反映されるテスト
+     *
+     * テストの目的：
+     * - コミット前に別のリクエストが読み込んだ場合、古いデータが「新しい世代」で保存されないことを確認
+     */
+    @Test
+    void testInvalidateInsideTransactionAppliesAfterCommit() {
+        TaskListCache cache = new TaskListCache(objectMapper, true, 1024 * 1024);
+        cache.get(1L, "all", loader("変更前"));
+        long generation = cache.currentGeneration(1L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate(1L);
+
+            // コミット前は、まだ世代番号が変わらない
+            assertEquals(generation, cache.currentGeneration(1L));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNotEquals(generation, cache.currentGeneration(1L));
+        cache.get(1L, "all", loader("変更後"));
+        assertEquals(2, loads.get());
+    }
+
+    /**
+     * キャッシュを無効にした場合は、毎回取得処理が呼ばれるテスト
+     */
+    @Test
+    void testDisabledCacheAlwaysLoads() {
+        TaskListCache cache = new TaskListCache(objectMapper, false, 1024 * 1024);
+
+        cache.get(1L, "all", loader("a"));
+        cache.get(1L, "all", loader("a"));
+
+        assertEquals(2, loads.get());
+    }
+}
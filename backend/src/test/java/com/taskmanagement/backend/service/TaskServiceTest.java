@@ -1,12 +1,28 @@
 package com.taskmanagement.backend.service;
 
+import com.taskmanagement.backend.dto.TaskBulkCreateResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkDeleteDto;
+import com.taskmanagement.backend.dto.TaskBulkOperationResponseDto;
+import com.taskmanagement.backend.dto.TaskBulkStatusUpdateDto;
+import com.taskmanagement.backend.dto.TaskChangesResponseDto;
+import com.taskmanagement.backend.dto.TaskFilterDto;
+import com.taskmanagement.backend.dto.TaskPageResponseDto;
 import com.taskmanagement.backend.dto.TaskRequestDto;
 import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.dto.TaskStatsResponseDto;
 import com.taskmanagement.backend.dto.UserResponseDto;
+import com.taskmanagement.backend.exception.ChangeTokenExpiredException;
+import com.taskmanagement.backend.exception.ForbiddenException;
+import com.taskmanagement.backend.exception.PreconditionFailedException;
+import com.taskmanagement.backend.exception.ResourceNotFoundException;
+import com.taskmanagement.backend.exception.TaskConflictException;
 import com.taskmanagement.backend.model.TaskPriority;
 import com.taskmanagement.backend.model.TaskStatus;
 import com.taskmanagement.backend.repository.TaskRepository;
 import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.support.SqlStatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,7 +30,12 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +66,9 @@ class TaskServiceTest {
     @Autowired
     private TaskService taskService;
 
+    @Autowired
+    private TaskChangeService taskChangeService;
+
     @Autowired
     private UserService userService;
 
@@ -54,6 +78,12 @@ class TaskServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private Long testUserId;
     private Long testTaskId;
 
@@ -145,6 +175,61 @@ class TaskServiceTest {
         assertEquals("ユーザーが見つかりません", exception.getMessage());
     }
 
+    /**
+     * タスクを一括作成するテスト（不正な要素は失敗として返される）
+     */
+    @Test
+    void testCreateTasks() {
+        TaskRequestDto validDto1 = new TaskRequestDto();
+        validDto1.setTitle("資料作成");
+        validDto1.setStatus(TaskStatus.TODO);
+        validDto1.setPriority(TaskPriority.MEDIUM);
+
+        // タイトルが空のため失敗する
+        TaskRequestDto invalidDto = new TaskRequestDto();
+        invalidDto.setTitle("");
+        invalidDto.setStatus(TaskStatus.TODO);
+        invalidDto.setPriority(TaskPriority.MEDIUM);
+
+        TaskRequestDto validDto2 = new TaskRequestDto();
+        validDto2.setTitle("会議の準備");
+        validDto2.setStatus(TaskStatus.IN_PROGRESS);
+        validDto2.setPriority(TaskPriority.HIGH);
+
+        TaskBulkCreateResponseDto result = taskService.createTasks(
+                List.of(validDto1, invalidDto, validDto2), testUserId);
+
+        assertEquals(2, result.getCreated());
+        assertEquals(1, result.getFailed());
+        assertEquals(3, result.getResults().size());
+        assertTrue(result.getResults().get(0).isSuccess());
+        assertNotNull(result.getResults().get(0).getTask().getId());
+        assertFalse(result.getResults().get(1).isSuccess());
+        assertEquals("タイトルは必須です", result.getResults().get(1).getError());
+        assertEquals("会議の準備", result.getResults().get(2).getTask().getTitle());
+
+        // 作成したタスクが保存され、検索インデックスにも登録されている
+        assertEquals(3, taskService.countTasksByUserId(testUserId));
+        assertEquals(1, taskService.searchByKeyword(testUserId, "会議").size());
+    }
+
+    /**
+     * 一括作成の件数が範囲外の場合のテスト
+     */
+    @Test
+    void testCreateTasksWithInvalidSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.createTasks(List.of(), testUserId));
+
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("タスク");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        List<TaskRequestDto> tooMany = Collections.nCopies(TaskService.MAX_BULK_SIZE + 1, requestDto);
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.createTasks(tooMany, testUserId));
+    }
+
     /**
      * IDでタスクを取得するテスト
      */
@@ -170,7 +255,7 @@ class TaskServiceTest {
                 "別のユーザー");
 
         // 別のユーザーで、testUserのタスクを取得しようとする
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        Exception exception = assertThrows(ForbiddenException.class, () -> {
             taskService.findById(testTaskId, anotherUser.getId());
         });
 
@@ -287,6 +372,140 @@ class TaskServiceTest {
         assertEquals(1, tasks4.size());
     }
 
+    /**
+     * キーワード検索の結果がスコア順（タイトルに一致したタスクが上位）になるテスト
+     */
+    @Test
+    void testSearchByKeywordRanking() {
+        // 詳細にだけ「資料」を含むタスク
+        TaskRequestDto requestDto1 = new TaskRequestDto();
+        requestDto1.setTitle("会議の準備");
+        requestDto1.setDescription("資料を印刷する");
+        requestDto1.setStatus(TaskStatus.TODO);
+        requestDto1.setPriority(TaskPriority.MEDIUM);
+        taskService.createTask(requestDto1, testUserId);
+
+        // タイトルに「資料」を含むタスク
+        TaskRequestDto requestDto2 = new TaskRequestDto();
+        requestDto2.setTitle("資料作成");
+        requestDto2.setStatus(TaskStatus.TODO);
+        requestDto2.setPriority(TaskPriority.MEDIUM);
+        taskService.createTask(requestDto2, testUserId);
+
+        List<TaskResponseDto> tasks = taskService.searchByKeyword(testUserId, "資料");
+        assertEquals(2, tasks.size());
+        assertEquals("資料作成", tasks.get(0).getTitle());
+        assertEquals("会議の準備", tasks.get(1).getTitle());
+
+        // 全角英数字・大文字でも検索できる（NFKC正規化）
+        TaskRequestDto requestDto3 = new TaskRequestDto();
+        requestDto3.setTitle("API設計");
+        requestDto3.setStatus(TaskStatus.TODO);
+        requestDto3.setPriority(TaskPriority.MEDIUM);
+        taskService.createTask(requestDto3, testUserId);
+
+        assertEquals(1, taskService.searchByKeyword(testUserId, "ａｐｉ").size());
+    }
+
+    /**
+     * バイグラムはすべて含むが、連続した文字列としては含まないタスクが除外されるテスト
+     */
+    @Test
+    void testSearchByKeywordRequiresContiguousMatch() {
+        // 「買い」と「い物」を含むが、「買い物」は含まない
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("買い出しと小物の整理");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        taskService.createTask(requestDto, testUserId);
+
+        List<TaskResponseDto> tasks = taskService.searchByKeyword(testUserId, "買い物");
+        assertEquals(1, tasks.size());
+        assertEquals("買い物に行く", tasks.get(0).getTitle());
+    }
+
+    /**
+     * ステータスで絞り込む場合に、スコアの低いタスクが上限（MAX_SEARCH_RESULTS）の外で漏れないテスト
+     */
+    @Test
+    void testSearchWithFilterFindsLowRankedMatchesBeyondMaxResults() {
+        // タイトルに「報告」を含むTODOのタスク（スコアが高い）を、上限より多く作成
+        List<TaskRequestDto> todoDtos = new ArrayList<>();
+        for (int i = 0; i < TaskSearchService.MAX_SEARCH_RESULTS + 100; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("報告書" + i);
+            requestDto.setStatus(TaskStatus.TODO);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            todoDtos.add(requestDto);
+        }
+        taskService.createTasks(todoDtos, testUserId);
+
+        // 詳細だけに「報告」を含むDONEのタスク（スコアが低い）
+        for (int i = 0; i < 3; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("振り返り" + i);
+            requestDto.setDescription("報告書を見直す");
+            requestDto.setStatus(TaskStatus.DONE);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            taskService.createTask(requestDto, testUserId);
+        }
+
+        List<TaskResponseDto> tasks = taskService.findWithFilters(testUserId, TaskStatus.DONE, null, "報告");
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.stream().allMatch(task -> task.getStatus() == TaskStatus.DONE));
+    }
+
+    /**
+     * 連続した文字列として含まない候補が上限（MAX_SEARCH_RESULTS）より多くても、
+     * スコアの低い一致が漏れないテスト
+     */
+    @Test
+    void testSearchSkipsNonContiguousCandidatesBeyondMaxResults() {
+        // 「ab」と「bc」をタイトルに含むが「abc」は含まないタスク（スコアが高い）を、上限より多く作成
+        List<TaskRequestDto> candidateDtos = new ArrayList<>();
+        for (int i = 0; i < TaskSearchService.MAX_SEARCH_RESULTS + 100; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("abxbc" + i);
+            requestDto.setStatus(TaskStatus.TODO);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            candidateDtos.add(requestDto);
+        }
+        taskService.createTasks(candidateDtos, testUserId);
+
+        // 詳細だけに「abc」を含むタスク（スコアが低い）
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("確認");
+        requestDto.setDescription("abcの手順");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        taskService.createTask(requestDto, testUserId);
+
+        List<TaskResponseDto> tasks = taskService.searchByKeyword(testUserId, "abc");
+        assertEquals(1, tasks.size());
+        assertEquals("確認", tasks.get(0).getTitle());
+    }
+
+    /**
+     * タスクの更新・削除が検索インデックスに反映されるテスト
+     */
+    @Test
+    void testSearchIndexFollowsUpdateAndDelete() {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("掃除をする");
+        requestDto.setDescription("部屋を片付ける");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.HIGH);
+        taskService.updateTask(testTaskId, requestDto, testUserId);
+
+        // 更新前のタイトルでは検索できず、更新後のタイトルで検索できる
+        assertTrue(taskService.searchByKeyword(testUserId, "買い物").isEmpty());
+        assertEquals(1, taskService.searchByKeyword(testUserId, "掃除").size());
+
+        // 削除後は検索できない
+        taskService.deleteTask(testTaskId, testUserId);
+        assertTrue(taskService.searchByKeyword(testUserId, "掃除").isEmpty());
+    }
+
     /**
      * タスク更新のテスト
      */
@@ -322,6 +541,250 @@ class TaskServiceTest {
         assertEquals("買い物に行く", updatedTask.getTitle()); // タイトルは変更されていない
     }
 
+    /**
+     * 存在しないタスク・他人のタスクのステータスを更新しようとするテスト
+     */
+    @Test
+    void testUpdateTaskStatusNotFoundOrForbidden() {
+        UserResponseDto anotherUser = userService.createUser(
+                "another@example.com",
+                "password",
+                "別のユーザー");
+
+        // 存在しないタスク（404）
+        assertThrows(ResourceNotFoundException.class,
+                () -> taskService.updateTaskStatus(999999L, TaskStatus.DONE, testUserId));
+
+        // 他人のタスク（403）、ステータスは変更されない
+        assertThrows(ForbiddenException.class,
+                () -> taskService.updateTaskStatus(testTaskId, TaskStatus.DONE, anotherUser.getId()));
+        assertEquals(TaskStatus.TODO, taskService.findById(testTaskId, testUserId).getStatus());
+    }
+
+    /**
+     * 更新日時を確認してステータスを更新するテスト（If-Match）
+     */
+    @Test
+    void testUpdateTaskStatusWithExpectedUpdatedAt() {
+        LocalDateTime updatedAt = taskService.findById(testTaskId, testUserId).getUpdatedAt();
+
+        // 取得したときの更新日時と一致する場合は更新される
+        TaskResponseDto updatedTask = taskService.updateTaskStatus(
+                testTaskId, TaskStatus.IN_PROGRESS, testUserId, updatedAt);
+        assertEquals(TaskStatus.IN_PROGRESS, updatedTask.getStatus());
+        assertNotEquals(updatedAt, updatedTask.getUpdatedAt());
+
+        // 古い更新日時では、更新も削除もされない（412）
+        assertThrows(PreconditionFailedException.class, () -> taskService.updateTaskStatus(
+                testTaskId, TaskStatus.DONE, testUserId, updatedAt));
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.deleteTask(testTaskId, testUserId, updatedAt));
+        assertEquals(TaskStatus.IN_PROGRESS, taskService.findById(testTaskId, testUserId).getStatus());
+
+        // 存在しないタスクは、更新日時に関係なく404
+        assertThrows(ResourceNotFoundException.class, () -> taskService.updateTaskStatus(
+                999999L, TaskStatus.DONE, testUserId, updatedAt));
+    }
+
+    /**
+     * 更新日時を確認してタスクを更新するテスト（If-Match）
+     *
+     * テストの目的：
+     * - 更新後のupdatedAtがレスポンスに含まれ、それを使って続けて更新できることを確認
+     */
+    @Test
+    void testUpdateTaskWithExpectedUpdatedAt() {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("更新されたタスク");
+        requestDto.setStatus(TaskStatus.IN_PROGRESS);
+        requestDto.setPriority(TaskPriority.LOW);
+
+        LocalDateTime updatedAt = taskService.findById(testTaskId, testUserId).getUpdatedAt();
+        TaskResponseDto first = taskService.updateTask(testTaskId, requestDto, testUserId, updatedAt);
+        assertEquals(first.getUpdatedAt(), taskService.findById(testTaskId, testUserId).getUpdatedAt());
+
+        // 古い更新日時では更新されない
+        requestDto.setTitle("古い内容で上書き");
+        assertThrows(PreconditionFailedException.class,
+                () -> taskService.updateTask(testTaskId, requestDto, testUserId, updatedAt));
+
+        // 最新の更新日時では更新される
+        TaskResponseDto second = taskService.updateTask(testTaskId, requestDto, testUserId, first.getUpdatedAt());
+        assertEquals("古い内容で上書き", second.getTitle());
+    }
+
+    /**
+     * バージョンを指定したタスクの更新のテスト（楽観的ロック）
+     * 
+     * 検証内容：
+     * - 更新のたびにバージョンが1ずつ増える
+     * - 古いバージョンでは更新されず、最新のタスクを含むTaskConflictExceptionになる
+     * - ステータスのみの更新でも、同じようにバージョンが確認される
+     */
+    @Test
+    void testUpdateTaskWithVersion() {
+        TaskResponseDto original = taskService.findById(testTaskId, testUserId);
+        assertEquals(0L, original.getVersion());
+
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("更新されたタスク");
+        requestDto.setStatus(TaskStatus.IN_PROGRESS);
+        requestDto.setPriority(TaskPriority.LOW);
+        requestDto.setVersion(original.getVersion());
+        TaskResponseDto first = taskService.updateTask(testTaskId, requestDto, testUserId);
+        assertEquals(1L, first.getVersion());
+
+        // 古いバージョンでは更新されず、最新のタスクが返される
+        requestDto.setTitle("古い内容で上書き");
+        TaskConflictException conflict = assertThrows(TaskConflictException.class,
+                () -> taskService.updateTask(testTaskId, requestDto, testUserId));
+        assertEquals("更新されたタスク", conflict.getCurrent().getTitle());
+        assertEquals(1L, conflict.getCurrent().getVersion());
+
+        // ステータスのみの更新も、古いバージョンでは更新されない
+        assertThrows(TaskConflictException.class,
+                () -> taskService.updateTaskStatus(testTaskId, TaskStatus.DONE, testUserId, null, 0L));
+        TaskResponseDto second = taskService.updateTaskStatus(testTaskId, TaskStatus.DONE, testUserId, null, 1L);
+        assertEquals(TaskStatus.DONE, second.getStatus());
+        assertEquals(2L, second.getVersion());
+    }
+
+    /**
+     * IDで指定してステータスを一括変更するテスト（他人のタスクは変更されない）
+     */
+    @Test
+    void testUpdateTaskStatusesByIds() {
+        // 別のユーザーのタスクを作成
+        UserResponseDto otherUser = userService.createUser("other@example.com", "password", "他のユーザー");
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("他人のタスク");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        Long otherTaskId = taskService.createTask(requestDto, otherUser.getId()).getId();
+
+        TaskBulkOperationResponseDto result = taskService.updateTaskStatuses(
+                new TaskBulkStatusUpdateDto(List.of(testTaskId, otherTaskId), null, TaskStatus.DONE),
+                testUserId);
+
+        assertEquals(1, result.getAffected());
+        assertEquals(TaskStatus.DONE, taskService.findById(testTaskId, testUserId).getStatus());
+        assertEquals(TaskStatus.TODO, taskService.findById(otherTaskId, otherUser.getId()).getStatus());
+    }
+
+    /**
+     * 条件で指定してステータスを一括変更するテスト
+     */
+    @Test
+    void testUpdateTaskStatusesByFilter() {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("資料作成");
+        requestDto.setStatus(TaskStatus.IN_PROGRESS);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        taskService.createTask(requestDto, testUserId);
+
+        TaskBulkOperationResponseDto result = taskService.updateTaskStatuses(
+                new TaskBulkStatusUpdateDto(null, new TaskFilterDto(TaskStatus.TODO, null, null), TaskStatus.DONE),
+                testUserId);
+
+        assertEquals(1, result.getAffected());
+        assertEquals(1, taskService.countTasksByUserIdAndStatus(testUserId, TaskStatus.DONE));
+        assertEquals(1, taskService.countTasksByUserIdAndStatus(testUserId, TaskStatus.IN_PROGRESS));
+    }
+
+    /**
+     * タスクを一括削除するテスト（検索インデックスからも削除される）
+     */
+    @Test
+    void testDeleteTasks() {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("買い物リストを作る");
+        requestDto.setStatus(TaskStatus.DONE);
+        requestDto.setPriority(TaskPriority.LOW);
+        Long doneTaskId = taskService.createTask(requestDto, testUserId).getId();
+
+        // 条件で指定して削除
+        TaskBulkOperationResponseDto result = taskService.deleteTasks(
+                new TaskBulkDeleteDto(null, new TaskFilterDto(TaskStatus.DONE, null, null)), testUserId);
+        assertEquals(1, result.getAffected());
+        assertFalse(taskRepository.existsById(doneTaskId));
+
+        // IDで指定して削除
+        result = taskService.deleteTasks(new TaskBulkDeleteDto(List.of(testTaskId), null), testUserId);
+        assertEquals(1, result.getAffected());
+        assertEquals(0, taskService.countTasksByUserId(testUserId));
+        assertTrue(taskService.searchByKeyword(testUserId, "買い物").isEmpty());
+    }
+
+    /**
+     * キーワードの一致の規則が、一覧・ページング・一括操作で同じであるテスト
+     *
+     * 検証内容：
+     * - 全角の「ＡＢＣ」で、半角・全角のどちらで書かれたタスクにも一致する（NFKC正規化）
+     * - 半角カナの「ｶﾞｲﾄﾞ」で、全角の「ガイド」に一致する
+     * - バイグラムをすべて含むが連続した文字列としては含まないタスクは、どの経路でも対象にならない
+     */
+    @Test
+    void testKeywordMatchingIsSameForListPageAndBulk() {
+        List<TaskRequestDto> requestDtos = new ArrayList<>();
+        for (String title : List.of("ABCの確認", "ａｂｃの手順", "abxbcの整理", "ガイドを読む")) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle(title);
+            requestDto.setStatus(TaskStatus.TODO);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            requestDtos.add(requestDto);
+        }
+        taskService.createTasks(requestDtos, testUserId);
+
+        // 一覧（スコア順）
+        assertEquals(2, taskService.findWithFilters(testUserId, TaskStatus.TODO, null, "ＡＢＣ").size());
+        assertEquals(1, taskService.findWithFilters(testUserId, null, null, "ｶﾞｲﾄﾞ").size());
+
+        // ページング（1件ずつ取得しても、連続した文字列として含まないタスクは飛ばされる）
+        Set<Long> pagedIds = new HashSet<>();
+        String cursor = null;
+        TaskPageResponseDto page;
+        do {
+            page = taskService.findPageWithFilters(testUserId, TaskStatus.TODO, null, "ＡＢＣ", cursor, 1);
+            page.getItems().forEach(task -> pagedIds.add(task.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+        assertEquals(2, pagedIds.size());
+        assertEquals(1, taskService.findPageWithFilters(
+                testUserId, null, null, "ｶﾞｲﾄﾞ", null, TaskService.MAX_PAGE_SIZE).getItems().size());
+
+        // 一括のステータス変更・削除
+        TaskBulkOperationResponseDto updated = taskService.updateTaskStatuses(
+                new TaskBulkStatusUpdateDto(null, new TaskFilterDto(null, null, "ＡＢＣ"), TaskStatus.DONE),
+                testUserId);
+        assertEquals(2, updated.getAffected());
+        assertEquals(2, taskService.countTasksByUserIdAndStatus(testUserId, TaskStatus.DONE));
+
+        TaskBulkOperationResponseDto deleted = taskService.deleteTasks(
+                new TaskBulkDeleteDto(null, new TaskFilterDto(TaskStatus.DONE, null, "ＡＢＣ")), testUserId);
+        assertEquals(2, deleted.getAffected());
+        assertTrue(taskService.findWithFilters(testUserId, null, null, "ＡＢＣ").isEmpty());
+        assertEquals(1, taskService.searchByKeyword(testUserId, "abxbc").size());
+    }
+
+    /**
+     * 一括操作の対象指定が不正な場合のテスト
+     */
+    @Test
+    void testBulkOperationWithInvalidTarget() {
+        // idsとfilterの両方を指定
+        assertThrows(IllegalArgumentException.class, () -> taskService.deleteTasks(
+                new TaskBulkDeleteDto(List.of(testTaskId), new TaskFilterDto(TaskStatus.DONE, null, null)),
+                testUserId));
+
+        // どちらも指定しない
+        assertThrows(IllegalArgumentException.class,
+                () -> taskService.deleteTasks(new TaskBulkDeleteDto(null, null), testUserId));
+
+        // 条件が空（全タスクが対象になってしまう）
+        assertThrows(IllegalArgumentException.class, () -> taskService.updateTaskStatuses(
+                new TaskBulkStatusUpdateDto(null, new TaskFilterDto(), TaskStatus.DONE), testUserId));
+    }
+
     /**
      * 権限のないタスクを更新しようとするテスト
      */
@@ -339,7 +802,7 @@ class TaskServiceTest {
         requestDto.setPriority(TaskPriority.HIGH);
 
         // 別のユーザーで、testUserのタスクを更新しようとする
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        Exception exception = assertThrows(ForbiddenException.class, () -> {
             taskService.updateTask(testTaskId, requestDto, anotherUser.getId());
         });
 
@@ -355,7 +818,7 @@ class TaskServiceTest {
         taskService.deleteTask(testTaskId, testUserId);
 
         // 検証：削除されたタスクを取得しようとするとエラー
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        Exception exception = assertThrows(ResourceNotFoundException.class, () -> {
             taskService.findById(testTaskId, testUserId);
         });
 
@@ -374,7 +837,7 @@ class TaskServiceTest {
                 "別のユーザー");
 
         // 別のユーザーで、testUserのタスクを削除しようとする
-        Exception exception = assertThrows(IllegalArgumentException.class, () -> {
+        Exception exception = assertThrows(ForbiddenException.class, () -> {
             taskService.deleteTask(testTaskId, anotherUser.getId());
         });
 
@@ -426,4 +889,368 @@ class TaskServiceTest {
         long doneCount = taskService.countTasksByUserIdAndStatus(testUserId, TaskStatus.DONE);
         assertEquals(0, doneCount);
     }
-}
\ No newline at end of file
+
+    /**
+     * カーソルページングで全件を取得するテスト
+     * 
+     * 検証内容：
+     * - nextCursorをたどることで、すべてのタスクを重複なく取得できる
+     * - 最後のページではhasNextがfalse、nextCursorがnullになる
+     */
+    @Test
+    void testFindPageByUserId() {
+        // setUp()の1件に加えて4件作成（合計5件）
+        for (int i = 1; i <= 4; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("タスク" + i);
+            requestDto.setStatus(TaskStatus.TODO);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            taskService.createTask(requestDto, testUserId);
+        }
+
+        Set<Long> ids = new HashSet<>();
+        String cursor = null;
+        int pages = 0;
+        TaskPageResponseDto page;
+        do {
+            page = taskService.findPageByUserId(testUserId, cursor, 2);
+            page.getItems().forEach(task -> ids.add(task.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+        } while (page.isHasNext());
+
+        // 5件を2件ずつ → 3ページ
+        assertEquals(3, pages);
+        assertEquals(5, ids.size());
+        assertNull(page.getNextCursor());
+    }
+
+    /**
+     * 不正なカーソルやlimitを指定した場合のテスト
+     */
+    @Test
+    void testFindPageWithInvalidParameters() {
+        assertThrows(IllegalArgumentException.class, () -> {
+            taskService.findPageByUserId(testUserId, "invalid-cursor", 10);
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            taskService.findPageByUserId(testUserId, null, 0);
+        });
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            taskService.findPageByUserId(testUserId, null, TaskService.MAX_PAGE_SIZE + 1);
+        });
+    }
+
+    /**
+     * タスク統計のテスト
+     */
+    @Test
+    void testGetTaskStats() {
+        // 期限切れ・進行中・低優先度のタスク
+        TaskRequestDto overdueDto = new TaskRequestDto();
+        overdueDto.setTitle("期限切れのタスク");
+        overdueDto.setDueDate(LocalDate.now().minusDays(1));
+        overdueDto.setStatus(TaskStatus.IN_PROGRESS);
+        overdueDto.setPriority(TaskPriority.LOW);
+        taskService.createTask(overdueDto, testUserId);
+
+        // 今日が期日・完了・高優先度のタスク
+        TaskRequestDto todayDto = new TaskRequestDto();
+        todayDto.setTitle("今日が期日のタスク");
+        todayDto.setDueDate(LocalDate.now());
+        todayDto.setStatus(TaskStatus.DONE);
+        todayDto.setPriority(TaskPriority.HIGH);
+        taskService.createTask(todayDto, testUserId);
+
+        TaskStatsResponseDto stats = taskService.getTaskStats(testUserId);
+
+        // setUp()の1件（TODO、HIGH、明日が期日）を含めて3件
+        assertEquals(3, stats.getTotal());
+        assertEquals(1L, stats.getByStatus().get(TaskStatus.TODO));
+        assertEquals(1L, stats.getByStatus().get(TaskStatus.IN_PROGRESS));
+        assertEquals(1L, stats.getByStatus().get(TaskStatus.DONE));
+        assertEquals(2L, stats.getByPriority().get(TaskPriority.HIGH));
+        assertEquals(0L, stats.getByPriority().get(TaskPriority.MEDIUM));
+        assertEquals(1L, stats.getByPriority().get(TaskPriority.LOW));
+        assertEquals(1, stats.getOverdue());
+        assertEquals(1, stats.getDueToday());
+    }
+
+    /**
+     * 差分同期のテスト
+     * 
+     * 検証内容：
+     * - 最初の同期（sinceなし）で、既存のタスクが返される
+     * - 変更が無い場合は空で、nextTokenは渡したトークンのまま
+     * - 作成・更新されたタスクはchangedに、削除されたタスクはdeletedに、変更の順で返される
+     */
+    @Test
+    void testFindChanges() {
+        TaskChangesResponseDto initial = taskService.findChanges(testUserId, null, 500);
+        assertEquals(1, initial.getChanged().size());
+        assertEquals(testTaskId, initial.getChanged().get(0).getId());
+        assertTrue(initial.getDeleted().isEmpty());
+        assertFalse(initial.isHasMore());
+
+        // 変更が無い場合
+        TaskChangesResponseDto unchanged = taskService.findChanges(testUserId, initial.getNextToken(), 500);
+        assertTrue(unchanged.getChanged().isEmpty());
+        assertTrue(unchanged.getDeleted().isEmpty());
+        assertEquals(initial.getNextToken(), unchanged.getNextToken());
+
+        // 作成・更新・削除
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("削除するタスク");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.LOW);
+        Long deletedTaskId = taskService.createTask(requestDto, testUserId).getId();
+        requestDto.setTitle("新しいタスク");
+        Long createdTaskId = taskService.createTask(requestDto, testUserId).getId();
+        taskService.updateTaskStatus(testTaskId, TaskStatus.DONE, testUserId);
+        taskService.deleteTask(deletedTaskId, testUserId);
+
+        TaskChangesResponseDto changes = taskService.findChanges(testUserId, initial.getNextToken(), 500);
+        assertEquals(List.of(createdTaskId, testTaskId),
+                changes.getChanged().stream().map(TaskResponseDto::getId).toList());
+        assertEquals(TaskStatus.DONE, changes.getChanged().get(1).getStatus());
+        assertEquals(List.of(deletedTaskId), changes.getDeleted());
+        assertFalse(changes.isHasMore());
+    }
+
+    /**
+     * 差分同期をlimit件ずつ取得するテスト
+     * 
+     * 検証内容：
+     * - nextTokenをたどることで、作成・更新と削除をあわせて、すべての変更を1回ずつ取得できる
+     * - 最後のレスポンスでのみhasMoreがfalseになる
+     */
+    @Test
+    void testFindChangesInBatches() {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("タスク");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.MEDIUM);
+        Long secondTaskId = taskService.createTask(requestDto, testUserId).getId();
+        Long deletedTaskId = taskService.createTask(requestDto, testUserId).getId();
+        taskService.deleteTask(deletedTaskId, testUserId);
+
+        List<Long> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        String token = null;
+        int batches = 0;
+        TaskChangesResponseDto batch;
+        do {
+            batch = taskService.findChanges(testUserId, token, 1);
+            batch.getChanged().forEach(task -> changed.add(task.getId()));
+            deleted.addAll(batch.getDeleted());
+            token = batch.getNextToken();
+            batches++;
+        } while (batch.isHasMore());
+
+        // 作成2件（setUp()の1件を含む）と削除1件 → 3回
+        assertEquals(3, batches);
+        assertEquals(List.of(testTaskId, secondTaskId), changed);
+        assertEquals(List.of(deletedTaskId), deleted);
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            taskService.findChanges(testUserId, "invalid-token", 1);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            taskService.findChanges(testUserId, null, TaskChangeService.MAX_CHANGES_LIMIT + 1);
+        });
+    }
+
+    /**
+     * 保持期間を過ぎた削除記録を削除した後の差分同期のテスト
+     * 
+     * 検証内容：
+     * - 削除した削除記録より前のトークンは、410（ChangeTokenExpiredException）になる
+     * - 削除した削除記録まで受け取ったトークンは、そのまま同期を続けられる
+     * - 最初から同期し直したクライアントは、削除位置より前の位置のトークンでも、ページをたどれる
+     */
+    @Test
+    void testFindChangesAfterTombstonePurge() {
+        TaskRequestDto requestDto = new TaskRequestDto();
+        requestDto.setTitle("削除するタスク");
+        requestDto.setStatus(TaskStatus.TODO);
+        requestDto.setPriority(TaskPriority.LOW);
+        Long firstDeletedId = taskService.createTask(requestDto, testUserId).getId();
+        Long secondDeletedId = taskService.createTask(requestDto, testUserId).getId();
+        String beforeDeletions = taskService.findChanges(testUserId, null, 500).getNextToken();
+
+        taskService.deleteTask(firstDeletedId, testUserId);
+        String afterFirstDeletion = taskService.findChanges(testUserId, beforeDeletions, 500).getNextToken();
+        taskService.deleteTask(secondDeletedId, testUserId);
+        TaskChangesResponseDto secondDeletion = taskService.findChanges(testUserId, afterFirstDeletion, 500);
+        assertEquals(List.of(secondDeletedId), secondDeletion.getDeleted());
+
+        // 他のテストのユーザーの削除記録も対象になるため、件数は2件以上
+        assertTrue(taskChangeService.purgeTombstones(LocalDateTime.now().plusDays(1), 1000) >= 2);
+
+        // 受け取っていない削除記録が削除されたトークン
+        assertThrows(ChangeTokenExpiredException.class, () -> {
+            taskService.findChanges(testUserId, beforeDeletions, 500);
+        });
+        assertThrows(ChangeTokenExpiredException.class, () -> {
+            taskService.findChanges(testUserId, afterFirstDeletion, 500);
+        });
+
+        // 削除された削除記録まで受け取ったトークン
+        TaskChangesResponseDto upToDate = taskService.findChanges(testUserId, secondDeletion.getNextToken(), 500);
+        assertTrue(upToDate.getChanged().isEmpty());
+        assertTrue(upToDate.getDeleted().isEmpty());
+
+        // 最初から同期し直す（setUp()のタスクの位置は、削除位置より前）
+        TaskChangesResponseDto resync = taskService.findChanges(testUserId, null, 1);
+        assertEquals(List.of(testTaskId), resync.getChanged().stream().map(TaskResponseDto::getId).toList());
+        assertFalse(resync.isHasMore());
+        TaskChangesResponseDto afterResync = taskService.findChanges(testUserId, resync.getNextToken(), 1);
+        assertTrue(afterResync.getChanged().isEmpty());
+        assertTrue(afterResync.getDeleted().isEmpty());
+    }
+
+    /**
+     * 読み取りのSQLの実行回数が、タスクの件数に依存しないテスト（N+1の検出）
+     * 
+     * 検証内容：
+     * - 500件のタスクがあっても、一覧・ページ・1件・件数・統計はSQL1回で取得できる
+     * （ユーザー名はDTOプロジェクションのJOINで取得するため、usersテーブルへの追加のSELECTはありません）
+     * - キーワード検索は、トークンの検索とタスクの取得の2回以内
+     * - 差分同期は、削除位置の取得（位置の取得の前後）、タスクと削除記録の位置の取得、タスクの取得の5回以内
+     */
+    @Test
+    void testReadStatementCounts() throws Exception {
+        List<TaskRequestDto> requestDtos = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("報告書を作成する" + i);
+            requestDto.setStatus(TaskStatus.values()[i % TaskStatus.values().length]);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            requestDtos.add(requestDto);
+        }
+        taskService.createTasks(requestDtos, testUserId);
+        SqlStatementCounter sqlCounter = prepareSqlCounter();
+
+        List<TaskResponseDto> tasks = sqlCounter.assertStatementCount(1, "findAllByUserId",
+                () -> taskService.findAllByUserId(testUserId));
+        assertEquals(501, tasks.size());
+
+        sqlCounter.assertStatementCount(1, "findByStatus",
+                () -> taskService.findByStatus(testUserId, TaskStatus.TODO));
+        sqlCounter.assertStatementCount(1, "findByPriority",
+                () -> taskService.findByPriority(testUserId, TaskPriority.MEDIUM));
+        sqlCounter.assertStatementCount(1, "findOverdueTasks",
+                () -> taskService.findOverdueTasks(testUserId));
+        sqlCounter.assertStatementCount(1, "findFutureTasks",
+                () -> taskService.findFutureTasks(testUserId));
+        sqlCounter.assertStatementCount(1, "findPageByUserId",
+                () -> taskService.findPageByUserId(testUserId, null, TaskService.MAX_PAGE_SIZE));
+        sqlCounter.assertStatementCount(1, "findPageByStatus",
+                () -> taskService.findPageByStatus(testUserId, TaskStatus.TODO, null, TaskService.MAX_PAGE_SIZE));
+        sqlCounter.assertStatementCount(1, "findPageByPriority",
+                () -> taskService.findPageByPriority(testUserId, TaskPriority.MEDIUM, null, TaskService.MAX_PAGE_SIZE));
+        sqlCounter.assertStatementCount(1, "findPageOverdueTasks",
+                () -> taskService.findPageOverdueTasks(testUserId, null, TaskService.MAX_PAGE_SIZE));
+        sqlCounter.assertStatementCount(1, "findPageFutureTasks",
+                () -> taskService.findPageFutureTasks(testUserId, null, TaskService.MAX_PAGE_SIZE));
+        sqlCounter.assertStatementCount(1, "findPageWithFilters",
+                () -> taskService.findPageWithFilters(
+                        testUserId, TaskStatus.TODO, null, "報告書", null, TaskService.MAX_PAGE_SIZE));
+        sqlCounter.assertStatementCount(1, "findById",
+                () -> taskService.findById(testTaskId, testUserId));
+        sqlCounter.assertStatementCount(1, "countTasksByUserId",
+                () -> taskService.countTasksByUserId(testUserId));
+        sqlCounter.assertStatementCount(1, "countTasksByUserIdAndStatus",
+                () -> taskService.countTasksByUserIdAndStatus(testUserId, TaskStatus.TODO));
+        sqlCounter.assertStatementCount(1, "getTaskStats",
+                () -> taskService.getTaskStats(testUserId));
+        sqlCounter.assertStatementCountAtMost(1, "findWithFilters",
+                () -> taskService.findWithFilters(testUserId, TaskStatus.TODO, null, null));
+        sqlCounter.assertStatementCountAtMost(2, "searchByKeyword",
+                () -> taskService.searchByKeyword(testUserId, "報告書"));
+        sqlCounter.assertStatementCountAtMost(5, "findChanges",
+                () -> taskService.findChanges(testUserId, null, TaskChangeService.MAX_CHANGES_LIMIT));
+    }
+
+    /**
+     * 書き込みのSQLの実行回数のテスト
+     * 
+     * 検証内容：
+     * - 作成：ユーザーのロック、変更番号の採番、IDの採番（50件に1回）、検索インデックスの確認、
+     * タスクと検索インデックスのINSERTの6回以内
+     * - 一括作成：タスクの件数より少ない回数（タスクごとのユーザーの取得が無い）
+     * - 更新：ユーザーのロック、変更番号の採番、タスクの取得、UPDATE、検索インデックスの確認の5回
+     * （タスクの取得ではユーザーをJOINせず、レスポンスのユーザー名はロック済みのユーザーから取得する）
+     * - ステータス更新：ユーザーのロック、変更番号の採番、UPDATE、更新後のタスクの取得の4回
+     * - 削除：ユーザーのロック、変更番号の採番、DELETE、削除記録のINSERT、検索インデックスのDELETEの5回
+     * - 一括ステータス変更：ユーザーのロック、変更番号の採番、UPDATEの3回
+     * - 一括削除：ユーザーのロック、変更番号の採番、検索インデックスのDELETE、削除記録のINSERT、DELETEの5回
+     */
+    @Test
+    void testWriteStatementCounts() throws Exception {
+        SqlStatementCounter sqlCounter = prepareSqlCounter();
+
+        TaskRequestDto createDto = new TaskRequestDto();
+        createDto.setTitle("資料を作成する");
+        createDto.setStatus(TaskStatus.TODO);
+        createDto.setPriority(TaskPriority.MEDIUM);
+        TaskResponseDto created = sqlCounter.assertStatementCountAtMost(6, "createTask", () -> {
+            TaskResponseDto task = taskService.createTask(createDto, testUserId);
+            entityManager.flush();
+            return task;
+        });
+        assertEquals("テストユーザー", created.getUsername());
+
+        entityManager.clear();
+        List<TaskRequestDto> bulkDtos = Collections.nCopies(50, createDto);
+        long bulkStatements = sqlCounter.count(() -> taskService.createTasks(bulkDtos, testUserId));
+        assertTrue(bulkStatements < bulkDtos.size(),
+                "createTasks のSQLの実行回数がタスクの件数に比例しています: " + bulkStatements);
+
+        entityManager.clear();
+        TaskRequestDto updateDto = new TaskRequestDto();
+        updateDto.setTitle("買い物に行く");
+        updateDto.setDescription("スーパーで食材を買う");
+        updateDto.setStatus(TaskStatus.IN_PROGRESS);
+        updateDto.setPriority(TaskPriority.LOW);
+        TaskResponseDto updated = sqlCounter.assertStatementCount(5, "updateTask",
+                () -> taskService.updateTask(testTaskId, updateDto, testUserId));
+        assertEquals("テストユーザー", updated.getUsername());
+
+        entityManager.clear();
+        sqlCounter.assertStatementCount(3, "updateTaskStatuses", () -> taskService.updateTaskStatuses(
+                new TaskBulkStatusUpdateDto(List.of(created.getId()), null, TaskStatus.DONE), testUserId));
+
+        entityManager.clear();
+        sqlCounter.assertStatementCount(5, "deleteTasks", () -> taskService.deleteTasks(
+                new TaskBulkDeleteDto(List.of(created.getId()), null), testUserId));
+
+        entityManager.clear();
+        sqlCounter.assertStatementCount(4, "updateTaskStatus",
+                () -> taskService.updateTaskStatus(testTaskId, TaskStatus.DONE, testUserId));
+
+        entityManager.clear();
+        sqlCounter.assertStatementCount(5, "deleteTask", () -> {
+            taskService.deleteTask(testTaskId, testUserId);
+            entityManager.flush();
+            return null;
+        });
+    }
+
+    /**
+     * SQLの実行回数を数える準備
+     * 
+     * 実務でのポイント：
+     * - テストデータの作成で残っている変更をflush()し、回数に含まれないようにします
+     * - 永続化コンテキストと2次キャッシュを空にし、データベースから取得する場合の回数を数えます
+     */
+    private SqlStatementCounter prepareSqlCounter() {
+        entityManager.flush();
+        entityManager.clear();
+        SqlStatementCounter sqlCounter = new SqlStatementCounter(entityManagerFactory);
+        sqlCounter.evictCaches();
+        return sqlCounter;
+    }
+}
@@ -0,0 +1,173 @@
+package com.taskmanagement.backend.service;
+
+import com.taskmanagement.backend.config.ConnectionLimitingDataSource;
+import com.taskmanagement.backend.dto.TaskRequestDto;
+import com.taskmanagement.backend.dto.TaskResponseDto;
+import com.taskmanagement.backend.model.TaskPriority;
+import com.taskmanagement.backend.model.TaskStatus;
+import com.taskmanagement.backend.repository.TaskRepository;
+import com.taskmanagement.backend.repository.TaskSearchTokenRepository;
+import com.taskmanagement.backend.repository.UserRepository;
+import com.taskmanagement.backend.support.VirtualThreadPinningMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 仮想スレッドでのキャリアスレッドの固定（pinning）のテスト
+ *
+ * テストの目的：
+ * - 仮想スレッドの実行モード（spring.threads.virtual.enabled=true）で、TaskServiceの読み取り・書き込みを
+ * コネクションプールのサイズより多い同時実行数で実行します
+ * - JDBCドライバ・Hibernate・HikariCPの中でキャリアスレッドが固定されていないことを、JFRで確認します
+ * - コネクションの同時取得数がConnectionLimitingDataSourceで制限されていることも確認します
+ *
+ * 実行方法：
+ * ./mvnw test -Dtest=VirtualThreadPinningTest -Dpinning=true
+ *
+ * PostgreSQLで実行する場合（本番と同じJDBCドライバの経路を確認する場合）：
+ * ./mvnw test -Dtest=VirtualThreadPinningTest -Dpinning=true \
+ * -Dspring.datasource.url=jdbc:postgresql://localhost:5432/taskdb \
+ * -Dspring.datasource.username=postgres -Dspring.datasource.password=postgres
+ *
+ * 設定（システムプロパティ）：
+ * - pinning.concurrency：同時に実行する仮想スレッド数（デフォルト200）
+ * - pinning.operations：実行する操作の回数（デフォルト2000）
+ * - pinning.threshold-ms：記録する待機時間の下限（デフォルト0 = 固定された待機をすべて記録）
+ *
+ * 注意点：
+ * - JFRを使用するため、通常のテスト実行では -Dpinning=true を指定した場合のみ実行します
+ * - 固定が検出された場合は、スタックトレースを出力して失敗します
+ * （ドライバのバージョンアップや、synchronizedをReentrantLockに置き換えるなどで対応します）
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.format_sql=false"
+})
+@EnabledIfSystemProperty(named = "pinning", matches = "true")
+class VirtualThreadPinningTest {
+
+    private static final int TASK_COUNT = 200;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchTokenRepository taskSearchTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long userId;
+
+    private List<Long> taskIds;
+
+    @BeforeEach
+    void setUp() {
+        cleanUp();
+        userId = userService.createUser("pinning@example.com", "password", "仮想スレッド").getId();
+
+        List<TaskRequestDto> requestDtos = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            TaskRequestDto requestDto = new TaskRequestDto();
+            requestDto.setTitle("報告書を作成する" + i);
+            requestDto.setStatus(TaskStatus.TODO);
+            requestDto.setPriority(TaskPriority.MEDIUM);
+            requestDtos.add(requestDto);
+        }
+        taskService.createTasks(requestDtos, userId);
+        taskIds = taskService.findAllByUserId(userId).stream()
+                .map(TaskResponseDto::getId)
+                .toList();
+    }
+
+    @AfterEach
+    void tearDown() {
+        cleanUp();
+    }
+
+    /**
+     * データベースへのアクセスの経路で、キャリアスレッドが固定されないテスト
+     */
+    @Test
+    void testNoCarrierPinningInPersistencePath() throws Exception {
+        assertTrue(dataSource.isWrapperFor(ConnectionLimitingDataSource.class),
+                "仮想スレッドの実行モードでは、DataSourceがConnectionLimitingDataSourceで包まれている必要があります");
+        ConnectionLimitingDataSource guard = dataSource.unwrap(ConnectionLimitingDataSource.class);
+        int permits = guard.getAvailablePermits();
+
+        int concurrency = Integer.getInteger("pinning.concurrency", 200);
+        int operations = Integer.getInteger("pinning.operations", 2000);
+        Duration threshold = Duration.ofMillis(Integer.getInteger("pinning.threshold-ms", 0));
+
+        try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(threshold)) {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> futures = new ArrayList<>(concurrency);
+                for (int worker = 0; worker < concurrency; worker++) {
+                    int first = worker;
+                    futures.add(executor.submit(() -> {
+                        for (int i = first; i < operations; i += concurrency) {
+                            execute(i);
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            }
+            monitor.stop();
+            monitor.print(System.out);
+
+            assertEquals(0, monitor.persistencePinnedCount(),
+                    "JDBC・Hibernate・HikariCPの中でキャリアスレッドが固定されました（出力されたスタックトレースを確認してください）");
+        }
+
+        // すべてのコネクションが返却され、許可が元に戻っている
+        assertEquals(permits, guard.getAvailablePermits());
+    }
+
+    /**
+     * 本番のアクセスに近い比率で、読み取りと書き込みを実行
+     */
+    private void execute(int i) {
+        Long taskId = taskIds.get(i % taskIds.size());
+        switch (i % 5) {
+            case 0 -> taskService.findPageByUserId(userId, null, TaskService.MAX_PAGE_SIZE);
+            case 1 -> taskService.findById(taskId, userId);
+            case 2 -> taskService.searchByKeyword(userId, "報告書");
+            case 3 -> taskService.getTaskStats(userId);
+            default -> taskService.updateTaskStatus(taskId, TaskStatus.values()[i % TaskStatus.values().length],
+                    userId);
+        }
+    }
+
+    private void cleanUp() {
+        taskSearchTokenRepository.deleteAllInBatch();
+        taskRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+}
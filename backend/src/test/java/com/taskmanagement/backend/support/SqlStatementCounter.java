@@ -0,0 +1,115 @@
+package com.taskmanagement.backend.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SQLの実行回数を数えるテスト用のユーティリティ（N+1問題の検出）
+ *
+ * このクラスの役割：
+ * - 処理の前後で、Hibernateの統計（hibernate.generate_statistics=true）のSQL実行回数を比較する
+ * - 「500件の一覧取得でもSQLは1回」のように、処理ごとのSQLの回数をテストで固定する
+ *
+ * 使用例：
+ * SqlStatementCounter sqlCounter = new SqlStatementCounter(entityManagerFactory);
+ * sqlCounter.evictCaches();
+ * List<TaskResponseDto> tasks = sqlCounter.assertStatementCount(1, "一覧取得",
+ * () -> taskService.findAllByUserId(userId));
+ *
+ * なぜSQLの回数をテストするのか：
+ * - Task.userのような関連を持つエンティティは、取得方法を少し変えただけで、
+ * タスクの件数分のSQL（N+1）が実行されるようになります
+ * - 件数の少ないテストデータでは応答時間の違いに気づけないため、回数で検出します
+ *
+ * 注意点：
+ * - 回数はprepareStatementの回数です（SELECT・INSERT・UPDATE・DELETE・シーケンスの取得を含む）
+ * - 統計はアプリケーション全体で共有されるため、テストを並列に実行すると他のテストのSQLも数えます
+ * - 処理の前に、未反映の変更をflush()しておいてください（処理中のflushも回数に含まれます）
+ * - 2次キャッシュ・クエリキャッシュにヒットするとSQLは実行されません。
+ * データベースへのアクセスを数える場合は、先にevictCaches()を呼び出してください
+ */
+public class SqlStatementCounter {
+
+    /**
+     * 回数を数える処理（MockMvcのperform()のように検査例外を投げる処理も渡せるようにする）
+     *
+     * @param <T> 処理の戻り値の型
+     */
+    @FunctionalInterface
+    public interface SqlAction<T> {
+        T run() throws Exception;
+    }
+
+    private final SessionFactory sessionFactory;
+
+    private final Statistics statistics;
+
+    /**
+     * @param entityManagerFactory EntityManagerFactory（統計が有効であること）
+     */
+    public SqlStatementCounter(EntityManagerFactory entityManagerFactory) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.statistics = sessionFactory.getStatistics();
+        assertTrue(statistics.isStatisticsEnabled(), "hibernate.generate_statistics が無効です");
+    }
+
+    /**
+     * 2次キャッシュ・クエリキャッシュを空にする
+     */
+    public void evictCaches() {
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    /**
+     * 処理中に実行されたSQLの回数を数える
+     *
+     * @param action 処理
+     * @return SQLの実行回数
+     * @throws Exception 処理が例外を投げた場合
+     */
+    public long count(SqlAction<?> action) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        action.run();
+        return statistics.getPrepareStatementCount() - before;
+    }
+
+    /**
+     * 処理中に実行されたSQLの回数が、指定した回数と一致することを確認
+     *
+     * @param expected    SQLの実行回数
+     * @param description 処理の説明（失敗時のメッセージに使用）
+     * @param action      処理
+     * @param <T>         処理の戻り値の型
+     * @return 処理の戻り値
+     * @throws Exception 処理が例外を投げた場合
+     */
+    public <T> T assertStatementCount(long expected, String description, SqlAction<T> action) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        T result = action.run();
+        long actual = statistics.getPrepareStatementCount() - before;
+        assertEquals(expected, actual, description + " のSQLの実行回数が変わりました");
+        return result;
+    }
+
+    /**
+     * 処理中に実行されたSQLの回数が、指定した回数以下であることを確認
+     *
+     * @param max         SQLの実行回数の上限
+     * @param description 処理の説明（失敗時のメッセージに使用）
+     * @param action      処理
+     * @param <T>         処理の戻り値の型
+     * @return 処理の戻り値
+     * @throws Exception 処理が例外を投げた場合
+     */
+    public <T> T assertStatementCountAtMost(long max, String description, SqlAction<T> action) throws Exception {
+        long before = statistics.getPrepareStatementCount();
+        T result = action.run();
+        long actual = statistics.getPrepareStatementCount() - before;
+        assertTrue(actual <= max,
+                description + " のSQLの実行回数が上限を超えました（N+1の可能性があります）: 上限 " + max + "、実際 " + actual);
+        return result;
+    }
+}
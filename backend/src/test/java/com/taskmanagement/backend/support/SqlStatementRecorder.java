@@ -0,0 +1,201 @@
+package com.taskmanagement.backend.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 実行されたSQLとバインドされたパラメータを記録するテスト用のユーティリティ（実行計画の確認）
+ *
+ * このクラスの役割：
+ * - DataSourceをラップし、PreparedStatementで実行されたSQLと、setXxx()で設定されたパラメータを記録する
+ * - 記録したSQLに "EXPLAIN " を付け、同じパラメータで実行計画を取得する
+ *
+ * 使用例：
+ * &#64;Import(SqlStatementRecorder.Config.class)
+ * List<RecordedStatement> statements = sqlRecorder.record(() -> taskRepository.countByUserId(userId));
+ * String plan = sqlRecorder.explain(connection, statements.get(0));
+ *
+ * なぜ手書きのSQLではなく、実行されたSQLを記録するのか：
+ * - JPQLから生成されるSQL（JOIN・「:status IS NULL OR ...」の条件・LIMITなど）は、手書きのSQLと一致するとは限りません
+ * - リポジトリのクエリを変更しても、手書きのSQLは変わらないため、インデックスを使わなくなったことに気づけません
+ *
+ * 注意点：
+ * - 記録するのはPreparedStatementのexecute()・executeQuery()・executeUpdate()だけです（Hibernateのクエリはすべて該当します）
+ * - 記録はrecord()の実行中だけ行います。Flywayのマイグレーションやexplain()自体のSQLは記録しません
+ * - バッチ（addBatch）のINSERTは記録しません
+ */
+public class SqlStatementRecorder implements BeanPostProcessor {
+
+    /**
+     * SQLを実行するメソッド（引数なしのもの）
+     */
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+
+    /**
+     * テストのコンテキストに登録する設定
+     */
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        /**
+         * BeanPostProcessorはstaticで定義します（他のBeanより先に作成されるため）
+         *
+         * @return SqlStatementRecorder
+         */
+        @Bean
+        static SqlStatementRecorder sqlStatementRecorder() {
+            return new SqlStatementRecorder();
+        }
+    }
+
+    /**
+     * 記録するパラメータ（PreparedStatementのsetXxx()の呼び出し）
+     *
+     * @param method setXxx()メソッド
+     * @param args   引数（1番目はパラメータの位置）
+     */
+    public record Binding(Method method, Object[] args) {
+    }
+
+    /**
+     * 記録したSQL
+     *
+     * @param sql      SQL
+     * @param bindings パラメータ
+     */
+    public record RecordedStatement(String sql, List<Binding> bindings) {
+    }
+
+    /**
+     * 記録先（record()の実行中以外はnull）
+     */
+    private volatile List<RecordedStatement> recording;
+
+    /**
+     * DataSourceのBeanをラップする
+     *
+     * @param bean     Bean
+     * @param beanName Bean名
+     * @return DataSourceの場合はラップしたもの
+     */
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, result) ->
+                    result instanceof Connection connection ? wrapConnection(connection) : result);
+        }
+        return bean;
+    }
+
+    /**
+     * 処理中に実行されたSQLを記録する
+     *
+     * @param action 処理
+     * @return 実行された順のSQL
+     * @throws Exception 処理が例外を投げた場合
+     */
+    public List<RecordedStatement> record(SqlStatementCounter.SqlAction<?> action) throws Exception {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording = statements;
+        try {
+            action.run();
+        } finally {
+            recording = null;
+        }
+        return statements;
+    }
+
+    /**
+     * 記録したSQLの実行計画を取得
+     *
+     * @param connection 接続（記録したSQLと同じデータベース）
+     * @param statement  記録したSQL
+     * @return 実行計画（1行ごとに改行で連結）
+     * @throws SQLException SQLの実行に失敗した場合
+     */
+    public String explain(Connection connection, RecordedStatement statement) throws SQLException {
+        try (PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.sql())) {
+            for (Binding binding : statement.bindings()) {
+                invoke(binding.method(), explain, binding.args());
+            }
+            try (ResultSet resultSet = explain.executeQuery()) {
+                StringBuilder plan = new StringBuilder();
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append('\n');
+                }
+                return plan.toString();
+            }
+        }
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (result instanceof PreparedStatement statement && args != null && args[0] instanceof String sql) {
+                return wrapStatement(statement, sql);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (EXECUTE_METHODS.contains(name) && args == null) {
+                List<RecordedStatement> statements = recording;
+                if (statements != null) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 委譲先の呼び出し結果を加工する処理
+     */
+    @FunctionalInterface
+    private interface ResultHandler {
+        Object handle(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, ResultHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> handler.handle(method, args, invoke(method, target, args)));
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws SQLException {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            if (ex.getCause() instanceof SQLException sqlException) {
+                throw sqlException;
+            }
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (IllegalAccessException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
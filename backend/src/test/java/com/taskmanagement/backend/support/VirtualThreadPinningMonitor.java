@@ -0,0 +1,149 @@
+package com.taskmanagement.backend.support;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 仮想スレッドのキャリアスレッドの固定（pinning）を検出するテスト用のユーティリティ（JFR）
+ *
+ * キャリアスレッドの固定とは：
+ * - 仮想スレッドは、待機（I/O・ロック）のたびにキャリアスレッド（プラットフォームスレッド）を手放します
+ * - ただしJava 21では、synchronizedの中やネイティブメソッドの中で待機すると手放せず、
+ * その間キャリアスレッドが1本使えなくなります（キャリアスレッドはCPUのコア数程度しかありません）
+ * - JDBCドライバやコネクションプールがsynchronizedの中でI/Oを待つと、同時実行数がコア数まで落ちます
+ *
+ * このクラスの役割：
+ * - JFRのjdk.VirtualThreadPinnedイベントを、スタックトレース付きで記録する
+ * - 固定が起きた場所を、JDBC・Hibernate・HikariCPのフレームで集計する
+ *
+ * 使用例：
+ * try (VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(1))) {
+ * // 仮想スレッドで処理を実行
+ * monitor.stop();
+ * monitor.print(System.out);
+ * assertEquals(0, monitor.persistencePinnedCount());
+ * }
+ *
+ * 注意点：
+ * - 記録されるのは、固定された状態でthreshold以上待機した場合だけです（JFRのデフォルトは20ms）
+ * - イベントは非同期に届くため、件数を読む前にstop()を呼び出してください
+ */
+public class VirtualThreadPinningMonitor implements AutoCloseable {
+
+    /**
+     * キャリアスレッドの固定のイベント名
+     */
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    /**
+     * データベースへのアクセスの経路とみなすパッケージ
+     */
+    static final List<String> PERSISTENCE_PACKAGES = List.of(
+            "java.sql.", "javax.sql.", "org.h2.", "org.postgresql.", "com.zaxxer.hikari.",
+            "org.hibernate.", "org.springframework.jdbc.", "org.springframework.orm.");
+
+    /**
+     * 表示するスタックトレースの深さ
+     */
+    private static final int REPORTED_FRAMES = 8;
+
+    private final RecordingStream stream;
+
+    private final Map<String, LongAdder> pinnedByLocation = new ConcurrentHashMap<>();
+
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private final LongAdder persistencePinnedCount = new LongAdder();
+
+    /**
+     * 記録を開始
+     *
+     * @param threshold 記録する待機時間の下限
+     */
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    /**
+     * 記録を終了（届いていないイベントも処理してから戻ります）
+     */
+    public void stop() {
+        stream.stop();
+    }
+
+    @Override
+    public void close() {
+        stream.close();
+    }
+
+    /**
+     * 固定が起きた回数
+     *
+     * @return 回数
+     */
+    public long pinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    /**
+     * データベースへのアクセスの経路（JDBC・Hibernate・HikariCP）で固定が起きた回数
+     *
+     * @return 回数
+     */
+    public long persistencePinnedCount() {
+        return persistencePinnedCount.sum();
+    }
+
+    /**
+     * 固定が起きた場所を、回数の多い順に出力
+     *
+     * @param out 出力先
+     */
+    public void print(PrintStream out) {
+        out.printf("キャリアスレッドの固定: %d回（JDBC・Hibernate・HikariCP: %d回）%n",
+                pinnedCount(), persistencePinnedCount());
+        pinnedByLocation.entrySet().stream()
+                .sorted(Map.Entry.<String, LongAdder>comparingByValue(Comparator.comparingLong(LongAdder::sum))
+                        .reversed())
+                .forEach(entry -> out.printf("%6d回%n%s", entry.getValue().sum(), entry.getKey()));
+    }
+
+    private void record(RecordedEvent event) {
+        pinnedCount.increment();
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<RecordedFrame> frames = (stackTrace == null) ? List.of() : stackTrace.getFrames();
+        if (frames.stream().anyMatch(VirtualThreadPinningMonitor::isPersistenceFrame)) {
+            persistencePinnedCount.increment();
+        }
+
+        StringBuilder location = new StringBuilder();
+        frames.stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(REPORTED_FRAMES)
+                .forEach(frame -> location.append("        at ").append(describe(frame)).append('\n'));
+        pinnedByLocation.computeIfAbsent(location.toString(), key -> new LongAdder()).increment();
+    }
+
+    private static boolean isPersistenceFrame(RecordedFrame frame) {
+        String className = frame.getMethod().getType().getName();
+        return PERSISTENCE_PACKAGES.stream().anyMatch(className::startsWith);
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}